@@ -0,0 +1,78 @@
+package io.github.redouanebali.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Listener bookkeeping and wire encoding shared by the relays. An event travels as one line of JSON; a transport only has to carry lines to the other
+ * instances and hand the ones it receives to {@link #received(String)}.
+ */
+@Slf4j
+public abstract class AbstractClusterRelay implements ClusterRelay {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final String                       nodeId    = UUID.randomUUID().toString().substring(0, 8);
+  private final List<Consumer<ClusterEvent>> listeners = new CopyOnWriteArrayList<>();
+
+  @Override
+  public String nodeId() {
+    return nodeId;
+  }
+
+  @Override
+  public void subscribe(Consumer<ClusterEvent> listener) {
+    listeners.add(listener);
+  }
+
+  @Override
+  public void publish(ClusterEvent event) {
+    ClusterEvent stamped = event.withOrigin(nodeId);
+    deliver(stamped);
+    try {
+      send(MAPPER.writeValueAsString(stamped));
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.error("Failed to relay {} event to the other instances", stamped.type(), e);
+    }
+  }
+
+  /**
+   * Sends an encoded event to the other instances.
+   *
+   * @param line the event as one line of JSON
+   */
+  protected abstract void send(String line);
+
+  /**
+   * Delivers an event received from the transport. Events this instance published itself are dropped, they were delivered when published.
+   *
+   * @param line the event as one line of JSON
+   */
+  protected void received(String line) {
+    ClusterEvent event;
+    try {
+      event = MAPPER.readValue(line, ClusterEvent.class);
+    } catch (JsonProcessingException e) {
+      log.warn("Dropping malformed cluster event: {}", e.getOriginalMessage());
+      return;
+    }
+    if (!nodeId.equals(event.origin())) {
+      deliver(event);
+    }
+  }
+
+  private void deliver(ClusterEvent event) {
+    for (Consumer<ClusterEvent> listener : listeners) {
+      try {
+        listener.accept(event);
+      } catch (RuntimeException e) {
+        log.error("Cluster event listener failed on {} event", event.type(), e);
+      }
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package io.github.redouanebali.cluster;
+
+/**
+ * An event published once and delivered on every instance of the application by the {@link ClusterRelay}.
+ *
+ * @param origin id of the instance that published the event, set by the relay
+ * @param type what the receiving instances do with it
+ * @param destination STOMP destination of a {@link Type#BROADCAST}
+ * @param tournamentId tournament of a {@link Type#INVALIDATE}
+ * @param gameId game of a {@link Type#RELEASE}
+ * @param payload JSON body of a {@link Type#BROADCAST}, serialized once by the publisher
+ * @param snapshot optional JSON of the full state of the destination after a {@link Type#BROADCAST}, kept by the receiving instances to answer the
+ *     subscribers that join later
+ */
+public record ClusterEvent(String origin, Type type, String destination, Long tournamentId, Long gameId, String payload, String snapshot) {
+
+  public enum Type {
+    /** Send the payload to the WebSocket subscribers of the destination. */
+    BROADCAST,
+    /** Drop the cached snapshot of the tournament. */
+    INVALIDATE,
+    /** Persist the pending points of the game and stop scoring it in memory. */
+    RELEASE
+  }
+
+  public static ClusterEvent broadcast(String destination, String payload) {
+    return broadcast(destination, payload, null);
+  }
+
+  public static ClusterEvent broadcast(String destination, String payload, String snapshot) {
+    return new ClusterEvent(null, Type.BROADCAST, destination, null, null, payload, snapshot);
+  }
+
+  public static ClusterEvent invalidate(Long tournamentId) {
+    return new ClusterEvent(null, Type.INVALIDATE, null, tournamentId, null, null, null);
+  }
+
+  public static ClusterEvent release(Long gameId) {
+    return new ClusterEvent(null, Type.RELEASE, null, null, gameId, null, null);
+  }
+
+  ClusterEvent withOrigin(String nodeId) {
+    return new ClusterEvent(nodeId, type, destination, tournamentId, gameId, payload, snapshot);
+  }
+}
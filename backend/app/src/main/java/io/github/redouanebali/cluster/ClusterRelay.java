@@ -0,0 +1,35 @@
+package io.github.redouanebali.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * Fans events out to every instance of the application. Instances are autoscaled and each one only holds the WebSocket sessions and caches of its
+ * own clients, so anything that must reach all clients is published here once, by the instance that handled the write.
+ * <p>
+ * Delivery is best effort and at most once: an instance that is unreachable when an event is published misses it.
+ */
+public interface ClusterRelay extends AutoCloseable {
+
+  /**
+   * Returns the random id of this instance, which tags the events it publishes.
+   */
+  String nodeId();
+
+  /**
+   * Delivers an event to the listeners of this instance, then sends it to the other instances, which deliver it to theirs.
+   *
+   * @param event the event, its origin is set by the relay
+   */
+  void publish(ClusterEvent event);
+
+  /**
+   * Registers a listener for the events of every instance, this one included. Listeners run on the publishing thread for local events and on the
+   * relay's receiving thread for remote ones, so they must be quick.
+   *
+   * @param listener the listener
+   */
+  void subscribe(Consumer<ClusterEvent> listener);
+
+  @Override
+  void close();
+}
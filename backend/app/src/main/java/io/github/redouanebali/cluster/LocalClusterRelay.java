@@ -0,0 +1,17 @@
+package io.github.redouanebali.cluster;
+
+/**
+ * Relay of a single instance: events are only delivered locally. The default, for development and single-instance deployments.
+ */
+public class LocalClusterRelay extends AbstractClusterRelay {
+
+  @Override
+  protected void send(String line) {
+    // No other instance
+  }
+
+  @Override
+  public void close() {
+    // Nothing to release
+  }
+}
@@ -0,0 +1,188 @@
+package io.github.redouanebali.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+/**
+ * Relay over Postgres LISTEN/NOTIFY: every instance already talks to the same database, so no other infrastructure is needed. Events are sent with
+ * {@code pg_notify} and received by a listener thread on a dedicated connection.
+ * <p>
+ * Holds two connections for its whole life, one to listen and one to notify, both in auto-commit so that a notification is sent at once rather than
+ * at the end of a transaction. They are opened outside of the application pool, which they would otherwise shrink for good. Postgres caps a
+ * notification at 8000 bytes: a larger event is stored in the {@code cluster_event} table and its notification only carries the id of the row.
+ */
+@Slf4j
+public class PostgresClusterRelay extends AbstractClusterRelay {
+
+  private static final Pattern CHANNEL_NAME   = Pattern.compile("[a-z_][a-z0-9_]*");
+  private static final int     MAX_PAYLOAD    = 7999;
+  private static final int     POLL_MILLIS    = 500;
+  private static final long    RETRY_MILLIS   = 2000;
+  // Events are JSON objects: a notification starting with this prefix carries the id of a stored event instead
+  private static final String  STORED_PREFIX  = "@";
+  // A stored event is read right after its notification, older rows are only purged
+  private static final String  PURGE_INTERVAL = "5 minutes";
+
+  private final    DataSource dataSource;
+  private final    String     channel;
+  private          Connection notifyConnection;
+  private          Thread     listener;
+  private volatile boolean    running;
+
+  /**
+   * @param dataSource the source of the two connections of the relay, not pooled
+   * @param channel the notification channel
+   */
+  public PostgresClusterRelay(DataSource dataSource, String channel) {
+    if (!CHANNEL_NAME.matcher(channel).matches()) {
+      throw new IllegalArgumentException("Invalid notification channel name: " + channel);
+    }
+    this.dataSource = dataSource;
+    this.channel    = channel;
+  }
+
+  /**
+   * Starts listening on the channel.
+   *
+   * @return this relay
+   */
+  public PostgresClusterRelay start() {
+    running  = true;
+    listener = new Thread(this::listen, "cluster-relay-listener");
+    listener.setDaemon(true);
+    listener.start();
+    return this;
+  }
+
+  @Override
+  protected synchronized void send(String line) {
+    try {
+      if (notifyConnection == null || notifyConnection.isClosed()) {
+        notifyConnection = openConnection();
+      }
+      String notification = line;
+      if (line.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD) {
+        notification = STORED_PREFIX + store(line);
+      }
+      try (PreparedStatement statement = notifyConnection.prepareStatement("SELECT pg_notify(?, ?)")) {
+        statement.setString(1, channel);
+        statement.setString(2, notification);
+        statement.execute();
+      }
+    } catch (SQLException e) {
+      closeQuietly(notifyConnection);
+      notifyConnection = null;
+      log.error("Failed to notify channel {}", channel, e);
+    }
+  }
+
+  private long store(String line) throws SQLException {
+    try (Statement purge = notifyConnection.createStatement()) {
+      purge.execute("DELETE FROM cluster_event WHERE created_at < CURRENT_TIMESTAMP - INTERVAL '" + PURGE_INTERVAL + "'");
+    }
+    try (PreparedStatement insert = notifyConnection.prepareStatement("INSERT INTO cluster_event (body) VALUES (?) RETURNING id")) {
+      insert.setString(1, line);
+      try (ResultSet id = insert.executeQuery()) {
+        id.next();
+        return id.getLong(1);
+      }
+    }
+  }
+
+  // Reconnects until closed: events published while the connection is down are missed
+  private void listen() {
+    while (running) {
+      try (Connection connection = openConnection()) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + channel);
+        }
+        log.info("Listening for cluster events on channel {}", channel);
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications(POLL_MILLIS);
+          if (notifications != null) {
+            for (PGNotification notification : notifications) {
+              receive(connection, notification.getParameter());
+            }
+          }
+        }
+      } catch (SQLException e) {
+        if (running) {
+          log.error("Lost the cluster event listener on channel {}, retrying", channel, e);
+          pause();
+        }
+      }
+    }
+  }
+
+  private void receive(Connection connection, String notification) throws SQLException {
+    if (!notification.startsWith(STORED_PREFIX)) {
+      received(notification);
+      return;
+    }
+    try (PreparedStatement select = connection.prepareStatement("SELECT body FROM cluster_event WHERE id = ?")) {
+      select.setLong(1, Long.parseLong(notification.substring(STORED_PREFIX.length())));
+      try (ResultSet body = select.executeQuery()) {
+        if (body.next()) {
+          received(body.getString(1));
+        } else {
+          log.warn("Stored cluster event {} is gone, dropped", notification);
+        }
+      }
+    } catch (NumberFormatException e) {
+      log.warn("Dropping malformed cluster notification: {}", notification);
+    }
+  }
+
+  private Connection openConnection() throws SQLException {
+    Connection connection = dataSource.getConnection();
+    connection.setAutoCommit(true);
+    return connection;
+  }
+
+  private void pause() {
+    try {
+      TimeUnit.MILLISECONDS.sleep(RETRY_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+
+  private static void closeQuietly(Connection connection) {
+    if (connection == null) {
+      return;
+    }
+    try {
+      connection.close();
+    } catch (SQLException e) {
+      log.debug("Failed to close notify connection", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    running = false;
+    if (listener != null) {
+      try {
+        listener.join(POLL_MILLIS * 2L);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    synchronized (this) {
+      closeQuietly(notifyConnection);
+      notifyConnection = null;
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package io.github.redouanebali.cluster;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Relay over plain TCP between a fixed list of instances, a stand-in for the Postgres relay when running several instances locally or in tests.
+ * Every instance accepts connections on its own port and keeps one connection to each peer, over which events travel as lines of JSON.
+ * <p>
+ * Each peer has its own sender thread and queue, so publishing never waits on the network and a slow peer does not hold up the others. A peer that
+ * cannot be reached is retried on the next event; the events sent meanwhile are lost for it, as are those that overflow its queue.
+ */
+@Slf4j
+public class TcpClusterRelay extends AbstractClusterRelay {
+
+  private static final int CONNECT_TIMEOUT_MILLIS = 1000;
+  private static final int MAX_QUEUED_EVENTS      = 10_000;
+
+  private final    List<Peer>   peers;
+  private final    Set<Socket>  accepted = ConcurrentHashMap.newKeySet();
+  private final    ServerSocket serverSocket;
+  private volatile boolean      running;
+
+  /**
+   * Binds the server socket of this instance.
+   *
+   * @param port the port to listen on, 0 for any free port
+   * @param peers the addresses of the other instances
+   * @throws IOException if the port cannot be bound
+   */
+  public TcpClusterRelay(int port, List<InetSocketAddress> peers) throws IOException {
+    this.serverSocket = new ServerSocket(port);
+    this.peers        = peers.stream().map(Peer::new).toList();
+  }
+
+  /**
+   * Returns the port this instance listens on.
+   */
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  /**
+   * Starts accepting connections from the peers.
+   *
+   * @return this relay
+   */
+  public TcpClusterRelay start() {
+    running = true;
+    Thread.ofVirtual().name("cluster-relay-acceptor").start(this::accept);
+    return this;
+  }
+
+  @Override
+  protected void send(String line) {
+    for (Peer peer : peers) {
+      peer.send(line);
+    }
+  }
+
+  private void accept() {
+    while (running) {
+      try {
+        Socket socket = serverSocket.accept();
+        accepted.add(socket);
+        Thread.ofVirtual().name("cluster-relay-reader").start(() -> read(socket));
+      } catch (IOException e) {
+        if (running) {
+          log.error("Failed to accept a cluster relay connection", e);
+        }
+      }
+    }
+  }
+
+  private void read(Socket socket) {
+    try (socket; BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        received(line);
+      }
+    } catch (IOException e) {
+      if (running) {
+        log.debug("Cluster relay connection from {} closed: {}", socket.getRemoteSocketAddress(), e.getMessage());
+      }
+    } finally {
+      accepted.remove(socket);
+    }
+  }
+
+  @Override
+  public void close() {
+    running = false;
+    try {
+      serverSocket.close();
+    } catch (IOException e) {
+      log.debug("Failed to close the cluster relay server socket", e);
+    }
+    peers.forEach(Peer::close);
+    for (Socket socket : accepted) {
+      try {
+        socket.close();
+      } catch (IOException e) {
+        log.debug("Failed to close a cluster relay connection", e);
+      }
+    }
+  }
+
+  private static final class Peer {
+
+    private final InetSocketAddress address;
+    private final ExecutorService   sender;
+    private       Socket            socket;
+    private       Writer            writer;
+
+    private Peer(InetSocketAddress address) {
+      this.address = address;
+      this.sender  = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(MAX_QUEUED_EVENTS), r -> {
+        Thread thread = new Thread(r, "cluster-relay-sender-" + address.getPort());
+        thread.setDaemon(true);
+        return thread;
+      }, (task, executor) -> {
+        if (!executor.isShutdown()) {
+          log.warn("Cluster peer {} is too slow, event dropped", address);
+        }
+      });
+    }
+
+    private void send(String line) {
+      sender.execute(() -> write(line));
+    }
+
+    // Runs on the sender thread, guarded against a concurrent close
+    private synchronized void write(String line) {
+      try {
+        if (writer == null) {
+          socket = new Socket();
+          socket.setTcpNoDelay(true);
+          socket.connect(address, CONNECT_TIMEOUT_MILLIS);
+          writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+        }
+        writer.write(line);
+        writer.write('\n');
+        writer.flush();
+      } catch (IOException e) {
+        log.warn("Cluster peer {} unreachable, event dropped: {}", address, e.getMessage());
+        closeSocket();
+      }
+    }
+
+    private void close() {
+      sender.shutdownNow();
+      closeSocket();
+    }
+
+    private synchronized void closeSocket() {
+      if (socket != null) {
+        try {
+          socket.close();
+        } catch (IOException e) {
+          log.debug("Failed to close the connection to cluster peer {}", address, e);
+        }
+      }
+      socket = null;
+      writer = null;
+    }
+  }
+}
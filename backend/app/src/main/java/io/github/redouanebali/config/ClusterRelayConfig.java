@@ -0,0 +1,67 @@
+package io.github.redouanebali.config;
+
+import io.github.redouanebali.cluster.ClusterRelay;
+import io.github.redouanebali.cluster.LocalClusterRelay;
+import io.github.redouanebali.cluster.PostgresClusterRelay;
+import io.github.redouanebali.cluster.TcpClusterRelay;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+/**
+ * Picks the transport that fans score events and cache invalidations out to every instance: {@code local} for a single instance, {@code postgres}
+ * (LISTEN/NOTIFY on the application database) for autoscaled deployments, {@code tcp} to run several instances side by side without Postgres.
+ */
+@Configuration
+public class ClusterRelayConfig {
+
+  @Bean(destroyMethod = "close")
+  public ClusterRelay clusterRelay(@Value("${app.cluster-relay.mode:local}") String mode,
+                                   @Value("${app.cluster-relay.postgres.channel:cluster_events}") String channel,
+                                   @Value("${app.cluster-relay.tcp.port:0}") int port,
+                                   @Value("${app.cluster-relay.tcp.peers:}") String peers,
+                                   ObjectProvider<DataSourceProperties> dataSourceProperties) {
+    return switch (mode) {
+      case "local" -> new LocalClusterRelay();
+      case "postgres" -> newPostgresRelay(dataSourceProperties.getObject(), channel);
+      case "tcp" -> newTcpRelay(port, peers);
+      default -> throw new IllegalArgumentException("Unknown cluster relay mode: " + mode);
+    };
+  }
+
+  // Same database as the application, on connections of its own rather than borrowed from the pool for good
+  private static PostgresClusterRelay newPostgresRelay(DataSourceProperties dataSourceProperties, String channel) {
+    return new PostgresClusterRelay(dataSourceProperties.initializeDataSourceBuilder().type(SimpleDriverDataSource.class).build(), channel).start();
+  }
+
+  private static TcpClusterRelay newTcpRelay(int port, String peers) {
+    try {
+      return new TcpClusterRelay(port, parsePeers(peers)).start();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot bind the cluster relay on port " + port, e);
+    }
+  }
+
+  // host:port,host:port
+  static List<InetSocketAddress> parsePeers(String peers) {
+    return Arrays.stream(peers.split(","))
+                 .map(String::trim)
+                 .filter(peer -> !peer.isEmpty())
+                 .map(peer -> {
+                   int colon = peer.lastIndexOf(':');
+                   if (colon <= 0) {
+                     throw new IllegalArgumentException("Cluster peer must be host:port, got: " + peer);
+                   }
+                   return new InetSocketAddress(peer.substring(0, colon), Integer.parseInt(peer.substring(colon + 1)));
+                 })
+                 .toList();
+  }
+}
@@ -18,6 +18,7 @@ import io.github.redouanebali.security.AuthorizationService;
 import io.github.redouanebali.security.SecurityProps;
 import io.github.redouanebali.security.SecurityUtil;
 import io.github.redouanebali.service.GameService;
+import io.github.redouanebali.service.LiveScoreEngine;
 import io.github.redouanebali.service.MatchFormatService;
 import io.github.redouanebali.service.PlayerPairService;
 import io.github.redouanebali.service.TournamentService;
@@ -59,6 +60,7 @@ public class AdminTournamentController {
   private final TournamentService            tournamentService;
   private final PlayerPairService            playerPairService;
   private final GameService                  gameService;
+  private final LiveScoreEngine              liveScoreEngine;
   private final MatchFormatService           matchFormatService;
   private final SecurityProps                securityProps;
   private final TournamentMapper             tournamentMapper;
@@ -139,7 +141,7 @@ public class AdminTournamentController {
    * @return ResponseEntity containing the updated tournament DTO
    */
   @PostMapping(path = "/{id}/pairs", consumes = MediaType.APPLICATION_JSON_VALUE)
-  public ResponseEntity<TournamentDTO> addPairs(@PathVariable Long id, @RequestBody @Valid @Size(max = 128) List<CreatePlayerPairRequest> players) {
+  public ResponseEntity<TournamentDTO> addPairs(@PathVariable Long id, @RequestBody @Valid @Size(max = 512) List<CreatePlayerPairRequest> players) {
     checkOwnership(id);
     TournamentDTO dto = tournamentMapper.toDTO(playerPairService.addPairs(id, players));
     return ResponseEntity.ok(dto);
@@ -209,8 +211,7 @@ public class AdminTournamentController {
   public ResponseEntity<UpdateScoreDTO> updateScore(@PathVariable Long tournamentId,
                                                     @PathVariable Long gameId,
                                                     @RequestBody @Valid Score score) {
-    checkOwnership(tournamentId);
-    UpdateScoreDTO dto = gameService.updateGameScore(tournamentId, gameId, score);
+    UpdateScoreDTO dto = gameService.updateGameScore(tournamentId, gameId, score, liveScoreEngine::release);
     gameScoreWebSocketController.broadcastScoreUpdate(gameId, dto);
     return ResponseEntity.ok(dto);
   }
@@ -227,20 +228,25 @@ public class AdminTournamentController {
   public ResponseEntity<UpdateScoreDTO> updateGame(@PathVariable Long tournamentId,
                                                    @PathVariable Long gameId,
                                                    @RequestBody @Valid UpdateGameRequest request) {
-    checkOwnership(tournamentId);
-    UpdateScoreDTO dto = gameService.updateGame(tournamentId, gameId, request);
+    UpdateScoreDTO dto = gameService.updateGame(tournamentId, gameId, request, liveScoreEngine::release);
     gameScoreWebSocketController.broadcastScoreUpdate(gameId, dto);
     return ResponseEntity.ok(dto);
   }
 
   /**
-   * Increments the game point for a team (plus button only).
+   * Increments the game point for a team (plus button only). Only the tournament owner, editors or super admins can score. Points are applied in
+   * memory by the {@link LiveScoreEngine} and persisted in the background.
+   *
+   * @param tournamentId the tournament ID
+   * @param gameId the game ID
+   * @param teamSide the team winning the point
+   * @return ResponseEntity containing update result with finish status and winner information
    */
   @PatchMapping("/{tournamentId}/games/{gameId}/game-point")
   public ResponseEntity<UpdateScoreDTO> incrementGamePoint(@PathVariable Long tournamentId,
                                                            @PathVariable Long gameId,
                                                            @RequestParam TeamSide teamSide) {
-    UpdateScoreDTO dto = gameService.incrementGamePoint(tournamentId, gameId, teamSide);
+    UpdateScoreDTO dto = liveScoreEngine.incrementGamePoint(tournamentId, gameId, teamSide);
     gameScoreWebSocketController.broadcastScoreUpdate(gameId, dto);
     return ResponseEntity.ok(dto);
   }
@@ -255,8 +261,7 @@ public class AdminTournamentController {
   @PatchMapping("/{tournamentId}/games/{gameId}/undo-game-point")
   public ResponseEntity<UpdateScoreDTO> undoGamePoint(@PathVariable Long tournamentId,
                                                       @PathVariable Long gameId) {
-    checkOwnership(tournamentId);
-    UpdateScoreDTO dto = gameService.undoGamePoint(tournamentId, gameId);
+    UpdateScoreDTO dto = liveScoreEngine.undoGamePoint(tournamentId, gameId);
     gameScoreWebSocketController.broadcastScoreUpdate(gameId, dto);
     return ResponseEntity.ok(dto);
   }
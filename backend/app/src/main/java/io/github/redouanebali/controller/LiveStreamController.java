@@ -0,0 +1,69 @@
+package io.github.redouanebali.controller;
+
+import io.github.redouanebali.dto.response.GameDTO;
+import io.github.redouanebali.service.TournamentReadService;
+import io.github.redouanebali.sse.SseBroadcaster;
+import io.github.redouanebali.websocket.GameScoreWebSocketController;
+import jakarta.annotation.security.PermitAll;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Public Server-Sent Events streams of the live scores, for the clients that cannot use STOMP over SockJS. They carry the same events as the
+ * WebSocket topics, so that such clients no longer need to poll the game and tournament endpoints.
+ */
+@RestController
+@RequestMapping(
+    value = "/tournaments",
+    produces = MediaType.TEXT_EVENT_STREAM_VALUE
+)
+@CrossOrigin(origins = "${app.cors.allowed-origins:http://localhost:3000}", allowCredentials = "true")
+@RequiredArgsConstructor
+@PermitAll
+public class LiveStreamController {
+
+  private final SseBroadcaster               sseBroadcaster;
+  private final TournamentReadService        tournamentReadService;
+  private final GameScoreWebSocketController gameScoreWebSocketController;
+
+  /**
+   * Streams the score of a game. The first event is the current state of the game, and every following one its whole new state: a
+   * {@code ScoreStreamMessage} snapshot, so that a client never has to apply patches.
+   *
+   * @param tournamentId the tournament ID
+   * @param gameId the game ID
+   * @return the event stream
+   * @throws ResponseStatusException 404 if the game is not part of the tournament
+   */
+  @GetMapping("/{tournamentId}/games/{gameId}/stream")
+  public SseEmitter streamGame(@PathVariable Long tournamentId, @PathVariable Long gameId) {
+    GameDTO game = tournamentReadService.getSnapshot(tournamentId).gamesById().get(gameId);
+    if (game == null) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Game not found with ID: " + gameId);
+    }
+    String current = gameScoreWebSocketController.snapshot(gameId);
+    return sseBroadcaster.open("/topic/game/" + gameId, current == null ? null : SseEmitter.event().data(current, MediaType.APPLICATION_JSON));
+  }
+
+  /**
+   * Streams the changes of every game of a tournament, as published on {@code /topic/tournament/{id}}: a client loads the tournament once, then
+   * applies each change.
+   *
+   * @param tournamentId the tournament ID
+   * @return the event stream
+   * @throws IllegalArgumentException if tournament is not found
+   */
+  @GetMapping("/{tournamentId}/stream")
+  public SseEmitter streamTournament(@PathVariable Long tournamentId) {
+    tournamentReadService.getSnapshot(tournamentId);
+    return sseBroadcaster.open("/topic/tournament/" + tournamentId, null);
+  }
+}
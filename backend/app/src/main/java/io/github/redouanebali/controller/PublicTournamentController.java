@@ -8,30 +8,33 @@ import io.github.redouanebali.dto.response.RoundDTO;
 import io.github.redouanebali.dto.response.TournamentDTO;
 import io.github.redouanebali.dto.response.TournamentSummaryDTO;
 import io.github.redouanebali.mapper.TournamentMapper;
-import io.github.redouanebali.model.Pool;
 import io.github.redouanebali.model.Stage;
 import io.github.redouanebali.model.Tournament;
-import io.github.redouanebali.security.AuthorizationService;
 import io.github.redouanebali.security.SecurityUtil;
 import io.github.redouanebali.service.MatchFormatService;
 import io.github.redouanebali.service.PlayerPairService;
+import io.github.redouanebali.service.TournamentReadService;
+import io.github.redouanebali.service.TournamentSnapshot;
 import io.github.redouanebali.service.TournamentService;
 import io.github.redouanebali.service.UserService;
 import io.github.redouanebali.service.VoteService;
 import jakarta.annotation.security.PermitAll;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDate;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -46,36 +49,39 @@ import org.springframework.web.server.ResponseStatusException;
     value = "/tournaments",
     produces = MediaType.APPLICATION_JSON_VALUE
 )
-@CrossOrigin(origins = "${app.cors.allowed-origins:http://localhost:3000}", allowCredentials = "true")
+@CrossOrigin(origins = "${app.cors.allowed-origins:http://localhost:3000}", allowCredentials = "true", exposedHeaders = HttpHeaders.ETAG)
 @RequiredArgsConstructor
 @PermitAll
 @Slf4j
 public class PublicTournamentController {
 
-  private final TournamentService    tournamentService;
-  private final PlayerPairService    playerPairService;
-  private final MatchFormatService   matchFormatService;
-  private final TournamentMapper     tournamentMapper;
-  private final AuthorizationService authorizationService;
-  private final UserService          userService;
-  private final VoteService          voteService;
+  private final TournamentService     tournamentService;
+  private final TournamentReadService tournamentReadService;
+  private final PlayerPairService     playerPairService;
+  private final MatchFormatService    matchFormatService;
+  private final TournamentMapper      tournamentMapper;
+  private final UserService           userService;
+  private final VoteService           voteService;
 
   /**
    * Retrieves complete tournament information by ID. Returns all tournament details including configuration, dates, and metadata. If user is
    * authenticated, includes isEditable flag to indicate if user can modify the tournament.
    *
    * @param id the tournament ID
-   * @return ResponseEntity containing the tournament DTO with isEditable flag
-   * @throws IllegalArgumentException if tournament is not found
+   * @param ifNoneMatch the ETag of the representation already held by the client, if any
+   * @return ResponseEntity containing the tournament DTO with isEditable flag, or 304 if the client's copy is current
+   * @throws ResponseStatusException 404 if tournament is not found
    */
   @GetMapping("/{id}")
-  public ResponseEntity<TournamentDTO> getTournament(@PathVariable Long id) {
-    Tournament    tournament = tournamentService.getTournamentById(id);
-    TournamentDTO dto        = tournamentMapper.toDTO(tournament);
-    String        userId     = SecurityUtil.currentUserId();
-    boolean       canEdit    = authorizationService.canEditTournament(tournament, userId);
-    dto.setIsEditable(canEdit);
-    return ResponseEntity.ok(dto);
+  public ResponseEntity<TournamentDTO> getTournament(@PathVariable Long id,
+                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    TournamentSnapshot snapshot = getExistingSnapshot(id);
+    boolean            canEdit  = tournamentReadService.canEdit(snapshot, SecurityUtil.currentUserId());
+    String             eTag     = tournamentReadService.eTag(id, snapshot.version(), canEdit ? "editable" : null);
+    if (isNotModified(ifNoneMatch, eTag)) {
+      return notModified(eTag);
+    }
+    return ok(eTag, snapshot.tournamentFor(canEdit));
   }
 
   /**
@@ -101,18 +107,14 @@ public class PublicTournamentController {
    * Retrieves all rounds for a tournament ordered by stage sequence. Returns rounds sorted from qualification stages to final.
    *
    * @param id the tournament ID
-   * @return ResponseEntity containing list of round DTOs sorted by stage order
-   * @throws IllegalArgumentException if tournament is not found
+   * @param ifNoneMatch the ETag of the representation already held by the client, if any
+   * @return ResponseEntity containing list of round DTOs sorted by stage order, or 304 if the client's copy is current
+   * @throws ResponseStatusException 404 if tournament is not found
    */
   @GetMapping("/{id}/rounds")
-  public ResponseEntity<List<RoundDTO>> getRounds(@PathVariable Long id) {
-    Tournament tournament = tournamentService.getTournamentById(id);
-    List<RoundDTO> rounds = tournamentMapper.toDTORoundList(
-        tournament.getRounds().stream()
-                  .sorted(Comparator.comparing(r -> r.getStage().getOrder()))
-                  .toList()
-    );
-    return ResponseEntity.ok(rounds);
+  public ResponseEntity<List<RoundDTO>> getRounds(@PathVariable Long id,
+                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    return conditional(id, ifNoneMatch, TournamentSnapshot::rounds);
   }
 
   /**
@@ -122,24 +124,15 @@ public class PublicTournamentController {
    * @param gameId the game ID
    * @param request the HTTP request for vote identification
    * @return ResponseEntity containing the game DTO with round information
-   * @throws IllegalArgumentException if tournament or game is not found
+   * @throws ResponseStatusException 404 if tournament or game is not found
    */
   @GetMapping("/{tournamentId}/games/{gameId}")
   public ResponseEntity<GameDTO> getGame(@PathVariable Long tournamentId, @PathVariable Long gameId, HttpServletRequest request) {
-    Tournament tournament = tournamentService.getTournamentById(tournamentId);
-
-    // Find the game in all rounds and include the round information
-    for (var round : tournament.getRounds()) {
-      for (var game : round.getGames()) {
-        if (game.getId() != null && game.getId().equals(gameId)) {
-          GameDTO gameDTO = tournamentMapper.toDTOWithLightRound(game, round);
-          gameDTO.setVotes(voteService.getVoteSummary(gameId, request));
-          return ResponseEntity.ok(gameDTO);
-        }
-      }
+    GameDTO game = getExistingSnapshot(tournamentId).gamesById().get(gameId);
+    if (game == null) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Game not found with ID: " + gameId);
     }
-
-    throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Game not found with ID: " + gameId);
+    return ResponseEntity.ok(TournamentSnapshot.gameWithVotes(game, voteService.getVoteSummary(gameId, request)));
   }
 
   /**
@@ -147,15 +140,15 @@ public class PublicTournamentController {
    *
    * @param id the tournament ID
    * @param stage the tournament stage to get games from
-   * @return ResponseEntity containing set of game DTOs for the specified stage
-   * @throws IllegalArgumentException if tournament or stage round is not found
+   * @param ifNoneMatch the ETag of the representation already held by the client, if any
+   * @return ResponseEntity containing set of game DTOs for the specified stage, or 304 if the client's copy is current
+   * @throws ResponseStatusException 404 if tournament or stage round is not found
    */
   @GetMapping("/{id}/rounds/{stage}/games")
-  public ResponseEntity<Set<GameDTO>> getGamesByStage(@PathVariable Long id, @PathVariable Stage stage) {
-    Set<GameDTO> games = tournamentMapper.toDTOGameSet(
-        tournamentService.getGamesByTournamentAndStage(id, stage)
-    );
-    return ResponseEntity.ok(games);
+  public ResponseEntity<Set<GameDTO>> getGamesByStage(@PathVariable Long id,
+                                                      @PathVariable Stage stage,
+                                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    return conditional(id, ifNoneMatch, snapshot -> tournamentReadService.getGamesByStage(snapshot, stage));
   }
 
   /**
@@ -179,15 +172,14 @@ public class PublicTournamentController {
    * Retrieves group stage rankings for tournaments with group phases. Returns standings with wins, losses, sets, and qualification status.
    *
    * @param id the tournament ID
-   * @return ResponseEntity containing list of pool ranking DTOs
-   * @throws IllegalArgumentException if tournament is not found
+   * @param ifNoneMatch the ETag of the representation already held by the client, if any
+   * @return ResponseEntity containing list of pool ranking DTOs, or 304 if the client's copy is current
+   * @throws ResponseStatusException 404 if tournament is not found
    */
   @GetMapping("/{id}/groups/ranking")
-  public ResponseEntity<List<PoolRankingDTO>> getGroupRankings(@PathVariable Long id) {
-    List<PoolRankingDTO> rankings = tournamentMapper.toDTOPoolRankingList(
-        Pool.getGroupRankings(tournamentService.getTournamentById(id))
-    );
-    return ResponseEntity.ok(rankings);
+  public ResponseEntity<List<PoolRankingDTO>> getGroupRankings(@PathVariable Long id,
+                                                               @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    return conditional(id, ifNoneMatch, TournamentSnapshot::groupRankings);
   }
 
   /**
@@ -209,4 +201,54 @@ public class PublicTournamentController {
                                                    .toList();
     return ResponseEntity.ok(summaries);
   }
+
+  /**
+   * Serves a user-independent slice of a tournament snapshot with ETag revalidation. The If-None-Match is compared with the tag of the current
+   * snapshot, once the tournament and the slice are known to exist: served from memory while the snapshot is cached, a tournament or stage deleted
+   * since the client's copy is answered with 404 rather than 304.
+   */
+  private <T> ResponseEntity<T> conditional(Long id, String ifNoneMatch, Function<TournamentSnapshot, T> view) {
+    TournamentSnapshot snapshot = getExistingSnapshot(id);
+    T                  body;
+    try {
+      body = view.apply(snapshot);
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+    String eTag = tournamentReadService.eTag(id, snapshot.version(), null);
+    if (isNotModified(ifNoneMatch, eTag)) {
+      return notModified(eTag);
+    }
+    return ok(eTag, body);
+  }
+
+  private TournamentSnapshot getExistingSnapshot(Long id) {
+    try {
+      return tournamentReadService.getSnapshot(id);
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+  }
+
+  // Only called with the tag of a snapshot that exists: "*" then matches, as any current representation does
+  private boolean isNotModified(String ifNoneMatch, String eTag) {
+    if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      String tag = candidate.trim();
+      if (tag.equals("*") || tag.equals(eTag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private <T> ResponseEntity<T> notModified(String eTag) {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
+  }
+
+  private <T> ResponseEntity<T> ok(String eTag, T body) {
+    return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(body);
+  }
 }
@@ -0,0 +1,24 @@
+package io.github.redouanebali.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.github.redouanebali.model.TeamSide;
+import java.util.List;
+import lombok.Data;
+
+/**
+ * Change of one game, sent on {@code /topic/tournament/{id}}: its new score and result, and the teams of the games of the following rounds that the
+ * propagation of its winner changed.
+ */
+@Data
+public class GameChangeDTO {
+
+  private Long               gameId;
+  private boolean            finished;
+  private TeamSide           winnerSide;
+  private ScoreDTO           score;
+  @JsonInclude(JsonInclude.Include.NON_EMPTY)
+  private List<GameTeamsDTO> nextGames;
+  // The ranking of the game's pool changed: clients showing it reload the tournament
+  @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+  private boolean            poolRankingChanged;
+}
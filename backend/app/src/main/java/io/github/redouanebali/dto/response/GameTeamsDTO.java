@@ -0,0 +1,15 @@
+package io.github.redouanebali.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameTeamsDTO {
+
+  private Long          gameId;
+  private PlayerPairDTO teamA;
+  private PlayerPairDTO teamB;
+}
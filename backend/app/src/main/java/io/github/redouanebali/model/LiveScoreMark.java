@@ -0,0 +1,52 @@
+package io.github.redouanebali.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Journal sequence up to which a live game has been persisted. It is written in the same transaction as the score, so a journal replayed after a
+ * crash between that commit and its own flush marker skips the points already persisted instead of applying them twice.
+ */
+@Entity
+@Table(name = "live_score_mark")
+@IdClass(LiveScoreMark.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiveScoreMark {
+
+  /**
+   * Identifier of the journal file the sequence belongs to: sequences restart with every journal.
+   */
+  @Id
+  @Column(name = "journal_id", nullable = false, length = 36)
+  private String journalId;
+
+  @Id
+  @Column(name = "game_id", nullable = false)
+  private Long gameId;
+
+  @Column(nullable = false)
+  private long seq;
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  public static class Key implements Serializable {
+
+    private String journalId;
+    private Long   gameId;
+  }
+}
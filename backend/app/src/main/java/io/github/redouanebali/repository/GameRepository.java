@@ -3,6 +3,8 @@ package io.github.redouanebali.repository;
 import io.github.redouanebali.model.Game;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -14,4 +16,10 @@ public interface GameRepository extends JpaRepository<Game, Long> {
 
   List<Game> findByCreatedBy(String createdBy);
 
+  /**
+   * Finds the games of a round that are not finished yet, filtered on the stored finished status through the (round_id, finished) index.
+   */
+  @Query("SELECT g FROM Round r JOIN r.games g WHERE r.id = :roundId AND g.finished = false")
+  List<Game> findUnfinishedByRoundId(@Param("roundId") Long roundId);
+
 }
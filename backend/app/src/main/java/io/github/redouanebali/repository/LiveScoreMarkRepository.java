@@ -0,0 +1,17 @@
+package io.github.redouanebali.repository;
+
+import io.github.redouanebali.model.LiveScoreMark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LiveScoreMarkRepository extends JpaRepository<LiveScoreMark, LiveScoreMark.Key> {
+
+  @Modifying
+  @Query("DELETE FROM LiveScoreMark m WHERE m.journalId = :journalId")
+  void deleteByJournalId(@Param("journalId") String journalId);
+
+}
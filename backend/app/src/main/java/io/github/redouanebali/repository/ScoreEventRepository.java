@@ -0,0 +1,20 @@
+package io.github.redouanebali.repository;
+
+import io.github.redouanebali.model.ScoreEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScoreEventRepository extends JpaRepository<ScoreEvent, ScoreEvent.Key> {
+
+  // Events are only ever appended: save() would read each one first to tell an insert from an update
+  @Modifying
+  @Query(value = "INSERT INTO score_event (score_id, seq, kind, side, score_before, undo_target_before) "
+                 + "VALUES (:#{#event.scoreId}, :#{#event.seq}, :#{#event.kind.name()}, :#{#event.side?.name()}, :#{#event.scoreBefore}, "
+                 + ":#{#event.undoTargetBefore})", nativeQuery = true)
+  void insert(@Param("event") ScoreEvent event);
+
+}
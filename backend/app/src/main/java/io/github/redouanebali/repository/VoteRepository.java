@@ -2,6 +2,7 @@ package io.github.redouanebali.repository;
 
 import io.github.redouanebali.model.TeamSide;
 import io.github.redouanebali.model.Vote;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -17,10 +18,17 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
 
   long countByGameIdAndTeamSide(Long gameId, TeamSide teamSide);
 
-  @Query("SELECT COUNT(v) FROM Vote v WHERE v.gameId = :gameId AND v.teamSide = 'TEAM_A'")
-  long countTeamAVotes(@Param("gameId") Long gameId);
+  /**
+   * Counts the votes of a game per team, in one query. Teams without votes have no row.
+   */
+  @Query("SELECT v.teamSide AS teamSide, COUNT(v) AS votes FROM Vote v WHERE v.gameId = :gameId GROUP BY v.teamSide")
+  List<TeamSideCount> countVotesByTeamSide(@Param("gameId") Long gameId);
 
-  @Query("SELECT COUNT(v) FROM Vote v WHERE v.gameId = :gameId AND v.teamSide = 'TEAM_B'")
-  long countTeamBVotes(@Param("gameId") Long gameId);
+  interface TeamSideCount {
+
+    TeamSide getTeamSide();
+
+    long getVotes();
+  }
 }
 
@@ -2,7 +2,15 @@ package io.github.redouanebali.security;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.HexFormat;
 import java.util.Map;
 import javax.net.ssl.SSLContext;
 import lombok.extern.slf4j.Slf4j;
@@ -18,11 +26,21 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
 
+/**
+ * Decodes Google ID tokens locally and validates Facebook access tokens against the Graph API. Each validation outcome is cached under the hash of
+ * its token: a valid token until its expiry, a rejected one for a short while, so that the requests of a referee scoring a match pay one remote
+ * call per token instead of one per point. Concurrent requests carrying the same unknown token share a single validation.
+ * <p>
+ * Failures to reach Facebook are not cached: the next request validates the token again.
+ */
 @Slf4j
 public class MultiProviderJwtDecoder implements JwtDecoder {
 
+  static final String FACEBOOK_ME_URI = "https://graph.facebook.com/me";
+
   private static final String EMAIL_CLAIM     = "email";
   private static final String SUB_CLAIM       = "sub";
   private static final String NAME_CLAIM      = "name";
@@ -31,24 +49,36 @@ public class MultiProviderJwtDecoder implements JwtDecoder {
   private static final String EXP_CLAIM       = "exp";
   private static final String FACEBOOK_ISSUER = "facebook";
 
-  private final JwtDecoder   googleDecoder;
-  private final RestClient   restClient;
-  private final ObjectMapper objectMapper;
-
-  public MultiProviderJwtDecoder() {
-    this.googleDecoder = NimbusJwtDecoder.withJwkSetUri("https://www.googleapis.com/oauth2/v3/certs").build();
-    this.objectMapper  = new ObjectMapper();
+  private final JwtDecoder                googleDecoder;
+  private final RestClient                restClient;
+  private final String                    facebookMeUri;
+  private final ObjectMapper              objectMapper;
+  private final Cache<String, Validation> validations;
 
+  public MultiProviderJwtDecoder(long maxTokens, Duration invalidTokenTtl) {
     // On construit le client HTTP qui ignore Zscaler
-    this.restClient = RestClient.builder()
-                                .requestFactory(createUnsafeRequestFactory())
-                                .build();
+    this(NimbusJwtDecoder.withJwkSetUri("https://www.googleapis.com/oauth2/v3/certs").build(),
+         RestClient.builder().requestFactory(createUnsafeRequestFactory()).build(),
+         FACEBOOK_ME_URI,
+         maxTokens,
+         invalidTokenTtl);
+  }
+
+  MultiProviderJwtDecoder(JwtDecoder googleDecoder, RestClient restClient, String facebookMeUri, long maxTokens, Duration invalidTokenTtl) {
+    this.googleDecoder = googleDecoder;
+    this.restClient    = restClient;
+    this.facebookMeUri = facebookMeUri;
+    this.objectMapper  = new ObjectMapper();
+    this.validations   = Caffeine.newBuilder()
+                                 .maximumSize(maxTokens)
+                                 .expireAfter(Expiry.creating((String key, Validation validation) -> validation.lifetime(invalidTokenTtl)))
+                                 .build();
   }
 
   /**
    * Crée une factory Apache HttpClient 5 configurée pour tout accepter (TrustAll). C'est la méthode la plus fiable sous Spring Boot 3.
    */
-  private HttpComponentsClientHttpRequestFactory createUnsafeRequestFactory() {
+  private static HttpComponentsClientHttpRequestFactory createUnsafeRequestFactory() {
     try {
       // 1. On crée un contexte SSL qui fait confiance à tout le monde (TrustAllStrategy)
       final SSLContext sslContext = SSLContextBuilder.create()
@@ -82,6 +112,24 @@ public class MultiProviderJwtDecoder implements JwtDecoder {
 
   @Override
   public Jwt decode(String token) throws JwtException {
+    // Cache.get runs one validation per token at a time, the other callers wait for its outcome
+    Validation validation = validations.get(hash(token), key -> validate(token));
+    if (validation.jwt() == null) {
+      throw new JwtException(validation.error());
+    }
+    return validation.jwt();
+  }
+
+  // Outcome of a token; an exception thrown here, such as an unreachable Facebook, is not cached
+  private Validation validate(String token) {
+    try {
+      return new Validation(decodeUncached(token), null);
+    } catch (InvalidTokenException e) {
+      return new Validation(null, e.getMessage());
+    }
+  }
+
+  private Jwt decodeUncached(String token) {
     // Google tokens start with specific header chars usually, but this logic relies on structure
     // Simple check: Google tokens are strict JWTs, Facebook are opaque strings often
     if (token.startsWith("eyJ")) {
@@ -101,15 +149,15 @@ public class MultiProviderJwtDecoder implements JwtDecoder {
     try {
       // L'appel partira avec le client "Unsafe" configuré plus haut
       String response = restClient.get()
-                                  .uri("https://graph.facebook.com/me?fields=id,email,name&access_token=" + token)
+                                  .uri(facebookMeUri + "?fields=id,email,name&access_token=" + token)
                                   .retrieve()
                                   .body(String.class);
 
       JsonNode json = objectMapper.readTree(response);
 
       // Gestion des erreurs renvoyées par Facebook dans le JSON (cas rare où le statut est 200 mais body contient error)
-      if (json.has("error")) {
-        throw new JwtException("Facebook API Error: " + json.get("error").toPrettyString());
+      if (json.has("error") || !json.has("id")) {
+        throw new InvalidTokenException("Facebook API Error: " + json.path("error").toPrettyString(), null);
       }
 
       String id    = json.get("id").asText();
@@ -127,10 +175,53 @@ public class MultiProviderJwtDecoder implements JwtDecoder {
 
       return new Jwt(token, Instant.now(), Instant.now().plusSeconds(3600), Map.of("alg", "none"), claims);
 
+    } catch (InvalidTokenException e) {
+      log.warn("Token Facebook refusé: {}", e.getMessage());
+      throw e;
+    } catch (HttpClientErrorException e) {
+      // Facebook répond 4xx pour un token invalide ou expiré
+      log.warn("Token Facebook refusé: {}", e.getMessage());
+      throw new InvalidTokenException("Impossible de valider le token Facebook", e);
     } catch (Exception e) {
       log.error("Erreur validation token Facebook: {}", e.getMessage());
       // Important : lancer une JwtException pour que Spring Security comprenne que l'auth a échoué
       throw new JwtException("Impossible de valider le token Facebook", e);
     }
   }
-}
\ No newline at end of file
+
+  private static String hash(String token) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  /**
+   * Outcome of the validation of a token: its decoded form, or the reason it was rejected.
+   */
+  private record Validation(Jwt jwt, String error) {
+
+    // A valid token is kept until it expires, a rejected one for the given TTL
+    private Duration lifetime(Duration invalidTokenTtl) {
+      if (jwt == null) {
+        return invalidTokenTtl;
+      }
+      if (jwt.getExpiresAt() == null) {
+        return Duration.ZERO;
+      }
+      Duration remaining = Duration.between(Instant.now(), jwt.getExpiresAt());
+      return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+  }
+
+  /**
+   * Rejection of a token by its provider, as opposed to a failure to reach the provider.
+   */
+  private static class InvalidTokenException extends JwtException {
+
+    InvalidTokenException(String message, Throwable cause) {
+      super(message, cause);
+    }
+  }
+}
@@ -2,8 +2,10 @@ package io.github.redouanebali.security;
 
 import io.github.redouanebali.service.UserService;
 import jakarta.annotation.PostConstruct;
+import java.time.Duration;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -46,8 +48,9 @@ public class SecurityConfig {
   }
 
   @Bean
-  public JwtDecoder jwtDecoder() {
-    return new MultiProviderJwtDecoder();
+  public JwtDecoder jwtDecoder(@Value("${app.auth.token-cache-max-size:10000}") long maxTokens,
+                               @Value("${app.auth.invalid-token-ttl:PT30S}") Duration invalidTokenTtl) {
+    return new MultiProviderJwtDecoder(maxTokens, invalidTokenTtl);
   }
 
   @Bean
@@ -70,7 +73,8 @@ public class SecurityConfig {
         "https://*.a.run.app"
     ));
     config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-    config.setAllowedHeaders(List.of("Authorization", "Content-Type", "x-session-id"));
+    config.setAllowedHeaders(List.of("Authorization", "Content-Type", "x-session-id", "If-None-Match"));
+    config.setExposedHeaders(List.of("ETag"));
     config.setAllowCredentials(true);
     config.setMaxAge(3600L);
 
@@ -82,11 +82,17 @@ public class DrawGenerationService {
     log.debug("Propagated and flushed winners for tournament {}", tournament.getId());
   }
 
+  /**
+   * Propagates the winner of one game through the following rounds and flushes.
+   *
+   * @return the games whose teams changed
+   */
   @Transactional
-  public void propagateWinnersFromGame(Tournament tournament, Game game) {
-    TournamentBuilder.propagateWinnersFromGame(tournament, game);
+  public List<Game> propagateWinnersFromGame(Tournament tournament, Game game) {
+    List<Game> changed = TournamentBuilder.propagateWinnersFromGame(tournament, game);
     entityManager.flush();
-    log.debug("Propagated and flushed winners from game {} for tournament {}", game.getId(), tournament.getId());
+    log.debug("Propagated and flushed winners from game {} for tournament {} ({} game(s) changed)", game.getId(), tournament.getId(), changed.size());
+    return changed;
   }
 
 
@@ -1,16 +1,35 @@
 package io.github.redouanebali.service;
 
 import io.github.redouanebali.dto.request.UpdateGameRequest;
+import io.github.redouanebali.dto.response.GameChangeDTO;
+import io.github.redouanebali.dto.response.GameTeamsDTO;
 import io.github.redouanebali.dto.response.ScoreDTO;
 import io.github.redouanebali.dto.response.UpdateScoreDTO;
 import io.github.redouanebali.mapper.TournamentMapper;
 import io.github.redouanebali.model.Game;
+import io.github.redouanebali.model.LiveScoreMark;
+import io.github.redouanebali.model.Pool;
+import io.github.redouanebali.model.PoolGameResult;
 import io.github.redouanebali.model.Score;
+import io.github.redouanebali.model.ScoreEvent;
 import io.github.redouanebali.model.SetScore;
 import io.github.redouanebali.model.TeamSide;
 import io.github.redouanebali.model.Tournament;
+import io.github.redouanebali.repository.GameRepository;
+import io.github.redouanebali.repository.LiveScoreMarkRepository;
+import io.github.redouanebali.repository.ScoreEventRepository;
 import io.github.redouanebali.repository.TournamentRepository;
+import io.github.redouanebali.security.AuthorizationService;
+import io.github.redouanebali.security.SecurityUtil;
+import io.github.redouanebali.websocket.TournamentEventPublisher;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,23 +37,53 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class GameService {
 
-  private final TournamentRepository  tournamentRepository;
-  private final TournamentService     tournamentService;
-  private final DrawGenerationService drawGenerationService;
-  private final TournamentMapper      tournamentMapper;
-  private final GamePointManager      gamePointManager;
+  private final TournamentRepository     tournamentRepository;
+  private final GameRepository           gameRepository;
+  private final TournamentService        tournamentService;
+  private final DrawGenerationService    drawGenerationService;
+  private final TournamentMapper         tournamentMapper;
+  private final TournamentSnapshotCache  tournamentSnapshotCache;
+  private final AuthorizationService     authorizationService;
+  private final TournamentEventPublisher tournamentEventPublisher;
+  private final LiveScoreMarkRepository  liveScoreMarkRepository;
+  private final ScoreEventRepository     scoreEventRepository;
 
+  /**
+   * Replaces the score of a game and propagates its winner.
+   *
+   * @param tournamentId the tournament ID
+   * @param gameId the game ID
+   * @param score the new score
+   * @param releaseLive stops scoring the game live and persists its pending points, run once the edit rights are checked and before the score is read
+   * @return the update result with finish status and winner
+   * @throws IllegalArgumentException if the game does not belong to the tournament
+   * @throws AccessDeniedException if the current user cannot edit the tournament
+   */
   @Transactional
-  public UpdateScoreDTO updateGameScore(Long tournamentId, Long gameId, Score score) {
-    Game       game       = findGameInTournament(tournamentId, gameId);
-    Tournament tournament = tournamentService.getTournamentById(tournamentId);
-    return updateScoreAndPropagate(game, tournament, score);
+  public UpdateScoreDTO updateGameScore(Long tournamentId, Long gameId, Score score, Consumer<Long> releaseLive) {
+    Tournament tournament = getEditableTournament(tournamentId);
+    Game       game       = findGameInTournament(tournament, gameId);
+    releaseLive.accept(gameId);
+    return updateScoreAndPropagate(game, tournament, score, PoolGameResult.of(game));
   }
 
+  /**
+   * Updates the schedule, the court and the score of a game, and propagates its winner.
+   *
+   * @param tournamentId the tournament ID
+   * @param gameId the game ID
+   * @param request the new schedule, court and score
+   * @param releaseLive stops scoring the game live and persists its pending points, run once the edit rights are checked and before the score is read
+   * @return the update result with finish status and winner
+   * @throws IllegalArgumentException if the game does not belong to the tournament
+   * @throws AccessDeniedException if the current user cannot edit the tournament
+   */
   @Transactional
-  public UpdateScoreDTO updateGame(Long tournamentId, Long gameId, UpdateGameRequest request) {
-    Game       game       = findGameInTournament(tournamentId, gameId);
-    Tournament tournament = tournamentService.getTournamentById(tournamentId);
+  public UpdateScoreDTO updateGame(Long tournamentId, Long gameId, UpdateGameRequest request, Consumer<Long> releaseLive) {
+    Tournament tournament = getEditableTournament(tournamentId);
+    Game       game       = findGameInTournament(tournament, gameId);
+    releaseLive.accept(gameId);
+    PoolGameResult previousResult = PoolGameResult.of(game);
     game.setScheduledTime(request.getScheduledTime());
     game.setCourt(request.getCourt());
     // --- Always use score history for any update (even direct set update) ---
@@ -57,6 +106,7 @@ public class GameService {
       currentScore.setTieBreakPointB(newScore.getTieBreakPointB());
       currentScore.setCurrentGamePointA(newScore.getCurrentGamePointA());
       currentScore.setCurrentGamePointB(newScore.getCurrentGamePointB());
+      game.refreshStatus();
       var sets = currentScore.getSets();
       if (!sets.isEmpty()) {
         SetScore lastSet = sets.get(sets.size() - 1);
@@ -77,23 +127,38 @@ public class GameService {
       }
     }
     // --- End history logic ---
-    return updateScoreAndPropagate(game, tournament, currentScore);
+    UpdateScoreDTO result = updateScoreAndPropagate(game, tournament, currentScore, previousResult);
+    saveNewEvents(currentScore);
+    return result;
   }
 
-  private UpdateScoreDTO updateScoreAndPropagate(Game game, Tournament tournament, Score score) {
+  /**
+   * Sets the new score of a game, updates its pool ranking and propagates its winner. The score may already have been changed in place, and the
+   * status of the game refreshed, so the result the game had before the change is captured by the caller.
+   */
+  private UpdateScoreDTO updateScoreAndPropagate(Game game, Tournament tournament, Score score, PoolGameResult previousResult) {
     try {
+      TeamSide previousWinner = previousResult.winnerSide();
       game.setScore(score);
 
-      // Optimized: only propagate from the round containing this game onwards
-      drawGenerationService.propagateWinnersFromGame(tournament, game);
+      // Next-round slots only depend on who won, so points that leave the outcome unchanged skip propagation and leave downstream games
+      // untouched. A group game whose result changed updates the ranking of its pool in place.
+      boolean    rankingChanged = Pool.updateGroupRanking(tournament, game, previousResult);
+      List<Game> nextGames      = List.of();
+      if (game.getWinnerSide() != previousWinner || rankingChanged) {
+        // Optimized: only propagate from the round containing this game onwards
+        nextGames = drawGenerationService.propagateWinnersFromGame(tournament, game);
+        tournamentRepository.save(tournament);
+      }
 
       TeamSide winner = null;
       if (game.isFinished()) {
         winner = game.getWinner().equals(game.getTeamA()) ? TeamSide.TEAM_A : TeamSide.TEAM_B;
       }
 
-      tournamentRepository.save(tournament);
+      tournamentSnapshotCache.invalidate(tournament.getId());
       ScoreDTO scoreDTO = tournamentMapper.toDTO(game.getScore());
+      tournamentEventPublisher.publishGameChange(tournament.getId(), toGameChange(game, winner, scoreDTO, nextGames, rankingChanged));
       return new UpdateScoreDTO(game.isFinished(), winner, scoreDTO);
     } catch (Exception e) {
       throw new IllegalStateException("Failed to update game score for tournament " + tournament.getId() +
@@ -101,29 +166,177 @@ public class GameService {
     }
   }
 
-  public Game findGameInTournament(Long tournamentId, Long gameId) {
-    Tournament tournament = tournamentService.getTournamentById(tournamentId);
-    return tournament.getRounds().stream()
-                     .flatMap(round -> round.getGames().stream())
-                     .filter(g -> g.getId().equals(gameId))
-                     .findFirst()
+  private GameChangeDTO toGameChange(Game game, TeamSide winner, ScoreDTO scoreDTO, List<Game> nextGames, boolean rankingChanged) {
+    GameChangeDTO change = new GameChangeDTO();
+    change.setGameId(game.getId());
+    change.setFinished(game.isFinished());
+    change.setWinnerSide(winner);
+    change.setScore(scoreDTO);
+    change.setNextGames(nextGames.stream()
+                                 .map(next -> new GameTeamsDTO(next.getId(), tournamentMapper.toDTO(next.getTeamA()),
+                                                               tournamentMapper.toDTO(next.getTeamB())))
+                                 .toList());
+    change.setPoolRankingChanged(rankingChanged);
+    return change;
+  }
+
+  /**
+   * Reads the persisted score of a game, in the shape broadcast to its WebSocket subscribers.
+   *
+   * @param gameId the game ID
+   * @return the score with finish status and winner, empty if the game does not exist
+   */
+  @Transactional(readOnly = true)
+  public Optional<UpdateScoreDTO> findScoreUpdate(Long gameId) {
+    return gameRepository.findById(gameId)
+                         .map(game -> new UpdateScoreDTO(game.isFinished(), game.getWinnerSide(), tournamentMapper.toDTO(game.getScore())));
+  }
+
+  private Game findGameInTournament(Tournament tournament, Long gameId) {
+    return tournament.findGameById(gameId)
                      .orElseThrow(() -> new IllegalArgumentException("Game not found with ID: " + gameId));
   }
 
-  @Transactional
-  public UpdateScoreDTO incrementGamePoint(Long tournamentId, Long gameId, TeamSide teamSide) {
-    Game       game       = findGameInTournament(tournamentId, gameId);
+  /**
+   * Loads the tournament once for a scoring request and checks edit rights on that same instance, so that the permission check, the game lookup and
+   * the propagation all share a single load.
+   */
+  private Tournament getEditableTournament(Long tournamentId) {
     Tournament tournament = tournamentService.getTournamentById(tournamentId);
-    gamePointManager.incrementGamePoint(game, teamSide);
-    return updateScoreAndPropagate(game, tournament, game.getScore());
+    authorizationService.requireTournamentEditPermission(tournament, SecurityUtil.currentUserId());
+    return tournament;
   }
 
-  @Transactional
-  public UpdateScoreDTO undoGamePoint(Long tournamentId, Long gameId) {
-    Game       game       = findGameInTournament(tournamentId, gameId);
+  /**
+   * Loads the scoring state of a game for the {@link LiveScoreEngine}, once the current user is known to be allowed to edit the tournament. Later
+   * points are checked by the engine against the edit rights captured here.
+   *
+   * @param tournamentId the tournament ID
+   * @param gameId the game ID
+   * @param undoDepth the number of last points the live game undoes from memory
+   * @return a detached live copy of the game
+   * @throws IllegalArgumentException if the game does not belong to the tournament
+   * @throws AccessDeniedException if the current user cannot edit the tournament
+   */
+  @Transactional(readOnly = true)
+  public LiveGame openLiveGame(Long tournamentId, Long gameId, int undoDepth) {
+    Tournament tournament = getEditableTournament(tournamentId);
+    return new LiveGame(tournament, findGameInTournament(tournament, gameId), undoDepth);
+  }
+
+  /**
+   * Loads the scoring state of a game for the {@link LiveScoreEngine} without checking edit rights, for the points it already accepted: replay of the
+   * journal after a restart.
+   *
+   * @param tournamentId the tournament ID
+   * @param gameId the game ID
+   * @param undoDepth the number of last points the live game undoes from memory
+   * @return a detached live copy of the game
+   * @throws IllegalArgumentException if the game does not belong to the tournament
+   */
+  @Transactional(readOnly = true)
+  public LiveGame reopenLiveGame(Long tournamentId, Long gameId, int undoDepth) {
     Tournament tournament = tournamentService.getTournamentById(tournamentId);
-    gamePointManager.undoGamePoint(game);
-    return updateScoreAndPropagate(game, tournament, game.getScore());
+    return new LiveGame(tournament, findGameInTournament(tournament, gameId), undoDepth);
+  }
+
+  /**
+   * Writes the points a {@link LiveScoreEngine} applied in memory since its last flush: the new events are appended to the score history, the game
+   * score is overwritten with the live one, and winners are propagated as for any score update. The journal sequence the flush covers is recorded in
+   * the same transaction, see {@link #findPersistedLiveSeq(String, Long)}.
+   * <p>
+   * The live score is only written over the score it was loaded from: if anything else wrote the score since (another instance scoring the same game,
+   * a full score update), the flush is rejected and the engine rebases its points on the new score.
+   *
+   * @param flush the state captured from the live game
+   * @return the current edit rights of the tournament and the new version of the score
+   * @throws IllegalArgumentException if the game or the tournament no longer exists
+   * @throws OptimisticLockingFailureException if the score was written since the live game loaded it
+   */
+  @Transactional
+  public LiveScoreFlush.Result persistLiveScore(LiveScoreFlush flush) {
+    Tournament     tournament     = tournamentService.getTournamentById(flush.tournamentId());
+    Game           game           = findGameInTournament(tournament, flush.gameId());
+    PoolGameResult previousResult = PoolGameResult.of(game);
+
+    Score score = game.getScore() != null ? game.getScore() : new Score();
+    if (!Objects.equals(score.getId(), flush.scoreId()) || !Objects.equals(score.getVersion(), flush.scoreVersion())) {
+      throw new OptimisticLockingFailureException("Score of game " + flush.gameId() + " was written since it was loaded live");
+    }
+    Score live = flush.score();
+    score.getSets().clear();
+    score.getSets().addAll(live.getSets());
+    score.setForfeit(live.isForfeit());
+    score.setForfeitedBy(live.getForfeitedBy());
+    score.setTieBreakPointA(live.getTieBreakPointA());
+    score.setTieBreakPointB(live.getTieBreakPointB());
+    score.setCurrentGamePointA(live.getCurrentGamePointA());
+    score.setCurrentGamePointB(live.getCurrentGamePointB());
+    // The events were numbered from the length of this very version of the history
+    score.setEventCount(live.getEventCount());
+    score.setUndoTarget(live.getUndoTarget());
+    score.getNewEvents().addAll(flush.newHistory());
+    // Changed in place: the stored finished status and winner must follow before the propagation reads them
+    game.refreshStatus();
+    updateScoreAndPropagate(game, tournament, score, previousResult);
+    if (flush.journalId() != null) {
+      liveScoreMarkRepository.save(new LiveScoreMark(flush.journalId(), flush.gameId(), flush.seq()));
+    }
+    // Writes now, so that the new version is known before returning and a concurrent write surfaces here as an optimistic locking failure
+    gameRepository.flush();
+    saveNewEvents(score);
+    return new LiveScoreFlush.Result(tournament.getOwnerId(), Set.copyOf(tournament.getEditorIds()), game.getScore().getId(),
+                                     game.getScore().getVersion());
+  }
+
+  /**
+   * Reads an event of the history of a score, for a live game undoing a point persisted before it was loaded.
+   *
+   * @param scoreId the score ID
+   * @param seq the sequence number of the event
+   * @return the event
+   * @throws IllegalStateException if the score has no such event
+   */
+  @Transactional(readOnly = true)
+  public ScoreEvent findScoreEvent(Long scoreId, Integer seq) {
+    return scoreEventRepository.findById(new ScoreEvent.Key(scoreId, seq))
+                               .orElseThrow(() -> new IllegalStateException("Event " + seq + " of score " + scoreId + " not found"));
+  }
+
+  /**
+   * Reads the journal sequence up to which a live game was persisted, so that a replay of that journal skips the points already written.
+   *
+   * @param journalId the journal identifier
+   * @param gameId the game ID
+   * @return the last persisted sequence, 0 if none of the points of the journal was persisted
+   */
+  @Transactional(readOnly = true)
+  public long findPersistedLiveSeq(String journalId, Long gameId) {
+    return liveScoreMarkRepository.findById(new LiveScoreMark.Key(journalId, gameId)).map(LiveScoreMark::getSeq).orElse(0L);
+  }
+
+  /**
+   * Forgets the persisted sequences of a journal once it has been replayed.
+   *
+   * @param journalId the journal identifier
+   */
+  @Transactional
+  public void deleteLiveScoreMarks(String journalId) {
+    liveScoreMarkRepository.deleteByJournalId(journalId);
+  }
+
+  // Appends the events logged on a score to its history, once the score has an ID
+  private void saveNewEvents(Score score) {
+    if (score.getNewEvents().isEmpty()) {
+      return;
+    }
+    if (score.getId() == null) {
+      gameRepository.flush();
+    }
+    for (ScoreEvent event : score.takeNewEvents()) {
+      event.setScoreId(score.getId());
+      scoreEventRepository.insert(event);
+    }
   }
 
   // Utilitaire local pour éviter la dépendance circulaire
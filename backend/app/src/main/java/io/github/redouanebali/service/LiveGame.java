@@ -0,0 +1,187 @@
+package io.github.redouanebali.service;
+
+import io.github.redouanebali.model.Game;
+import io.github.redouanebali.model.PackedScoreEngine;
+import io.github.redouanebali.model.Score;
+import io.github.redouanebali.model.ScoreEvent;
+import io.github.redouanebali.model.SetScore;
+import io.github.redouanebali.model.TeamSide;
+import io.github.redouanebali.model.Tournament;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Authoritative in-memory state of a game being scored point by point. Holds a detached copy of the game whose score is a plain object. The events
+ * not persisted yet are the new events of that score, the oldest of which are dropped by each flush once persisted.
+ * <p>
+ * Not thread-safe: {@link LiveScoreEngine} guards every instance with its own monitor.
+ */
+@Getter
+public class LiveGame {
+
+  private final Long              tournamentId;
+  private final Long              gameId;
+  private final Game              game;
+  private final Object            flushLock      = new Object();
+  @Getter(AccessLevel.NONE)
+  private final ScoreUndoBuffer   undoBuffer;
+  // Authoritative scoring state while loaded, written back to the score after each change
+  @Getter(AccessLevel.NONE)
+  private final PackedScoreEngine engine;
+  private       String            ownerId;
+  private       Set<String>       editorIds;
+  // Persisted score this state is based on: a flush is only accepted if nothing else wrote it since
+  private       Long              scoreId;
+  private       Long              scoreVersion;
+  // Journal sequence of the last point applied, and of the last point persisted
+  private       long              lastSeq;
+  private       long              flushedSeq;
+  private       int               pendingPoints;
+  private       long              lastFlushNanos = System.nanoTime();
+  private       boolean           closed;
+
+  /**
+   * Copies the scoring state of a managed game. The history is not read: the score only holds its length and undo target.
+   *
+   * @param undoDepth the number of last points undone from memory, without reading the history
+   */
+  public LiveGame(Tournament tournament, Game source, int undoDepth) {
+    this.tournamentId = tournament.getId();
+    this.gameId       = source.getId();
+    this.ownerId      = tournament.getOwnerId();
+    this.editorIds    = Set.copyOf(tournament.getEditorIds());
+    this.game         = new Game(source.getFormat());
+    game.setId(source.getId());
+    game.setTeamA(source.getTeamA());
+    game.setTeamB(source.getTeamB());
+    game.setScore(source.getScore() != null ? source.getScore().deepCopy() : new Score());
+    if (source.getScore() != null) {
+      this.scoreId      = source.getScore().getId();
+      this.scoreVersion = source.getScore().getVersion();
+    }
+    this.undoBuffer = new ScoreUndoBuffer(undoDepth);
+    this.engine     = new PackedScoreEngine(game.getFormat());
+    engine.load(game.getScore());
+  }
+
+  public Score getScore() {
+    return game.getScore();
+  }
+
+  public boolean isEditableBy(String userId) {
+    return userId != null && (Objects.equals(ownerId, userId) || editorIds.contains(userId));
+  }
+
+  /**
+   * Records that a point (or an undo) was applied and recomputes the winner. Returns true when the point closed (or reopened) a game, and therefore
+   * possibly a set or the match: those are the boundaries that are always persisted without waiting for the batch.
+   *
+   * @param seq the journal sequence of the point
+   * @param gamesBefore the number of games played before the point, from {@link #countGames()}
+   * @param finishedBefore whether the match was finished before the point
+   * @return true if a game, set or match boundary was crossed
+   */
+  boolean applied(long seq, int gamesBefore, boolean finishedBefore) {
+    game.refreshStatus();
+    lastSeq = seq;
+    pendingPoints++;
+    return countGames() != gamesBefore || game.isFinished() != finishedBefore;
+  }
+
+  /**
+   * Adds a point on the packed state, and writes it back to the score. Scores that cannot be packed are scored by the manager, their state before the
+   * point being recorded in the undo buffer or, if it cannot be packed either, in the history.
+   *
+   * @param side the team winning the point
+   * @param gamePointManager the manager scoring the points the packed engine cannot
+   */
+  void point(TeamSide side, GamePointManager gamePointManager) {
+    Score score = getScore();
+    if (score.getCurrentGamePointA() == null || score.getCurrentGamePointB() == null) {
+      gamePointManager.initializeScore(game);
+      engine.load(score);
+    }
+    if (engine.isLoaded()) {
+      long high = engine.high();
+      long low  = engine.low();
+      if (engine.point(side)) {
+        undoBuffer.record(high, low, side, score);
+        engine.store(score);
+        return;
+      }
+    }
+    if (!undoBuffer.record(score, side)) {
+      score.saveToHistory(side);
+    }
+    gamePointManager.applyGamePoint(game, side);
+    engine.load(score);
+  }
+
+  /**
+   * Restores the score before its last point, from the undo buffer or, past its depth, from the history.
+   *
+   * @param savedEvents reads a persisted event by score ID and sequence number, for an undo past the points logged since the game was loaded
+   */
+  void undo(BiFunction<Long, Integer, ScoreEvent> savedEvents) {
+    Score score = getScore();
+    if (!undoBuffer.undo(score)) {
+      score.undo(seq -> savedEvents.apply(scoreId, seq));
+    }
+    engine.load(score);
+  }
+
+  int countGames() {
+    int games = 0;
+    for (SetScore set : getScore().getSets()) {
+      games += set.getTeamAScore() + set.getTeamBScore();
+    }
+    return games;
+  }
+
+  boolean isDirty() {
+    return lastSeq > flushedSeq;
+  }
+
+  TeamSide getWinnerSide() {
+    return game.getWinnerSide();
+  }
+
+  void close() {
+    closed = true;
+  }
+
+  void reopen() {
+    closed = false;
+  }
+
+  /**
+   * Captures what must be written by the next flush: the current score and the events logged since the last one, including those still held by the
+   * undo buffer.
+   *
+   * @param journalId the identifier of the journal the points were written to
+   */
+  LiveScoreFlush prepareFlush(String journalId) {
+    undoBuffer.spill(getScore());
+    Score current = getScore().deepCopy();
+    current.getNewEvents().clear();
+    pendingPoints  = 0;
+    lastFlushNanos = System.nanoTime();
+    return new LiveScoreFlush(journalId, tournamentId, gameId, lastSeq, scoreId, scoreVersion, current, List.copyOf(getScore().getNewEvents()));
+  }
+
+  /**
+   * Applies the outcome of a successful flush: its events are persisted, and edit rights are refreshed from the tournament.
+   */
+  void completeFlush(LiveScoreFlush flush, LiveScoreFlush.Result result) {
+    getScore().getNewEvents().subList(0, flush.newHistory().size()).clear();
+    flushedSeq   = Math.max(flushedSeq, flush.seq());
+    ownerId      = result.ownerId();
+    editorIds    = result.editorIds();
+    scoreId      = result.scoreId();
+    scoreVersion = result.scoreVersion();
+  }
+}
@@ -0,0 +1,451 @@
+package io.github.redouanebali.service;
+
+import io.github.redouanebali.cluster.ClusterEvent;
+import io.github.redouanebali.cluster.ClusterRelay;
+import io.github.redouanebali.dto.response.UpdateScoreDTO;
+import io.github.redouanebali.mapper.TournamentMapper;
+import io.github.redouanebali.model.TeamSide;
+import io.github.redouanebali.security.AuthorizationService;
+import io.github.redouanebali.security.SecurityUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Point-by-point scoring engine. Games being scored live are held in memory as {@link LiveGame}s: a point is journaled, applied with the
+ * {@link GamePointManager} and answered without touching the database. Persistence is write-behind, on a single background thread: a game is flushed
+ * after a batch of points, after a delay, whenever a point closes a game, a set or the match, and on shutdown. Points that were journaled but not
+ * persisted when the process died are replayed on startup, provided the journal is on storage that outlives the process.
+ * <p>
+ * Any other write to a live game (full score or game update) must call {@link #release(Long)} first so that the pending points land before it. The
+ * release is relayed to the other instances, and opening a game relays one too, so that a game is scored in memory by one instance at a time. A
+ * flush is still only accepted over the score version the game was loaded from: when another instance or another write got there first, the points
+ * not persisted yet are applied again on the new score.
+ */
+@Service
+@Slf4j
+public class LiveScoreEngine {
+
+  // Flushes rejected in a row because the score kept being written elsewhere, before giving up until the next flush
+  private static final int MAX_REBASES = 3;
+
+  private final GameService                   gameService;
+  private final GamePointManager              gamePointManager;
+  private final TournamentMapper              tournamentMapper;
+  private final AuthorizationService          authorizationService;
+  private final ClusterRelay                  clusterRelay;
+  private final LiveScoreJournal              journal;
+  private final ConcurrentMap<Long, LiveGame> liveGames = new ConcurrentHashMap<>();
+  private final int                           flushEveryPoints;
+  private final long                          flushIntervalNanos;
+  private final long                          idleEvictionNanos;
+  private final int                           undoDepth;
+  private       ScheduledExecutorService      flusher;
+
+  public LiveScoreEngine(GameService gameService,
+                         GamePointManager gamePointManager,
+                         TournamentMapper tournamentMapper,
+                         AuthorizationService authorizationService,
+                         ClusterRelay clusterRelay,
+                         @Value("${app.live-score.journal-path:}") String journalPath,
+                         @Value("${app.live-score.journal-required:false}") boolean journalRequired,
+                         @Value("${app.live-score.journal-fsync:false}") boolean journalFsync,
+                         @Value("${app.live-score.flush-every-points:10}") int flushEveryPoints,
+                         @Value("${app.live-score.flush-interval:PT2S}") Duration flushInterval,
+                         @Value("${app.live-score.idle-eviction:PT30M}") Duration idleEviction,
+                         @Value("${app.live-score.undo-depth:50}") int undoDepth) {
+    this.gameService          = gameService;
+    this.gamePointManager     = gamePointManager;
+    this.tournamentMapper     = tournamentMapper;
+    this.authorizationService = authorizationService;
+    this.clusterRelay         = clusterRelay;
+    this.journal              = new LiveScoreJournal(toJournalPath(journalPath, journalRequired), journalFsync);
+    this.flushEveryPoints     = flushEveryPoints;
+    this.flushIntervalNanos   = flushInterval.toNanos();
+    this.idleEvictionNanos    = idleEviction.toNanos();
+    this.undoDepth            = undoDepth;
+  }
+
+  // The journal is only worth its writes on storage that outlives the process: an ephemeral default would silently void the replay
+  private static Path toJournalPath(String journalPath, boolean required) {
+    if (journalPath != null && !journalPath.isBlank()) {
+      return Path.of(journalPath);
+    }
+    if (required) {
+      throw new IllegalStateException("app.live-score.journal-path must point to persistent storage when app.live-score.journal-required is set");
+    }
+    log.warn("No live score journal (app.live-score.journal-path is not set): points not persisted yet are lost if the process dies");
+    return null;
+  }
+
+  @PostConstruct
+  void start() {
+    flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "live-score-flusher");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long periodMillis = Math.max(100, TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos) / 2);
+    flusher.scheduleWithFixedDelay(this::flushDue, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    clusterRelay.subscribe(this::onClusterEvent);
+  }
+
+  /**
+   * Replays the points journaled but not persisted by a previous run. Each recovered point is journaled again before the game is persisted, so a crash
+   * during recovery loses nothing either. A point that fails to replay is skipped, the others of its game are still replayed. Points the database
+   * already holds, because the process died between a flush and its journal marker, are skipped too.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void recover() {
+    LiveScoreJournal.Recovery               recovery = journal.recover();
+    Map<Long, List<LiveScoreJournal.Entry>> pending  = recovery.pending();
+    pending.forEach((gameId, journaled) -> {
+      List<LiveScoreJournal.Entry> entries = journaled;
+      try {
+        if (recovery.journalId() != null) {
+          long persisted = gameService.findPersistedLiveSeq(recovery.journalId(), gameId);
+          entries = journaled.stream().filter(entry -> entry.seq() > persisted).toList();
+          if (entries.isEmpty()) {
+            return;
+          }
+        }
+        LiveGame live = gameService.reopenLiveGame(entries.getFirst().tournamentId(), gameId, undoDepth);
+        synchronized (live) {
+          for (LiveScoreJournal.Entry entry : entries) {
+            try {
+              apply(live, entry.side());
+            } catch (RuntimeException e) {
+              log.error("Skipping journaled point {} of game {}: replay failed", entry.seq(), gameId, e);
+            }
+          }
+        }
+        liveGames.put(gameId, live);
+        flush(live);
+      } catch (RuntimeException e) {
+        log.error("Dropping {} journaled points of game {}: replay failed", entries.size(), gameId, e);
+      }
+    });
+    if (!pending.isEmpty()) {
+      log.info("Replayed journaled live points of {} game(s)", pending.size());
+    }
+    if (recovery.journalId() != null) {
+      try {
+        gameService.deleteLiveScoreMarks(recovery.journalId());
+      } catch (RuntimeException e) {
+        log.warn("Failed to delete the persisted sequences of live score journal {}", recovery.journalId(), e);
+      }
+    }
+  }
+
+  /**
+   * Adds a point to a team of a live game, loading the game on its first point.
+   *
+   * @param tournamentId the tournament ID
+   * @param gameId the game ID
+   * @param teamSide the team winning the point
+   * @return the new score, with finish status and winner
+   * @throws IllegalArgumentException if the game does not belong to the tournament
+   * @throws AccessDeniedException if the current user cannot edit the tournament
+   */
+  public UpdateScoreDTO incrementGamePoint(Long tournamentId, Long gameId, TeamSide teamSide) {
+    return score(tournamentId, gameId, teamSide);
+  }
+
+  /**
+   * Undoes the last point of a live game, loading the game if needed.
+   *
+   * @param tournamentId the tournament ID
+   * @param gameId the game ID
+   * @return the new score, with finish status and winner
+   * @throws IllegalArgumentException if the game does not belong to the tournament
+   * @throws AccessDeniedException if the current user cannot edit the tournament
+   */
+  public UpdateScoreDTO undoGamePoint(Long tournamentId, Long gameId) {
+    return score(tournamentId, gameId, null);
+  }
+
+  /**
+   * Persists the pending points of a game and stops scoring it in memory, on every instance. The next point reloads it from the database.
+   *
+   * @param gameId the game ID
+   */
+  public void release(Long gameId) {
+    clusterRelay.publish(ClusterEvent.release(gameId));
+    releaseLocal(gameId);
+  }
+
+  private void releaseLocal(Long gameId) {
+    LiveGame live = liveGames.get(gameId);
+    if (live == null) {
+      return;
+    }
+    synchronized (live.getFlushLock()) {
+      synchronized (live) {
+        live.close();
+      }
+      try {
+        flush(live);
+      } catch (RuntimeException e) {
+        // Keep scoring it in memory rather than reloading a database state that misses its points
+        synchronized (live) {
+          live.reopen();
+        }
+        throw e;
+      }
+      liveGames.remove(gameId, live);
+    }
+  }
+
+  /**
+   * Flushes the games whose batch is full or whose last flush is older than the interval, and evicts the idle ones.
+   */
+  void flushDue() {
+    long now = System.nanoTime();
+    for (LiveGame live : liveGames.values()) {
+      try {
+        boolean due;
+        boolean idle;
+        synchronized (live) {
+          due  = live.isDirty() && (live.getPendingPoints() >= flushEveryPoints || now - live.getLastFlushNanos() >= flushIntervalNanos);
+          idle = !live.isDirty() && now - live.getLastFlushNanos() >= idleEvictionNanos;
+        }
+        if (due) {
+          flush(live);
+        } else if (idle) {
+          releaseLocal(live.getGameId());
+        }
+      } catch (RuntimeException e) {
+        log.error("Failed to flush live game {}", live.getGameId(), e);
+      }
+    }
+  }
+
+  /**
+   * Persists every pending point and closes the journal. Runs before the services it depends on are destroyed.
+   */
+  @PreDestroy
+  public void shutdown() {
+    if (flusher != null) {
+      flusher.shutdown();
+      try {
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    for (LiveGame live : liveGames.values()) {
+      try {
+        flush(live);
+      } catch (RuntimeException e) {
+        log.error("Failed to flush live game {} on shutdown, its points stay in the journal", live.getGameId(), e);
+      }
+    }
+    journal.close();
+  }
+
+  private UpdateScoreDTO score(Long tournamentId, Long gameId, TeamSide teamSide) {
+    String userId = SecurityUtil.currentUserId();
+    while (true) {
+      LiveGame live = getOrOpen(tournamentId, gameId);
+      if (!live.getTournamentId().equals(tournamentId)) {
+        throw new IllegalArgumentException("Game not found with ID: " + gameId);
+      }
+      boolean        flushNow;
+      UpdateScoreDTO dto;
+      synchronized (live) {
+        if (live.isClosed()) {
+          dto      = null;
+          flushNow = false;
+        } else {
+          requireEditPermission(live, userId);
+          boolean boundary = apply(live, teamSide);
+          flushNow = boundary || live.getPendingPoints() >= flushEveryPoints;
+          dto      = new UpdateScoreDTO(live.getGame().isFinished(), live.getWinnerSide(), tournamentMapper.toDTO(live.getScore()));
+        }
+      }
+      if (dto == null) {
+        awaitRelease(live);
+        continue;
+      }
+      if (flushNow) {
+        flusher.execute(() -> flushQuietly(live));
+      }
+      return dto;
+    }
+  }
+
+  // Loaded outside of the map, whose bin lock must not be held across a transaction; of two concurrent loads of a game, the first one inserted wins
+  private LiveGame getOrOpen(Long tournamentId, Long gameId) {
+    LiveGame live = liveGames.get(gameId);
+    if (live != null) {
+      return live;
+    }
+    LiveGame loaded = gameService.openLiveGame(tournamentId, gameId, undoDepth);
+    live = liveGames.putIfAbsent(gameId, loaded);
+    if (live != null) {
+      return live;
+    }
+    clusterRelay.publish(ClusterEvent.release(gameId));
+    return loaded;
+  }
+
+  // Another instance started scoring the game, or is about to write it outside the engine. Flushing takes a transaction: not on the relay's thread
+  private void onClusterEvent(ClusterEvent event) {
+    if (event.type() == ClusterEvent.Type.RELEASE && !clusterRelay.nodeId().equals(event.origin()) && liveGames.containsKey(event.gameId())) {
+      flusher.execute(() -> {
+        try {
+          releaseLocal(event.gameId());
+        } catch (RuntimeException e) {
+          log.error("Failed to release live game {} for another instance", event.gameId(), e);
+        }
+      });
+    }
+  }
+
+  private void requireEditPermission(LiveGame live, String userId) {
+    if (!authorizationService.isSuperAdmin(userId) && !live.isEditableBy(userId)) {
+      log.warn("Access denied for user '{}' on tournament {} (owner={}, editors={})",
+               userId, live.getTournamentId(), live.getOwnerId(), live.getEditorIds());
+      throw new AccessDeniedException("You are not allowed to modify this tournament");
+    }
+  }
+
+  // A closed game is being released: wait until its points are persisted so that the next load sees them
+  private void awaitRelease(LiveGame live) {
+    synchronized (live.getFlushLock()) {
+      synchronized (live) {
+        if (live.isClosed()) {
+          liveGames.remove(live.getGameId(), live);
+        }
+      }
+    }
+  }
+
+  private boolean apply(LiveGame live, TeamSide teamSide) {
+    long seq = journal.append(live.getTournamentId(), live.getGameId(), teamSide);
+    try {
+      return applyJournaled(live, seq, teamSide);
+    } catch (RuntimeException e) {
+      // Not applied: it must not be replayed either
+      journal.cancel(live.getGameId(), seq);
+      throw e;
+    }
+  }
+
+  private boolean applyJournaled(LiveGame live, long seq, TeamSide teamSide) {
+    int     gamesBefore    = live.countGames();
+    boolean finishedBefore = live.getGame().isFinished();
+    if (teamSide != null) {
+      live.point(teamSide, gamePointManager);
+    } else {
+      live.undo(gameService::findScoreEvent);
+    }
+    return live.applied(seq, gamesBefore, finishedBefore);
+  }
+
+  private void flushQuietly(LiveGame live) {
+    try {
+      flush(live);
+    } catch (RuntimeException e) {
+      log.error("Failed to flush live game {}", live.getGameId(), e);
+    }
+  }
+
+  // The flush lock serializes the flusher thread, release() and shutdown(); the game's monitor is only held to capture and complete the flush, so
+  // points keep being applied while it is written
+  private void flush(LiveGame live) {
+    flush(live, 0);
+  }
+
+  private void flush(LiveGame live, int rebases) {
+    synchronized (live.getFlushLock()) {
+      LiveScoreFlush flush;
+      synchronized (live) {
+        if (!live.isDirty()) {
+          return;
+        }
+        flush = live.prepareFlush(journal.getId());
+      }
+      LiveScoreFlush.Result result;
+      try {
+        result = gameService.persistLiveScore(flush);
+      } catch (IllegalArgumentException e) {
+        // The game or its tournament is gone (deleted, draw regenerated): nothing left to write to
+        log.warn("Dropping live points of game {}: {}", live.getGameId(), e.getMessage());
+        synchronized (live) {
+          live.close();
+        }
+        liveGames.remove(live.getGameId(), live);
+        journal.markFlushed(live.getGameId(), flush.seq());
+        return;
+      } catch (OptimisticLockingFailureException e) {
+        if (rebases >= MAX_REBASES) {
+          throw e;
+        }
+        flush(rebase(live), rebases + 1);
+        return;
+      }
+      synchronized (live) {
+        live.completeFlush(flush, result);
+      }
+      journal.markFlushed(live.getGameId(), flush.seq());
+      log.debug("Persisted live game {} up to point {}", live.getGameId(), flush.seq());
+    }
+  }
+
+  // The score was written since the game was loaded: reload it and apply the points not persisted yet on top, in journal order. The stale game is
+  // closed so that concurrent points wait for its replacement, and a game being released is not put back in memory
+  private LiveGame rebase(LiveGame stale) {
+    boolean                      released;
+    List<LiveScoreJournal.Entry> unflushed;
+    synchronized (stale) {
+      released  = stale.isClosed();
+      unflushed = journal.pending(stale.getGameId());
+      stale.close();
+    }
+    LiveGame rebased;
+    try {
+      rebased = gameService.reopenLiveGame(stale.getTournamentId(), stale.getGameId(), undoDepth);
+    } catch (RuntimeException e) {
+      synchronized (stale) {
+        if (!released) {
+          stale.reopen();
+        }
+      }
+      throw e;
+    }
+    synchronized (rebased) {
+      for (LiveScoreJournal.Entry entry : unflushed) {
+        try {
+          applyJournaled(rebased, entry.seq(), entry.side());
+        } catch (RuntimeException e) {
+          log.error("Skipping live point {} of game {}: it no longer applies to the new score", entry.seq(), stale.getGameId(), e);
+          journal.cancel(stale.getGameId(), entry.seq());
+        }
+      }
+      if (released) {
+        rebased.close();
+      }
+    }
+    if (!released) {
+      liveGames.replace(stale.getGameId(), stale, rebased);
+    }
+    log.warn("Score of game {} was written elsewhere since it was loaded, {} live point(s) applied again on it", stale.getGameId(), unflushed.size());
+    return rebased;
+  }
+}
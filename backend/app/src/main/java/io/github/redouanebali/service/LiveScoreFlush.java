@@ -0,0 +1,41 @@
+package io.github.redouanebali.service;
+
+import io.github.redouanebali.model.Score;
+import io.github.redouanebali.model.ScoreEvent;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Write-behind unit of a {@link LiveGame}: everything a flush must persist, captured under the game's lock so that it can be written without holding
+ * it.
+ *
+ * @param journalId the identifier of the journal {@code seq} belongs to, null without a journal
+ * @param tournamentId the tournament ID
+ * @param gameId the game ID
+ * @param seq the journal sequence of the last point included
+ * @param scoreId the ID of the persisted score the live game is based on, null if the game had none
+ * @param scoreVersion the version of that score, the flush is rejected if it has been written since
+ * @param score copy of the current score, with the length and undo target of its history but without its new events
+ * @param newHistory the events logged since the last flush, oldest first, to append to the persisted history
+ */
+public record LiveScoreFlush(String journalId,
+                             Long tournamentId,
+                             Long gameId,
+                             long seq,
+                             Long scoreId,
+                             Long scoreVersion,
+                             Score score,
+                             List<ScoreEvent> newHistory) {
+
+  /**
+   * Outcome of a flush.
+   *
+   * @param ownerId the tournament owner, refreshed from the database
+   * @param editorIds the tournament editors, refreshed from the database
+   * @param scoreId the ID of the persisted score
+   * @param scoreVersion the version of the persisted score, the base of the next flush
+   */
+  public record Result(String ownerId, Set<String> editorIds, Long scoreId, Long scoreVersion) {
+
+  }
+}
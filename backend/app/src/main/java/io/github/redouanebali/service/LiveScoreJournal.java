@@ -0,0 +1,314 @@
+package io.github.redouanebali.service;
+
+import io.github.redouanebali.model.TeamSide;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only local journal of the points applied by the {@link LiveScoreEngine}. Every point is written here before it is applied in memory, and a
+ * flush marker is written once the game has been persisted, so that the points not persisted yet can be replayed after a crash.
+ * <p>
+ * Lines are {@code P <seq> <tournamentId> <gameId> <A|B|U>} for points and undos, {@code C <seq> <gameId>} for a point that failed to apply, and
+ * {@code F <seq> <gameId>} when a game has been persisted up to {@code seq}. The points not persisted yet are also kept in memory, per game. The file
+ * is truncated whenever every game has been persisted, and compacted down to the points still in flight once it has grown past a threshold, so that
+ * neither its size nor the replay time grows with the length of an event whose courts are never all idle at once. A journal without a path keeps nothing and replays nothing.
+ * <p>
+ * Every file starts with {@code J <journalId>}, a random identifier drawn when the journal is opened. Sequence numbers restart with each file, so a
+ * flush records the journal identifier and sequence it persisted up to along with the score; a replay skips what that record already covers.
+ */
+@Slf4j
+public class LiveScoreJournal implements AutoCloseable {
+
+  private static final char UNDO                  = 'U';
+  private static final long DEFAULT_COMPACT_BYTES = 1 << 20;
+
+  private final Path                         path;
+  private final boolean                      fsync;
+  private final long                         compactBytes;
+  // gameId -> points appended and not persisted yet, oldest first
+  private final Map<Long, ArrayDeque<Entry>> pending = new HashMap<>();
+  private       FileChannel                  channel;
+  private       String                       id;
+  private       long                         seq;
+  // Size past which the file is compacted: twice its size after the last compaction, so that compacting stays amortized
+  private       long                         compactAt;
+
+  public LiveScoreJournal(Path path, boolean fsync) {
+    this(path, fsync, DEFAULT_COMPACT_BYTES);
+  }
+
+  /**
+   * @param compactBytes the size past which the file is compacted, at the least
+   */
+  public LiveScoreJournal(Path path, boolean fsync, long compactBytes) {
+    this.path         = path;
+    this.fsync        = fsync;
+    this.compactBytes = compactBytes;
+    this.compactAt    = compactBytes;
+  }
+
+  /**
+   * Reads the points that were journaled but never persisted, then starts a new journal in place of the old one. Must be called once, before any
+   * append.
+   *
+   * @return the identifier of the previous journal and its pending entries
+   */
+  public synchronized Recovery recover() {
+    Map<Long, List<Entry>> replay     = new LinkedHashMap<>();
+    String                 previousId = null;
+    if (path == null) {
+      return new Recovery(null, replay);
+    }
+    try {
+      if (Files.exists(path)) {
+        Map<Long, Long> flushedUpTo = new HashMap<>();
+        Set<Long>       cancelled   = new HashSet<>();
+        List<Entry>     points      = new ArrayList<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+          String[] parts = line.trim().split(" ");
+          if (parts.length == 2 && "J".equals(parts[0])) {
+            previousId = parts[1];
+          } else if (parts.length == 5 && "P".equals(parts[0])) {
+            points.add(new Entry(Long.parseLong(parts[1]), Long.parseLong(parts[2]), Long.parseLong(parts[3]), toSide(parts[4].charAt(0))));
+          } else if (parts.length == 3 && "F".equals(parts[0])) {
+            flushedUpTo.merge(Long.parseLong(parts[2]), Long.parseLong(parts[1]), Math::max);
+          } else if (parts.length == 3 && "C".equals(parts[0])) {
+            cancelled.add(Long.parseLong(parts[1]));
+          } else if (!line.isBlank()) {
+            // A crash can leave the last line half-written
+            log.warn("Ignoring malformed live score journal line: {}", line);
+          }
+        }
+        for (Entry point : points) {
+          if (point.seq() > flushedUpTo.getOrDefault(point.gameId(), 0L) && !cancelled.contains(point.seq())) {
+            replay.computeIfAbsent(point.gameId(), id -> new ArrayList<>()).add(point);
+          }
+        }
+      } else if (path.getParent() != null) {
+        Files.createDirectories(path.getParent());
+      }
+      channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot open live score journal " + path, e);
+    }
+    id = UUID.randomUUID().toString();
+    write(header());
+    return new Recovery(previousId, replay);
+  }
+
+  /**
+   * @return the identifier of this journal, null before {@link #recover()} or without a path
+   */
+  public synchronized String getId() {
+    return id;
+  }
+
+  /**
+   * Appends a point, or an undo when {@code side} is null.
+   *
+   * @return the sequence number of the point
+   */
+  public synchronized long append(Long tournamentId, Long gameId, TeamSide side) {
+    seq++;
+    Entry entry = new Entry(seq, tournamentId, gameId, side);
+    pending.computeIfAbsent(gameId, id -> new ArrayDeque<>()).addLast(entry);
+    write(toLine(entry));
+    return seq;
+  }
+
+  /**
+   * @return the points of a game appended and not persisted yet, oldest first
+   */
+  public synchronized List<Entry> pending(Long gameId) {
+    ArrayDeque<Entry> entries = pending.get(gameId);
+    return entries != null ? List.copyOf(entries) : List.of();
+  }
+
+  /**
+   * Records that a point could not be applied, so that it is not replayed.
+   *
+   * @param gameId the game ID
+   * @param cancelledSeq the sequence number returned by {@link #append(Long, Long, TeamSide)}
+   */
+  public synchronized void cancel(Long gameId, long cancelledSeq) {
+    ArrayDeque<Entry> entries = pending.get(gameId);
+    if (entries != null) {
+      entries.removeIf(entry -> entry.seq() == cancelledSeq);
+      if (entries.isEmpty()) {
+        pending.remove(gameId);
+      }
+    }
+    if (pending.isEmpty()) {
+      truncate();
+    } else {
+      write("C " + cancelledSeq + " " + gameId + "\n");
+    }
+  }
+
+  /**
+   * Records that a game has been persisted up to a sequence number. The journal is then truncated if nothing is left in flight, or compacted if it
+   * has grown past its threshold.
+   */
+  public synchronized void markFlushed(Long gameId, long flushedSeq) {
+    ArrayDeque<Entry> entries = pending.get(gameId);
+    while (entries != null && !entries.isEmpty() && entries.peekFirst().seq() <= flushedSeq) {
+      entries.pollFirst();
+    }
+    if (entries != null && entries.isEmpty()) {
+      pending.remove(gameId);
+    }
+    if (pending.isEmpty()) {
+      truncate();
+      return;
+    }
+    write("F " + flushedSeq + " " + gameId + "\n");
+    if (channel != null && size() >= compactAt) {
+      compact();
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (channel != null) {
+      try {
+        channel.close();
+      } catch (IOException e) {
+        log.warn("Failed to close live score journal {}", path, e);
+      }
+      channel = null;
+    }
+  }
+
+  private void write(String line) {
+    if (channel == null) {
+      return;
+    }
+    try {
+      ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      if (fsync) {
+        channel.force(false);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot write live score journal " + path, e);
+    }
+  }
+
+  private void truncate() {
+    if (channel == null) {
+      return;
+    }
+    try {
+      channel.truncate(0);
+      channel.position(0);
+      compactAt = compactBytes;
+      write(header());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot truncate live score journal " + path, e);
+    }
+  }
+
+  // Rewrites the points still in flight to a new file, swapped in atomically: a crash at any point leaves either the old file or the new one. A failed
+  // compaction leaves the old file in use, it is only bigger than it needs to be
+  private void compact() {
+    Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+    try {
+      List<Entry> entries = new ArrayList<>();
+      pending.values().forEach(entries::addAll);
+      entries.sort(Comparator.comparingLong(Entry::seq));
+      StringBuilder lines = new StringBuilder(header());
+      entries.forEach(entry -> lines.append(toLine(entry)));
+      try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+          out.write(buffer);
+        }
+        out.force(false);
+      }
+      channel.close();
+      try {
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        channel = FileChannel.open(path, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+      }
+      log.debug("Compacted live score journal to {} points in flight", entries.size());
+    } catch (IOException e) {
+      log.warn("Failed to compact live score journal {}", path, e);
+    }
+    compactAt = Math.max(compactBytes, size() * 2);
+  }
+
+  private long size() {
+    try {
+      return channel.size();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read the size of live score journal " + path, e);
+    }
+  }
+
+  private String header() {
+    return "J " + id + "\n";
+  }
+
+  private static String toLine(Entry entry) {
+    return "P " + entry.seq() + " " + entry.tournamentId() + " " + entry.gameId() + " " + toCode(entry.side()) + "\n";
+  }
+
+  private static char toCode(TeamSide side) {
+    if (side == null) {
+      return UNDO;
+    }
+    return side == TeamSide.TEAM_A ? 'A' : 'B';
+  }
+
+  private static TeamSide toSide(char code) {
+    return switch (code) {
+      case 'A' -> TeamSide.TEAM_A;
+      case 'B' -> TeamSide.TEAM_B;
+      default -> null;
+    };
+  }
+
+  /**
+   * A journaled point.
+   *
+   * @param seq the sequence number of the point
+   * @param tournamentId the tournament ID
+   * @param gameId the game ID
+   * @param side the team that won the point, or null for an undo
+   */
+  public record Entry(long seq, Long tournamentId, Long gameId, TeamSide side) {
+
+  }
+
+  /**
+   * What a journal left behind.
+   *
+   * @param journalId the identifier of the previous journal, null if there was none
+   * @param pending the entries not persisted yet, grouped by game in journal order
+   */
+  public record Recovery(String journalId, Map<Long, List<Entry>> pending) {
+
+  }
+}
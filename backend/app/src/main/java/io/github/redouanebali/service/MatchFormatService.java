@@ -14,8 +14,9 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MatchFormatService {
 
-  private final TournamentRepository tournamentRepository;
-  private final AuthorizationService authorizationService;
+  private final TournamentRepository    tournamentRepository;
+  private final AuthorizationService    authorizationService;
+  private final TournamentSnapshotCache tournamentSnapshotCache;
 
   /**
    * Retrieves the match format for a specific tournament round/stage.
@@ -66,6 +67,7 @@ public class MatchFormatService {
     }
 
     tournamentRepository.save(tournament);
+    tournamentSnapshotCache.invalidate(tournamentId);
     return newFormat;
   }
 
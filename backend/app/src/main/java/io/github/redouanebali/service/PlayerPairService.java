@@ -20,10 +20,11 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class PlayerPairService {
 
-  private static final String               TOURNAMENT_NOT_FOUND = "Tournament not found";
-  private final        TournamentRepository tournamentRepository;
-  private final        AuthorizationService authorizationService;
-  private final        TournamentMapper     tournamentMapper;
+  private static final String                  TOURNAMENT_NOT_FOUND = "Tournament not found";
+  private final        TournamentRepository    tournamentRepository;
+  private final        AuthorizationService    authorizationService;
+  private final        TournamentMapper        tournamentMapper;
+  private final        TournamentSnapshotCache tournamentSnapshotCache;
 
   /**
    * Adds player pairs to a tournament and clears existing game assignments. Automatically adds BYE pairs if needed to reach the main draw size. Only
@@ -55,7 +56,9 @@ public class PlayerPairService {
     tournament.getPlayerPairs().addAll(pairs);
     addByesIfNeeded(tournament);
     addQualifiersIfNeeded(tournament);
-    return tournamentRepository.save(tournament);
+    Tournament saved = tournamentRepository.save(tournament);
+    tournamentSnapshotCache.invalidate(tournamentId);
+    return saved;
   }
 
   /**
@@ -132,6 +135,7 @@ public class PlayerPairService {
     }
 
     tournamentRepository.save(tournament);
+    tournamentSnapshotCache.invalidate(tournamentId);
   }
 
   /**
@@ -189,6 +193,7 @@ public class PlayerPairService {
     currentPairs.addAll(reorderedPairs);
 
     tournamentRepository.save(tournament);
+    tournamentSnapshotCache.invalidate(tournamentId);
 
     log.info("Reordered {} player pairs (including BYE and QUALIFIER) for tournament {} by user {}",
              orderedPairIds.size(), tournamentId, SecurityUtil.currentUserId());
@@ -0,0 +1,147 @@
+package io.github.redouanebali.service;
+
+import io.github.redouanebali.model.PackedScore;
+import io.github.redouanebali.model.Score;
+import io.github.redouanebali.model.TeamSide;
+
+/**
+ * Fixed-capacity undo stack of a {@link LiveGame}: the {@link PackedScore} state before each of its last points, in primitive arrays, so that a point
+ * is recorded and undone without allocating or reading the score history. The oldest points are dropped once the buffer is full; undoing further
+ * falls back to the score history.
+ * <p>
+ * The buffer is the source of the history events of its points: they are spilled to the score history, in order, when the game is flushed. Points
+ * recorded since the last spill and undone before the next one never reach the history; undoing an already spilled point is logged as an undo,
+ * without reading the history: the buffer keeps the undo target each point was spilled over.
+ * <p>
+ * Not thread-safe: guarded by the monitor of its {@link LiveGame}.
+ */
+final class ScoreUndoBuffer {
+
+  private final int        capacity;
+  // Ring of the states before each point, the side that won it, and the undo target of the score before it once spilled
+  private final long[]     highs;
+  private final long[]     lows;
+  private final byte[]     sides;
+  private final int[]      undoTargets;
+  // States before the undos of already spilled points, and the undo targets they restore, oldest first
+  private final long[]     undoneHighs;
+  private final long[]     undoneLows;
+  private final int[]      undoneTargets;
+  private final TeamSide[] teamSides = TeamSide.values();
+  private       int        top;
+  private       int        size;
+  private       int        unspilled;
+  private       int        undone;
+
+  ScoreUndoBuffer(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Undo depth must be positive: " + capacity);
+    }
+    this.capacity      = capacity;
+    this.highs         = new long[capacity];
+    this.lows          = new long[capacity];
+    this.sides         = new byte[capacity];
+    this.undoTargets   = new int[capacity];
+    this.undoneHighs   = new long[capacity];
+    this.undoneLows    = new long[capacity];
+    this.undoneTargets = new int[capacity];
+  }
+
+  /**
+   * Records the state of a score before a point.
+   *
+   * @param before the score, before the point is applied
+   * @param side the team winning the point
+   * @param score the score whose history is written to if the buffer must spill
+   * @return false if the state cannot be packed: the buffer was then spilled and emptied, and the point must be logged in the history instead
+   */
+  boolean record(Score before, TeamSide side) {
+    if (!PackedScore.isPackable(before)) {
+      spill(before);
+      size = 0;
+      return false;
+    }
+    record(PackedScore.high(before), PackedScore.low(before), side, before);
+    return true;
+  }
+
+  /**
+   * Records the packed state of a score before a point.
+   *
+   * @param high the high word of the score, before the point is applied
+   * @param low the low word of the score, before the point is applied
+   * @param side the team winning the point
+   * @param score the score whose history is written to if the buffer must spill
+   */
+  void record(long high, long low, TeamSide side, Score score) {
+    if (size == capacity) {
+      // The oldest point is dropped: it must be in the history first
+      if (unspilled == size) {
+        spill(score);
+      }
+      size--;
+    }
+    top        = (top + 1) % capacity;
+    highs[top] = high;
+    lows[top]  = low;
+    sides[top] = (byte) side.ordinal();
+    size++;
+    unspilled++;
+  }
+
+  /**
+   * Restores a score to its state before the last point still in the buffer.
+   *
+   * @param score the score to restore, whose history is written to if the buffer must spill
+   * @return false if the buffer cannot undo (empty, or current state not packable): the buffer was then spilled and emptied, and the undo must be
+   *     applied from the history instead
+   */
+  boolean undo(Score score) {
+    if (size == 0 || (unspilled == 0 && !PackedScore.isPackable(score))) {
+      spill(score);
+      size = 0;
+      return false;
+    }
+    if (unspilled > 0) {
+      unspilled--;
+    } else {
+      undoneHighs[undone]   = PackedScore.high(score);
+      undoneLows[undone]    = PackedScore.low(score);
+      undoneTargets[undone] = undoTargets[top];
+      undone++;
+    }
+    PackedScore.unpack(highs[top], lows[top], score);
+    top = (top - 1 + capacity) % capacity;
+    size--;
+    return true;
+  }
+
+  /**
+   * Appends to the score history the events not logged yet: the undos of spilled points, then the points recorded since the last spill.
+   *
+   * @param score the score whose history is written to
+   */
+  void spill(Score score) {
+    // Spilled points are only undone once the newer ones are undone, so the undos precede the points still pending
+    for (int i = 0; i < undone; i++) {
+      score.logUndo(encode(undoneHighs[i], undoneLows[i]), undoneTargets[i]);
+    }
+    for (int i = unspilled - 1; i >= 0; i--) {
+      int index = (top - i + capacity) % capacity;
+      undoTargets[index] = score.getUndoTarget();
+      score.logPoint(teamSides[sides[index]], encode(highs[index], lows[index]));
+    }
+    undone    = 0;
+    unspilled = 0;
+  }
+
+  int size() {
+    return size;
+  }
+
+  private static String encode(long high, long low) {
+    Score state = new Score();
+    PackedScore.unpack(high, low, state);
+    return state.encodeState();
+  }
+}
@@ -0,0 +1,135 @@
+package io.github.redouanebali.service;
+
+import io.github.redouanebali.dto.response.GameDTO;
+import io.github.redouanebali.dto.response.RoundDTO;
+import io.github.redouanebali.dto.response.TournamentDTO;
+import io.github.redouanebali.mapper.TournamentMapper;
+import io.github.redouanebali.model.Game;
+import io.github.redouanebali.model.Pool;
+import io.github.redouanebali.model.Round;
+import io.github.redouanebali.model.Stage;
+import io.github.redouanebali.model.Tournament;
+import io.github.redouanebali.security.AuthorizationService;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Serves the public, read-only views of a tournament from the {@link TournamentSnapshotCache}. On a miss the tournament graph is loaded and mapped
+ * once, then every public endpoint reads its slice of the same snapshot.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TournamentReadService {
+
+  private final TournamentService       tournamentService;
+  private final TournamentMapper        tournamentMapper;
+  private final TournamentSnapshotCache tournamentSnapshotCache;
+  private final AuthorizationService    authorizationService;
+
+  /**
+   * Retrieves the read model of a tournament, building it on first access.
+   *
+   * @param tournamentId the tournament ID
+   * @return the current snapshot
+   * @throws IllegalArgumentException if the tournament is not found
+   */
+  public TournamentSnapshot getSnapshot(Long tournamentId) {
+    return tournamentSnapshotCache.get(tournamentId, this::buildSnapshot);
+  }
+
+  /**
+   * Checks if a user can edit the tournament of a snapshot. Same rules as {@link AuthorizationService#canEditTournament}: super-admin, owner, or
+   * editor.
+   *
+   * @param snapshot the tournament snapshot
+   * @param userId the current user ID
+   * @return true if the user can edit the tournament
+   */
+  public boolean canEdit(TournamentSnapshot snapshot, String userId) {
+    if (userId == null) {
+      return false;
+    }
+    return authorizationService.isSuperAdmin(userId)
+           || Objects.equals(snapshot.ownerId(), userId)
+           || snapshot.editorIds().contains(userId);
+  }
+
+  /**
+   * Builds the strong ETag of a public tournament representation at a given version. The version is bumped by every score, pair, format or draw
+   * mutation, so equal tags always denote identical content.
+   *
+   * @param tournamentId the tournament ID
+   * @param version the tournament version the representation was built from
+   * @param variant optional discriminator for representations that differ per user (may be null)
+   * @return the quoted ETag value
+   */
+  public String eTag(Long tournamentId, long version, String variant) {
+    String tag = tournamentSnapshotCache.getEpoch() + "-" + tournamentId + "-" + version;
+    return "\"" + (variant != null ? tag + "-" + variant : tag) + "\"";
+  }
+
+  /**
+   * Retrieves the games of a stage from a snapshot.
+   *
+   * @param snapshot the tournament snapshot
+   * @param stage the tournament stage
+   * @return the games of the stage, in bracket order
+   * @throws IllegalArgumentException if the stage round is not found
+   */
+  public Set<GameDTO> getGamesByStage(TournamentSnapshot snapshot, Stage stage) {
+    Set<GameDTO> games = snapshot.gamesByStage().get(stage);
+    if (games == null) {
+      throw new IllegalArgumentException("Round not found for stage: " + stage);
+    }
+    return games;
+  }
+
+  private TournamentSnapshot buildSnapshot(Long tournamentId, long version) {
+    Tournament    tournament = tournamentService.getTournamentById(tournamentId);
+    TournamentDTO dto        = tournamentMapper.toDTO(tournament);
+
+    List<RoundDTO> rounds = dto.getRounds() == null
+                            ? List.of()
+                            : dto.getRounds().stream()
+                                 .sorted(Comparator.comparing(r -> r.getStage().getOrder()))
+                                 .toList();
+
+    Map<Stage, Set<GameDTO>> gamesByStage = new EnumMap<>(Stage.class);
+    for (RoundDTO round : rounds) {
+      Set<GameDTO> games = round.getGames() == null ? new LinkedHashSet<>() : new LinkedHashSet<>(round.getGames());
+      gamesByStage.putIfAbsent(round.getStage(), Collections.unmodifiableSet(games));
+    }
+
+    Map<Long, GameDTO> gamesById = new HashMap<>();
+    for (Round round : tournament.getRounds()) {
+      for (Game game : round.getGames()) {
+        if (game.getId() != null) {
+          gamesById.put(game.getId(), tournamentMapper.toDTOWithLightRound(game, round));
+        }
+      }
+    }
+
+    log.debug("Built snapshot of tournament {} at version {}", tournamentId, version);
+    return new TournamentSnapshot(
+        version,
+        tournament.getOwnerId(),
+        Set.copyOf(tournament.getEditorIds()),
+        dto,
+        rounds,
+        Collections.unmodifiableMap(gamesByStage),
+        Map.copyOf(gamesById),
+        List.copyOf(tournamentMapper.toDTOPoolRankingList(Pool.getGroupRankings(tournament)))
+    );
+  }
+}
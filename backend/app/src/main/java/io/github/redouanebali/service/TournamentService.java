@@ -26,9 +26,10 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class TournamentService {
 
-  private final TournamentRepository  tournamentRepository;
-  private final DrawGenerationService drawGenerationService;
-  private final AuthorizationService  authorizationService;
+  private final TournamentRepository    tournamentRepository;
+  private final DrawGenerationService   drawGenerationService;
+  private final AuthorizationService    authorizationService;
+  private final TournamentSnapshotCache tournamentSnapshotCache;
 
   /**
    * Retrieves a tournament by its ID.
@@ -92,6 +93,7 @@ public class TournamentService {
     }
 
     tournamentRepository.delete(existing);
+    tournamentSnapshotCache.invalidate(tournamentId);
     log.info("Deleted tournament with id {}", tournamentId);
   }
 
@@ -125,7 +127,9 @@ public class TournamentService {
       existing.getEditorIds().addAll(updatedTournament.getEditorIds());
     }
 
-    return tournamentRepository.save(existing);
+    Tournament saved = tournamentRepository.save(existing);
+    tournamentSnapshotCache.invalidate(tournamentId);
+    return saved;
   }
 
   /**
@@ -139,7 +143,9 @@ public class TournamentService {
       throw new AccessDeniedException("You are not allowed to generate the draw for this tournament");
     }
 
-    return drawGenerationService.generateDrawManual(tournament, initialRounds);
+    Tournament generated = drawGenerationService.generateDrawManual(tournament, initialRounds);
+    tournamentSnapshotCache.invalidate(tournamentId);
+    return generated;
   }
 
   /**
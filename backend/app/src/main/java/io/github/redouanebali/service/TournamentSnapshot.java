@@ -0,0 +1,86 @@
+package io.github.redouanebali.service;
+
+import io.github.redouanebali.dto.response.GameDTO;
+import io.github.redouanebali.dto.response.PoolRankingDTO;
+import io.github.redouanebali.dto.response.RoundDTO;
+import io.github.redouanebali.dto.response.TournamentDTO;
+import io.github.redouanebali.dto.response.VoteSummaryDTO;
+import io.github.redouanebali.model.Stage;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, pre-mapped view of a tournament as exposed by the public endpoints. The DTOs held here are shared between requests and must never be
+ * mutated: per-request fields (edit rights, votes) are applied on copies via {@link #tournamentFor(boolean)} and {@link #gameWithVotes(GameDTO,
+ * VoteSummaryDTO)}.
+ *
+ * @param version the tournament version this snapshot was built from
+ * @param ownerId the tournament owner, used to compute edit rights without loading the entity
+ * @param editorIds the tournament editors, used to compute edit rights without loading the entity
+ * @param tournament the full tournament DTO
+ * @param rounds the rounds sorted by stage order
+ * @param gamesByStage the games of each round, in bracket order
+ * @param gamesById every game of the tournament, with its light round attached
+ * @param groupRankings the rankings of every pool of the group stage
+ */
+public record TournamentSnapshot(long version,
+                                 String ownerId,
+                                 Set<String> editorIds,
+                                 TournamentDTO tournament,
+                                 List<RoundDTO> rounds,
+                                 Map<Stage, Set<GameDTO>> gamesByStage,
+                                 Map<Long, GameDTO> gamesById,
+                                 List<PoolRankingDTO> groupRankings) {
+
+  /**
+   * Returns a copy of the tournament DTO carrying the edit flag of the current user.
+   *
+   * @param canEdit whether the current user can edit this tournament
+   * @return a new TournamentDTO sharing the snapshot's nested DTOs
+   */
+  public TournamentDTO tournamentFor(boolean canEdit) {
+    TournamentDTO copy = new TournamentDTO();
+    copy.setId(tournament.getId());
+    copy.setOwnerId(tournament.getOwnerId());
+    copy.setName(tournament.getName());
+    copy.setRounds(tournament.getRounds());
+    copy.setPlayerPairs(tournament.getPlayerPairs());
+    copy.setDescription(tournament.getDescription());
+    copy.setCity(tournament.getCity());
+    copy.setClub(tournament.getClub());
+    copy.setGender(tournament.getGender());
+    copy.setLevel(tournament.getLevel());
+    copy.setConfig(tournament.getConfig());
+    copy.setStartDate(tournament.getStartDate());
+    copy.setEndDate(tournament.getEndDate());
+    copy.setEditorIds(tournament.getEditorIds());
+    copy.setOrganizerName(tournament.getOrganizerName());
+    copy.setFeatured(tournament.isFeatured());
+    copy.setIsEditable(canEdit);
+    return copy;
+  }
+
+  /**
+   * Returns a copy of a snapshot game carrying the vote summary of the current request.
+   *
+   * @param game a game taken from {@link #gamesById()}
+   * @param votes the vote summary to attach
+   * @return a new GameDTO sharing the snapshot's nested DTOs
+   */
+  public static GameDTO gameWithVotes(GameDTO game, VoteSummaryDTO votes) {
+    GameDTO copy = new GameDTO();
+    copy.setId(game.getId());
+    copy.setTeamA(game.getTeamA());
+    copy.setTeamB(game.getTeamB());
+    copy.setFinished(game.isFinished());
+    copy.setScore(game.getScore());
+    copy.setWinnerSide(game.getWinnerSide());
+    copy.setScheduledTime(game.getScheduledTime());
+    copy.setCourt(game.getCourt());
+    copy.setRound(game.getRound());
+    copy.setIsEditable(game.getIsEditable());
+    copy.setVotes(votes);
+    return copy;
+  }
+}
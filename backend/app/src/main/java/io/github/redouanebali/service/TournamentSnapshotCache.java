@@ -0,0 +1,134 @@
+package io.github.redouanebali.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.redouanebali.cluster.ClusterEvent;
+import io.github.redouanebali.cluster.ClusterRelay;
+import io.github.redouanebali.cluster.LocalClusterRelay;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory read model of tournaments served by the public endpoints. Holds one immutable {@link TournamentSnapshot} per tournament id, tagged with a
+ * per-tournament version. Entries never expire on their own: every write path calls {@link #invalidate(Long)}, which bumps the version and drops the
+ * snapshot, so readers are served from memory until the tournament actually changes.
+ * <p>
+ * Versions are kept for as many tournaments as snapshots. Evicting the version of a tournament raises the floor that new versions start from, so a
+ * tournament seen again never reuses a version it was already served at, and its snapshot, now behind, is reloaded.
+ * <p>
+ * Invalidations are also published on the {@link ClusterRelay}, once committed, so that the other instances drop their snapshot too.
+ */
+@Component
+@Slf4j
+public class TournamentSnapshotCache {
+
+  private final Cache<Long, TournamentSnapshot> snapshots;
+  private final Cache<Long, AtomicLong>         versions;
+  private final ClusterRelay                    clusterRelay;
+  // Above every version evicted so far: the start of the versions of tournaments not tracked
+  private final AtomicLong                      versionFloor = new AtomicLong();
+  // Versions are local to this instance: the epoch keeps them from colliding across instances and restarts
+  private final String                          epoch        = UUID.randomUUID().toString().substring(0, 8);
+
+  public TournamentSnapshotCache(long maximumSize) {
+    this(maximumSize, new LocalClusterRelay());
+  }
+
+  @Autowired
+  public TournamentSnapshotCache(@Value("${app.cache.tournamentSnapshots.maxSize:500}") long maximumSize, ClusterRelay clusterRelay) {
+    this.snapshots    = Caffeine.newBuilder().maximumSize(maximumSize).build();
+    // The eviction listener runs atomically with the eviction: no reader can see the untracked version before the floor is raised
+    this.versions     = Caffeine.newBuilder().maximumSize(maximumSize)
+                                .<Long, AtomicLong>evictionListener((id, version, cause) -> versionFloor.accumulateAndGet(version.get() + 1, Math::max))
+                                .build();
+    this.clusterRelay = clusterRelay;
+    clusterRelay.subscribe(this::onClusterEvent);
+  }
+
+  /**
+   * Returns the cached snapshot of a tournament, building it with the given loader on a miss. A snapshot built while a write was in flight is handed
+   * back to the caller but not cached, so a stale read model can never outlive the write that made it stale.
+   *
+   * @param tournamentId the tournament ID
+   * @param loader builds the snapshot from the tournament ID and the version it was read at
+   * @return the current snapshot
+   */
+  public TournamentSnapshot get(Long tournamentId, BiFunction<Long, Long, TournamentSnapshot> loader) {
+    long               version = getVersion(tournamentId);
+    TournamentSnapshot cached  = snapshots.getIfPresent(tournamentId);
+    if (cached != null && cached.version() == version) {
+      return cached;
+    }
+    TournamentSnapshot loaded = loader.apply(tournamentId, version);
+    // Same bin lock as invalidate(): the version check and the insert cannot interleave with a bump
+    snapshots.asMap().compute(tournamentId, (id, existing) -> getVersion(id) == version ? loaded : existing);
+    return loaded;
+  }
+
+  /**
+   * Returns the current version of a tournament. Versions start at 0 and only ever grow, even once evicted.
+   *
+   * @param tournamentId the tournament ID
+   * @return the current version
+   */
+  public long getVersion(Long tournamentId) {
+    AtomicLong version = versions.getIfPresent(tournamentId);
+    return version != null ? version.get() : versionFloor.get();
+  }
+
+  /**
+   * Returns the random tag identifying the version sequence of this instance. Each instance, and each run of it, draws a new random epoch.
+   *
+   * @return the epoch of this instance
+   */
+  public String getEpoch() {
+    return epoch;
+  }
+
+  /**
+   * Drops the snapshot of a tournament and bumps its version. When called inside a transaction, the invalidation is repeated after commit so that a
+   * reader that loaded the pre-commit state in between cannot keep it cached. The other instances are told after commit, or at once outside a
+   * transaction.
+   *
+   * @param tournamentId the tournament ID
+   */
+  public void invalidate(Long tournamentId) {
+    if (tournamentId == null) {
+      return;
+    }
+    evict(tournamentId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evict(tournamentId);
+          clusterRelay.publish(ClusterEvent.invalidate(tournamentId));
+        }
+      });
+    } else {
+      clusterRelay.publish(ClusterEvent.invalidate(tournamentId));
+    }
+  }
+
+  // Invalidations of this instance were applied when made
+  private void onClusterEvent(ClusterEvent event) {
+    if (event.type() == ClusterEvent.Type.INVALIDATE && !clusterRelay.nodeId().equals(event.origin())) {
+      evict(event.tournamentId());
+    }
+  }
+
+  private void evict(Long tournamentId) {
+    snapshots.asMap().compute(tournamentId, (id, existing) -> {
+      versions.get(id, k -> new AtomicLong(versionFloor.get())).incrementAndGet();
+      return null;
+    });
+    log.debug("Invalidated snapshot of tournament {} (version {})", tournamentId, getVersion(tournamentId));
+  }
+}
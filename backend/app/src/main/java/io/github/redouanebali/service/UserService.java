@@ -1,48 +1,71 @@
 package io.github.redouanebali.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.redouanebali.model.User;
 import io.github.redouanebali.repository.UserRepository;
+import java.time.Duration;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * Users and their profiles. Profiles are cached by email, so that resolving the user of an authenticated request reads and writes nothing unless its
+ * token claims differ from the stored profile. The profile updates of this instance drop the cached profile once committed; those of other instances
+ * are seen when the entry expires.
+ */
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+  private static final String NAME_CLAIM   = "name";
   private static final String LOCALE_CLAIM = "locale";
 
-  private final UserRepository userRepository;
+  private final UserRepository      userRepository;
+  private final Cache<String, User> profiles = Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(5)).maximumSize(10_000).build();
 
-  @Transactional
+  /**
+   * Returns the user of the given token claims, creating it on first sign-in. The stored profile is only written when the name or locale claims
+   * differ from it.
+   */
   public User getOrCreateUser(Map<String, Object> claims) {
-    String         email    = (String) claims.get("email");
-    Optional<User> existing = userRepository.findByEmail(email);
-    if (existing.isPresent()) {
+    String email  = (String) claims.get("email");
+    User   cached = profiles.getIfPresent(email);
+    if (cached != null && !differsFrom(cached, claims)) {
+      return copyOf(cached);
+    }
+    User user = userRepository.findByEmail(email).orElse(null);
+    if (user == null) {
+      user = userRepository.save(new User(email,
+                                          (String) claims.get(NAME_CLAIM),
+                                          (String) claims.get(LOCALE_CLAIM)));
+    } else if (differsFrom(user, claims)) {
       // Enrichir si nécessaire (ex. mettre à jour le nom si changé)
-      User user = existing.get();
-      if (claims.containsKey("name")) {
-        user.setName((String) claims.get("name"));
+      if (claims.containsKey(NAME_CLAIM)) {
+        user.setName((String) claims.get(NAME_CLAIM));
       }
       if (claims.containsKey(LOCALE_CLAIM)) {
         user.setLocale((String) claims.get(LOCALE_CLAIM));
       }
-      return userRepository.save(user);
-    } else {
-      return userRepository.save(new User(email,
-                                          (String) claims.get("name"),
-                                          (String) claims.get(LOCALE_CLAIM)));
+      user = userRepository.save(user);
     }
+    profiles.put(email, copyOf(user));
+    return user;
   }
 
   public Optional<User> findByEmail(String email) {
-    return userRepository.findByEmail(email);
+    return Optional.ofNullable(getUserIfExists(email));
   }
 
   public User getUserIfExists(String email) {
-    return userRepository.findByEmail(email).orElse(null);
+    // A missing user is not cached: it is created on sign-in
+    User cached = profiles.get(email, key -> userRepository.findByEmail(key).map(UserService::copyOf).orElse(null));
+    return cached != null ? copyOf(cached) : null;
   }
 
   @Transactional
@@ -54,6 +77,7 @@ public class UserService {
     user.setProfileType(profileType);
     user.setCity(city);
     user.setCountry(country);
+    evictAfterCommit(email);
     return userRepository.save(user);
   }
 
@@ -71,11 +95,40 @@ public class UserService {
     user.setProfileType(profileType);
     user.setCity(city);
     user.setCountry(country);
+    evictAfterCommit(email);
     return userRepository.save(user);
   }
 
   public String getUserNameByEmail(String email) {
-    User user = userRepository.findByEmail(email).orElse(null);
+    User user = getUserIfExists(email);
     return user != null ? user.getName() : null;
   }
+
+  // Dropped now and again once committed, so that a profile read in between is not kept
+  private void evictAfterCommit(String email) {
+    profiles.invalidate(email);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          profiles.invalidate(email);
+        }
+      });
+    }
+  }
+
+  private static boolean differsFrom(User user, Map<String, Object> claims) {
+    return (claims.containsKey(NAME_CLAIM) && !Objects.equals(claims.get(NAME_CLAIM), user.getName()))
+           || (claims.containsKey(LOCALE_CLAIM) && !Objects.equals(claims.get(LOCALE_CLAIM), user.getLocale()));
+  }
+
+  // Callers get their own copy: the cached profile must not be changed in place
+  private static User copyOf(User user) {
+    User copy = new User(user.getEmail(), user.getName(), user.getLocale());
+    copy.setId(user.getId());
+    copy.setProfileType(user.getProfileType());
+    copy.setCity(user.getCity());
+    copy.setCountry(user.getCountry());
+    return copy;
+  }
 }
@@ -0,0 +1,204 @@
+package io.github.redouanebali.service;
+
+import io.github.redouanebali.model.TeamSide;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Write-behind buffer of the votes. A vote is answered once buffered; the buffer keeps only the latest vote of each voter for each game, and writes
+ * them to the {@code votes} table in JDBC batches, after a delay or once enough votes are pending, on a single background thread. A burst of votes
+ * before a popular game thus costs a few batches instead of a lookup and a write per vote. Each batch commits in a transaction of its own, whatever
+ * the auto-commit mode of the pool and the transaction of the caller.
+ * <p>
+ * Votes still buffered when the process dies are lost; they are flushed on a regular shutdown.
+ */
+@Component
+@Slf4j
+public class VoteBuffer {
+
+  private static final String UPDATE_SQL = "UPDATE votes SET team_side = ?, created_at = ?, is_authenticated = ? WHERE game_id = ? AND voter_id = ?";
+  private static final String INSERT_SQL = "INSERT INTO votes (game_id, voter_id, team_side, created_at, is_authenticated) VALUES (?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate                        jdbcTemplate;
+  private final TransactionTemplate                 transactionTemplate;
+  private final ConcurrentMap<VoteKey, PendingVote> pending = new ConcurrentHashMap<>();
+  private final int                                 batchSize;
+  private final Duration                            flushInterval;
+  private       ScheduledExecutorService            flusher;
+
+  public VoteBuffer(JdbcTemplate jdbcTemplate,
+                    PlatformTransactionManager transactionManager,
+                    @Value("${app.votes.flush-batch-size:500}") int batchSize,
+                    @Value("${app.votes.flush-interval:PT1S}") Duration flushInterval) {
+    this.jdbcTemplate        = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize           = batchSize;
+    this.flushInterval       = flushInterval;
+    // A flush of a game can run inside the caller's transaction, which may be read-only or roll back
+    transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  @PostConstruct
+  void start() {
+    flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "vote-flusher");
+      thread.setDaemon(true);
+      return thread;
+    });
+    flusher.scheduleWithFixedDelay(this::flushQuietly, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (flusher != null) {
+      flusher.shutdown();
+      try {
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    flush();
+  }
+
+  /**
+   * Buffers a vote, replacing the pending vote of the same voter for the same game.
+   *
+   * @param gameId the game ID
+   * @param voterId the voter ID
+   * @param teamSide the team voted for
+   * @param authenticated true if the voter is authenticated
+   */
+  public void submit(Long gameId, String voterId, TeamSide teamSide, boolean authenticated) {
+    pending.put(new VoteKey(gameId, voterId), new PendingVote(teamSide, Instant.now(), authenticated));
+    if (pending.size() >= batchSize && flusher != null) {
+      flusher.execute(this::flushQuietly);
+    }
+  }
+
+  /**
+   * Writes every pending vote.
+   */
+  public void flush() {
+    write(key -> true);
+  }
+
+  /**
+   * Writes the pending votes of a game, so that a read of its votes sees them.
+   *
+   * @param gameId the game ID
+   */
+  public void flush(Long gameId) {
+    write(key -> key.gameId().equals(gameId));
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      log.error("Failed to flush buffered votes", e);
+    }
+  }
+
+  // Serialized: two writers of the same vote could otherwise both insert it
+  private synchronized void write(Predicate<VoteKey> selected) {
+    List<Map.Entry<VoteKey, PendingVote>> batch = new ArrayList<>();
+    for (Map.Entry<VoteKey, PendingVote> entry : pending.entrySet()) {
+      // A vote replaced meanwhile stays pending for the next flush
+      if (selected.test(entry.getKey()) && pending.remove(entry.getKey(), entry.getValue())) {
+        batch.add(Map.entry(entry.getKey(), entry.getValue()));
+      }
+      if (batch.size() == batchSize) {
+        writeBatch(batch);
+        batch = new ArrayList<>();
+      }
+    }
+    if (!batch.isEmpty()) {
+      writeBatch(batch);
+    }
+  }
+
+  private void writeBatch(List<Map.Entry<VoteKey, PendingVote>> batch) {
+    try {
+      try {
+        int inserted = transactionTemplate.execute(status -> updateThenInsert(batch));
+        log.debug("Flushed {} buffered votes ({} new)", batch.size(), inserted);
+      } catch (DuplicateKeyException e) {
+        // Another instance inserted one of these votes in between. The failed statement aborts the transaction on PostgreSQL, so the whole batch was
+        // rolled back: write its votes again one at a time, each in a transaction of its own
+        for (Map.Entry<VoteKey, PendingVote> entry : batch) {
+          transactionTemplate.executeWithoutResult(status -> writeOne(entry.getKey(), entry.getValue()));
+        }
+        log.debug("Flushed {} buffered votes one at a time", batch.size());
+      }
+    } catch (DataAccessException e) {
+      // Kept for the next flush, unless the voter voted again meanwhile
+      batch.forEach(entry -> pending.putIfAbsent(entry.getKey(), entry.getValue()));
+      throw e;
+    }
+  }
+
+  // Updates the existing votes, then inserts the others: portable across the supported databases, unlike their upsert syntaxes
+  private int updateThenInsert(List<Map.Entry<VoteKey, PendingVote>> batch) {
+    int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batch.size(), (ps, entry) -> {
+      ps.setString(1, entry.getValue().teamSide().name());
+      ps.setTimestamp(2, Timestamp.from(entry.getValue().createdAt()));
+      ps.setBoolean(3, entry.getValue().authenticated());
+      ps.setLong(4, entry.getKey().gameId());
+      ps.setString(5, entry.getKey().voterId());
+    })[0];
+    List<Map.Entry<VoteKey, PendingVote>> inserts = new ArrayList<>();
+    for (int i = 0; i < batch.size(); i++) {
+      if (updated[i] == 0) {
+        inserts.add(batch.get(i));
+      }
+    }
+    if (!inserts.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_SQL, inserts, inserts.size(), (ps, entry) -> {
+        ps.setLong(1, entry.getKey().gameId());
+        ps.setString(2, entry.getKey().voterId());
+        ps.setString(3, entry.getValue().teamSide().name());
+        ps.setTimestamp(4, Timestamp.from(entry.getValue().createdAt()));
+        ps.setBoolean(5, entry.getValue().authenticated());
+      });
+    }
+    return inserts.size();
+  }
+
+  private void writeOne(VoteKey key, PendingVote vote) {
+    Timestamp createdAt = Timestamp.from(vote.createdAt());
+    int       updated   = jdbcTemplate.update(UPDATE_SQL, vote.teamSide().name(), createdAt, vote.authenticated(), key.gameId(), key.voterId());
+    if (updated == 0) {
+      jdbcTemplate.update(INSERT_SQL, key.gameId(), key.voterId(), vote.teamSide().name(), createdAt, vote.authenticated());
+    }
+  }
+
+  private record VoteKey(Long gameId, String voterId) {
+
+  }
+
+  private record PendingVote(TeamSide teamSide, Instant createdAt, boolean authenticated) {
+
+  }
+}
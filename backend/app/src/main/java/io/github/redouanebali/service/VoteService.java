@@ -1,86 +1,99 @@
 package io.github.redouanebali.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.redouanebali.cluster.ClusterEvent;
+import io.github.redouanebali.cluster.ClusterRelay;
 import io.github.redouanebali.dto.response.VoteSummaryDTO;
-import io.github.redouanebali.model.Game;
 import io.github.redouanebali.model.TeamSide;
 import io.github.redouanebali.model.Vote;
 import io.github.redouanebali.repository.GameRepository;
-import io.github.redouanebali.repository.VoteRepository;
 import io.github.redouanebali.security.SecurityUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.time.Instant;
+import java.time.Duration;
 import java.util.HexFormat;
-import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class VoteService {
 
-  private final VoteRepository voteRepository;
-  private final GameRepository gameRepository;
+  private static final String GAME_TOPIC_PREFIX = "/topic/game/";
 
-  // Cache for generated session IDs to ensure consistency for anonymous users
-  private final ConcurrentHashMap<String, String> sessionIdCache = new ConcurrentHashMap<>();
+  private final GameRepository       gameRepository;
+  private final VoteTallyCache       voteTallyCache;
+  private final ClusterRelay         clusterRelay;
+  // Started flag of the games voted on; a score update of a game drops its entry
+  private final Cache<Long, Boolean> startedGames = Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(1)).maximumSize(10_000).build();
+
+  // Voter ID of each anonymous session (IP + User-Agent), so that a session keeps its ID and is hashed once
+  private final Cache<String, String> voterIds;
+
+  public VoteService(GameRepository gameRepository,
+                     VoteTallyCache voteTallyCache,
+                     ClusterRelay clusterRelay,
+                     MeterRegistry meterRegistry,
+                     @Value("${app.votes.voter-sessions.max-size:100000}") long voterSessionsMaxSize,
+                     @Value("${app.votes.voter-sessions.expire-after-access:PT24H}") Duration voterSessionsExpiry) {
+    this.gameRepository = gameRepository;
+    this.voteTallyCache = voteTallyCache;
+    this.clusterRelay   = clusterRelay;
+    this.voterIds       = Caffeine.newBuilder()
+                                  .maximumSize(voterSessionsMaxSize)
+                                  .expireAfterAccess(voterSessionsExpiry)
+                                  .recordStats()
+                                  .build();
+    // Hits, misses, evictions and size, under cache.* metrics tagged cache=voterSessions
+    CaffeineCacheMetrics.monitor(meterRegistry, voterIds, "voterSessions");
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    clusterRelay.subscribe(this::onClusterEvent);
+  }
 
   /**
-   * Casts a vote for a team in a game. Each voter can vote once per game, but can change their vote if the game hasn't started.
+   * Casts a vote for a team in a game. Each voter can vote once per game, but can change their vote if the game hasn't started. The vote is counted
+   * at once and written later by the {@link VoteBuffer}, so the returned vote is not persisted yet.
    */
-  @Transactional
   public Vote vote(Long gameId, TeamSide teamSide, HttpServletRequest request) {
-    Game game = gameRepository.findById(gameId)
-                              .orElseThrow(() -> new IllegalArgumentException("Game not found"));
-    if (game.isStarted()) {
+    if (isStarted(gameId)) {
       throw new IllegalStateException("Cannot vote after game has started");
     }
 
-    String  voterId         = resolveVoterId(request);
-    boolean isAuthenticated = SecurityUtil.currentUserId() != null;
-
-    Optional<Vote> existingVote = voteRepository.findByGameIdAndVoterId(gameId, voterId);
-    if (existingVote.isPresent()) {
-      // Allow changing vote if game hasn't started and to a different team
-      if (existingVote.get().getTeamSide() == teamSide) {
-        throw new IllegalStateException("You have already voted for this team");
-      }
-      existingVote.get().setTeamSide(teamSide);
-      existingVote.get().setCreatedAt(Instant.now());
-      voteRepository.save(existingVote.get());
+    String   voterId         = resolveVoterId(request);
+    boolean  isAuthenticated = SecurityUtil.currentUserId() != null;
+    TeamSide previous        = voteTallyCache.castVote(gameId, voterId, teamSide, isAuthenticated);
+    if (previous != null) {
       log.info("Vote updated: game={}, team={}, voterId={}, authenticated={}", gameId, teamSide, voterId, isAuthenticated);
-      return existingVote.get();
     } else {
-      Vote vote = new Vote(gameId, voterId, teamSide, isAuthenticated);
-      vote = voteRepository.save(vote);
       log.info("Vote recorded: game={}, team={}, voterId={}, authenticated={}", gameId, teamSide, voterId, isAuthenticated);
-      return vote;
     }
+    return new Vote(gameId, voterId, teamSide, isAuthenticated);
   }
 
   /**
-   * Gets the vote summary for a game including vote counts and current user's vote.
+   * Gets the vote summary for a game including vote counts and current user's vote. Served from the {@link VoteTallyCache}: only the first view of
+   * a game, and of each voter, reads the votes.
    */
-  @Transactional(readOnly = true)
   public VoteSummaryDTO getVoteSummary(Long gameId, HttpServletRequest request) {
-    long teamAVotes = voteRepository.countTeamAVotes(gameId);
-    long teamBVotes = voteRepository.countTeamBVotes(gameId);
+    long[] counts = voteTallyCache.counts(gameId);
 
     TeamSide currentUserVote = null;
     if (request != null) {
-      String         voterId  = resolveVoterId(request);
-      Optional<Vote> userVote = voteRepository.findByGameIdAndVoterId(gameId, voterId);
-      currentUserVote = userVote.map(Vote::getTeamSide).orElse(null);
+      currentUserVote = voteTallyCache.voteOf(gameId, resolveVoterId(request));
     }
 
-    return new VoteSummaryDTO(teamAVotes, teamBVotes, currentUserVote);
+    return new VoteSummaryDTO(counts[0], counts[1], currentUserVote);
   }
 
   /**
@@ -92,19 +105,28 @@ public class VoteService {
       return "user:" + userId;
     }
 
-    // For anonymous, use a combination of IP, User-Agent, and a session ID to differentiate sessions
-    String ip        = getClientIp(request);
-    String userAgent = request.getHeader("User-Agent");
-    String sessionId = request.getHeader("X-Session-Id"); // Expect front-end to send a unique session ID
-    if (sessionId == null) {
-      sessionId = "default"; // Fallback, but not ideal
-    }
-    // Ensure the session ID is consistent for the same IP and User-Agent
+    // For anonymous, use a combination of IP, User-Agent, and a session ID generated once per IP and User-Agent to differentiate sessions
+    String ip           = getClientIp(request);
+    String userAgent    = request.getHeader("User-Agent");
     String sessionIdKey = ip + "|" + (userAgent != null ? userAgent : "unknown");
-    sessionId = sessionIdCache.computeIfAbsent(sessionIdKey, key -> UUID.randomUUID().toString());
-    String fingerprint = ip + "|" + (userAgent != null ? userAgent : "unknown") + "|" + sessionId;
-    String voterId     = "anon:" + hash(fingerprint);
-    return voterId;
+    return voterIds.get(sessionIdKey, key -> "anon:" + hash(key + "|" + UUID.randomUUID()));
+  }
+
+  private boolean isStarted(Long gameId) {
+    return startedGames.get(gameId, id -> gameRepository.findById(id)
+                                                        .orElseThrow(() -> new IllegalArgumentException("Game not found"))
+                                                        .isStarted());
+  }
+
+  // Every score update of a game, on any instance, is broadcast on its topic
+  private void onClusterEvent(ClusterEvent event) {
+    if (event.type() == ClusterEvent.Type.BROADCAST && event.destination().startsWith(GAME_TOPIC_PREFIX)) {
+      try {
+        startedGames.invalidate(Long.valueOf(event.destination().substring(GAME_TOPIC_PREFIX.length())));
+      } catch (NumberFormatException e) {
+        // Not a game score topic
+      }
+    }
   }
 
   private String getClientIp(HttpServletRequest request) {
@@ -0,0 +1,122 @@
+package io.github.redouanebali.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.redouanebali.model.TeamSide;
+import io.github.redouanebali.model.Vote;
+import io.github.redouanebali.repository.VoteRepository;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory vote tally of the games, so that the game endpoints serve vote summaries without querying the votes. Each game has a pair of counters
+ * loaded with one grouped count on first access, then updated in place by the votes cast on this instance, and the known votes of the voters that
+ * viewed the game. Votes are cast through it, which makes it the dedupe point of the {@link VoteBuffer}.
+ * <p>
+ * Votes cast on other instances are not seen until the tally expires and is reloaded, hence the short lifetime. Loading a tally first writes the
+ * votes of the game still held by the {@link VoteBuffer}, which the expired tally had counted.
+ */
+@Component
+public class VoteTallyCache {
+
+  private final VoteRepository     voteRepository;
+  private final VoteBuffer         voteBuffer;
+  private final Cache<Long, Tally> tallies;
+
+  public VoteTallyCache(VoteRepository voteRepository,
+                        VoteBuffer voteBuffer,
+                        @Value("${app.votes.tally-ttl:PT1M}") Duration ttl,
+                        @Value("${app.votes.tally-max-games:10000}") long maximumSize) {
+    this.voteRepository = voteRepository;
+    this.voteBuffer     = voteBuffer;
+    this.tallies        = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maximumSize).build();
+  }
+
+  /**
+   * Returns the number of votes of each team of a game.
+   *
+   * @param gameId the game ID
+   * @return the votes of team A and team B, in this order
+   */
+  public long[] counts(Long gameId) {
+    Tally tally = tally(gameId);
+    return new long[]{tally.teamA.get(), tally.teamB.get()};
+  }
+
+  /**
+   * Returns the team a voter voted for in a game. The vote of a voter is read once per tally, then kept along with it.
+   *
+   * @param gameId the game ID
+   * @param voterId the voter ID
+   * @return the team voted for, or null if the voter has not voted
+   */
+  public TeamSide voteOf(Long gameId, String voterId) {
+    Tally              tally = tally(gameId);
+    Optional<TeamSide> vote  = tally.voters.get(voterId);
+    if (vote == null) {
+      // Read outside of the map's lock; a vote recorded meanwhile wins over the value read
+      vote = voteRepository.findByGameIdAndVoterId(gameId, voterId).map(Vote::getTeamSide);
+      Optional<TeamSide> recorded = tally.voters.putIfAbsent(voterId, vote);
+      vote = recorded != null ? recorded : vote;
+    }
+    return vote.orElse(null);
+  }
+
+  /**
+   * Casts a vote: applies it to the tally of its game and hands it to the {@link VoteBuffer}, atomically for a given voter, so that concurrent votes
+   * of the same voter are counted once.
+   *
+   * @param gameId the game ID
+   * @param voterId the voter ID
+   * @param teamSide the team voted for
+   * @param authenticated true if the voter is authenticated
+   * @return the team the voter voted for before, null for a first vote
+   * @throws IllegalStateException if the voter already voted for this team
+   */
+  public TeamSide castVote(Long gameId, String voterId, TeamSide teamSide, boolean authenticated) {
+    voteOf(gameId, voterId);
+    Tally      tally    = tally(gameId);
+    TeamSide[] previous = new TeamSide[1];
+    tally.voters.compute(voterId, (id, current) -> {
+      previous[0] = current == null ? null : current.orElse(null);
+      if (previous[0] == teamSide) {
+        throw new IllegalStateException("You have already voted for this team");
+      }
+      voteBuffer.submit(gameId, id, teamSide, authenticated);
+      if (previous[0] != null) {
+        tally.counter(previous[0]).decrementAndGet();
+      }
+      tally.counter(teamSide).incrementAndGet();
+      return Optional.of(teamSide);
+    });
+    return previous[0];
+  }
+
+  private Tally tally(Long gameId) {
+    return tallies.get(gameId, id -> {
+      // The buffered votes of the game were counted by the expired tally: they must be in the table before it is counted again
+      voteBuffer.flush(id);
+      Tally tally = new Tally();
+      for (VoteRepository.TeamSideCount count : voteRepository.countVotesByTeamSide(id)) {
+        tally.counter(count.getTeamSide()).set(count.getVotes());
+      }
+      return tally;
+    });
+  }
+
+  private static final class Tally {
+
+    private final AtomicLong                                teamA  = new AtomicLong();
+    private final AtomicLong                                teamB  = new AtomicLong();
+    private final ConcurrentMap<String, Optional<TeamSide>> voters = new ConcurrentHashMap<>();
+
+    private AtomicLong counter(TeamSide teamSide) {
+      return teamSide == TeamSide.TEAM_A ? teamA : teamB;
+    }
+  }
+}
@@ -0,0 +1,214 @@
+package io.github.redouanebali.sse;
+
+import io.github.redouanebali.cluster.ClusterEvent;
+import io.github.redouanebali.cluster.ClusterRelay;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * Server-Sent Events fan-out of the live events, for the clients that cannot use STOMP (courtside displays, embedded widgets). It is fed by the same
+ * {@link ClusterRelay} events as the WebSocket subscribers, so every instance serves the events published by any of them.
+ * <p>
+ * The emitters are asynchronous: an idle connection holds no thread at all. Each connection has a bounded queue, drained by one of a fixed number
+ * of writer threads while it is not empty, a batch at a time so that busy connections take turns. A client too slow to keep up with its queue, or
+ * whose queue finds every writer busy and the writers' backlog full, is disconnected and expected to reconnect: the thread count never grows with
+ * the number of clients. The writers are platform threads: {@link SseEmitter} writes while holding its monitor, which would pin the carrier of a
+ * virtual thread for as long as the client takes to read.
+ */
+@Component
+@Slf4j
+public class SseBroadcaster {
+
+  private static final int QUEUE_CAPACITY = 64;
+  // Events written to a connection before its writer moves on to the next one
+  private static final int DRAIN_BATCH    = 16;
+
+  private final ClusterRelay                 clusterRelay;
+  private final Duration                     timeout;
+  private final Duration                     heartbeat;
+  private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService     heartbeats  = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread thread = new Thread(r, "sse-heartbeat");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final ExecutorService              writers;
+
+  public SseBroadcaster(ClusterRelay clusterRelay,
+                        @Value("${app.sse.timeout:PT30M}") Duration timeout,
+                        @Value("${app.sse.heartbeat:PT20S}") Duration heartbeat,
+                        @Value("${app.sse.writer-threads:8}") int writerThreads,
+                        @Value("${app.sse.writer-backlog:4096}") int writerBacklog) {
+    this.clusterRelay = clusterRelay;
+    this.timeout      = timeout;
+    this.heartbeat    = heartbeat;
+    // A connection is queued at most once, so the backlog bounds the connections waiting for a writer; past it, the task is rejected
+    this.writers      = new ThreadPoolExecutor(writerThreads, writerThreads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(writerBacklog), r -> {
+      Thread thread = new Thread(r, "sse-writer");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    clusterRelay.subscribe(this::deliver);
+    // Keeps idle connections open through proxies and load balancers, and detects the clients that went away
+    heartbeats.scheduleAtFixedRate(this::sendHeartbeats, heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    heartbeats.shutdownNow();
+    writers.shutdownNow();
+    subscribers.values().forEach(set -> set.forEach(Subscriber::close));
+  }
+
+  /**
+   * Opens a stream of the events broadcast on a STOMP destination.
+   *
+   * @param destination the destination, such as {@code /topic/game/12}
+   * @param initial optional first event, sent before any broadcast one
+   * @return the emitter to return from the request handler
+   */
+  public SseEmitter open(String destination, SseEventBuilder initial) {
+    SseEmitter emitter    = new SseEmitter(timeout.toMillis());
+    Subscriber subscriber = new Subscriber(destination, emitter);
+    if (initial != null) {
+      subscriber.offer(initial.build());
+    }
+    subscribers.compute(destination, (d, set) -> {
+      Set<Subscriber> current = set != null ? set : ConcurrentHashMap.newKeySet();
+      current.add(subscriber);
+      return current;
+    });
+    emitter.onCompletion(subscriber::close);
+    emitter.onTimeout(subscriber::close);
+    emitter.onError(e -> subscriber.close());
+    subscriber.schedule();
+    return emitter;
+  }
+
+  /**
+   * Returns the number of open streams of a destination.
+   *
+   * @param destination the destination
+   * @return the number of subscribers
+   */
+  public int subscriberCount(String destination) {
+    Set<Subscriber> set = subscribers.get(destination);
+    return set == null ? 0 : set.size();
+  }
+
+  // Game score events carry the full state as snapshot: SSE clients get it rather than a patch, so they never need to resynchronize
+  private void deliver(ClusterEvent event) {
+    if (event.type() != ClusterEvent.Type.BROADCAST) {
+      return;
+    }
+    Set<Subscriber> set = subscribers.get(event.destination());
+    if (set == null || set.isEmpty()) {
+      return;
+    }
+    // Formatted once for all the subscribers
+    String                 data   = event.snapshot() != null ? event.snapshot() : event.payload();
+    Set<DataWithMediaType> frames = SseEmitter.event().data(data, MediaType.APPLICATION_JSON).build();
+    for (Subscriber subscriber : set) {
+      subscriber.offer(frames);
+    }
+  }
+
+  private void sendHeartbeats() {
+    Set<DataWithMediaType> frames = SseEmitter.event().comment("heartbeat").build();
+    subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.offer(frames)));
+  }
+
+  private final class Subscriber {
+
+    private final    String                                destination;
+    private final    SseEmitter                            emitter;
+    private final    BlockingQueue<Set<DataWithMediaType>> queue     = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    // Set while a writer drains the queue: at most one at a time, so the events are sent in order
+    private final    AtomicBoolean                         scheduled = new AtomicBoolean();
+    private volatile boolean                               closed;
+
+    private Subscriber(String destination, SseEmitter emitter) {
+      this.destination = destination;
+      this.emitter     = emitter;
+    }
+
+    private void offer(Set<DataWithMediaType> event) {
+      if (closed) {
+        return;
+      }
+      if (!queue.offer(event)) {
+        log.debug("SSE client of {} is too slow, disconnecting it", destination);
+        close();
+        emitter.complete();
+        return;
+      }
+      schedule();
+    }
+
+    private void schedule() {
+      if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+        try {
+          writers.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+          // Every writer busy and the backlog full, or shutting down
+          if (!writers.isShutdown()) {
+            log.debug("SSE writers saturated, disconnecting a client of {}", destination);
+          }
+          close();
+          emitter.complete();
+        }
+      }
+    }
+
+    private void drain() {
+      try {
+        Set<DataWithMediaType> event;
+        for (int sent = 0; sent < DRAIN_BATCH && !closed && (event = queue.poll()) != null; sent++) {
+          emitter.send(event);
+        }
+      } catch (IOException | IllegalStateException e) {
+        // The client went away: the container completes the emitter
+        close();
+      } finally {
+        scheduled.set(false);
+      }
+      // Events left after the batch, or offered after the last poll but before the flag was cleared, while the writer was still scheduled
+      if (!closed) {
+        schedule();
+      }
+    }
+
+    private void close() {
+      closed = true;
+      subscribers.computeIfPresent(destination, (d, set) -> {
+        set.remove(this);
+        return set.isEmpty() ? null : set;
+      });
+    }
+  }
+}
@@ -1,30 +1,157 @@
 package io.github.redouanebali.websocket;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.redouanebali.cluster.ClusterEvent;
+import io.github.redouanebali.cluster.ClusterRelay;
+import io.github.redouanebali.dto.response.UpdateScoreDTO;
+import io.github.redouanebali.service.GameService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.MimeTypeUtils;
 
 /**
- * WebSocket controller for broadcasting game score updates.
+ * WebSocket controller for broadcasting game score updates. Updates go through the {@link ClusterRelay} so that the subscribers connected to every
+ * instance receive them, not only those of the instance that handled the update. The payload is serialized once, by the publishing instance.
+ * <p>
+ * The updates of a game are conflated by a {@link ScoreConflator} and published on {@code /topic/game/{id}} as sequenced {@link ScoreStreamMessage}s,
+ * mostly small patches. Every instance keeps the latest snapshot of each game it relayed, which clients fetch by subscribing to {@code /app/game/{id}}
+ * when they start following a game or detect a gap.
+ * <p>
+ * Every instance also keeps the last messages of each active game in a {@link ScoreReplayBuffer}. A client that reconnects subscribes to
+ * {@code /app/game/{id}/since/{epoch}/{seq}} with the position of the last message it applied, and receives only the messages it missed.
  */
 @Controller
 public class GameScoreWebSocketController {
 
-  private final SimpMessagingTemplate messagingTemplate;
+  private static final String TOPIC_PREFIX  = "/topic/game/";
+  private static final long   MAX_GAMES     = 10_000;
+
+  private final SimpMessagingTemplate    messagingTemplate;
+  private final ClusterRelay             clusterRelay;
+  private final ObjectMapper             objectMapper;
+  private final GameService              gameService;
+  private final ScheduledExecutorService scheduler;
+  private final ScoreConflator           conflator;
+  private final ScoreReplayBuffer        replayBuffer;
 
   @Autowired
-  public GameScoreWebSocketController(SimpMessagingTemplate messagingTemplate) {
+  public GameScoreWebSocketController(SimpMessagingTemplate messagingTemplate,
+                                      ClusterRelay clusterRelay,
+                                      ObjectMapper objectMapper,
+                                      @Value("${app.websocket.score-conflation-window:PT0.1S}") Duration conflationWindow,
+                                      @Value("${app.websocket.score-replay-size:64}") int replaySize,
+                                      GameService gameService) {
     this.messagingTemplate = messagingTemplate;
+    this.clusterRelay      = clusterRelay;
+    this.objectMapper      = objectMapper;
+    this.gameService       = gameService;
+    this.scheduler         = conflationWindow.isZero() ? null : Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "score-conflator");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.replayBuffer      = new ScoreReplayBuffer(objectMapper, replaySize, MAX_GAMES);
+    this.conflator         = new ScoreConflator(objectMapper, conflationWindow, scheduler, clusterRelay.nodeId(), this::publish);
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    clusterRelay.subscribe(this::deliver);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (scheduler != null) {
+      scheduler.shutdown();
+    }
   }
 
   /**
-   * Broadcasts score update to all subscribers for a specific game.
+   * Broadcasts score update to all subscribers for a specific game, on every instance. Updates closer than the conflation window are merged.
    *
    * @param gameId the game identifier
-   * @param scoreDTO the score data transfer object
+   * @param scoreDTO the new score and winner
    */
-  public void broadcastScoreUpdate(Long gameId, Object scoreDTO) {
-    messagingTemplate.convertAndSend("/topic/game/" + gameId, scoreDTO);
+  public void broadcastScoreUpdate(Long gameId, UpdateScoreDTO scoreDTO) {
+    conflator.submit(gameId, scoreDTO);
+  }
+
+  /**
+   * Answers a subscription to {@code /app/game/{id}} with the snapshot of the game, sent to the subscribing session only. Falls back to the persisted
+   * score, outside any epoch, for a game this instance has not relayed yet.
+   *
+   * @param gameId the game identifier
+   * @return the snapshot as JSON, or null if the game does not exist
+   */
+  @SubscribeMapping("/game/{gameId}")
+  public String snapshot(@DestinationVariable Long gameId) {
+    String snapshot = replayBuffer.latestSnapshot(gameId);
+    if (snapshot != null) {
+      return snapshot;
+    }
+    return gameService.findScoreUpdate(gameId)
+                      .map(update -> toJson(new ScoreStreamMessage(gameId, null, 0, true, conflator.toState(update))))
+                      .orElse(null);
   }
-}
 
+  /**
+   * Answers a reconnecting client with the messages of the game that follow the last one it applied, as a JSON array sent to the subscribing session
+   * only. When this instance no longer holds all of them, the array holds the snapshot of the game instead.
+   *
+   * @param gameId the game identifier
+   * @param epoch epoch of the last message the client applied
+   * @param seq sequence number of the last message the client applied
+   * @return the JSON array of messages to apply in order, empty if the client is up to date
+   */
+  @SubscribeMapping("/game/{gameId}/since/{epoch}/{seq}")
+  public String resume(@DestinationVariable Long gameId, @DestinationVariable String epoch, @DestinationVariable long seq) {
+    List<String> missed = replayBuffer.since(gameId, epoch, seq);
+    if (missed == null) {
+      String snapshot = snapshot(gameId);
+      missed = snapshot == null ? List.of() : List.of(snapshot);
+    }
+    // The messages are already serialized, so the array is assembled as is
+    return "[" + String.join(",", missed) + "]";
+  }
+
+  private void publish(ScoreConflator.Emission emission) {
+    clusterRelay.publish(ClusterEvent.broadcast(TOPIC_PREFIX + emission.gameId(), toJson(emission.message()), toJson(emission.snapshot())));
+  }
+
+  private String toJson(ScoreStreamMessage message) {
+    try {
+      return objectMapper.writeValueAsString(message);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize score update of game " + message.gameId(), e);
+    }
+  }
+
+  // Sends the already serialized JSON as is to the local subscribers, and keeps the message for the ones that reconnect
+  private void deliver(ClusterEvent event) {
+    if (event.type() != ClusterEvent.Type.BROADCAST) {
+      return;
+    }
+    if (event.snapshot() != null && event.destination().startsWith(TOPIC_PREFIX)) {
+      replayBuffer.record(Long.valueOf(event.destination().substring(TOPIC_PREFIX.length())), event.payload(), event.snapshot());
+    }
+    SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create();
+    headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+    headers.setLeaveMutable(true);
+    messagingTemplate.send(event.destination(), MessageBuilder.createMessage(event.payload().getBytes(StandardCharsets.UTF_8),
+                                                                              headers.getMessageHeaders()));
+  }
+}
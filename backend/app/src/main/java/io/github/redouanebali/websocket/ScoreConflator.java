@@ -0,0 +1,167 @@
+package io.github.redouanebali.websocket;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.redouanebali.dto.response.UpdateScoreDTO;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbound conflation stage of the game score streams, on the instance that handled the updates. The updates of a game received within the window
+ * are merged into the latest one, which is then published as a merge patch against the state published before it. A burst of corrections
+ * (increment, undo, increment) thus costs one small message, and corrections that cancel out cost none.
+ * <p>
+ * The first message of a game is a snapshot. Streams idle for longer than their expiry are dropped; the next update opens a new epoch, so that the
+ * subscribers resynchronize instead of applying a patch to a state they do not have.
+ */
+@Slf4j
+final class ScoreConflator {
+
+  private static final Duration STREAM_EXPIRY = Duration.ofMinutes(30);
+
+  private final ObjectMapper             stateMapper;
+  private final long                     windowNanos;
+  private final ScheduledExecutorService scheduler;
+  private final Consumer<Emission>       sink;
+  private final String                   nodeId;
+  private final AtomicLong               epochs  = new AtomicLong();
+  private final Cache<Long, Stream>      streams = Caffeine.newBuilder().expireAfterAccess(STREAM_EXPIRY).build();
+
+  /**
+   * @param objectMapper mapper the states are read with
+   * @param window how long updates of a game are merged before being published; zero publishes every update at once, in the caller's thread
+   * @param scheduler runs the delayed publications, unused with a zero window
+   * @param nodeId id of this instance, prefix of its epochs
+   * @param sink publishes a message, called in sequence order for a given game
+   */
+  ScoreConflator(ObjectMapper objectMapper, Duration window, ScheduledExecutorService scheduler, String nodeId, Consumer<Emission> sink) {
+    this.stateMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    this.windowNanos = window.toNanos();
+    this.scheduler   = scheduler;
+    this.nodeId      = nodeId;
+    this.sink        = sink;
+  }
+
+  /**
+   * Records the latest score of a game, to be published at the end of the current window.
+   *
+   * @param gameId the game ID
+   * @param update the new score and winner
+   */
+  void submit(Long gameId, UpdateScoreDTO update) {
+    JsonNode state  = toState(update);
+    Stream   stream = streams.get(gameId, id -> new Stream(nodeId + "-" + epochs.incrementAndGet()));
+    boolean  schedule;
+    synchronized (stream) {
+      stream.pending = state;
+      schedule       = windowNanos > 0 && !stream.scheduled;
+      stream.scheduled |= schedule;
+    }
+    if (windowNanos <= 0) {
+      flush(gameId, stream);
+    } else if (schedule) {
+      scheduler.schedule(() -> flush(gameId, stream), windowNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Converts an update to the state of the stream: whether the game is finished, the winner and the score, without null fields.
+   */
+  JsonNode toState(UpdateScoreDTO update) {
+    ObjectNode state = JsonNodeFactory.instance.objectNode();
+    // A forfeit without a side finishes the game without a winner: the winner alone does not tell
+    state.put("finished", update.isTournamentUpdated());
+    if (update.getWinner() != null) {
+      state.put("winner", update.getWinner().name());
+    }
+    if (update.getScore() != null) {
+      state.set("score", stateMapper.valueToTree(update.getScore()));
+    }
+    return state;
+  }
+
+  /**
+   * Computes the JSON merge patch (RFC 7396) turning one object into another: changed and added fields with their new value, nested objects patched
+   * recursively, removed fields set to null. Arrays are replaced as a whole.
+   *
+   * @param from the previous state
+   * @param to the new state
+   * @return the patch, empty if both are equal
+   */
+  static ObjectNode diff(JsonNode from, JsonNode to) {
+    ObjectNode patch = JsonNodeFactory.instance.objectNode();
+    for (Iterator<String> names = from.fieldNames(); names.hasNext(); ) {
+      String name = names.next();
+      if (!to.has(name)) {
+        patch.putNull(name);
+      }
+    }
+    for (Iterator<Map.Entry<String, JsonNode>> fields = to.fields(); fields.hasNext(); ) {
+      Map.Entry<String, JsonNode> field    = fields.next();
+      JsonNode                    previous = from.get(field.getKey());
+      if (previous != null && previous.equals(field.getValue())) {
+        continue;
+      }
+      if (previous != null && previous.isObject() && field.getValue().isObject()) {
+        patch.set(field.getKey(), diff(previous, field.getValue()));
+      } else {
+        patch.set(field.getKey(), field.getValue());
+      }
+    }
+    return patch;
+  }
+
+  // Holding the stream's monitor while publishing keeps the messages of a game in sequence order
+  private void flush(Long gameId, Stream stream) {
+    try {
+      synchronized (stream) {
+        stream.scheduled = false;
+        JsonNode state = stream.pending;
+        stream.pending = null;
+        if (state == null || state.equals(stream.published)) {
+          return;
+        }
+        stream.seq++;
+        ScoreStreamMessage snapshot = new ScoreStreamMessage(gameId, stream.epoch, stream.seq, true, state);
+        ScoreStreamMessage message  = stream.published == null ? snapshot
+                                                                : new ScoreStreamMessage(gameId, stream.epoch, stream.seq, false,
+                                                                                         diff(stream.published, state));
+        stream.published = state;
+        sink.accept(new Emission(gameId, message, snapshot));
+      }
+    } catch (RuntimeException e) {
+      log.error("Failed to publish the score of game {}", gameId, e);
+    }
+  }
+
+  /**
+   * A message to publish, and the snapshot of the state it leads to.
+   */
+  record Emission(Long gameId, ScoreStreamMessage message, ScoreStreamMessage snapshot) {
+
+  }
+
+  private static final class Stream {
+
+    private final String   epoch;
+    private       long     seq;
+    private       JsonNode published;
+    private       JsonNode pending;
+    private       boolean  scheduled;
+
+    private Stream(String epoch) {
+      this.epoch = epoch;
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package io.github.redouanebali.websocket;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Recent messages of the game score streams relayed by this instance, kept to let a reconnecting client catch up on what it missed instead of
+ * reloading the whole state. Each active game has a ring of its last messages along with the snapshot each one leads to; idle games are dropped.
+ * <p>
+ * Recording stays cheap: messages are kept as the JSON they were relayed as, and only a replay reads their epoch and sequence back.
+ */
+final class ScoreReplayBuffer {
+
+  private static final Duration GAME_EXPIRY = Duration.ofMinutes(30);
+
+  private final ObjectMapper      objectMapper;
+  private final int               capacity;
+  private final Cache<Long, Ring> rings;
+
+  /**
+   * @param objectMapper mapper the positions of the messages are read with
+   * @param capacity number of messages kept per game
+   * @param maxGames number of games kept, the least recently used ones being dropped first
+   */
+  ScoreReplayBuffer(ObjectMapper objectMapper, int capacity, long maxGames) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Replay capacity must be positive: " + capacity);
+    }
+    this.objectMapper = objectMapper;
+    this.capacity     = capacity;
+    this.rings        = Caffeine.newBuilder().maximumSize(maxGames).expireAfterAccess(GAME_EXPIRY).build();
+  }
+
+  /**
+   * Records a message of a game, overwriting the oldest one once the ring is full.
+   *
+   * @param gameId the game ID
+   * @param message the message as relayed
+   * @param snapshot the snapshot of the state the message leads to
+   */
+  void record(Long gameId, String message, String snapshot) {
+    Ring ring = rings.get(gameId, id -> new Ring(capacity));
+    synchronized (ring) {
+      ring.add(message, snapshot);
+    }
+  }
+
+  /**
+   * Returns the snapshot of the latest recorded message of a game.
+   *
+   * @param gameId the game ID
+   * @return the snapshot, or null if no message of the game is kept
+   */
+  String latestSnapshot(Long gameId) {
+    Ring ring = rings.getIfPresent(gameId);
+    if (ring == null) {
+      return null;
+    }
+    synchronized (ring) {
+      return ring.size == 0 ? null : ring.snapshots[ring.index(ring.size - 1)];
+    }
+  }
+
+  /**
+   * Returns the messages of a game that follow a given position, oldest first. The ring covers the gap only if it still holds every message of the
+   * same epoch from the one right after the position to the latest.
+   *
+   * @param gameId the game ID
+   * @param epoch epoch of the last message the client applied
+   * @param seq sequence number of the last message the client applied
+   * @return the missed messages, empty if the client is up to date, or null if the ring does not cover the gap
+   */
+  List<String> since(Long gameId, String epoch, long seq) {
+    Ring ring = rings.getIfPresent(gameId);
+    if (ring == null || epoch == null) {
+      return null;
+    }
+    List<String> missed = new ArrayList<>();
+    synchronized (ring) {
+      // Walks back from the latest message, each one having to precede the next by exactly one
+      long expected = -1;
+      for (int i = ring.size - 1; i >= 0; i--) {
+        String   message  = ring.messages[ring.index(i)];
+        Position position = position(message);
+        if (position == null || !Objects.equals(epoch, position.epoch()) || (expected >= 0 && position.seq() != expected)) {
+          return null;
+        }
+        if (position.seq() <= seq) {
+          return position.seq() == seq ? reversed(missed) : null;
+        }
+        missed.add(message);
+        if (position.seq() == seq + 1) {
+          return reversed(missed);
+        }
+        expected = position.seq() - 1;
+      }
+    }
+    return null;
+  }
+
+  private static List<String> reversed(List<String> messages) {
+    Collections.reverse(messages);
+    return messages;
+  }
+
+  private Position position(String message) {
+    try {
+      return objectMapper.readValue(message, Position.class);
+    } catch (JsonProcessingException e) {
+      return null;
+    }
+  }
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  private record Position(String epoch, long seq) {
+
+  }
+
+  private static final class Ring {
+
+    private final String[] messages;
+    private final String[] snapshots;
+    private       int      start;
+    private       int      size;
+
+    private Ring(int capacity) {
+      this.messages  = new String[capacity];
+      this.snapshots = new String[capacity];
+    }
+
+    private void add(String message, String snapshot) {
+      int slot;
+      if (size < messages.length) {
+        slot = index(size++);
+      } else {
+        slot  = start;
+        start = (start + 1) % messages.length;
+      }
+      messages[slot]  = message;
+      snapshots[slot] = snapshot;
+    }
+
+    private int index(int position) {
+      return (start + position) % messages.length;
+    }
+  }
+}
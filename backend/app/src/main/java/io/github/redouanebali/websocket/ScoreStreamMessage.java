@@ -0,0 +1,23 @@
+package io.github.redouanebali.websocket;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Message sent to the subscribers of {@code /topic/game/{id}}. The score state of a game is {@code {"winner": ..., "score": {...}}}, without null
+ * fields. A snapshot carries the whole state; any other message carries a JSON merge patch (RFC 7396) of the fields that changed since the previous
+ * message, a null value removing the field.
+ * <p>
+ * Sequence numbers grow by one per message within an epoch. A client that receives a patch from another epoch, or whose sequence is not the next one,
+ * missed a message and must ask for a snapshot on {@code /app/game/{id}}, or for the messages it missed on {@code /app/game/{id}/since/{epoch}/{seq}}.
+ *
+ * @param gameId the game ID
+ * @param epoch the stream the sequence belongs to, null for a snapshot read from the database before any message was published
+ * @param seq sequence number of the message in its epoch
+ * @param snapshot true if {@code data} is the whole state
+ * @param data the whole state, or the merge patch to apply to the previous one
+ */
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+public record ScoreStreamMessage(Long gameId, String epoch, long seq, boolean snapshot, JsonNode data) {
+
+}
@@ -0,0 +1,55 @@
+package io.github.redouanebali.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.redouanebali.cluster.ClusterEvent;
+import io.github.redouanebali.cluster.ClusterRelay;
+import io.github.redouanebali.dto.response.GameChangeDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Publishes the changes of a tournament's games on {@code /topic/tournament/{id}}, so that a bracket page follows the whole tournament with one
+ * subscription. Events go through the {@link ClusterRelay} like the game score updates, and are delivered to the subscribers of every instance by
+ * {@link GameScoreWebSocketController}.
+ */
+@Component
+@Slf4j
+public class TournamentEventPublisher {
+
+  private final ClusterRelay clusterRelay;
+  private final ObjectMapper objectMapper;
+
+  public TournamentEventPublisher(ClusterRelay clusterRelay, ObjectMapper objectMapper) {
+    this.clusterRelay = clusterRelay;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Publishes the change of a game once the current transaction commits, or at once outside a transaction. A rolled back change is never published.
+   *
+   * @param tournamentId the tournament ID
+   * @param change the change of the game
+   */
+  public void publishGameChange(Long tournamentId, GameChangeDTO change) {
+    ClusterEvent event;
+    try {
+      event = ClusterEvent.broadcast("/topic/tournament/" + tournamentId, objectMapper.writeValueAsString(change));
+    } catch (JsonProcessingException e) {
+      log.error("Failed to serialize the change of game {}", change.getGameId(), e);
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          clusterRelay.publish(event);
+        }
+      });
+    } else {
+      clusterRelay.publish(event);
+    }
+  }
+}
@@ -0,0 +1,70 @@
+-- Score history as an append-only event log (one small row per point, edit or undo) instead of a chain of full score copies. A score keeps the
+-- length of its log and the event its next undo restores, each event the undo target it replaced, so that neither logging nor undoing reads the log
+ALTER TABLE score ADD COLUMN IF NOT EXISTS event_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE score ADD COLUMN IF NOT EXISTS undo_target INTEGER NOT NULL DEFAULT -1;
+
+CREATE TABLE IF NOT EXISTS score_event (
+    score_id BIGINT NOT NULL,
+    seq INTEGER NOT NULL,
+    kind VARCHAR(8) NOT NULL,
+    side VARCHAR(16),
+    score_before VARCHAR(255) NOT NULL,
+    undo_target_before INTEGER NOT NULL DEFAULT -1,
+    CONSTRAINT pk_score_event PRIMARY KEY (score_id, seq),
+    CONSTRAINT fk_score_event_score FOREIGN KEY (score_id) REFERENCES score(id) ON DELETE CASCADE
+);
+
+-- Copies of the previous_score_id chain of each game score, the latest at depth 1
+CREATE TABLE score_chain AS
+WITH RECURSIVE chain (score_id, copy_id, depth) AS (
+    SELECT s.id, s.previous_score_id, 1
+    FROM score s
+    WHERE s.previous_score_id IS NOT NULL
+      AND s.id IN (SELECT score_id FROM game WHERE score_id IS NOT NULL)
+    UNION ALL
+    SELECT c.score_id, p.previous_score_id, c.depth + 1
+    FROM chain c
+    JOIN score p ON p.id = c.copy_id
+    WHERE p.previous_score_id IS NOT NULL
+)
+SELECT score_id, copy_id, depth FROM chain;
+
+-- Each copy becomes the state before an edit, as written by Score.encodeState(): undoing the events one by one walks the chain back
+INSERT INTO score_event (score_id, seq, kind, side, score_before, undo_target_before)
+SELECT c.score_id,
+       l.length - c.depth,
+       'EDIT',
+       NULL,
+       COALESCE((SELECT LISTAGG(CAST(ss.team_a_score AS VARCHAR) || '-' || CAST(ss.team_b_score AS VARCHAR)
+                                || CASE WHEN ss.tie_break_team_a IS NOT NULL OR ss.tie_break_team_b IS NOT NULL
+                                        THEN ':' || COALESCE(CAST(ss.tie_break_team_a AS VARCHAR), '') || '-'
+                                             || COALESCE(CAST(ss.tie_break_team_b AS VARCHAR), '')
+                                        ELSE '' END, ' ') WITHIN GROUP (ORDER BY ss.order_index, ss.id)
+                 FROM set_score ss
+                 WHERE ss.score_id = c.copy_id), '')
+           || '|' || COALESCE(s.current_game_point_a, '') || ',' || COALESCE(s.current_game_point_b, '')
+           || '|' || COALESCE(CAST(s.tie_break_point_a AS VARCHAR), '') || ',' || COALESCE(CAST(s.tie_break_point_b AS VARCHAR), '')
+           || '|' || CASE WHEN s.forfeit THEN '1' ELSE '0' END || ',' || COALESCE(s.forfeited_by, ''),
+       l.length - c.depth - 1
+FROM score_chain c
+JOIN score s ON s.id = c.copy_id
+JOIN (SELECT score_id, MAX(depth) AS length FROM score_chain GROUP BY score_id) l ON l.score_id = c.score_id;
+
+UPDATE score
+SET event_count = (SELECT MAX(c.depth) FROM score_chain c WHERE c.score_id = score.id),
+    undo_target = (SELECT MAX(c.depth) - 1 FROM score_chain c WHERE c.score_id = score.id)
+WHERE id IN (SELECT score_id FROM score_chain);
+
+DROP TABLE score_chain;
+
+-- The copies of the chain belong to no game: drop them with their sets, then the chain itself
+ALTER TABLE score DROP CONSTRAINT IF EXISTS fk_score_previous_score;
+
+DELETE FROM set_score
+WHERE score_id IS NOT NULL
+  AND score_id NOT IN (SELECT score_id FROM game WHERE score_id IS NOT NULL);
+
+DELETE FROM score
+WHERE id NOT IN (SELECT score_id FROM game WHERE score_id IS NOT NULL);
+
+ALTER TABLE score DROP COLUMN IF EXISTS previous_score_id;
@@ -0,0 +1,18 @@
+-- Finished status of a game, derived from its teams and score when they change, so that it is read (and filtered on) without recounting the sets
+ALTER TABLE game ADD COLUMN IF NOT EXISTS finished BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- Games against a bye were only resolved on read: store their winner side like the others
+UPDATE game
+SET winner_side = CASE WHEN teamb_id IN (SELECT id FROM player_pair WHERE type = 'BYE') THEN 'TEAM_A' ELSE 'TEAM_B' END
+WHERE winner_side IS NULL
+  AND teama_id IS NOT NULL
+  AND teamb_id IS NOT NULL
+  AND (teama_id IN (SELECT id FROM player_pair WHERE type = 'BYE') OR teamb_id IN (SELECT id FROM player_pair WHERE type = 'BYE'));
+
+-- Every finished game now has a winner side, except a forfeit that does not say which team forfeited
+UPDATE game
+SET finished = TRUE
+WHERE winner_side IS NOT NULL
+   OR score_id IN (SELECT id FROM score WHERE forfeit = TRUE);
+
+CREATE INDEX IF NOT EXISTS idx_game_round_id_finished ON game(round_id, finished);
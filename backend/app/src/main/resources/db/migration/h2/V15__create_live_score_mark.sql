@@ -0,0 +1,8 @@
+-- Journal sequence up to which each live game has been persisted, written in the same transaction as its score so that a journal replayed after a
+-- crash skips the points that were already committed
+CREATE TABLE IF NOT EXISTS live_score_mark (
+    journal_id VARCHAR(36) NOT NULL,
+    game_id BIGINT NOT NULL,
+    seq BIGINT NOT NULL,
+    PRIMARY KEY (journal_id, game_id)
+);
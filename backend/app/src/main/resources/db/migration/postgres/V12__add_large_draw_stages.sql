@@ -0,0 +1,9 @@
+-- Allow the stages of large draws (R256, R128) and of long qualifications (Q4, Q5)
+-- The CHECK constraint of round.stage was created inline in V1 and therefore got the default name round_stage_check
+
+ALTER TABLE round DROP CONSTRAINT IF EXISTS round_stage_check;
+
+ALTER TABLE round
+ADD CONSTRAINT round_stage_check CHECK (
+  stage IN ('GROUPS', 'Q1', 'Q2', 'Q3', 'Q4', 'Q5', 'R256', 'R128', 'R64', 'R32', 'R16', 'QUARTERS', 'SEMIS', 'FINAL', 'WINNER')
+);
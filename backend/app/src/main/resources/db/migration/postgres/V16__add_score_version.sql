@@ -0,0 +1,2 @@
+-- Optimistic lock on scores: a live game flushed by an instance that loaded the score before another write is rejected instead of overwriting it
+ALTER TABLE score ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,6 @@
+-- Cluster events too large for a Postgres notification (8000 bytes): the notification only carries the id of the row holding the event
+CREATE TABLE IF NOT EXISTS cluster_event (
+    id BIGSERIAL PRIMARY KEY,
+    body TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,81 @@
+package io.github.redouanebali.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TcpClusterRelayTest {
+
+  private TcpClusterRelay             nodeA;
+  private TcpClusterRelay             nodeB;
+  private BlockingQueue<ClusterEvent> receivedByA;
+  private BlockingQueue<ClusterEvent> receivedByB;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    TcpClusterRelay listenerB = new TcpClusterRelay(0, List.of());
+    nodeA = new TcpClusterRelay(0, List.of(new InetSocketAddress("localhost", listenerB.getPort()))).start();
+    listenerB.close();
+    nodeB = new TcpClusterRelay(listenerB.getPort(), List.of(new InetSocketAddress("localhost", nodeA.getPort()))).start();
+    receivedByA = new LinkedBlockingQueue<>();
+    receivedByB = new LinkedBlockingQueue<>();
+    nodeA.subscribe(receivedByA::add);
+    nodeB.subscribe(receivedByB::add);
+  }
+
+  @AfterEach
+  void tearDown() {
+    nodeA.close();
+    nodeB.close();
+  }
+
+  @Test
+  void publish_isDeliveredOnceOnEveryNode() throws Exception {
+    nodeA.publish(ClusterEvent.broadcast("/topic/game/1", "{\"score\":\"15-0\"}"));
+
+    ClusterEvent onA = receivedByA.poll(5, TimeUnit.SECONDS);
+    ClusterEvent onB = receivedByB.poll(5, TimeUnit.SECONDS);
+    assertEquals("/topic/game/1", onA.destination());
+    assertEquals("{\"score\":\"15-0\"}", onB.payload());
+    assertEquals(nodeA.nodeId(), onB.origin());
+
+    // Both directions work, and nothing is delivered twice
+    nodeB.publish(ClusterEvent.invalidate(42L));
+    assertEquals(42L, receivedByA.poll(5, TimeUnit.SECONDS).tournamentId());
+    assertEquals(42L, receivedByB.poll(5, TimeUnit.SECONDS).tournamentId());
+    assertTrue(receivedByA.isEmpty());
+    assertTrue(receivedByB.isEmpty());
+  }
+
+  @Test
+  void unreachablePeer_isRetriedOnTheNextEvent() throws Exception {
+    int port = nodeB.getPort();
+    nodeB.close();
+    nodeA.publish(ClusterEvent.invalidate(1L));
+
+    nodeB = new TcpClusterRelay(port, List.of()).start();
+    BlockingQueue<ClusterEvent> restarted = new LinkedBlockingQueue<>();
+    nodeB.subscribe(restarted::add);
+    nodeA.publish(ClusterEvent.invalidate(2L));
+
+    // The first event was lost for the stopped node, or the write on the dead connection failed and was dropped: the next one gets through. Sent
+    // in the background, the first event may also still have been queued when the node came back
+    ClusterEvent event = restarted.poll(5, TimeUnit.SECONDS);
+    if (event != null && event.tournamentId() == 1L) {
+      event = restarted.poll(5, TimeUnit.SECONDS);
+    }
+    if (event == null) {
+      nodeA.publish(ClusterEvent.invalidate(3L));
+      event = restarted.poll(5, TimeUnit.SECONDS);
+    }
+    assertTrue(event != null && event.tournamentId() >= 2L);
+  }
+}
@@ -12,6 +12,7 @@ import io.github.redouanebali.model.User;
 import io.github.redouanebali.security.SecurityProps;
 import io.github.redouanebali.security.SecurityUtil;
 import io.github.redouanebali.service.GameService;
+import io.github.redouanebali.service.LiveScoreEngine;
 import io.github.redouanebali.service.MatchFormatService;
 import io.github.redouanebali.service.PlayerPairService;
 import io.github.redouanebali.service.TournamentService;
@@ -59,6 +60,9 @@ public class AdminTournamentControllerTest {
   @MockitoBean
   private GameService gameService;
 
+  @MockitoBean
+  private LiveScoreEngine liveScoreEngine;
+
   @MockitoBean
   private MatchFormatService matchFormatService;
 
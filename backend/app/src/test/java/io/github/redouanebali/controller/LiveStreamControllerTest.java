@@ -0,0 +1,92 @@
+package io.github.redouanebali.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.github.redouanebali.cluster.ClusterEvent;
+import io.github.redouanebali.cluster.LocalClusterRelay;
+import io.github.redouanebali.dto.response.GameDTO;
+import io.github.redouanebali.service.TournamentReadService;
+import io.github.redouanebali.service.TournamentSnapshot;
+import io.github.redouanebali.sse.SseBroadcaster;
+import io.github.redouanebali.websocket.GameScoreWebSocketController;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class LiveStreamControllerTest {
+
+  private final LocalClusterRelay            relay                        = new LocalClusterRelay();
+  private final TournamentReadService        tournamentReadService        = Mockito.mock(TournamentReadService.class);
+  private final GameScoreWebSocketController gameScoreWebSocketController = Mockito.mock(GameScoreWebSocketController.class);
+  private       SseBroadcaster               sseBroadcaster;
+  private       MockMvc                      mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    sseBroadcaster = new SseBroadcaster(relay, Duration.ofMinutes(1), Duration.ofMinutes(1), 2, 16);
+    sseBroadcaster.subscribe();
+    mockMvc = MockMvcBuilders.standaloneSetup(new LiveStreamController(sseBroadcaster, tournamentReadService, gameScoreWebSocketController)).build();
+    TournamentSnapshot snapshot = Mockito.mock(TournamentSnapshot.class);
+    when(snapshot.gamesById()).thenReturn(Map.of(7L, new GameDTO()));
+    when(tournamentReadService.getSnapshot(1L)).thenReturn(snapshot);
+  }
+
+  @AfterEach
+  void tearDown() {
+    sseBroadcaster.shutdown();
+  }
+
+  @Test
+  void gameStream_startsWithTheCurrentStateThenSendsEachNewSnapshot() throws Exception {
+    when(gameScoreWebSocketController.snapshot(7L)).thenReturn("{\"gameId\":7,\"snapshot\":true,\"data\":{}}");
+
+    MockHttpServletResponse response = mockMvc.perform(MockMvcRequestBuilders.get("/tournaments/1/games/7/stream"))
+                                              .andExpect(request().asyncStarted())
+                                              .andReturn().getResponse();
+    awaitContent(response, body -> body.contains("\"data\":{}"));
+    relay.publish(ClusterEvent.broadcast("/topic/game/7", "{\"seq\":2}", "{\"seq\":2,\"snapshot\":true}"));
+    relay.publish(ClusterEvent.broadcast("/topic/game/8", "{\"seq\":9}", "{\"seq\":9,\"snapshot\":true}"));
+
+    String body = awaitContent(response, content -> content.contains("\"seq\":2") && content.endsWith("\n\n"));
+    assertEquals("data:{\"gameId\":7,\"snapshot\":true,\"data\":{}}\n\ndata:{\"seq\":2,\"snapshot\":true}\n\n", body);
+    assertEquals(1, sseBroadcaster.subscriberCount("/topic/game/7"));
+  }
+
+  @Test
+  void tournamentStream_sendsTheGameChangesOfTheTournament() throws Exception {
+    MockHttpServletResponse response = mockMvc.perform(MockMvcRequestBuilders.get("/tournaments/1/stream"))
+                                              .andExpect(request().asyncStarted())
+                                              .andReturn().getResponse();
+    relay.publish(ClusterEvent.broadcast("/topic/tournament/1", "{\"gameId\":7,\"finished\":true}"));
+
+    assertEquals("data:{\"gameId\":7,\"finished\":true}\n\n", awaitContent(response, content -> content.endsWith("\n\n")));
+  }
+
+  @Test
+  void gameStream_ofAGameOutsideTheTournament_isNotFound() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/tournaments/1/games/8/stream")).andExpect(status().isNotFound());
+    assertEquals(0, sseBroadcaster.subscriberCount("/topic/game/8"));
+  }
+
+  // Events are written by the stream's own thread, an event's data and its terminating blank line in separate writes
+  private static String awaitContent(MockHttpServletResponse response, Predicate<String> condition) throws Exception {
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (!condition.test(response.getContentAsString()) && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertTrue(condition.test(response.getContentAsString()), response.getContentAsString());
+    return response.getContentAsString();
+  }
+}
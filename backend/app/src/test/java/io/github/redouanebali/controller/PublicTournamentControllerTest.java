@@ -1,8 +1,10 @@
 package io.github.redouanebali.controller;
 
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import io.github.redouanebali.cluster.LocalClusterRelay;
 import io.github.redouanebali.dto.response.TournamentDTO;
 import io.github.redouanebali.dto.response.TournamentSummaryDTO;
 import io.github.redouanebali.mapper.TournamentMapper;
@@ -11,6 +13,8 @@ import io.github.redouanebali.security.AuthorizationService;
 import io.github.redouanebali.security.SecurityUtil;
 import io.github.redouanebali.service.MatchFormatService;
 import io.github.redouanebali.service.PlayerPairService;
+import io.github.redouanebali.service.TournamentReadService;
+import io.github.redouanebali.service.TournamentSnapshotCache;
 import io.github.redouanebali.service.TournamentService;
 import io.github.redouanebali.service.UserService;
 import java.util.List;
@@ -22,6 +26,8 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -29,11 +35,15 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 @WebMvcTest(controllers = PublicTournamentController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import({TournamentReadService.class, TournamentSnapshotCache.class, LocalClusterRelay.class})
 public class PublicTournamentControllerTest {
 
   @Autowired
   private MockMvc mockMvc;
 
+  @Autowired
+  private TournamentSnapshotCache tournamentSnapshotCache;
+
   @MockitoBean
   private TournamentService tournamentService;
 
@@ -81,7 +91,7 @@ public class PublicTournamentControllerTest {
     secMock.when(SecurityUtil::currentUserId).thenReturn("user1");
     when(tournamentService.getTournamentById(5L)).thenReturn(t);
     when(tournamentMapper.toDTO(t)).thenReturn(dto);
-    when(authorizationService.canEditTournament(t, "user1")).thenReturn(false);
+    when(authorizationService.isSuperAdmin("user1")).thenReturn(false);
     when(userService.getUserNameByEmail("owner@example.com")).thenReturn("Organizer Name");
 
     mockMvc.perform(MockMvcRequestBuilders.get("/tournaments/{id}", 5L).accept(MediaType.APPLICATION_JSON))
@@ -101,7 +111,7 @@ public class PublicTournamentControllerTest {
     secMock.when(SecurityUtil::currentUserId).thenReturn("user1");
     when(tournamentService.getTournamentById(10L)).thenReturn(t);
     when(tournamentMapper.toDTO(t)).thenReturn(dto);
-    when(authorizationService.canEditTournament(t, "user1")).thenReturn(false);
+    when(authorizationService.isSuperAdmin("user1")).thenReturn(false);
     when(userService.getUserNameByEmail("otherUser")).thenReturn("Other Organizer");
 
     String response = mockMvc.perform(MockMvcRequestBuilders.get("/tournaments/{id}", 10L).accept(MediaType.APPLICATION_JSON))
@@ -126,7 +136,7 @@ public class PublicTournamentControllerTest {
     secMock.when(SecurityUtil::currentUserId).thenReturn("user1");
     when(tournamentService.getTournamentById(11L)).thenReturn(t);
     when(tournamentMapper.toDTO(t)).thenReturn(dto);
-    when(authorizationService.canEditTournament(t, "user1")).thenReturn(true);
+    when(authorizationService.isSuperAdmin("user1")).thenReturn(false);
     when(userService.getUserNameByEmail("user1")).thenReturn("User One");
 
     String response = mockMvc.perform(MockMvcRequestBuilders.get("/tournaments/{id}", 11L).accept(MediaType.APPLICATION_JSON))
@@ -143,6 +153,7 @@ public class PublicTournamentControllerTest {
     Tournament t = new Tournament();
     t.setId(6L);
     when(tournamentService.getTournamentById(6L)).thenReturn(t);
+    when(tournamentMapper.toDTO(t)).thenReturn(new TournamentDTO());
 
     mockMvc.perform(MockMvcRequestBuilders.get("/tournaments/{tournamentId}/games/{gameId}", 6L, 999L).accept(MediaType.APPLICATION_JSON))
            .andExpect(status().isNotFound());
@@ -177,4 +188,116 @@ public class PublicTournamentControllerTest {
     Mockito.verify(tournamentMapper, Mockito.never()).toSummaryDTO(nonFeaturedTournament);
   }
 
+  @Test
+  public void getRounds_returnsNotModified_whenETagMatches() throws Exception {
+    Tournament t = new Tournament();
+    t.setId(20L);
+    when(tournamentService.getTournamentById(20L)).thenReturn(t);
+    when(tournamentMapper.toDTO(t)).thenReturn(new TournamentDTO());
+
+    String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/tournaments/{id}/rounds", 20L).accept(MediaType.APPLICATION_JSON))
+                         .andExpect(status().isOk())
+                         .andExpect(header().exists(HttpHeaders.ETAG))
+                         .andReturn()
+                         .getResponse()
+                         .getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/tournaments/{id}/rounds", 20L)
+                                          .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                                          .accept(MediaType.APPLICATION_JSON))
+           .andExpect(status().isNotModified())
+           .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+    Mockito.verify(tournamentService, Mockito.times(1)).getTournamentById(20L);
+    Mockito.verify(tournamentMapper, Mockito.times(1)).toDTO(t);
+  }
+
+  @Test
+  public void getRounds_returnsOk_whenTournamentChangedSinceETag() throws Exception {
+    Tournament t = new Tournament();
+    t.setId(21L);
+    when(tournamentService.getTournamentById(21L)).thenReturn(t);
+    when(tournamentMapper.toDTO(t)).thenReturn(new TournamentDTO());
+
+    String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/tournaments/{id}/rounds", 21L).accept(MediaType.APPLICATION_JSON))
+                         .andReturn()
+                         .getResponse()
+                         .getHeader(HttpHeaders.ETAG);
+
+    tournamentSnapshotCache.invalidate(21L);
+
+    String newETag = mockMvc.perform(MockMvcRequestBuilders.get("/tournaments/{id}/rounds", 21L)
+                                                           .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                                                           .accept(MediaType.APPLICATION_JSON))
+                            .andExpect(status().isOk())
+                            .andReturn()
+                            .getResponse()
+                            .getHeader(HttpHeaders.ETAG);
+
+    org.assertj.core.api.Assertions.assertThat(newETag).isNotEqualTo(eTag);
+  }
+
+  @Test
+  public void getTournament_returnsNotModified_forAnonymousWithoutLoadingTournament() throws Exception {
+    Tournament t = new Tournament();
+    t.setId(22L);
+    when(tournamentService.getTournamentById(22L)).thenReturn(t);
+    when(tournamentMapper.toDTO(t)).thenReturn(new TournamentDTO());
+    secMock.when(SecurityUtil::currentUserId).thenReturn(null);
+
+    String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/tournaments/{id}", 22L).accept(MediaType.APPLICATION_JSON))
+                         .andExpect(status().isOk())
+                         .andReturn()
+                         .getResponse()
+                         .getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/tournaments/{id}", 22L)
+                                          .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                                          .accept(MediaType.APPLICATION_JSON))
+           .andExpect(status().isNotModified());
+
+    Mockito.verify(tournamentService, Mockito.times(1)).getTournamentById(22L);
+  }
+
+  @Test
+  public void getRounds_returnsNotFound_whenTournamentDeletedSinceETag() throws Exception {
+    Tournament t = new Tournament();
+    t.setId(23L);
+    when(tournamentService.getTournamentById(23L)).thenReturn(t);
+    when(tournamentMapper.toDTO(t)).thenReturn(new TournamentDTO());
+
+    String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/tournaments/{id}/rounds", 23L).accept(MediaType.APPLICATION_JSON))
+                         .andReturn()
+                         .getResponse()
+                         .getHeader(HttpHeaders.ETAG);
+
+    when(tournamentService.getTournamentById(23L)).thenThrow(new IllegalArgumentException("Tournament not found"));
+    tournamentSnapshotCache.invalidate(23L);
+
+    for (String ifNoneMatch : List.of(eTag, "*")) {
+      mockMvc.perform(MockMvcRequestBuilders.get("/tournaments/{id}/rounds", 23L)
+                                            .header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch)
+                                            .accept(MediaType.APPLICATION_JSON))
+             .andExpect(status().isNotFound());
+    }
+  }
+
+  @Test
+  public void getGamesByStage_returnsNotFound_whenStageMissingEvenIfETagMatches() throws Exception {
+    Tournament t = new Tournament();
+    t.setId(24L);
+    when(tournamentService.getTournamentById(24L)).thenReturn(t);
+    when(tournamentMapper.toDTO(t)).thenReturn(new TournamentDTO());
+
+    String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/tournaments/{id}/rounds", 24L).accept(MediaType.APPLICATION_JSON))
+                         .andReturn()
+                         .getResponse()
+                         .getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/tournaments/{id}/rounds/{stage}/games", 24L, "FINAL")
+                                          .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                                          .accept(MediaType.APPLICATION_JSON))
+           .andExpect(status().isNotFound());
+  }
+
 }
@@ -8,16 +8,24 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import io.github.redouanebali.PadelTournamentManagerApplication;
 import io.github.redouanebali.dto.request.CreatePlayerPairRequest;
+import io.github.redouanebali.dto.response.ScoreDTO;
 import io.github.redouanebali.model.Game;
+import io.github.redouanebali.model.GamePoint;
 import io.github.redouanebali.model.MatchFormat;
 import io.github.redouanebali.model.PlayerPair;
 import io.github.redouanebali.model.Round;
+import io.github.redouanebali.model.Score;
+import io.github.redouanebali.model.ScoreEvent;
 import io.github.redouanebali.model.Stage;
+import io.github.redouanebali.model.TeamSide;
 import io.github.redouanebali.model.Tournament;
 import io.github.redouanebali.model.format.TournamentConfig;
 import io.github.redouanebali.model.format.TournamentFormat;
 import io.github.redouanebali.repository.MatchFormatRepository;
+import io.github.redouanebali.repository.ScoreEventRepository;
 import io.github.redouanebali.repository.TournamentRepository;
+import io.github.redouanebali.service.GameService;
+import io.github.redouanebali.service.LiveScoreEngine;
 import io.github.redouanebali.service.PlayerPairService;
 import io.github.redouanebali.service.TournamentService;
 import java.time.LocalDate;
@@ -30,6 +38,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @SpringBootTest(classes = PadelTournamentManagerApplication.class,
@@ -46,6 +55,12 @@ class TournamentIntegrationTest {
   private PlayerPairService     playerPairService;
   @Autowired
   private MatchFormatRepository matchFormatRepository;
+  @Autowired
+  private LiveScoreEngine       liveScoreEngine;
+  @Autowired
+  private GameService           gameService;
+  @Autowired
+  private ScoreEventRepository  scoreEventRepository;
 
   @BeforeEach
   void setUp() {
@@ -197,4 +212,82 @@ class TournamentIntegrationTest {
     assertFalse(containsEmptyTeams, "Tournaments with only empty-team games must not be returned");
   }
 
+  @Test
+  void testLivePointsArePersistedWithTheirUndoHistory() {
+    Tournament saved  = saveLiveCup();
+    Long       gameId = saved.getRounds().getFirst().getGames().getFirst().getId();
+
+    liveScoreEngine.incrementGamePoint(saved.getId(), gameId, TeamSide.TEAM_A);
+    liveScoreEngine.incrementGamePoint(saved.getId(), gameId, TeamSide.TEAM_B);
+    liveScoreEngine.release(gameId);
+    // Reloaded from the database: undo walks the persisted history
+    liveScoreEngine.undoGamePoint(saved.getId(), gameId);
+    liveScoreEngine.release(gameId);
+
+    Game game = tournamentRepository.findById(saved.getId()).orElseThrow().getRounds().getFirst().getGames().getFirst();
+    assertEquals(GamePoint.QUINZE, game.getScore().getCurrentGamePointA());
+    assertEquals(GamePoint.ZERO, game.getScore().getCurrentGamePointB());
+    assertTrue(game.getScore().canUndo());
+    // Two points and an undo, appended across the two flushes
+    assertEquals(3, game.getScore().getEventCount());
+    assertEquals(ScoreEvent.Kind.UNDO, scoreEventRepository.findById(new ScoreEvent.Key(game.getScore().getId(), 2)).orElseThrow().getKind());
+  }
+
+  // Every call commits on its own, as in production, so that the score versions are those of the database
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  void testLivePointsAreAppliedAgainOnAScoreWrittenElsewhere() {
+    Tournament saved  = saveLiveCup();
+    Long       gameId = saved.getRounds().getFirst().getGames().getFirst().getId();
+    try {
+      liveScoreEngine.incrementGamePoint(saved.getId(), gameId, TeamSide.TEAM_A);
+      // Written without releasing the live game, as another instance would
+      gameService.updateGameScore(saved.getId(), gameId, Score.fromString("1-0"), id -> { });
+      liveScoreEngine.incrementGamePoint(saved.getId(), gameId, TeamSide.TEAM_A);
+      liveScoreEngine.release(gameId);
+
+      ScoreDTO score = gameService.findScoreUpdate(gameId).orElseThrow().getScore();
+      assertEquals(1, score.getSets().getFirst().getTeamAScore());
+      assertEquals(GamePoint.TRENTE.name(), score.getCurrentGamePointA());
+    } finally {
+      tournamentService.deleteTournament(saved.getId());
+    }
+  }
+
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  void testEditingAScoreReleasesItsLiveGameFirst() {
+    Tournament saved  = saveLiveCup();
+    Long       gameId = saved.getRounds().getFirst().getGames().getFirst().getId();
+    try {
+      liveScoreEngine.incrementGamePoint(saved.getId(), gameId, TeamSide.TEAM_A);
+      gameService.updateGameScore(saved.getId(), gameId, Score.fromString("1-0"), liveScoreEngine::release);
+      // Reloaded from the edited score, after the live point was persisted with it
+      liveScoreEngine.incrementGamePoint(saved.getId(), gameId, TeamSide.TEAM_B);
+      liveScoreEngine.release(gameId);
+
+      ScoreDTO score = gameService.findScoreUpdate(gameId).orElseThrow().getScore();
+      assertEquals(1, score.getSets().getFirst().getTeamAScore());
+      assertEquals(GamePoint.QUINZE.name(), score.getCurrentGamePointB());
+    } finally {
+      tournamentService.deleteTournament(saved.getId());
+    }
+  }
+
+  private Tournament saveLiveCup() {
+    MatchFormat format = new MatchFormat();
+    format.setNumberOfSetsToWin(2);
+    format.setGamesPerSet(6);
+    format = matchFormatRepository.save(format);
+    Round round = new Round(Stage.FINAL);
+    round.addGame(new PlayerPair("A1", "A2", 0), new PlayerPair("B1", "B2", 0));
+    round.getGames().getFirst().setFormat(format);
+    Tournament t = new Tournament();
+    t.setOwnerId("io.github.redouanebali.api.integration@test.com");
+    t.setName("Live Cup");
+    t.setConfig(TournamentConfig.builder().mainDrawSize(2).nbSeeds(0).format(TournamentFormat.KNOCKOUT).build());
+    t.getRounds().add(round);
+    return tournamentRepository.save(t);
+  }
+
 }
@@ -6,6 +6,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.github.redouanebali.model.Game;
+import io.github.redouanebali.model.Round;
+import io.github.redouanebali.model.Score;
+import io.github.redouanebali.model.Stage;
+import io.github.redouanebali.model.Tournament;
 import io.github.redouanebali.util.TestFixturesApp;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +32,9 @@ class GameRepositoryTournamentIdMappingTest {
   @Autowired
   private MatchFormatRepository matchFormatRepository;
 
+  @Autowired
+  private TournamentRepository tournamentRepository;
+
   private io.github.redouanebali.model.MatchFormat testFormat;
 
   @BeforeEach
@@ -61,5 +68,24 @@ class GameRepositoryTournamentIdMappingTest {
     assertEquals(gameCount, games.size(), "Should have created correct number of games");
   }
 
-}
+  @Test
+  @DisplayName("Should find the unfinished games of a round from the stored status")
+  void testFindUnfinishedByRoundId() {
+    Game  playing   = new Game(testFormat);
+    Game  forfeited = new Game(testFormat);
+    Score forfeit   = new Score();
+    forfeit.setForfeit(true);
+    forfeited.setScore(forfeit);
+    Round round = new Round(Stage.FINAL);
+    round.addGames(List.of(playing, forfeited));
+    Tournament tournament = new Tournament();
+    tournament.setOwnerId("owner");
+    tournament.setName("Unfinished");
+    tournament.getRounds().add(round);
+    tournamentRepository.save(tournament);
 
+    List<Game> unfinished = gameRepository.findUnfinishedByRoundId(tournament.getRounds().getFirst().getId());
+    assertEquals(List.of(playing.getId()), unfinished.stream().map(Game::getId).toList());
+  }
+
+}
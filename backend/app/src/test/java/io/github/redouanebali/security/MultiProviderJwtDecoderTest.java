@@ -0,0 +1,108 @@
+package io.github.redouanebali.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sun.net.httpserver.HttpServer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.web.client.RestClient;
+
+class MultiProviderJwtDecoderTest {
+
+  private final AtomicInteger           calls   = new AtomicInteger();
+  // Held by the stand-in until released, to keep a validation in flight
+  private final CountDownLatch          release = new CountDownLatch(1);
+  private       HttpServer              facebook;
+  private       MultiProviderJwtDecoder decoder;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    facebook = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    facebook.createContext("/me", exchange -> {
+      calls.incrementAndGet();
+      String query = exchange.getRequestURI().getQuery();
+      try {
+        if (query.contains("access_token=slow")) {
+          release.await(5, TimeUnit.SECONDS);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      int    status = query.contains("access_token=invalid") ? 400 : query.contains("access_token=down") ? 500 : 200;
+      byte[] body   = (status == 400 ? "{\"error\":{\"message\":\"Invalid OAuth access token\"}}"
+                                     : "{\"id\":\"42\",\"email\":\"referee@example.com\",\"name\":\"Referee\"}").getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(status, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    facebook.setExecutor(Executors.newCachedThreadPool());
+    facebook.start();
+    decoder = new MultiProviderJwtDecoder(token -> {
+      throw new JwtException("Not a Google token");
+    }, RestClient.create(), "http://localhost:" + facebook.getAddress().getPort() + "/me", 100, Duration.ofMinutes(1));
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    facebook.stop(0);
+  }
+
+  @Test
+  void decode_validatesAFacebookTokenOnceUntilItExpires() {
+    Jwt first = decoder.decode("valid-token");
+    Jwt again = decoder.decode("valid-token");
+
+    assertEquals("referee@example.com", first.getClaimAsString("email"));
+    assertEquals(first, again);
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void decode_remembersARejectedToken() {
+    assertThrows(JwtException.class, () -> decoder.decode("invalid-token"));
+    assertThrows(JwtException.class, () -> decoder.decode("invalid-token"));
+
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void decode_retriesATokenWhoseValidationFailedToReachFacebook() {
+    assertThrows(JwtException.class, () -> decoder.decode("down-token"));
+    assertThrows(JwtException.class, () -> decoder.decode("down-token"));
+
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void decode_concurrentRequestsWithTheSameTokenShareOneValidation() throws Exception {
+    ExecutorService   pool    = Executors.newFixedThreadPool(8);
+    List<Future<Jwt>> decoded = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      decoded.add(pool.submit(() -> decoder.decode("slow-token")));
+    }
+    Thread.sleep(200);
+    release.countDown();
+
+    for (Future<Jwt> jwt : decoded) {
+      assertEquals("42", jwt.get(5, TimeUnit.SECONDS).getSubject());
+    }
+    assertEquals(1, calls.get());
+    pool.shutdown();
+  }
+}
@@ -6,30 +6,55 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.redouanebali.cluster.ClusterEvent;
+import io.github.redouanebali.cluster.LocalClusterRelay;
 import io.github.redouanebali.dto.response.UpdateScoreDTO;
+import io.github.redouanebali.generation.TournamentBuilder;
 import io.github.redouanebali.mapper.TournamentMapper;
 import io.github.redouanebali.model.Game;
 import io.github.redouanebali.model.GamePoint;
 import io.github.redouanebali.model.MatchFormat;
 import io.github.redouanebali.model.PlayerPair;
+import io.github.redouanebali.model.Pool;
+import io.github.redouanebali.model.PoolRankingDetails;
 import io.github.redouanebali.model.Round;
 import io.github.redouanebali.model.Score;
+import io.github.redouanebali.model.ScoreEvent;
 import io.github.redouanebali.model.SetScore;
+import io.github.redouanebali.model.Stage;
 import io.github.redouanebali.model.TeamSide;
 import io.github.redouanebali.model.Tournament;
 import io.github.redouanebali.model.format.TournamentConfig;
 import io.github.redouanebali.model.format.TournamentFormat;
+import io.github.redouanebali.repository.GameRepository;
+import io.github.redouanebali.repository.LiveScoreMarkRepository;
+import io.github.redouanebali.repository.ScoreEventRepository;
 import io.github.redouanebali.repository.TournamentRepository;
+import io.github.redouanebali.security.AuthorizationService;
 import io.github.redouanebali.util.TestFixturesApp;
+import io.github.redouanebali.websocket.TournamentEventPublisher;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.MockitoAnnotations;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -41,6 +66,8 @@ class GameServiceTest {
   private GameService           gameService;
   private TournamentMapper      tournamentMapper;
   private GamePointManager      gamePointManager;
+  private AuthorizationService  authorizationService;
+  private List<ClusterEvent>    clusterEvents;
 
   @BeforeEach
   void setUp() {
@@ -53,7 +80,42 @@ class GameServiceTest {
     drawGenerationService = mock(DrawGenerationService.class);
     tournamentMapper      = mock(TournamentMapper.class);
     gamePointManager      = new GamePointManager(); // Use real instance for game point logic
-    gameService           = new GameService(tournamentRepository, tournamentService, drawGenerationService, tournamentMapper, gamePointManager);
+    authorizationService  = mock(AuthorizationService.class);
+    clusterEvents         = new ArrayList<>();
+    LocalClusterRelay relay = new LocalClusterRelay();
+    relay.subscribe(clusterEvents::add);
+    // Keeps the inserted events, for the undos past the points of a live game to read them back
+    Map<ScoreEvent.Key, ScoreEvent> savedEvents          = new HashMap<>();
+    ScoreEventRepository            scoreEventRepository = mock(ScoreEventRepository.class);
+    doAnswer(invocation -> {
+      ScoreEvent event = invocation.getArgument(0);
+      savedEvents.put(new ScoreEvent.Key(event.getScoreId(), event.getSeq()), event);
+      return null;
+    }).when(scoreEventRepository).insert(any());
+    when(scoreEventRepository.findById(any())).thenAnswer(invocation -> Optional.ofNullable(savedEvents.get(invocation.<ScoreEvent.Key>getArgument(0))));
+    gameService           = new GameService(tournamentRepository, mock(GameRepository.class), tournamentService,
+                                            drawGenerationService, tournamentMapper, new TournamentSnapshotCache(100),
+                                            authorizationService, new TournamentEventPublisher(relay, new ObjectMapper()),
+                                            mock(LiveScoreMarkRepository.class), scoreEventRepository);
+  }
+
+  // Scores a point the way the LiveScoreEngine does, on a live copy of the game, and persists it at once
+  private void incrementGamePoint(Long tournamentId, Long gameId, TeamSide teamSide) {
+    LiveGame live           = gameService.openLiveGame(tournamentId, gameId, 50);
+    int      gamesBefore    = live.countGames();
+    boolean  finishedBefore = live.getGame().isFinished();
+    live.point(teamSide, gamePointManager);
+    live.applied(1, gamesBefore, finishedBefore);
+    gameService.persistLiveScore(live.prepareFlush(null));
+  }
+
+  private void undoGamePoint(Long tournamentId, Long gameId) {
+    LiveGame live           = gameService.openLiveGame(tournamentId, gameId, 50);
+    int      gamesBefore    = live.countGames();
+    boolean  finishedBefore = live.getGame().isFinished();
+    live.undo(gameService::findScoreEvent);
+    live.applied(1, gamesBefore, finishedBefore);
+    gameService.persistLiveScore(live.prepareFlush(null));
   }
 
 
@@ -98,7 +160,7 @@ class GameServiceTest {
     ));
 
     // Call io.github.redouanebali.api.service (no mocks for game.getWinner(); Game computes it from score)
-    UpdateScoreDTO response = gameService.updateGameScore(tournamentId, gameId, score);
+    UpdateScoreDTO response = gameService.updateGameScore(tournamentId, gameId, score, id -> { });
 
     if ("TEAM_A".equals(expectedWinner)) {
       assertEquals(TeamSide.TEAM_A, response.getWinner());
@@ -134,7 +196,7 @@ class GameServiceTest {
     Score score = new Score();
     score.setSets(List.of(new SetScore(6, 3), new SetScore(6, 4)));
     req.setScore(score);
-    UpdateScoreDTO result = gameService.updateGame(tournamentId, gameId, req);
+    UpdateScoreDTO result = gameService.updateGame(tournamentId, gameId, req, id -> { });
     assertEquals("Court 1", game.getCourt());
     assertEquals(6, game.getScore().getSets().getFirst().getTeamAScore());
     assertEquals(TeamSide.TEAM_A, result.getWinner());
@@ -149,7 +211,138 @@ class GameServiceTest {
     tournament.getRounds().clear();
     when(tournamentService.getTournamentById(tournamentId)).thenReturn(tournament);
     Score score = new Score();
-    assertThrows(IllegalArgumentException.class, () -> gameService.updateGameScore(tournamentId, gameId, score));
+    assertThrows(IllegalArgumentException.class, () -> gameService.updateGameScore(tournamentId, gameId, score, id -> { }));
+  }
+
+  @org.junit.jupiter.api.Test
+  void testUpdateGameScore_deniedWithoutEditRights_keepsTheLiveGame() {
+    Long       tournamentId = 4L;
+    Tournament tournament   = new Tournament();
+    tournament.setId(tournamentId);
+    when(tournamentService.getTournamentById(tournamentId)).thenReturn(tournament);
+    doThrow(new AccessDeniedException("denied"))
+        .when(authorizationService).requireTournamentEditPermission(eq(tournament), any());
+    List<Long> released = new ArrayList<>();
+
+    assertThrows(AccessDeniedException.class, () -> gameService.updateGameScore(tournamentId, 40L, new Score(), released::add));
+    assertTrue(released.isEmpty());
+  }
+
+  @org.junit.jupiter.api.Test
+  void testIncrementGamePoint_deniedWithoutEditRights_loadsTournamentOnce() {
+    Long       tournamentId = 5L;
+    Tournament tournament   = new Tournament();
+    tournament.setId(tournamentId);
+    when(tournamentService.getTournamentById(tournamentId)).thenReturn(tournament);
+    doThrow(new AccessDeniedException("denied"))
+        .when(authorizationService).requireTournamentEditPermission(eq(tournament), any());
+
+    assertThrows(AccessDeniedException.class, () -> incrementGamePoint(tournamentId, 50L, TeamSide.TEAM_A));
+    verify(tournamentService, times(1)).getTournamentById(tournamentId);
+  }
+
+  @org.junit.jupiter.api.Test
+  void testIncrementGamePoint_propagatesOnlyWhenTheOutcomeChanges() {
+    Long             tournamentId = 6L;
+    Long             gameId       = 60L;
+    List<PlayerPair> pairs        = TestFixturesApp.createPlayerPairs(2);
+    Game             game         = new Game(TestFixturesApp.createSimpleFormat(1));
+    game.setId(gameId);
+    game.setTeamA(pairs.getFirst());
+    game.setTeamB(pairs.get(1));
+    Round round = new Round();
+    round.addGames(List.of(game));
+    Tournament tournament = new Tournament();
+    tournament.setId(tournamentId);
+    tournament.getRounds().add(round);
+    when(tournamentService.getTournamentById(tournamentId)).thenReturn(tournament);
+
+    // 6-0 in a one-set match: 23 points leave the game unfinished, the 24th wins it
+    for (int i = 0; i < 23; i++) {
+      incrementGamePoint(tournamentId, gameId, TeamSide.TEAM_A);
+    }
+    verify(drawGenerationService, never()).propagateWinnersFromGame(any(), any());
+
+    incrementGamePoint(tournamentId, gameId, TeamSide.TEAM_A);
+    verify(drawGenerationService, times(1)).propagateWinnersFromGame(tournament, game);
+
+    undoGamePoint(tournamentId, gameId);
+    verify(drawGenerationService, times(2)).propagateWinnersFromGame(tournament, game);
+  }
+
+  @org.junit.jupiter.api.Test
+  void testIncrementGamePoint_keepsPoolRankingCurrent() {
+    Long             tournamentId = 7L;
+    Long             gameId       = 70L;
+    List<PlayerPair> pairs        = TestFixturesApp.createPlayerPairs(2);
+    Pool             pool         = new Pool("Pool A", pairs);
+    Game             game         = new Game(TestFixturesApp.createSimpleFormat(1));
+    game.setId(gameId);
+    game.setTeamA(pairs.getFirst());
+    game.setTeamB(pairs.get(1));
+    game.setPool(pool);
+    Round round = new Round(Stage.GROUPS);
+    round.addPool(pool);
+    round.addGames(List.of(game));
+    Tournament tournament = new Tournament();
+    tournament.setId(tournamentId);
+    tournament.getRounds().add(round);
+    when(tournamentService.getTournamentById(tournamentId)).thenReturn(tournament);
+
+    // Team B wins 6-0: it moves to the top of the pool with one point and a +6 games difference
+    for (int i = 0; i < 24; i++) {
+      incrementGamePoint(tournamentId, gameId, TeamSide.TEAM_B);
+    }
+    PoolRankingDetails leader = pool.getPoolRanking().getDetails().getFirst();
+    assertEquals(pairs.get(1), leader.getPlayerPair());
+    assertEquals(1, leader.getPoints());
+    assertEquals(6, leader.getSetAverage());
+
+    // Undoing the last point reopens the game: its result leaves the ranking
+    undoGamePoint(tournamentId, gameId);
+    assertTrue(pool.getPoolRanking().getDetails().stream().allMatch(d -> d.getPoints() == 0 && d.getSetAverage() == 0));
+    assertEquals(pairs.getFirst(), pool.getPoolRanking().getDetails().getFirst().getPlayerPair());
+  }
+
+  @org.junit.jupiter.api.Test
+  void testUpdateGameScore_publishesTheGameChangeOnTheTournamentTopic() throws Exception {
+    Long             tournamentId = 8L;
+    List<PlayerPair> pairs        = TestFixturesApp.createPlayerPairs(4);
+    Round            semis        = new Round(Stage.SEMIS);
+    Round            fin          = new Round(Stage.FINAL);
+    for (int i = 0; i < 2; i++) {
+      Game game = new Game(TestFixturesApp.createSimpleFormat(1));
+      game.setId(80L + i);
+      game.setTeamA(pairs.get(2 * i));
+      game.setTeamB(pairs.get(2 * i + 1));
+      semis.addGames(List.of(game));
+    }
+    Game finalGame = new Game(TestFixturesApp.createSimpleFormat(1));
+    finalGame.setId(90L);
+    fin.addGames(List.of(finalGame));
+    Tournament tournament = new Tournament();
+    tournament.setId(tournamentId);
+    tournament.getRounds().addAll(List.of(semis, fin));
+    tournament.setConfig(TournamentConfig.builder().mainDrawSize(4).nbSeeds(0).format(TournamentFormat.KNOCKOUT).build());
+    when(tournamentService.getTournamentById(tournamentId)).thenReturn(tournament);
+    when(drawGenerationService.propagateWinnersFromGame(any(), any()))
+        .thenAnswer(invocation -> TournamentBuilder.propagateWinnersFromGame(invocation.getArgument(0), invocation.getArgument(1)));
+
+    Score score = new Score();
+    score.setSets(List.of(new SetScore(2, 6)));
+    gameService.updateGameScore(tournamentId, 81L, score, id -> { });
+
+    assertEquals(1, clusterEvents.size());
+    ClusterEvent event = clusterEvents.getFirst();
+    assertEquals("/topic/tournament/" + tournamentId, event.destination());
+    JsonNode change = new ObjectMapper().readTree(event.payload());
+    assertEquals(81L, change.get("gameId").asLong());
+    assertTrue(change.get("finished").asBoolean());
+    assertEquals("TEAM_B", change.get("winnerSide").asText());
+    assertEquals(1, change.get("nextGames").size());
+    assertEquals(90L, change.get("nextGames").get(0).get("gameId").asLong());
+    assertEquals(pairs.get(3), finalGame.getTeamB());
+    assertFalse(change.has("poolRankingChanged"));
   }
 
   @org.junit.jupiter.api.Test
@@ -158,7 +351,7 @@ class GameServiceTest {
     Long gameId       = 888L;
     when(tournamentService.getTournamentById(tournamentId)).thenThrow(new IllegalArgumentException("Tournament not found"));
     io.github.redouanebali.dto.request.UpdateGameRequest req = new io.github.redouanebali.dto.request.UpdateGameRequest();
-    assertThrows(IllegalArgumentException.class, () -> gameService.updateGame(tournamentId, gameId, req));
+    assertThrows(IllegalArgumentException.class, () -> gameService.updateGame(tournamentId, gameId, req, id -> { }));
   }
 
   @org.junit.jupiter.api.Test
@@ -187,10 +380,10 @@ class GameServiceTest {
     when(tournamentService.getTournamentById(tournamentId)).thenReturn(tournament);
 
     // 1. Increment point by point (method 1)
-    gameService.incrementGamePoint(tournamentId, gameId, TeamSide.TEAM_A); // 15-0
+    incrementGamePoint(tournamentId, gameId, TeamSide.TEAM_A); // 15-0
     assertEquals(GamePoint.QUINZE, game.getScore().getCurrentGamePointA());
     assertEquals(GamePoint.ZERO, game.getScore().getCurrentGamePointB());
-    gameService.incrementGamePoint(tournamentId, gameId, TeamSide.TEAM_A); // 30-0
+    incrementGamePoint(tournamentId, gameId, TeamSide.TEAM_A); // 30-0
     assertEquals(GamePoint.TRENTE, game.getScore().getCurrentGamePointA());
     assertEquals(GamePoint.ZERO, game.getScore().getCurrentGamePointB());
 
@@ -199,7 +392,7 @@ class GameServiceTest {
     Score score = new Score();
     score.setSets(List.of(new SetScore(6, 3), new SetScore(6, 4)));
     req.setScore(score);
-    UpdateScoreDTO result = gameService.updateGame(tournamentId, gameId, req);
+    UpdateScoreDTO result = gameService.updateGame(tournamentId, gameId, req, id -> { });
     assertEquals("Court 2", game.getCourt());
     assertEquals(6, game.getScore().getSets().getFirst().getTeamAScore());
     assertEquals(TeamSide.TEAM_A, result.getWinner());
@@ -235,7 +428,7 @@ class GameServiceTest {
     Score score = new Score();
     score.setSets(List.of(new SetScore(4, 6), new SetScore(2, 6)));
     req.setScore(score);
-    UpdateScoreDTO result = gameService.updateGame(tournamentId, gameId, req);
+    UpdateScoreDTO result = gameService.updateGame(tournamentId, gameId, req, id -> { });
     assertEquals("Court 3", game.getCourt());
     assertEquals(4, game.getScore().getSets().getFirst().getTeamAScore());
     assertEquals(TeamSide.TEAM_B, result.getWinner());
@@ -243,7 +436,7 @@ class GameServiceTest {
     assertNull(game.getScore().getCurrentGamePointA());
     assertNull(game.getScore().getCurrentGamePointB());
 
-    gameService.incrementGamePoint(tournamentId, gameId, TeamSide.TEAM_B); // 4-6 2-6, 0-15
+    incrementGamePoint(tournamentId, gameId, TeamSide.TEAM_B); // 4-6 2-6, 0-15
     assertEquals(GamePoint.QUINZE, game.getScore().getCurrentGamePointB());
     assertEquals(GamePoint.ZERO, game.getScore().getCurrentGamePointA());
     assertEquals(4, game.getScore().getSets().getFirst().getTeamAScore());
@@ -279,7 +472,7 @@ class GameServiceTest {
     Score score = new Score();
     score.setSets(List.of(new SetScore(6, 2)));
     req.setScore(score);
-    gameService.updateGame(tournamentId, gameId, req);
+    gameService.updateGame(tournamentId, gameId, req, id -> { });
     assertEquals(2, game.getScore().getSets().size());
     assertEquals(6, game.getScore().getSets().get(0).getTeamAScore());
     assertEquals(2, game.getScore().getSets().get(0).getTeamBScore());
@@ -287,10 +480,10 @@ class GameServiceTest {
     assertEquals(0, game.getScore().getSets().get(1).getTeamBScore());
 
     // Increment 4 points for TEAM_A to win a game
-    gameService.incrementGamePoint(tournamentId, gameId, TeamSide.TEAM_A);
-    gameService.incrementGamePoint(tournamentId, gameId, TeamSide.TEAM_A);
-    gameService.incrementGamePoint(tournamentId, gameId, TeamSide.TEAM_A);
-    gameService.incrementGamePoint(tournamentId, gameId, TeamSide.TEAM_A);
+    incrementGamePoint(tournamentId, gameId, TeamSide.TEAM_A);
+    incrementGamePoint(tournamentId, gameId, TeamSide.TEAM_A);
+    incrementGamePoint(tournamentId, gameId, TeamSide.TEAM_A);
+    incrementGamePoint(tournamentId, gameId, TeamSide.TEAM_A);
     assertEquals(2, game.getScore().getSets().size());
     assertEquals(6, game.getScore().getSets().get(0).getTeamAScore());
     assertEquals(2, game.getScore().getSets().get(0).getTeamBScore());
@@ -332,7 +525,7 @@ class GameServiceTest {
 
     // Increment 4 times to finish the match at 6-2, 6-3
     for (int i = 0; i < 4; i++) {
-      gameService.incrementGamePoint(tournamentId, gameId, TeamSide.TEAM_A);
+      incrementGamePoint(tournamentId, gameId, TeamSide.TEAM_A);
     }
 
     // Verify match is finished with TEAM_A as winner
@@ -344,7 +537,7 @@ class GameServiceTest {
     assertEquals(TeamSide.TEAM_A, game.getWinnerSide(), "TEAM_A should be the winner");
 
     // Undo the last point
-    gameService.undoGamePoint(tournamentId, gameId);
+    undoGamePoint(tournamentId, gameId);
 
     // Verify winner is removed and match is not finished
     assertEquals(5, game.getScore().getSets().get(1).getTeamAScore(), "Score should be back to 6-2, 5-3");
@@ -397,7 +590,7 @@ class GameServiceTest {
     ));
     req.setScore(modifiedScore);
 
-    UpdateScoreDTO result = gameService.updateGame(tournamentId, gameId, req);
+    UpdateScoreDTO result = gameService.updateGame(tournamentId, gameId, req, id -> { });
 
     // Verify no extra set was created
     assertEquals(2, game.getScore().getSets().size(), "Should still have only 2 sets (no extra set created)");
@@ -0,0 +1,372 @@
+package io.github.redouanebali.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.redouanebali.cluster.AbstractClusterRelay;
+import io.github.redouanebali.cluster.ClusterRelay;
+import io.github.redouanebali.cluster.LocalClusterRelay;
+import io.github.redouanebali.dto.response.UpdateScoreDTO;
+import io.github.redouanebali.mapper.TournamentMapper;
+import io.github.redouanebali.model.Game;
+import io.github.redouanebali.model.GamePoint;
+import io.github.redouanebali.model.PlayerPair;
+import io.github.redouanebali.model.ScoreEvent;
+import io.github.redouanebali.model.TeamSide;
+import io.github.redouanebali.model.Tournament;
+import io.github.redouanebali.security.AuthorizationService;
+import io.github.redouanebali.security.SecurityUtil;
+import io.github.redouanebali.util.TestFixturesApp;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.security.access.AccessDeniedException;
+
+class LiveScoreEngineTest {
+
+  private static final Long TOURNAMENT_ID = 1L;
+  private static final Long GAME_ID       = 10L;
+
+  @TempDir
+  Path tempDir;
+
+  private GameService                gameService;
+  private List<LiveScoreFlush>       flushes;
+  private MockedStatic<SecurityUtil> secMock;
+  private LiveScoreEngine            engine;
+
+  @BeforeEach
+  void setUp() {
+    secMock = Mockito.mockStatic(SecurityUtil.class);
+    secMock.when(SecurityUtil::currentUserId).thenReturn("owner");
+    gameService = mock(GameService.class);
+    flushes     = new CopyOnWriteArrayList<>();
+    when(gameService.openLiveGame(eq(TOURNAMENT_ID), eq(GAME_ID), anyInt())).thenAnswer(inv -> newLiveGame(inv.getArgument(2)));
+    when(gameService.reopenLiveGame(eq(TOURNAMENT_ID), eq(GAME_ID), anyInt())).thenAnswer(inv -> newLiveGame(inv.getArgument(2)));
+    when(gameService.persistLiveScore(any())).thenAnswer(inv -> {
+      LiveScoreFlush flush = inv.getArgument(0);
+      flushes.add(flush);
+      return new LiveScoreFlush.Result("owner", Set.of(), null, null);
+    });
+    engine = newEngine();
+  }
+
+  @AfterEach
+  void tearDown() {
+    engine.shutdown();
+    secMock.close();
+  }
+
+  private LiveScoreEngine newEngine() {
+    return newEngine(new LocalClusterRelay(), "live.journal");
+  }
+
+  private LiveScoreEngine newEngine(ClusterRelay relay, String journal) {
+    LiveScoreEngine created = new LiveScoreEngine(gameService, new GamePointManager(), mock(TournamentMapper.class), mock(AuthorizationService.class),
+                                                  relay, tempDir.resolve(journal).toString(), true, false, 10, Duration.ofHours(1),
+                                                  Duration.ofHours(1), 50);
+    created.start();
+    created.recover();
+    return created;
+  }
+
+  private LiveGame newLiveGame(int undoDepth) {
+    Tournament tournament = new Tournament();
+    tournament.setId(TOURNAMENT_ID);
+    tournament.setOwnerId("owner");
+    List<PlayerPair> pairs = TestFixturesApp.createPlayerPairs(2);
+    Game             game  = new Game(TestFixturesApp.createSimpleFormat(2));
+    game.setId(GAME_ID);
+    game.setTeamA(pairs.get(0));
+    game.setTeamB(pairs.get(1));
+    return new LiveGame(tournament, game, undoDepth);
+  }
+
+  @Test
+  void incrementGamePoint_isAppliedInMemoryWithoutPersisting() {
+    engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_A);
+    engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_A);
+
+    verify(gameService, times(1)).openLiveGame(TOURNAMENT_ID, GAME_ID, 50);
+    verify(gameService, never()).persistLiveScore(any());
+  }
+
+  @Test
+  void gameBoundary_isPersistedWithItsHistory() {
+    for (int i = 0; i < 4; i++) {
+      engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_A);
+    }
+
+    verify(gameService, timeout(2000)).persistLiveScore(any());
+    LiveScoreFlush flush = flushes.getFirst();
+    assertEquals(1, flush.score().getSets().getFirst().getTeamAScore());
+    assertEquals(List.of(TeamSide.TEAM_A, TeamSide.TEAM_A, TeamSide.TEAM_A, TeamSide.TEAM_A),
+                 flush.newHistory().stream().map(ScoreEvent::getSide).toList());
+    assertTrue(flush.score().getNewEvents().isEmpty());
+    assertEquals(4, flush.score().getEventCount());
+    assertEquals(List.of(0, 1, 2, 3), flush.newHistory().stream().map(ScoreEvent::getSeq).toList());
+  }
+
+  @Test
+  void nextFlush_onlyWritesHistoryCreatedSinceTheLastOne() {
+    for (int i = 0; i < 4; i++) {
+      engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_A);
+    }
+    verify(gameService, timeout(2000)).persistLiveScore(any());
+
+    engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_B);
+    engine.release(GAME_ID);
+
+    LiveScoreFlush second = flushes.get(1);
+    assertEquals(List.of(TeamSide.TEAM_B), second.newHistory().stream().map(ScoreEvent::getSide).toList());
+    assertEquals(GamePoint.QUINZE, second.score().getCurrentGamePointB());
+  }
+
+  @Test
+  void undoGamePoint_restoresThePreviousPoint() {
+    engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_A);
+    engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_B);
+    engine.undoGamePoint(TOURNAMENT_ID, GAME_ID);
+    engine.release(GAME_ID);
+
+    LiveScoreFlush flush = flushes.getLast();
+    assertEquals(GamePoint.QUINZE, flush.score().getCurrentGamePointA());
+    assertEquals(GamePoint.ZERO, flush.score().getCurrentGamePointB());
+    // The undone point was never flushed: it is dropped from memory, not logged
+    assertEquals(List.of(ScoreEvent.Kind.POINT), flush.newHistory().stream().map(ScoreEvent::getKind).toList());
+  }
+
+  @Test
+  void undoGamePoint_ofAFlushedPointIsLogged() {
+    for (int i = 0; i < 4; i++) {
+      engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_A);
+    }
+    verify(gameService, timeout(2000)).persistLiveScore(any());
+
+    engine.undoGamePoint(TOURNAMENT_ID, GAME_ID);
+    engine.release(GAME_ID);
+
+    LiveScoreFlush second = flushes.get(1);
+    assertEquals(0, second.score().getSets().getFirst().getTeamAScore());
+    assertEquals(GamePoint.QUARANTE, second.score().getCurrentGamePointA());
+    assertEquals(List.of(ScoreEvent.Kind.UNDO), second.newHistory().stream().map(ScoreEvent::getKind).toList());
+    assertEquals(flushes.getFirst().score().encodeState(), second.newHistory().getFirst().getScoreBefore());
+  }
+
+  @Test
+  void undoGamePoint_beyondTheUndoDepthFallsBackToTheHistory() {
+    engine.shutdown();
+    engine = new LiveScoreEngine(gameService, new GamePointManager(), mock(TournamentMapper.class), mock(AuthorizationService.class),
+                                 new LocalClusterRelay(), tempDir.resolve("live.journal").toString(), true, false, 10, Duration.ofHours(1), Duration.ofHours(1), 2);
+    engine.start();
+    engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_A);
+    engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_B);
+    engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_B);
+    for (int i = 0; i < 3; i++) {
+      engine.undoGamePoint(TOURNAMENT_ID, GAME_ID);
+    }
+    engine.release(GAME_ID);
+
+    LiveScoreFlush flush = flushes.getLast();
+    assertEquals(GamePoint.ZERO, flush.score().getCurrentGamePointA());
+    assertEquals(GamePoint.ZERO, flush.score().getCurrentGamePointB());
+    // The first two points were spilled to the history when the buffer filled up, so their undos are logged
+    assertEquals(List.of(ScoreEvent.Kind.POINT, ScoreEvent.Kind.POINT, ScoreEvent.Kind.UNDO, ScoreEvent.Kind.UNDO),
+                 flush.newHistory().stream().map(ScoreEvent::getKind).toList());
+  }
+
+  @Test
+  void finishingTheMatch_reportsTheWinner() {
+    UpdateScoreDTO dto = null;
+    for (int i = 0; i < 48; i++) {
+      dto = engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_B);
+    }
+
+    assertTrue(dto.isTournamentUpdated());
+    assertEquals(TeamSide.TEAM_B, dto.getWinner());
+  }
+
+  @Test
+  void incrementGamePoint_deniedToNonEditors() {
+    secMock.when(SecurityUtil::currentUserId).thenReturn("stranger");
+
+    assertThrows(AccessDeniedException.class, () -> engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_A));
+  }
+
+  @Test
+  void shutdown_persistsPendingPointsAndEmptiesTheJournal() throws Exception {
+    engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_A);
+    engine.shutdown();
+
+    assertEquals(1, flushes.size());
+    assertEquals(1, Files.readAllLines(tempDir.resolve("live.journal")).size());
+  }
+
+  @Test
+  void aPointThatFailsToApply_isNotReplayed() {
+    LiveGame failing = Mockito.spy(newLiveGame(50));
+    Mockito.doThrow(new IllegalStateException("boom")).doCallRealMethod().when(failing).point(any(), any());
+    when(gameService.openLiveGame(eq(TOURNAMENT_ID), eq(GAME_ID), anyInt())).thenReturn(failing);
+
+    assertThrows(IllegalStateException.class, () -> engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_B));
+    engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_A);
+    // Crash: the next run only has the journal
+
+    LiveScoreEngine restarted = newEngine();
+    try {
+      assertEquals(GamePoint.QUINZE, flushes.getFirst().score().getCurrentGamePointA());
+      assertEquals(GamePoint.ZERO, flushes.getFirst().score().getCurrentGamePointB());
+    } finally {
+      restarted.shutdown();
+    }
+  }
+
+  @Test
+  void recover_skipsOnlyThePointsThatFailToReplay() {
+    engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_A);
+    engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_B);
+    LiveGame failing = Mockito.spy(newLiveGame(50));
+    Mockito.doThrow(new IllegalStateException("boom")).doCallRealMethod().when(failing).point(any(), any());
+    when(gameService.reopenLiveGame(eq(TOURNAMENT_ID), eq(GAME_ID), anyInt())).thenReturn(failing);
+
+    LiveScoreEngine restarted = newEngine();
+    try {
+      assertEquals(1, flushes.size());
+      assertEquals(GamePoint.ZERO, flushes.getFirst().score().getCurrentGamePointA());
+      assertEquals(GamePoint.QUINZE, flushes.getFirst().score().getCurrentGamePointB());
+    } finally {
+      restarted.shutdown();
+    }
+  }
+
+  @Test
+  void requiredJournalWithoutPath_failsAtStartup() {
+    assertThrows(IllegalStateException.class,
+                 () -> new LiveScoreEngine(gameService, new GamePointManager(), mock(TournamentMapper.class), mock(AuthorizationService.class),
+                                           new LocalClusterRelay(), " ", true, false, 10, Duration.ofHours(1), Duration.ofHours(1), 50));
+  }
+
+  @Test
+  void recover_skipsPointsPersistedBeforeTheirFlushMarker() throws Exception {
+    Path              journalPath = tempDir.resolve("live.journal");
+    Path              beforeMark  = tempDir.resolve("before-mark.journal");
+    Map<String, Long> marks       = new ConcurrentHashMap<>();
+    Mockito.doAnswer(inv -> {
+      LiveScoreFlush flush = inv.getArgument(0);
+      flushes.add(flush);
+      marks.put(flush.journalId() + "/" + flush.gameId(), flush.seq());
+      // Crash right after the commit: the journal never gets the flush marker
+      Files.copy(journalPath, beforeMark, StandardCopyOption.REPLACE_EXISTING);
+      return new LiveScoreFlush.Result("owner", Set.of(), null, null);
+    }).when(gameService).persistLiveScore(any());
+    when(gameService.findPersistedLiveSeq(any(), eq(GAME_ID))).thenAnswer(inv -> marks.getOrDefault(inv.getArgument(0) + "/" + GAME_ID, 0L));
+    engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_A);
+    engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_A);
+    engine.release(GAME_ID);
+    Files.copy(beforeMark, journalPath, StandardCopyOption.REPLACE_EXISTING);
+
+    LiveScoreEngine restarted = newEngine();
+    try {
+      assertEquals(1, flushes.size());
+      verify(gameService).deleteLiveScoreMarks(flushes.getFirst().journalId());
+    } finally {
+      restarted.shutdown();
+    }
+  }
+
+  @Test
+  void staleFlush_isRebasedOnTheNewScore() {
+    // Another instance scored a point for team B since this one loaded the game
+    LiveGame written = newLiveGame(50);
+    written.point(TeamSide.TEAM_B, new GamePointManager());
+    when(gameService.reopenLiveGame(eq(TOURNAMENT_ID), eq(GAME_ID), anyInt())).thenReturn(written);
+    Mockito.doThrow(new OptimisticLockingFailureException("stale")).doAnswer(inv -> {
+      flushes.add(inv.getArgument(0));
+      return new LiveScoreFlush.Result("owner", Set.of(), 1L, 1L);
+    }).when(gameService).persistLiveScore(any());
+    engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_A);
+    engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_A);
+
+    engine.release(GAME_ID);
+
+    assertEquals(1, flushes.size());
+    assertEquals(GamePoint.TRENTE, flushes.getFirst().score().getCurrentGamePointA());
+    assertEquals(GamePoint.QUINZE, flushes.getFirst().score().getCurrentGamePointB());
+  }
+
+  @Test
+  void openingOnAnotherInstance_releasesTheGameHere() {
+    LinkedRelay relayA = new LinkedRelay();
+    LinkedRelay relayB = new LinkedRelay();
+    relayA.peer = relayB;
+    relayB.peer = relayA;
+    LiveScoreEngine instanceA = newEngine(relayA, "a.journal");
+    LiveScoreEngine instanceB = newEngine(relayB, "b.journal");
+    try {
+      instanceA.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_A);
+      verify(gameService, never()).persistLiveScore(any());
+
+      instanceB.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_B);
+
+      verify(gameService, timeout(2000)).persistLiveScore(any());
+      assertEquals(GamePoint.QUINZE, flushes.getFirst().score().getCurrentGamePointA());
+    } finally {
+      instanceA.shutdown();
+      instanceB.shutdown();
+    }
+  }
+
+  @Test
+  void recover_replaysPointsLostInACrash() {
+    engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_A);
+    engine.incrementGamePoint(TOURNAMENT_ID, GAME_ID, TeamSide.TEAM_A);
+    // Crash: nothing was persisted, the next run only has the journal
+
+    LiveScoreEngine restarted = newEngine();
+    try {
+      assertEquals(1, flushes.size());
+      assertEquals(GamePoint.TRENTE, flushes.getFirst().score().getCurrentGamePointA());
+    } finally {
+      restarted.shutdown();
+    }
+  }
+
+  // Two instances wired to each other in memory
+  private static final class LinkedRelay extends AbstractClusterRelay {
+
+    private LinkedRelay peer;
+
+    @Override
+    protected void send(String line) {
+      peer.received(line);
+    }
+
+    @Override
+    public void close() {
+      // Nothing to release
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package io.github.redouanebali.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.redouanebali.model.TeamSide;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LiveScoreJournalTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void markFlushed_compactsTheFileWhileOtherGamesStayInFlight() throws Exception {
+    Path             path    = tempDir.resolve("live.journal");
+    LiveScoreJournal journal = new LiveScoreJournal(path, false, 256);
+    journal.recover();
+    // Game 2 never gets flushed, so the file is never empty and never truncated
+    journal.append(1L, 2L, TeamSide.TEAM_B);
+    for (int i = 0; i < 1000; i++) {
+      long seq = journal.append(1L, 1L, TeamSide.TEAM_A);
+      journal.markFlushed(1L, seq);
+    }
+    long lastOfGame2 = journal.append(1L, 2L, TeamSide.TEAM_A);
+    journal.close();
+
+    assertTrue(Files.size(path) < 1024, "journal size: " + Files.size(path));
+    Map<Long, List<LiveScoreJournal.Entry>> replay = new LiveScoreJournal(path, false).recover().pending();
+    assertEquals(List.of(2L), List.copyOf(replay.keySet()));
+    assertEquals(List.of(TeamSide.TEAM_B, TeamSide.TEAM_A), replay.get(2L).stream().map(LiveScoreJournal.Entry::side).toList());
+    assertEquals(lastOfGame2, replay.get(2L).getLast().seq());
+  }
+
+  @Test
+  void markFlushed_truncatesOnceNothingIsInFlight() throws Exception {
+    Path             path    = tempDir.resolve("live.journal");
+    LiveScoreJournal journal = new LiveScoreJournal(path, false);
+    journal.recover();
+    journal.append(1L, 1L, TeamSide.TEAM_A);
+    long seq = journal.append(1L, 2L, TeamSide.TEAM_A);
+    journal.markFlushed(2L, seq);
+    assertTrue(Files.size(path) > 0);
+
+    journal.markFlushed(1L, seq);
+    journal.close();
+
+    assertEquals(List.of("J " + journal.getId()), Files.readAllLines(path));
+  }
+
+  @Test
+  void recover_returnsTheIdentifierOfThePreviousJournal() {
+    Path             path  = tempDir.resolve("live.journal");
+    LiveScoreJournal first = new LiveScoreJournal(path, false);
+    first.recover();
+    first.append(1L, 1L, TeamSide.TEAM_A);
+    first.close();
+
+    LiveScoreJournal          second   = new LiveScoreJournal(path, false);
+    LiveScoreJournal.Recovery recovery = second.recover();
+    second.close();
+
+    assertEquals(first.getId(), recovery.journalId());
+    assertEquals(1, recovery.pending().get(1L).size());
+    assertNotEquals(first.getId(), second.getId());
+  }
+}
@@ -33,6 +33,9 @@ class MatchFormatServiceTest {
   @Mock
   private AuthorizationService authorizationService;
 
+  @Mock
+  private TournamentSnapshotCache tournamentSnapshotCache;
+
   @InjectMocks
   private MatchFormatService matchFormatService;
 
@@ -44,6 +44,9 @@ class PlayerPairServiceTest {
   @Mock
   private TournamentMapper tournamentMapper;
 
+  @Mock
+  private TournamentSnapshotCache tournamentSnapshotCache;
+
   @BeforeEach
   void setUp() {
     Jwt jwt = Jwt.withTokenValue("fake")
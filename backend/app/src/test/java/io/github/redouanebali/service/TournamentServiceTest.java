@@ -65,7 +65,8 @@ class TournamentServiceTest {
     tournamentService = new TournamentService(
         tournamentRepository,
         drawGenerationService,
-        authorizationService
+        authorizationService,
+        new TournamentSnapshotCache(100)
     );
   }
 
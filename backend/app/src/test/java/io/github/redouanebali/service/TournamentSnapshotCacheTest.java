@@ -0,0 +1,127 @@
+package io.github.redouanebali.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.redouanebali.cluster.AbstractClusterRelay;
+import io.github.redouanebali.dto.response.TournamentDTO;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TournamentSnapshotCacheTest {
+
+  private TournamentSnapshotCache cache;
+  private AtomicInteger           loads;
+
+  @BeforeEach
+  void setUp() {
+    cache = new TournamentSnapshotCache(100);
+    loads = new AtomicInteger();
+  }
+
+  private TournamentSnapshot load(Long tournamentId, long version) {
+    loads.incrementAndGet();
+    TournamentDTO dto = new TournamentDTO();
+    dto.setId(tournamentId);
+    return new TournamentSnapshot(version, "owner", Set.of(), dto, List.of(), Map.of(), Map.of(), List.of());
+  }
+
+  @Test
+  void get_loadsOnceThenServesFromMemory() {
+    TournamentSnapshot first  = cache.get(1L, this::load);
+    TournamentSnapshot second = cache.get(1L, this::load);
+
+    assertSame(first, second);
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void invalidate_bumpsVersionAndForcesReload() {
+    TournamentSnapshot first = cache.get(1L, this::load);
+    assertEquals(0L, first.version());
+
+    cache.invalidate(1L);
+    TournamentSnapshot second = cache.get(1L, this::load);
+
+    assertNotSame(first, second);
+    assertEquals(1L, second.version());
+    assertEquals(1L, cache.getVersion(1L));
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void invalidate_onlyAffectsTheGivenTournament() {
+    TournamentSnapshot other = cache.get(2L, this::load);
+
+    cache.invalidate(1L);
+
+    assertSame(other, cache.get(2L, this::load));
+    assertEquals(0L, cache.getVersion(2L));
+  }
+
+  @Test
+  void get_doesNotCacheSnapshotBuiltDuringConcurrentWrite() {
+    TournamentSnapshot stale = cache.get(1L, (id, version) -> {
+      // A write lands while the snapshot is being built
+      cache.invalidate(id);
+      return load(id, version);
+    });
+    TournamentSnapshot fresh = cache.get(1L, this::load);
+
+    assertNotSame(stale, fresh);
+    assertEquals(1L, fresh.version());
+  }
+
+  @Test
+  void getVersion_neverGoesBackOnceEvicted() {
+    TournamentSnapshotCache small = new TournamentSnapshotCache(10);
+    small.invalidate(1L);
+    small.invalidate(1L);
+    for (long id = 2; id < 1000; id++) {
+      small.invalidate(id);
+    }
+
+    assertTrue(small.getVersion(1L) >= 2L);
+    small.invalidate(1L);
+    assertTrue(small.getVersion(1L) >= 3L);
+  }
+
+  @Test
+  void invalidate_dropsTheSnapshotOnEveryInstance() {
+    LinkedRelay             relayA = new LinkedRelay();
+    LinkedRelay             relayB = new LinkedRelay();
+    relayA.peer = relayB;
+    relayB.peer = relayA;
+    TournamentSnapshotCache cacheA = new TournamentSnapshotCache(100, relayA);
+    TournamentSnapshotCache cacheB = new TournamentSnapshotCache(100, relayB);
+    TournamentSnapshot      onB    = cacheB.get(1L, this::load);
+
+    cacheA.invalidate(1L);
+
+    assertEquals(1L, cacheA.getVersion(1L));
+    assertEquals(1L, cacheB.getVersion(1L));
+    assertNotSame(onB, cacheB.get(1L, this::load));
+  }
+
+  // Two instances wired to each other in memory
+  private static final class LinkedRelay extends AbstractClusterRelay {
+
+    private LinkedRelay peer;
+
+    @Override
+    protected void send(String line) {
+      peer.received(line);
+    }
+
+    @Override
+    public void close() {
+      // Nothing to release
+    }
+  }
+}
@@ -2,6 +2,9 @@ package io.github.redouanebali.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.github.redouanebali.model.User;
@@ -44,6 +47,37 @@ public class UserServiceTest {
     assertThat(user.getName()).isEqualTo(name);
   }
 
+  @Test
+  void testGetOrCreateUserWritesOnlyWhenClaimsChange() {
+    String email = "test@example.com";
+    when(userRepository.findByEmail(email)).thenReturn(Optional.of(new User(email, "John Doe", "en")));
+    when(userRepository.save(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
+
+    userService.getOrCreateUser(Map.of("email", email, "name", "John Doe", "locale", "en"));
+    userService.getOrCreateUser(Map.of("email", email, "name", "John Doe"));
+    verify(userRepository, times(1)).findByEmail(email);
+    verify(userRepository, never()).save(any(User.class));
+
+    User renamed = userService.getOrCreateUser(Map.of("email", email, "name", "John Smith", "locale", "en"));
+    assertThat(renamed.getName()).isEqualTo("John Smith");
+    verify(userRepository, times(1)).save(any(User.class));
+    assertThat(userService.getOrCreateUser(Map.of("email", email, "name", "John Smith")).getName()).isEqualTo("John Smith");
+    verify(userRepository, times(2)).findByEmail(email);
+  }
+
+  @Test
+  void testUpdateProfileDropsTheCachedProfile() {
+    String email = "test@example.com";
+    when(userRepository.findByEmail(email)).thenReturn(Optional.of(new User(email, "Name", "en")));
+    when(userRepository.save(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
+    assertThat(userService.getUserNameByEmail(email)).isEqualTo("Name");
+
+    userService.updateOrCreateProfile(email, "New Name", "fr", User.ProfileType.PLAYER, "Paris", "France");
+    when(userRepository.findByEmail(email)).thenReturn(Optional.of(new User(email, "New Name", "fr")));
+
+    assertThat(userService.getUserNameByEmail(email)).isEqualTo("New Name");
+  }
+
   @Test
   void testUpdateProfile() {
     String email = "test@example.com";
@@ -0,0 +1,105 @@
+package io.github.redouanebali.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.redouanebali.model.TeamSide;
+import io.github.redouanebali.model.Vote;
+import io.github.redouanebali.repository.VoteRepository;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Connections do not auto-commit, as in production: the buffer must commit its own writes
+@SpringBootTest(properties = "spring.datasource.hikari.auto-commit=false")
+@ActiveProfiles("h2")
+class VoteBufferTest {
+
+  private static final Long GAME_ID = 990_001L;
+
+  @Autowired
+  private VoteBuffer voteBuffer;
+
+  @Autowired
+  private VoteRepository voteRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @AfterEach
+  void tearDown() {
+    voteRepository.deleteAll(voteRepository.findAll().stream().filter(vote -> vote.getGameId().equals(GAME_ID)).toList());
+  }
+
+  @Test
+  void flush_insertsNewVotesAndUpdatesExistingOnesKeepingTheLatestVoteOfEachVoter() {
+    voteRepository.save(new Vote(GAME_ID, "anon:existing", TeamSide.TEAM_A, false));
+
+    voteBuffer.submit(GAME_ID, "anon:existing", TeamSide.TEAM_B, false);
+    voteBuffer.submit(GAME_ID, "anon:new", TeamSide.TEAM_A, false);
+    voteBuffer.submit(GAME_ID, "user:42", TeamSide.TEAM_A, true);
+    voteBuffer.submit(GAME_ID, "user:42", TeamSide.TEAM_B, true);
+    voteBuffer.flush(GAME_ID);
+
+    assertThat(voteRepository.findByGameIdAndVoterId(GAME_ID, "anon:existing")).get().extracting(Vote::getTeamSide).isEqualTo(TeamSide.TEAM_B);
+    assertThat(voteRepository.findByGameIdAndVoterId(GAME_ID, "anon:new")).get().extracting(Vote::getTeamSide).isEqualTo(TeamSide.TEAM_A);
+    assertThat(voteRepository.findByGameIdAndVoterId(GAME_ID, "user:42")).get()
+                                                                         .extracting(Vote::getTeamSide, Vote::isAuthenticated)
+                                                                         .containsExactly(TeamSide.TEAM_B, true);
+    List<VoteRepository.TeamSideCount> counts = voteRepository.countVotesByTeamSide(GAME_ID);
+    assertThat(counts).extracting(VoteRepository.TeamSideCount::getTeamSide, VoteRepository.TeamSideCount::getVotes)
+                      .containsExactlyInAnyOrder(Tuple.tuple(TeamSide.TEAM_A, 1L),
+                                                 Tuple.tuple(TeamSide.TEAM_B, 2L));
+  }
+
+  @Test
+  void flush_commitsTheVotes() {
+    voteBuffer.submit(GAME_ID, "anon:committed", TeamSide.TEAM_A, false);
+    voteBuffer.flush(GAME_ID);
+
+    // Read on another pooled connection, which only sees committed rows
+    assertThat(jdbcTemplate.queryForObject("SELECT team_side FROM votes WHERE game_id = ? AND voter_id = ?", String.class, GAME_ID, "anon:committed"))
+        .isEqualTo(TeamSide.TEAM_A.name());
+  }
+
+  @Test
+  void flush_writesTheVotesOneAtATimeWhenAnotherInstanceInsertedOneInBetween() {
+    TransactionTemplate otherInstance = new TransactionTemplate(transactionManager);
+    otherInstance.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    AtomicBoolean raced = new AtomicBoolean();
+    JdbcTemplate racing = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+      @Override
+      public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize, ParameterizedPreparedStatementSetter<T> pss) {
+        if (sql.startsWith("INSERT") && raced.compareAndSet(false, true)) {
+          otherInstance.executeWithoutResult(status -> voteRepository.save(new Vote(GAME_ID, "anon:raced", TeamSide.TEAM_A, false)));
+        }
+        return super.batchUpdate(sql, batchArgs, batchSize, pss);
+      }
+    };
+    VoteBuffer buffer = new VoteBuffer(racing, transactionManager, 500, Duration.ofHours(1));
+
+    buffer.submit(GAME_ID, "anon:raced", TeamSide.TEAM_B, false);
+    buffer.submit(GAME_ID, "anon:alone", TeamSide.TEAM_A, false);
+    buffer.flush(GAME_ID);
+
+    assertThat(raced).isTrue();
+    assertThat(jdbcTemplate.queryForObject("SELECT team_side FROM votes WHERE game_id = ? AND voter_id = ?", String.class, GAME_ID, "anon:raced"))
+        .isEqualTo(TeamSide.TEAM_B.name());
+    assertThat(jdbcTemplate.queryForObject("SELECT team_side FROM votes WHERE game_id = ? AND voter_id = ?", String.class, GAME_ID, "anon:alone"))
+        .isEqualTo(TeamSide.TEAM_A.name());
+  }
+}
@@ -3,9 +3,15 @@ package io.github.redouanebali.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.github.redouanebali.cluster.ClusterEvent;
+import io.github.redouanebali.cluster.LocalClusterRelay;
 import io.github.redouanebali.dto.response.VoteSummaryDTO;
 import io.github.redouanebali.model.Game;
 import io.github.redouanebali.model.TeamSide;
@@ -13,7 +19,11 @@ import io.github.redouanebali.model.Vote;
 import io.github.redouanebali.repository.GameRepository;
 import io.github.redouanebali.repository.VoteRepository;
 import io.github.redouanebali.security.SecurityUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
@@ -24,7 +34,6 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -42,7 +51,13 @@ class VoteServiceTest {
   @Mock
   private GameRepository gameRepository;
 
-  @InjectMocks
+  @Mock
+  private VoteBuffer voteBuffer;
+
+  private LocalClusterRelay relay;
+
+  private SimpleMeterRegistry meterRegistry;
+
   private VoteService voteService;
 
   private MockedStatic<SecurityUtil> secMock;
@@ -57,7 +72,37 @@ class VoteServiceTest {
 
   @BeforeEach
   void setUp() {
-    secMock = Mockito.mockStatic(SecurityUtil.class);
+    secMock     = Mockito.mockStatic(SecurityUtil.class);
+    relay       = new LocalClusterRelay();
+    meterRegistry = new SimpleMeterRegistry();
+    voteService   = new VoteService(gameRepository, new VoteTallyCache(voteRepository, voteBuffer, Duration.ofMinutes(1), 100), relay, meterRegistry,
+                                    2, Duration.ofHours(1));
+    voteService.subscribe();
+  }
+
+  private static List<VoteRepository.TeamSideCount> counts(long teamAVotes, long teamBVotes) {
+    List<VoteRepository.TeamSideCount> counts = new ArrayList<>();
+    if (teamAVotes > 0) {
+      counts.add(count(TeamSide.TEAM_A, teamAVotes));
+    }
+    if (teamBVotes > 0) {
+      counts.add(count(TeamSide.TEAM_B, teamBVotes));
+    }
+    return counts;
+  }
+
+  private static VoteRepository.TeamSideCount count(TeamSide teamSide, long votes) {
+    return new VoteRepository.TeamSideCount() {
+      @Override
+      public TeamSide getTeamSide() {
+        return teamSide;
+      }
+
+      @Override
+      public long getVotes() {
+        return votes;
+      }
+    };
   }
 
   @AfterEach
@@ -108,8 +153,7 @@ class VoteServiceTest {
     long teamAVotes = 5;
     long teamBVotes = 3;
 
-    when(voteRepository.countTeamAVotes(gameId)).thenReturn(teamAVotes);
-    when(voteRepository.countTeamBVotes(gameId)).thenReturn(teamBVotes);
+    when(voteRepository.countVotesByTeamSide(gameId)).thenReturn(counts(teamAVotes, teamBVotes));
     when(voteRepository.findByGameIdAndVoterId(any(), any())).thenReturn(Optional.empty());
 
     VoteSummaryDTO summary = voteService.getVoteSummary(gameId, request);
@@ -126,8 +170,7 @@ class VoteServiceTest {
     HttpServletRequest request = mockRequest("192.168.1.1", "TestBrowser");
     secMock.when(SecurityUtil::currentUserId).thenReturn(null);
 
-    when(voteRepository.countTeamAVotes(gameId)).thenReturn(5L);
-    when(voteRepository.countTeamBVotes(gameId)).thenReturn(3L);
+    when(voteRepository.countVotesByTeamSide(gameId)).thenReturn(counts(5, 3));
 
     if (votedFor != null) {
       Vote userVote = new Vote(gameId, "anon:hash", votedFor, false);
@@ -141,6 +184,74 @@ class VoteServiceTest {
     assertThat(summary.getCurrentUserVote()).isEqualTo(expectedUserVote);
   }
 
+  @ParameterizedTest(name = "votes {0}/{1}, then a vote for {2} changed from {3}")
+  @CsvSource({
+      "5, 3, TEAM_A, ,       6, 3",
+      "5, 3, TEAM_B, TEAM_A, 4, 4",
+      "0, 0, TEAM_B, ,       0, 1"
+  })
+  void getVoteSummary_readsTheVotesOnceThenFollowsTheVotesCast(long teamAVotes, long teamBVotes, TeamSide votedFor, TeamSide previousVote,
+                                                               long expectedTeamAVotes, long expectedTeamBVotes) {
+    Long               gameId  = 1L;
+    HttpServletRequest request = mockRequest("192.168.1.1", "TestBrowser");
+    secMock.when(SecurityUtil::currentUserId).thenReturn(null);
+    when(voteRepository.countVotesByTeamSide(gameId)).thenReturn(counts(teamAVotes, teamBVotes));
+    when(voteRepository.findByGameIdAndVoterId(any(), any()))
+        .thenReturn(Optional.ofNullable(previousVote).map(side -> new Vote(gameId, "anon:hash", side, false)));
+    Game mockGame = mock(Game.class);
+    when(gameRepository.findById(gameId)).thenReturn(Optional.of(mockGame));
+    when(voteRepository.save(any(Vote.class))).thenAnswer(inv -> inv.getArgument(0));
+
+    voteService.getVoteSummary(gameId, request);
+    voteService.vote(gameId, votedFor, request);
+    VoteSummaryDTO summary = voteService.getVoteSummary(gameId, request);
+
+    assertThat(summary.getTeamAVotes()).isEqualTo(expectedTeamAVotes);
+    assertThat(summary.getTeamBVotes()).isEqualTo(expectedTeamBVotes);
+    assertThat(summary.getCurrentUserVote()).isEqualTo(votedFor);
+    verify(voteRepository, times(1)).countVotesByTeamSide(gameId);
+    verify(voteBuffer).submit(gameId, voteService.resolveVoterId(request), votedFor, false);
+    verify(voteRepository, never()).save(any());
+  }
+
+  @Test
+  void vote_readsTheStartedFlagOnceUntilAScoreUpdateOfTheGame() {
+    Long               gameId  = 1L;
+    HttpServletRequest request = mockRequest("192.168.1.1", "TestBrowser");
+    secMock.when(SecurityUtil::currentUserId).thenReturn(null);
+    Game game = mock(Game.class);
+    when(game.isStarted()).thenReturn(false, true);
+    when(gameRepository.findById(gameId)).thenReturn(Optional.of(game));
+    when(voteRepository.findByGameIdAndVoterId(any(), any())).thenReturn(Optional.empty());
+
+    voteService.vote(gameId, TeamSide.TEAM_A, request);
+    voteService.vote(gameId, TeamSide.TEAM_B, request);
+    relay.publish(ClusterEvent.broadcast("/topic/game/" + gameId, "{}"));
+
+    assertThatThrownBy(() -> voteService.vote(gameId, TeamSide.TEAM_A, request))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("Cannot vote after game has started");
+    verify(gameRepository, times(2)).findById(gameId);
+  }
+
+  @Test
+  void vote_throwsException_whenVotingTwiceForTheSameTeamBeforeTheFlush() {
+    Long               gameId  = 1L;
+    HttpServletRequest request = mockRequest("192.168.1.1", "TestBrowser");
+    secMock.when(SecurityUtil::currentUserId).thenReturn(null);
+    Game game = mock(Game.class);
+    when(gameRepository.findById(gameId)).thenReturn(Optional.of(game));
+    when(voteRepository.findByGameIdAndVoterId(any(), any())).thenReturn(Optional.empty());
+
+    voteService.vote(gameId, TeamSide.TEAM_B, request);
+
+    assertThatThrownBy(() -> voteService.vote(gameId, TeamSide.TEAM_B, request))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("You have already voted for this team");
+    assertThat(voteService.getVoteSummary(gameId, request).getTeamBVotes()).isEqualTo(1);
+    verify(voteBuffer, times(1)).submit(any(), any(), any(), anyBoolean());
+  }
+
   @Test
   void resolveVoterId_usesXForwardedFor_whenPresent() {
     HttpServletRequest request = mock(HttpServletRequest.class);
@@ -170,6 +281,20 @@ class VoteServiceTest {
     assertThat(id2).isNotEqualTo(id3);
   }
 
+  @Test
+  void resolveVoterId_keepsTheIdOfASessionAndReportsTheCacheMetrics() {
+    secMock.when(SecurityUtil::currentUserId).thenReturn(null);
+    HttpServletRequest request = mockRequest("192.168.1.1", "Browser1");
+
+    String id = voteService.resolveVoterId(request);
+
+    assertThat(voteService.resolveVoterId(mockRequest("192.168.1.1", "Browser1"))).isEqualTo(id);
+    assertThat(meterRegistry.get("cache.gets").tag("cache", "voterSessions").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("cache.gets").tag("cache", "voterSessions").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+
+    assertThat(meterRegistry.find("cache.evictions").tag("cache", "voterSessions").functionCounter()).isNotNull();
+  }
+
   @Test
   void vote_allowsChangingVote_whenGameNotStarted() {
     Long               gameId  = 1L;
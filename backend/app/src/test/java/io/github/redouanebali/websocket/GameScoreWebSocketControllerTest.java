@@ -1,29 +1,150 @@
 package io.github.redouanebali.websocket;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.redouanebali.cluster.ClusterEvent;
+import io.github.redouanebali.cluster.LocalClusterRelay;
+import io.github.redouanebali.dto.response.ScoreDTO;
 import io.github.redouanebali.dto.response.UpdateScoreDTO;
+import io.github.redouanebali.model.TeamSide;
+import io.github.redouanebali.service.GameService;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.springframework.messaging.Message;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 class GameScoreWebSocketControllerTest {
 
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
   @ParameterizedTest
   @CsvSource({
-      "1,true,TEAM_A",
-      "2,false,TEAM_B",
-      "3,true,''"
+      "1,TEAM_A",
+      "2,TEAM_B",
+      "3,''"
   })
-  void broadcastScoreUpdate_sendsMessageToCorrectTopic(Long gameId, boolean tournamentUpdated, String winner) {
+  void broadcastScoreUpdate_sendsSnapshotThenPatchesToCorrectTopic(Long gameId, String winner) throws Exception {
     SimpMessagingTemplate        messagingTemplate = Mockito.mock(SimpMessagingTemplate.class);
-    GameScoreWebSocketController controller        = new GameScoreWebSocketController(messagingTemplate);
-    UpdateScoreDTO               dto               = new UpdateScoreDTO();
-    dto.setTournamentUpdated(tournamentUpdated);
-    dto.setWinner(winner.isEmpty() ? null : io.github.redouanebali.model.TeamSide.valueOf(winner));
-    controller.broadcastScoreUpdate(gameId, dto);
-    verify(messagingTemplate).convertAndSend("/topic/game/" + gameId, dto);
+    GameScoreWebSocketController controller        = newController(messagingTemplate, new LocalClusterRelay());
+    controller.subscribe();
+
+    controller.broadcastScoreUpdate(gameId, update(null, "QUINZE"));
+    controller.broadcastScoreUpdate(gameId, update(winner.isEmpty() ? null : TeamSide.valueOf(winner), "TRENTE"));
+
+    ArgumentCaptor<Message<?>> message = ArgumentCaptor.forClass(Message.class);
+    verify(messagingTemplate, times(2)).send(eq("/topic/game/" + gameId), message.capture());
+    List<JsonNode> sent = message.getAllValues().stream().map(this::body).toList();
+    assertEquals(true, sent.getFirst().get("snapshot").asBoolean());
+    assertEquals(1, sent.getFirst().get("seq").asLong());
+    assertEquals("QUINZE", sent.getFirst().at("/data/score/currentGamePointA").asText());
+    assertNull(sent.getLast().get("snapshot"));
+    assertEquals(2, sent.getLast().get("seq").asLong());
+    String expectedPatch = winner.isEmpty() ? "{\"score\":{\"currentGamePointA\":\"TRENTE\"}}"
+                                            : "{\"score\":{\"currentGamePointA\":\"TRENTE\"},\"finished\":true,\"winner\":\"" + winner + "\"}";
+    assertEquals(objectMapper.readTree(expectedPatch), sent.getLast().get("data"));
+    assertEquals("TRENTE", objectMapper.readTree(controller.snapshot(gameId)).at("/data/score/currentGamePointA").asText());
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "/topic/game/7, 7, '{\"gameId\":7,\"seq\":4,\"data\":{\"winner\":\"TEAM_B\"}}', '{\"gameId\":7,\"seq\":4,\"snapshot\":true,\"data\":{\"winner\":\"TEAM_B\"}}'"
+  })
+  void broadcastFromAnotherInstance_isSentToLocalSubscribersAndKeptForNewOnes(String destination, Long gameId, String payload, String snapshot) {
+    SimpMessagingTemplate        messagingTemplate = Mockito.mock(SimpMessagingTemplate.class);
+    TestRelay                    relay             = new TestRelay();
+    GameScoreWebSocketController controller        = newController(messagingTemplate, relay);
+    controller.subscribe();
+
+    relay.receive(new ClusterEvent("other-node", ClusterEvent.Type.BROADCAST, destination, null, null, payload, snapshot));
+
+    ArgumentCaptor<Message<?>> message = ArgumentCaptor.forClass(Message.class);
+    verify(messagingTemplate).send(eq(destination), message.capture());
+    assertEquals(payload, new String((byte[]) message.getValue().getPayload(), StandardCharsets.UTF_8));
+    assertEquals(snapshot, controller.snapshot(gameId));
+  }
+
+  @Test
+  void snapshotOfAGameNotRelayedYet_isReadFromTheDatabase() throws Exception {
+    GameService gameService = Mockito.mock(GameService.class);
+    when(gameService.findScoreUpdate(5L)).thenReturn(Optional.of(update(TeamSide.TEAM_A, null)));
+    when(gameService.findScoreUpdate(6L)).thenReturn(Optional.empty());
+    GameScoreWebSocketController controller = new GameScoreWebSocketController(Mockito.mock(SimpMessagingTemplate.class), new LocalClusterRelay(),
+                                                                                objectMapper, Duration.ZERO, 64, gameService);
+
+    JsonNode snapshot = objectMapper.readTree(controller.snapshot(5L));
+    assertNull(snapshot.get("epoch"));
+    assertNull(snapshot.get("seq"));
+    assertEquals(objectMapper.readTree("{\"finished\":true,\"winner\":\"TEAM_A\",\"score\":{\"forfeit\":false}}"), snapshot.get("data"));
+    assertNull(controller.snapshot(6L));
   }
-}
 
+  @Test
+  void resume_sendsTheMissedMessagesOrTheSnapshotWhenTheGapIsNotCovered() throws Exception {
+    SimpMessagingTemplate        messagingTemplate = Mockito.mock(SimpMessagingTemplate.class);
+    GameScoreWebSocketController controller        = newController(messagingTemplate, new LocalClusterRelay());
+    controller.subscribe();
+    controller.broadcastScoreUpdate(4L, update(null, "QUINZE"));
+    controller.broadcastScoreUpdate(4L, update(null, "TRENTE"));
+    controller.broadcastScoreUpdate(4L, update(null, "QUARANTE"));
+    String epoch = objectMapper.readTree(controller.snapshot(4L)).get("epoch").asText();
+
+    JsonNode missed = objectMapper.readTree(controller.resume(4L, epoch, 1));
+    assertEquals(2, missed.size());
+    assertEquals(2, missed.get(0).get("seq").asLong());
+    assertEquals(objectMapper.readTree("{\"score\":{\"currentGamePointA\":\"QUARANTE\"}}"), missed.get(1).get("data"));
+    assertEquals(0, objectMapper.readTree(controller.resume(4L, epoch, 3)).size());
+
+    JsonNode fallback = objectMapper.readTree(controller.resume(4L, "other-1", 1));
+    assertEquals(1, fallback.size());
+    assertEquals(true, fallback.get(0).get("snapshot").asBoolean());
+    assertEquals(3, fallback.get(0).get("seq").asLong());
+    assertEquals(0, objectMapper.readTree(controller.resume(99L, epoch, 1)).size());
+  }
+
+  // Without conflation, every update is sent as soon as it is broadcast
+  private GameScoreWebSocketController newController(SimpMessagingTemplate messagingTemplate, LocalClusterRelay relay) {
+    return new GameScoreWebSocketController(messagingTemplate, relay, objectMapper, Duration.ZERO, 64, Mockito.mock(GameService.class));
+  }
+
+  private JsonNode body(Message<?> message) {
+    try {
+      return objectMapper.readTree((byte[]) message.getPayload());
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static UpdateScoreDTO update(TeamSide winner, String gamePointA) {
+    ScoreDTO score = new ScoreDTO();
+    score.setCurrentGamePointA(gamePointA);
+    return new UpdateScoreDTO(winner != null, winner, score);
+  }
+
+  // Relay whose remote side is driven by the test
+  private static final class TestRelay extends LocalClusterRelay {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    void receive(ClusterEvent event) {
+      try {
+        received(mapper.writeValueAsString(event));
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package io.github.redouanebali.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.redouanebali.dto.response.ScoreDTO;
+import io.github.redouanebali.dto.response.SetScoreDTO;
+import io.github.redouanebali.dto.response.UpdateScoreDTO;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+class ScoreConflatorTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', value = {
+      "{\"score\":{\"currentGamePointA\":\"QUINZE\"}}                 | {\"score\":{\"currentGamePointA\":\"TRENTE\"}}                 | {\"score\":{\"currentGamePointA\":\"TRENTE\"}}",
+      "{\"score\":{\"currentGamePointA\":\"QUARANTE\",\"sets\":[]}}    | {\"score\":{\"sets\":[{\"teamAScore\":1}]}}                   | {\"score\":{\"currentGamePointA\":null,\"sets\":[{\"teamAScore\":1}]}}",
+      "{\"score\":{\"sets\":[]}}                                        | {\"winner\":\"TEAM_A\",\"score\":{\"sets\":[]}}                | {\"winner\":\"TEAM_A\"}",
+      "{\"winner\":\"TEAM_A\",\"score\":{\"sets\":[]}}                  | {\"score\":{\"sets\":[]}}                                      | {\"winner\":null}",
+      "{\"score\":{\"sets\":[{\"teamAScore\":1}]}}                      | {\"score\":{\"sets\":[{\"teamAScore\":1}]}}                   | {}"
+  })
+  void diff_returnsTheMergePatchBetweenTwoStates(String from, String to, String expectedPatch) throws Exception {
+    assertEquals(mapper.readTree(expectedPatch), ScoreConflator.diff(mapper.readTree(from), mapper.readTree(to)));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      // points of team A sent within one window, the last score wins
+      "'QUINZE,TRENTE,QUARANTE', QUARANTE",
+      // increment, undo, increment
+      "'QUINZE,,QUINZE', QUINZE"
+  })
+  void updatesWithinTheWindow_arePublishedAsOnePatch(String points, String expectedPoint) {
+    ScheduledExecutorService      scheduler = Mockito.mock(ScheduledExecutorService.class);
+    List<ScoreConflator.Emission> emitted   = new ArrayList<>();
+    ScoreConflator                conflator = new ScoreConflator(mapper, Duration.ofMillis(100), scheduler, "node", emitted::add);
+
+    conflator.submit(1L, update(null));
+    runScheduled(scheduler, 1);
+    for (String point : points.split(",", -1)) {
+      conflator.submit(1L, update(point.isEmpty() ? null : point));
+    }
+    runScheduled(scheduler, 2);
+
+    assertEquals(2, emitted.size());
+    ScoreStreamMessage first = emitted.getFirst().message();
+    ScoreStreamMessage patch = emitted.getLast().message();
+    assertTrue(first.snapshot());
+    assertEquals(1, first.seq());
+    assertFalse(patch.snapshot());
+    assertEquals(2, patch.seq());
+    assertEquals(first.epoch(), patch.epoch());
+    assertEquals("{\"score\":{\"currentGamePointA\":\"" + expectedPoint + "\"}}", patch.data().toString());
+    assertEquals(expectedPoint, emitted.getLast().snapshot().data().at("/score/currentGamePointA").asText());
+  }
+
+  @Test
+  void updatesThatCancelOut_publishNothing() {
+    List<ScoreConflator.Emission> emitted   = new ArrayList<>();
+    ScheduledExecutorService      scheduler = Mockito.mock(ScheduledExecutorService.class);
+    ScoreConflator                conflator = new ScoreConflator(mapper, Duration.ofMillis(100), scheduler, "node", emitted::add);
+
+    conflator.submit(1L, update(null));
+    runScheduled(scheduler, 1);
+    conflator.submit(1L, update("QUINZE"));
+    conflator.submit(1L, update(null));
+    runScheduled(scheduler, 2);
+
+    assertEquals(1, emitted.size());
+  }
+
+  @Test
+  void withoutWindow_everyUpdateIsPublishedAtOnce() {
+    List<ScoreConflator.Emission> emitted   = new ArrayList<>();
+    ScoreConflator                conflator = new ScoreConflator(mapper, Duration.ZERO, null, "node", emitted::add);
+
+    conflator.submit(1L, update(null));
+    conflator.submit(2L, update(null));
+    conflator.submit(1L, update("QUINZE"));
+
+    assertEquals(List.of(1L, 2L, 1L), emitted.stream().map(ScoreConflator.Emission::gameId).toList());
+    assertEquals(List.of(1L, 1L, 2L), emitted.stream().map(e -> e.message().seq()).toList());
+    assertFalse(emitted.getFirst().message().epoch().equals(emitted.get(1).message().epoch()));
+  }
+
+  @Test
+  void finishingWithoutAWinner_isPublished() {
+    List<ScoreConflator.Emission> emitted   = new ArrayList<>();
+    ScoreConflator                conflator = new ScoreConflator(mapper, Duration.ZERO, null, "node", emitted::add);
+
+    conflator.submit(1L, update(null));
+    UpdateScoreDTO forfeit = update(null);
+    forfeit.setTournamentUpdated(true);
+    conflator.submit(1L, forfeit);
+
+    assertEquals(2, emitted.size());
+    assertEquals("{\"finished\":true}", emitted.getLast().message().data().toString());
+    assertTrue(emitted.getLast().snapshot().data().get("finished").asBoolean());
+  }
+
+  // Runs the publication scheduled by the last window, checking that exactly `scheduled` windows were opened so far
+  private static void runScheduled(ScheduledExecutorService scheduler, int scheduled) {
+    ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler, times(scheduled)).schedule(task.capture(), anyLong(), eq(TimeUnit.NANOSECONDS));
+    task.getValue().run();
+  }
+
+  private static UpdateScoreDTO update(String gamePointA) {
+    SetScoreDTO set = new SetScoreDTO();
+    set.setTeamAScore(2);
+    set.setTeamBScore(1);
+    ScoreDTO score = new ScoreDTO();
+    score.setSets(List.of(set));
+    score.setCurrentGamePointA(gamePointA);
+    return new UpdateScoreDTO(false, null, score);
+  }
+}
@@ -0,0 +1,82 @@
+package io.github.redouanebali.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ScoreReplayBufferTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  @ParameterizedTest
+  @CsvSource({
+      // capacity 4, messages 1 to 6 of epoch e1 recorded: 3 to 6 are kept
+      "e1, 6, ''",
+      "e1, 5, '6'",
+      "e1, 3, '4,5,6'",
+      "e1, 2, '3,4,5,6'",
+      // gap older than the ring
+      "e1, 1, ",
+      "e1, 0, ",
+      // position ahead of the stream, or from another epoch
+      "e1, 7, ",
+      "e2, 5, "
+  })
+  void since_returnsTheMissedMessagesOnlyWhenTheRingCoversTheGap(String epoch, long seq, String expectedSeqs) {
+    ScoreReplayBuffer buffer = new ScoreReplayBuffer(mapper, 4, 10);
+    for (int i = 1; i <= 6; i++) {
+      buffer.record(1L, message("e1", i), "snapshot-" + i);
+    }
+
+    List<String> missed = buffer.since(1L, epoch, seq);
+
+    if (expectedSeqs == null) {
+      assertNull(missed);
+    } else {
+      List<String> expected = expectedSeqs.isEmpty() ? List.of()
+                                                     : Arrays.stream(expectedSeqs.split(",")).map(s -> message("e1", Long.parseLong(s))).toList();
+      assertEquals(expected, missed);
+    }
+    assertEquals("snapshot-6", buffer.latestSnapshot(1L));
+  }
+
+  @Test
+  void since_doesNotCoverAGapWithinTheRing() {
+    ScoreReplayBuffer buffer = new ScoreReplayBuffer(mapper, 8, 10);
+    buffer.record(1L, message("e1", 1), "s1");
+    buffer.record(1L, message("e1", 3), "s3");
+
+    assertNull(buffer.since(1L, "e1", 1));
+    assertEquals(List.of(), buffer.since(1L, "e1", 3));
+  }
+
+  @Test
+  void since_doesNotCoverAnEpochChange() {
+    ScoreReplayBuffer buffer = new ScoreReplayBuffer(mapper, 8, 10);
+    buffer.record(1L, message("e1", 1), "s1");
+    buffer.record(1L, message("e2", 1), "s2");
+
+    assertNull(buffer.since(1L, "e1", 1));
+    assertEquals(List.of(), buffer.since(1L, "e2", 1));
+  }
+
+  @Test
+  void unknownGame_hasNothingToReplay() {
+    ScoreReplayBuffer buffer = new ScoreReplayBuffer(mapper, 8, 10);
+
+    assertNull(buffer.since(1L, "e1", 0));
+    assertNull(buffer.latestSnapshot(1L));
+    assertThrows(IllegalArgumentException.class, () -> new ScoreReplayBuffer(mapper, 0, 10));
+  }
+
+  private static String message(String epoch, long seq) {
+    return "{\"gameId\":1,\"epoch\":\"" + epoch + "\",\"seq\":" + seq + ",\"data\":{}}";
+  }
+}
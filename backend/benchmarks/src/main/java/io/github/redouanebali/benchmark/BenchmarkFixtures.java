@@ -0,0 +1,246 @@
+package io.github.redouanebali.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.redouanebali.generation.GroupPhase;
+import io.github.redouanebali.generation.TournamentBuilder;
+import io.github.redouanebali.generation.util.ByePlacementUtil;
+import io.github.redouanebali.generation.util.RandomPlacementUtil;
+import io.github.redouanebali.generation.util.SeedPlacementUtil;
+import io.github.redouanebali.model.Game;
+import io.github.redouanebali.model.PlayerPair;
+import io.github.redouanebali.model.Round;
+import io.github.redouanebali.model.Tournament;
+import io.github.redouanebali.model.format.DrawMode;
+import io.github.redouanebali.model.format.TournamentConfig;
+import io.github.redouanebali.model.format.TournamentFormat;
+import io.github.redouanebali.util.TestFixturesCore;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tournaments and rounds the benchmarks run on. Built from {@link TestFixturesCore} and from the scenarios of the core test suite
+ * ({@code tournament_scenarios.csv} and its team files), which ship in the core test-jar.
+ * <p>
+ * A scenario is named {@code ko-<drawSize>} for a plain knockout draw filled at three quarters (so it has BYEs), or {@code csv-<id>} for a tournament
+ * of {@code tournament_scenarios.csv}.
+ */
+final class BenchmarkFixtures {
+
+  private static final String RESOURCES = "/io.github.redouanebali/";
+
+  private BenchmarkFixtures() {
+  }
+
+  /**
+   * Builds the tournament of a scenario and plays it to the end, team A winning every real game.
+   *
+   * @param scenario {@code ko-<drawSize>} or {@code csv-<id>}
+   * @return the played tournament, with winners propagated
+   */
+  static Tournament playedTournament(String scenario) {
+    Tournament tournament;
+    if (scenario.startsWith("ko-")) {
+      tournament = knockoutTournament(Integer.parseInt(scenario.substring(3)));
+    } else if (scenario.startsWith("csv-")) {
+      tournament = scenarioTournament(Long.parseLong(scenario.substring(4)));
+    } else {
+      throw new IllegalArgumentException("Unknown scenario: " + scenario);
+    }
+    TournamentBuilder.propagateWinners(tournament);
+    for (Round round : tournament.getRounds()) {
+      scoreRound(round);
+      TournamentBuilder.propagateWinners(tournament);
+    }
+    return tournament;
+  }
+
+  /**
+   * Returns the first game with two real teams of the first round, the one whose result travels the longest way through the bracket.
+   */
+  static Game firstPlayedGame(Tournament tournament) {
+    return tournament.getRounds().getFirst().getGames().stream()
+                     .filter(BenchmarkFixtures::isPlayable)
+                     .findFirst()
+                     .orElseThrow(() -> new IllegalStateException("No played game in the first round"));
+  }
+
+  /**
+   * Draws a knockout round the way an automatic draw does: seeds, BYEs, qualifier placeholders, then the remaining teams at random.
+   *
+   * @param drawSize number of slots of the round
+   * @param pairs the real teams, sorted by seed
+   * @param nbSeeds number of seeds
+   * @param nbQualifiers number of slots left to qualifiers
+   * @return the drawn round
+   */
+  static Round drawKnockoutRound(int drawSize, List<PlayerPair> pairs, int nbSeeds, int nbQualifiers) {
+    Round round = TestFixturesCore.buildEmptyRound(drawSize);
+    SeedPlacementUtil.placeSeedTeams(round, pairs, nbSeeds, drawSize);
+    ByePlacementUtil.placeByeTeams(round, pairs.size(), nbSeeds, drawSize, nbQualifiers);
+    RandomPlacementUtil.placeQualifiers(round, nbQualifiers);
+    RandomPlacementUtil.placeRemainingTeamsRandomly(round, unplaced(round, pairs));
+    return round;
+  }
+
+  /**
+   * Draws a group round: seeds spread over the pools, the other teams at random, then every round-robin game.
+   */
+  static Round drawGroupRound(int nbPools, int nbPairsPerPool) {
+    GroupPhase       phase = new GroupPhase(nbPools, nbPairsPerPool, 1);
+    Round            round = phase.initialize(groupsConfig(nbPools, nbPairsPerPool)).getFirst();
+    List<PlayerPair> pairs = TestFixturesCore.createPlayerPairs(nbPools * nbPairsPerPool);
+    phase.placeSeedTeams(round, pairs.subList(0, nbPools));
+    phase.placeRemainingTeamsRandomly(round, pairs.subList(nbPools, pairs.size()));
+    return round;
+  }
+
+  /**
+   * Scores every game of a round that has two real teams and no score yet, team A winning.
+   */
+  static void scoreRound(Round round) {
+    for (Game game : round.getGames()) {
+      if (isPlayable(game) && game.getScore() == null) {
+        game.setFormat(TestFixturesCore.createSimpleFormat(1));
+        game.setScore(TestFixturesCore.createScoreWithWinner(game, game.getTeamA()));
+      }
+    }
+  }
+
+  private static boolean isPlayable(Game game) {
+    return game.getTeamA() != null && game.getTeamB() != null && !game.getTeamA().isBye() && !game.getTeamB().isBye()
+           && !game.getTeamA().isQualifier() && !game.getTeamB().isQualifier();
+  }
+
+  private static List<PlayerPair> unplaced(Round round, List<PlayerPair> pairs) {
+    Set<PlayerPair> placed = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (Game game : round.getGames()) {
+      placed.add(game.getTeamA());
+      placed.add(game.getTeamB());
+    }
+    return pairs.stream().filter(p -> !placed.contains(p)).toList();
+  }
+
+  private static Tournament knockoutTournament(int drawSize) {
+    int        nbSeeds    = Math.max(2, drawSize / 4);
+    Tournament tournament = new Tournament();
+    tournament.setConfig(TournamentConfig.builder()
+                                         .format(TournamentFormat.KNOCKOUT)
+                                         .mainDrawSize(drawSize)
+                                         .nbSeeds(nbSeeds)
+                                         .drawMode(DrawMode.MANUAL)
+                                         .build());
+    TournamentBuilder.initializeEmptyRounds(tournament);
+    Round drawn = drawKnockoutRound(drawSize, TestFixturesCore.createPlayerPairs(drawSize * 3 / 4), nbSeeds, 0);
+    tournament.getRounds().getFirst().replaceGames(drawn.getGames());
+    return tournament;
+  }
+
+  // Same setup as TournamentBuilderCsvTest: config from the first CSV row, first rounds from teams_t<id>.json
+  private static Tournament scenarioTournament(long tournamentId) {
+    Map<String, String> row             = scenarioRow(tournamentId);
+    int                 preQualDrawSize = Integer.parseInt(row.get("preQualDrawSize"));
+    int                 nbQualifiers    = Integer.parseInt(row.get("nbQualifiers"));
+    Tournament          tournament      = new Tournament();
+    tournament.setId(tournamentId);
+    tournament.setConfig(TournamentConfig.builder()
+                                         .format(nbQualifiers > 0 && preQualDrawSize > 0 ? TournamentFormat.QUALIF_KO : TournamentFormat.KNOCKOUT)
+                                         .preQualDrawSize(preQualDrawSize)
+                                         .nbQualifiers(nbQualifiers)
+                                         .mainDrawSize(Integer.parseInt(row.get("mainDrawSize")))
+                                         .nbSeeds(Integer.parseInt(row.get("nbSeeds")))
+                                         .nbSeedsQualify(0)
+                                         .drawMode(DrawMode.MANUAL)
+                                         .build());
+    TournamentBuilder.initializeEmptyRounds(tournament);
+
+    Map<String, List<Game>> teams = loadTeams(tournamentId);
+    List<Game>              qualif = teams.get("firstQualifPhase");
+    if (qualif != null && tournament.getRounds().getFirst().getStage().isQualification()) {
+      tournament.getRounds().getFirst().replaceGames(qualif);
+    }
+    List<Game> main = teams.get("firstMainPhase");
+    if (main != null) {
+      for (Game game : main) {
+        game.setTeamA(game.getTeamA() != null ? game.getTeamA() : PlayerPair.bye());
+        game.setTeamB(game.getTeamB() != null ? game.getTeamB() : PlayerPair.bye());
+      }
+      tournament.getRounds().stream()
+                .filter(r -> !r.getStage().isQualification())
+                .findFirst()
+                .ifPresent(r -> r.replaceGames(main));
+    }
+    return tournament;
+  }
+
+  private static Map<String, String> scenarioRow(long tournamentId) {
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource("tournament_scenarios.csv"), StandardCharsets.UTF_8))) {
+      String[] header = reader.readLine().split(",");
+      String   line;
+      while ((line = reader.readLine()) != null) {
+        String[] fields = line.split(",");
+        if (!line.isBlank() && Long.parseLong(fields[0].trim()) == tournamentId) {
+          Map<String, String> row = new HashMap<>();
+          for (int i = 0; i < header.length && i < fields.length; i++) {
+            row.put(header[i].trim(), fields[i].trim());
+          }
+          return row;
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    throw new IllegalArgumentException("Unknown CSV scenario: " + tournamentId);
+  }
+
+  private static Map<String, List<Game>> loadTeams(long tournamentId) {
+    ObjectMapper mapper = new ObjectMapper();
+    try (InputStream is = resource("teams/teams_t" + tournamentId + ".json")) {
+      Map<String, List<Game>> result = new HashMap<>();
+      Map<String, Object>     json   = mapper.readValue(is, new TypeReference<>() {
+      });
+      for (Map.Entry<String, Object> entry : json.entrySet()) {
+        if (entry.getValue() instanceof List<?> gamesJson) {
+          List<Game> games = new ArrayList<>();
+          for (Object gameJson : gamesJson) {
+            games.add(mapper.convertValue(gameJson, Game.class));
+          }
+          result.put(entry.getKey(), games);
+        }
+      }
+      return result;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static InputStream resource(String name) {
+    InputStream is = BenchmarkFixtures.class.getResourceAsStream(RESOURCES + name);
+    if (is == null) {
+      throw new IllegalStateException(name + " not found: is the core test-jar on the classpath?");
+    }
+    return is;
+  }
+
+  private static TournamentConfig groupsConfig(int nbPools, int nbPairsPerPool) {
+    return TournamentConfig.builder()
+                           .format(TournamentFormat.GROUPS_KO)
+                           .nbPools(nbPools)
+                           .nbPairsPerPool(nbPairsPerPool)
+                           .nbQualifiedByPool(1)
+                           .mainDrawSize(nbPools)
+                           .nbSeeds(nbPools)
+                           .build();
+  }
+}
@@ -0,0 +1,38 @@
+package io.github.redouanebali.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Accepts the usual JMH command line, but writes the results as JSON to {@code jmh-result.json} by default so
+ * that runs of two releases can be compared (e.g. with JMH Visualizer or a plain diff).
+ */
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions cli = new CommandLineOptions(args);
+    if (cli.shouldHelp()) {
+      cli.showHelp();
+      return;
+    }
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(cli);
+    if (!cli.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+    }
+    if (!cli.getResult().hasValue()) {
+      options.result("jmh-result.json");
+    }
+    Runner runner = new Runner(options.build());
+    if (cli.shouldList()) {
+      runner.list();
+    } else {
+      runner.run();
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package io.github.redouanebali.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.redouanebali.cluster.ClusterRelay;
+import io.github.redouanebali.cluster.LocalClusterRelay;
+import io.github.redouanebali.cluster.TcpClusterRelay;
+import io.github.redouanebali.dto.response.ScoreDTO;
+import io.github.redouanebali.dto.response.UpdateScoreDTO;
+import io.github.redouanebali.websocket.GameScoreWebSocketController;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * End-to-end latency of a score update: from the referee's instance publishing it to the last spectator of another instance getting it. Spectators
+ * are STOMP subscriptions of the in-memory broker the application uses; the outbound channel is synchronous, so the time spent writing to the
+ * sockets is left out. {@code local} delivers on the publishing instance only, {@code tcp} crosses a loopback connection between two instances.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClusterFanOutBenchmark {
+
+  private static final String DESTINATION = "/topic/game/1";
+
+  @Param({"local", "tcp"})
+  private String transport;
+
+  @Param({"1000", "5000"})
+  private int subscribers;
+
+  private final    ObjectMapper                 mapper = new ObjectMapper();
+  private          ClusterRelay                 publishingRelay;
+  private          ClusterRelay                 receivingRelay;
+  private          SimpleBrokerMessageHandler   publishingBroker;
+  private          SimpleBrokerMessageHandler   receivingBroker;
+  private          GameScoreWebSocketController referee;
+  private          UpdateScoreDTO               update;
+  private          int                          points;
+  private volatile CountDownLatch               delivered;
+
+  @Setup
+  public void setUp() throws IOException {
+    if ("tcp".equals(transport)) {
+      TcpClusterRelay receiving = new TcpClusterRelay(0, List.of()).start();
+      publishingRelay = new TcpClusterRelay(0, List.of(new InetSocketAddress("localhost", receiving.getPort()))).start();
+      receivingRelay  = receiving;
+    } else {
+      publishingRelay = new LocalClusterRelay();
+      receivingRelay  = publishingRelay;
+    }
+    receivingBroker = newBroker(subscribers);
+    newController(receivingBroker, receivingRelay).subscribe();
+    if (publishingRelay != receivingRelay) {
+      publishingBroker = newBroker(0);
+      referee          = newController(publishingBroker, publishingRelay);
+      referee.subscribe();
+    } else {
+      referee = newController(receivingBroker, publishingRelay);
+    }
+
+    update = new UpdateScoreDTO(false, null, new ScoreDTO());
+  }
+
+  @TearDown
+  public void tearDown() {
+    receivingBroker.stop();
+    if (publishingBroker != null) {
+      publishingBroker.stop();
+    }
+    publishingRelay.close();
+    receivingRelay.close();
+  }
+
+  @Benchmark
+  public void publishToAllSubscribers() throws InterruptedException {
+    delivered = new CountDownLatch(subscribers);
+    // A new point each time: an update equal to the previous one is conflated away
+    update.getScore().setTieBreakPointA(++points);
+    referee.broadcastScoreUpdate(1L, update);
+    if (!delivered.await(10, TimeUnit.SECONDS)) {
+      throw new IllegalStateException(delivered.getCount() + " subscribers missed the update");
+    }
+  }
+
+  // Without conflation, so that each point is relayed at once. Only broadcasts are measured: the snapshot and replay reads of the GameService are not
+  private GameScoreWebSocketController newController(SimpleBrokerMessageHandler broker, ClusterRelay relay) {
+    return new GameScoreWebSocketController(new SimpMessagingTemplate(broker.getBrokerChannel()), relay, mapper, Duration.ZERO, 64, null);
+  }
+
+  private SimpleBrokerMessageHandler newBroker(int nbSubscribers) {
+    ExecutorSubscribableChannel clientInbound  = new ExecutorSubscribableChannel();
+    ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+    ExecutorSubscribableChannel brokerChannel  = new ExecutorSubscribableChannel();
+    clientOutbound.subscribe(message -> {
+      if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+        delivered.countDown();
+      }
+    });
+    SimpleBrokerMessageHandler broker = new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel, List.of("/topic"));
+    broker.start();
+    for (int i = 0; i < nbSubscribers; i++) {
+      SimpMessageHeaderAccessor connect = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+      connect.setSessionId("session-" + i);
+      broker.handleMessage(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+      SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+      headers.setSessionId("session-" + i);
+      headers.setSubscriptionId("sub-0");
+      headers.setDestination(DESTINATION);
+      broker.handleMessage(MessageBuilder.createMessage(new byte[0], headers.getMessageHeaders()));
+    }
+    return broker;
+  }
+}
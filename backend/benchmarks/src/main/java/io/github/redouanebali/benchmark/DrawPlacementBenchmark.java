@@ -0,0 +1,81 @@
+package io.github.redouanebali.benchmark;
+
+import io.github.redouanebali.generation.util.ByePlacementUtil;
+import io.github.redouanebali.generation.util.RandomPlacementUtil;
+import io.github.redouanebali.generation.util.SeedPlacementUtil;
+import io.github.redouanebali.model.PlayerPair;
+import io.github.redouanebali.model.Round;
+import io.github.redouanebali.util.TestFixturesCore;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Draw of a knockout round with {@link SeedPlacementUtil}, {@link ByePlacementUtil} and {@link RandomPlacementUtil}. The round is filled at three
+ * quarters, the rest going to BYEs and qualifier slots. Placement mutates the round, so every invocation starts from a fresh empty one: the placement
+ * benchmarks are cumulative (seeds, seeds + BYEs, whole draw) and the cost of one step is the difference between two of them, {@code emptyRound}
+ * giving the allocation baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DrawPlacementBenchmark {
+
+  @Param({"8", "16", "32", "64"})
+  private int drawSize;
+
+  @Param({"0", "4"})
+  private int nbQualifiers;
+
+  private int              nbSeeds;
+  private List<PlayerPair> pairs;
+
+  @Setup
+  public void setUp() {
+    nbSeeds = Math.max(2, drawSize / 4);
+    pairs   = TestFixturesCore.createPlayerPairs(drawSize * 3 / 4 - nbQualifiers);
+  }
+
+  @Benchmark
+  public List<Integer> seedPositions() {
+    return SeedPlacementUtil.getSeedsPositions(drawSize, nbSeeds);
+  }
+
+  @Benchmark
+  public Round emptyRound() {
+    return TestFixturesCore.buildEmptyRound(drawSize);
+  }
+
+  @Benchmark
+  public Round placeSeeds() {
+    Round round = TestFixturesCore.buildEmptyRound(drawSize);
+    SeedPlacementUtil.placeSeedTeams(round, pairs, nbSeeds, drawSize);
+    return round;
+  }
+
+  @Benchmark
+  public Round placeSeedsAndByes() {
+    Round round = TestFixturesCore.buildEmptyRound(drawSize);
+    SeedPlacementUtil.placeSeedTeams(round, pairs, nbSeeds, drawSize);
+    ByePlacementUtil.placeByeTeams(round, pairs.size(), nbSeeds, drawSize, nbQualifiers);
+    return round;
+  }
+
+  @Benchmark
+  public Round fullDraw() {
+    return BenchmarkFixtures.drawKnockoutRound(drawSize, pairs, nbSeeds, nbQualifiers);
+  }
+}
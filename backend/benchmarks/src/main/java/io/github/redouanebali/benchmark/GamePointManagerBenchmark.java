@@ -0,0 +1,98 @@
+package io.github.redouanebali.benchmark;
+
+import io.github.redouanebali.model.Game;
+import io.github.redouanebali.model.MatchFormat;
+import io.github.redouanebali.model.PlayerPair;
+import io.github.redouanebali.model.TeamSide;
+import io.github.redouanebali.service.GamePointManager;
+import io.github.redouanebali.util.TestFixturesCore;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Point-by-point scoring with the {@link GamePointManager}: a whole match played from a fixed point sequence, and a point followed by its undo in the
+ * middle of a match.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GamePointManagerBenchmark {
+
+  private static final int POINTS = 1024;
+
+  @Param({"1set-noad", "2sets-supertb", "2sets-ad"})
+  private String format;
+
+  private final GamePointManager gamePointManager = new GamePointManager();
+  private final TeamSide[]       points           = new TeamSide[POINTS];
+  private       MatchFormat      matchFormat;
+  private       List<PlayerPair> pairs;
+  private       Game             midMatch;
+
+  @Setup
+  public void setUp() {
+    matchFormat = switch (format) {
+      case "1set-noad" -> format(1, false, false);
+      case "2sets-supertb" -> format(2, true, false);
+      case "2sets-ad" -> format(2, false, true);
+      default -> throw new IllegalArgumentException("Unknown format: " + format);
+    };
+    // Fixed seed and a slight edge to team A so that matches are long but always end
+    Random random = new Random(42);
+    for (int i = 0; i < POINTS; i++) {
+      points[i] = random.nextInt(100) < 55 ? TeamSide.TEAM_A : TeamSide.TEAM_B;
+    }
+    pairs    = TestFixturesCore.createPlayerPairs(2);
+    midMatch = newGame();
+    for (int i = 0; i < 30; i++) {
+      gamePointManager.incrementGamePoint(midMatch, points[i]);
+    }
+  }
+
+  @Benchmark
+  public Game playWholeMatch() {
+    Game game = newGame();
+    for (int i = 0; !game.isFinished(); i = (i + 1) % POINTS) {
+      gamePointManager.incrementGamePoint(game, points[i]);
+    }
+    return game;
+  }
+
+  @Benchmark
+  public Game incrementThenUndo() {
+    gamePointManager.incrementGamePoint(midMatch, TeamSide.TEAM_B);
+    gamePointManager.undoGamePoint(midMatch);
+    return midMatch;
+  }
+
+  private Game newGame() {
+    Game game = new Game(matchFormat);
+    game.setTeamA(pairs.get(0));
+    game.setTeamB(pairs.get(1));
+    return game;
+  }
+
+  private static MatchFormat format(int setsToWin, boolean superTieBreak, boolean advantage) {
+    MatchFormat matchFormat = new MatchFormat();
+    matchFormat.setNumberOfSetsToWin(setsToWin);
+    matchFormat.setGamesPerSet(6);
+    matchFormat.setSuperTieBreakInFinalSet(superTieBreak);
+    matchFormat.setAdvantage(advantage);
+    return matchFormat;
+  }
+}
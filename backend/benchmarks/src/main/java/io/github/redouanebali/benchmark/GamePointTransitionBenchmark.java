@@ -0,0 +1,78 @@
+package io.github.redouanebali.benchmark;
+
+import io.github.redouanebali.model.GamePoint;
+import io.github.redouanebali.model.GamePointTransitions;
+import io.github.redouanebali.model.TeamSide;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Outcome of a point in a standard game, for a fixed sequence of random game states: derived by the branching rules the {@link GamePointTransitions}
+ * table is generated from ({@code shouldWinGame}, then advantage lost or {@code nextGamePoint}), or read from the table.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GamePointTransitionBenchmark {
+
+  private static final int STATES = 1024;
+
+  private final GamePoint[] pointsA    = new GamePoint[STATES];
+  private final GamePoint[] pointsB    = new GamePoint[STATES];
+  private final TeamSide[]  sides      = new TeamSide[STATES];
+  private final boolean[]   advantages = new boolean[STATES];
+
+  @Setup
+  public void setUp() {
+    Random      random = new Random(42);
+    GamePoint[] points = GamePoint.values();
+    for (int i = 0; i < STATES; i++) {
+      advantages[i] = random.nextBoolean();
+      sides[i]      = random.nextBoolean() ? TeamSide.TEAM_A : TeamSide.TEAM_B;
+      // AVANTAGE only exists in advantage games, and at most for one team
+      int bound = advantages[i] ? points.length : points.length - 1;
+      pointsA[i] = points[random.nextInt(bound)];
+      pointsB[i] = pointsA[i] == GamePoint.AVANTAGE ? GamePoint.QUARANTE : points[random.nextInt(bound)];
+    }
+  }
+
+  @Benchmark
+  public int branching() {
+    int outcome = 0;
+    for (int i = 0; i < STATES; i++) {
+      boolean   teamA    = sides[i] == TeamSide.TEAM_A;
+      GamePoint mine     = teamA ? pointsA[i] : pointsB[i];
+      GamePoint opponent = teamA ? pointsB[i] : pointsA[i];
+      if (GamePointTransitions.shouldWinGame(mine, opponent, advantages[i])) {
+        outcome += 1;
+      } else if (advantages[i] && opponent == GamePoint.AVANTAGE) {
+        outcome += 2;
+      } else {
+        outcome += GamePointTransitions.nextGamePoint(mine, opponent, advantages[i]).ordinal();
+      }
+    }
+    return outcome;
+  }
+
+  @Benchmark
+  public int table() {
+    int outcome = 0;
+    for (int i = 0; i < STATES; i++) {
+      outcome += GamePointTransitions.transition(pointsA[i], pointsB[i], sides[i], advantages[i]);
+    }
+    return outcome;
+  }
+}
@@ -0,0 +1,61 @@
+package io.github.redouanebali.benchmark;
+
+import io.github.redouanebali.model.Pool;
+import io.github.redouanebali.model.PoolRankingDetails;
+import io.github.redouanebali.model.Round;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Group phase: the draw of the pools (seeds, random placement, round-robin games) and {@link Pool#computeRanking} over a fully played group round.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroupPhaseBenchmark {
+
+  // <pools>x<pairs per pool>: the formats of tournament_scenarios_groups.csv, then larger ones
+  @Param({"2x4", "4x3", "4x4", "8x4", "8x6"})
+  private String groups;
+
+  private int   nbPools;
+  private int   nbPairsPerPool;
+  private Round played;
+
+  @Setup
+  public void setUp() {
+    String[] parts = groups.split("x");
+    nbPools        = Integer.parseInt(parts[0]);
+    nbPairsPerPool = Integer.parseInt(parts[1]);
+    played         = BenchmarkFixtures.drawGroupRound(nbPools, nbPairsPerPool);
+    BenchmarkFixtures.scoreRound(played);
+  }
+
+  @Benchmark
+  public Round drawGroups() {
+    return BenchmarkFixtures.drawGroupRound(nbPools, nbPairsPerPool);
+  }
+
+  @Benchmark
+  public void computeRankings(Blackhole blackhole) {
+    for (Pool pool : played.getPools()) {
+      List<PoolRankingDetails> ranking = pool.computeRanking(played.getGames());
+      blackhole.consume(ranking);
+    }
+  }
+}
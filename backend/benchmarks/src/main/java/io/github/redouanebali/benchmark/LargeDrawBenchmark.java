@@ -0,0 +1,86 @@
+package io.github.redouanebali.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.redouanebali.generation.TournamentBuilder;
+import io.github.redouanebali.model.PlayerPair;
+import io.github.redouanebali.model.Round;
+import io.github.redouanebali.model.Tournament;
+import io.github.redouanebali.model.format.DrawMode;
+import io.github.redouanebali.model.format.TournamentConfig;
+import io.github.redouanebali.model.format.TournamentFormat;
+import io.github.redouanebali.util.TestFixturesCore;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The whole life of a large knockout draw: creating and drawing it, playing it through, and serializing the full bracket the way the tournament is
+ * sent to clients. The draw is filled at three quarters, with a quarter of seeds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LargeDrawBenchmark {
+
+  @Param({"64", "128", "256"})
+  private int drawSize;
+
+  private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+  private List<PlayerPair>   pairs;
+  private int                nbSeeds;
+  private Tournament         played;
+
+  @Setup
+  public void setUp() {
+    pairs   = TestFixturesCore.createPlayerPairs(drawSize * 3 / 4);
+    nbSeeds = drawSize / 4;
+    played  = BenchmarkFixtures.playedTournament("ko-" + drawSize);
+  }
+
+  @Benchmark
+  public Tournament createDraw() {
+    Tournament tournament = newTournament();
+    TournamentBuilder.initializeEmptyRounds(tournament);
+    Round drawn = BenchmarkFixtures.drawKnockoutRound(drawSize, pairs, nbSeeds, 0);
+    tournament.getRounds().getFirst().replaceGames(drawn.getGames());
+    TournamentBuilder.propagateWinners(tournament);
+    return tournament;
+  }
+
+  // Draw, then score each round and propagate its winners, up to the final
+  @Benchmark
+  public Tournament playWholeDraw() {
+    return BenchmarkFixtures.playedTournament("ko-" + drawSize);
+  }
+
+  @Benchmark
+  public byte[] serializeBracket() throws JsonProcessingException {
+    return mapper.writeValueAsBytes(played);
+  }
+
+  private Tournament newTournament() {
+    Tournament tournament = new Tournament();
+    tournament.setConfig(TournamentConfig.builder()
+                                         .format(TournamentFormat.KNOCKOUT)
+                                         .mainDrawSize(drawSize)
+                                         .nbSeeds(nbSeeds)
+                                         .drawMode(DrawMode.MANUAL)
+                                         .build());
+    return tournament;
+  }
+}
@@ -0,0 +1,69 @@
+package io.github.redouanebali.benchmark;
+
+import io.github.redouanebali.generation.TournamentBuilder;
+import io.github.redouanebali.model.Game;
+import io.github.redouanebali.model.Score;
+import io.github.redouanebali.model.Tournament;
+import io.github.redouanebali.util.TestFixturesCore;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Winner propagation after a score change, on a fully played tournament: every invocation flips the winner of a first-round game, so the new winner
+ * has to travel through the whole bracket. Compares a full pass with the propagation from the changed game used when scoring.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WinnerPropagationBenchmark {
+
+  // Knockout draws of 8 to 256 teams, then CSV scenarios: 64-draw with BYEs, qualifiers into a 32-draw, staggered entry into a 64-draw
+  @Param({"ko-8", "ko-16", "ko-32", "ko-64", "ko-128", "ko-256", "csv-2", "csv-3", "csv-6", "csv-7"})
+  private String scenario;
+
+  private Tournament tournament;
+  private Game       game;
+  private Score      teamAWins;
+  private Score      teamBWins;
+  private boolean    flipped;
+
+  @Setup
+  public void setUp() {
+    tournament = BenchmarkFixtures.playedTournament(scenario);
+    game       = BenchmarkFixtures.firstPlayedGame(tournament);
+    teamAWins  = game.getScore();
+    teamBWins  = TestFixturesCore.createScoreWithWinner(game, game.getTeamB());
+  }
+
+  @Benchmark
+  public Tournament fullPropagation() {
+    flipWinner();
+    TournamentBuilder.propagateWinners(tournament);
+    return tournament;
+  }
+
+  @Benchmark
+  public Tournament propagationFromGame() {
+    flipWinner();
+    TournamentBuilder.propagateWinnersFromGame(tournament, game);
+    return tournament;
+  }
+
+  private void flipWinner() {
+    flipped = !flipped;
+    game.setScore(flipped ? teamBWins : teamAWins);
+  }
+}
@@ -154,6 +154,7 @@ public class GroupPhase implements TournamentPhase {
           game.setTeamA(teamA);
           game.setTeamB(teamB);
           game.setFormat(round.getMatchFormat());
+          game.setPool(pool);
 
           round.addGame(game);
         }
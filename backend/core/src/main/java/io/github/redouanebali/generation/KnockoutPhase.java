@@ -61,7 +61,7 @@ public class KnockoutPhase implements TournamentPhase {
     int slots  = drawSize;
     int qIndex = 1;
 
-    while (slots / 2 >= config.getNbQualifiers() && qIndex <= 3) {
+    while (slots / 2 >= config.getNbQualifiers() && qIndex <= Stage.MAX_QUALIF_ROUNDS) {
       rounds.add(buildRound(Stage.fromQualifIndex(qIndex), slots / 2));
       slots /= 2;
       qIndex++;
@@ -132,8 +132,8 @@ public class KnockoutPhase implements TournamentPhase {
   }
 
   @Override
-  public void propagateWinnersFromGame(final Tournament tournament, final Game game) {
-    winnerPropagationUtil.propagateWinnersFromGame(tournament, game);
+  public List<Game> propagateWinnersFromGame(final Tournament tournament, final Game game) {
+    return winnerPropagationUtil.propagateWinnersFromGame(tournament, game);
   }
 
   @Override
@@ -34,16 +34,18 @@ public final class TournamentBuilder {
   /**
    * Optimized propagation: only propagate from the round containing the given game onwards. This avoids reprocessing all rounds when only one game
    * changes.
+   *
+   * @return the games of the following rounds whose teams changed, in round order
    */
-  public static void propagateWinnersFromGame(Tournament tournament, Game game) {
+  public static List<Game> propagateWinnersFromGame(Tournament tournament, Game game) {
     if (tournament == null || game == null) {
-      return;
+      return List.of();
     }
     List<TournamentPhase> phases = buildPhases(tournament.getConfig());
     if (phases.isEmpty()) {
-      return;
+      return List.of();
     }
-    phases.getFirst().propagateWinnersFromGame(tournament, game);
+    return phases.getFirst().propagateWinnersFromGame(tournament, game);
   }
 
   public static List<String> validate(Tournament tournament) {
@@ -153,6 +155,7 @@ public final class TournamentBuilder {
       newGame.setTeamA(sourceGame.getTeamA());
       newGame.setTeamB(sourceGame.getTeamB());
       newGame.setFormat(targetRound.getMatchFormat()); // Use the preserved MatchFormat
+      newGame.setPool(sourceGame.getPool());
       targetRound.getGames().add(newGame);
     }
 
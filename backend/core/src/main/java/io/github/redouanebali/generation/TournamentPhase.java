@@ -1,5 +1,6 @@
 package io.github.redouanebali.generation;
 
+import io.github.redouanebali.generation.util.propagation.SlotChanges;
 import io.github.redouanebali.model.Game;
 import io.github.redouanebali.model.PlayerPair;
 import io.github.redouanebali.model.Round;
@@ -70,10 +71,13 @@ public interface TournamentPhase {
    *
    * @param tournament the tournament to update
    * @param game the game that was modified
+   * @return the games whose teams changed
    */
-  default void propagateWinnersFromGame(Tournament tournament, Game game) {
+  default List<Game> propagateWinnersFromGame(Tournament tournament, Game game) {
     // Default implementation: fallback to full propagation
+    SlotChanges slots = SlotChanges.capture(tournament.getRounds(), 0);
     propagateWinners(tournament);
+    return slots.changedGames();
   }
 
   /**
@@ -1,18 +1,13 @@
 package io.github.redouanebali.generation.util;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.redouanebali.generation.util.GameSlotUtil.TeamSlot;
 import io.github.redouanebali.model.Game;
 import io.github.redouanebali.model.PlayerPair;
 import io.github.redouanebali.model.Pool;
 import io.github.redouanebali.model.Round;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -20,6 +15,10 @@ import java.util.List;
  */
 public class SeedPlacementUtil {
 
+  // Largest supported draw; the seed slots of every power-of-two draw up to it are computed once
+  private static final int     MAX_DRAW_SIZE = 1024;
+  private static final int[][] SEED_SLOTS    = buildSeedSlotsTable();
+
   private SeedPlacementUtil() {
     throw new IllegalStateException("Utility class");
   }
@@ -79,20 +78,20 @@ public class SeedPlacementUtil {
   }
 
   private static List<Integer> getSeedPositions(int drawSize, int nbSeeds, int teamsToPlaceAtSeedPositions) {
-    List<Integer> allPositions = loadSeedPositionsFromJson(drawSize, nbSeeds);
+    List<Integer> allPositions = loadSeedPositions(drawSize, nbSeeds);
     int           max          = Math.min(teamsToPlaceAtSeedPositions, allPositions.size());
     return allPositions.subList(0, max);
   }
 
   /**
-   * Gets seed positions from JSON file.
+   * Gets the seed slots of a draw, seeds of a same group being shuffled among the group's slots.
    */
   public static List<Integer> getSeedsPositions(int drawSize, int nbSeeds) {
     if (nbSeeds == 0) {
       return new ArrayList<>();
     }
 
-    return loadSeedPositionsFromJson(drawSize, nbSeeds);
+    return loadSeedPositions(drawSize, nbSeeds);
   }
 
   /**
@@ -130,41 +129,35 @@ public class SeedPlacementUtil {
   }
 
   /**
-   * Loads seed positions from JSON file.
+   * Returns the slots of the first {@code nbSeeds} seeds: a copy of the standard order in which the seeds of a same group (TS3-4, TS5-8, ...) are
+   * shuffled among the group's slots. A number of seeds that is not a power of two is drawn as the next power of two, then truncated.
    */
-  private static List<Integer> loadSeedPositionsFromJson(int drawSize, int nbSeeds) {
-    try {
-      JsonNode      nbSeedsNode  = loadAndNavigateToSeedNode(drawSize, nbSeeds);
-      List<String>  sortedFields = getSortedFieldNames(nbSeedsNode);
-      List<Integer> positions    = processAllSeedGroups(nbSeedsNode, sortedFields);
-      return positions.subList(0, Math.min(nbSeeds, positions.size()));
-    } catch (IOException e) {
-      throw new IllegalStateException("Failed to load seed positions from JSON", e);
-    }
-  }
-
-  private static JsonNode loadAndNavigateToSeedNode(int drawSize, int nbSeeds) throws IOException {
-    InputStream inputStream = SeedPlacementUtil.class.getResourceAsStream("/seed_positions.json");
-    if (inputStream == null) {
-      throw new IllegalStateException("seed_positions.json not found in resources");
+  private static List<Integer> loadSeedPositions(int drawSize, int nbSeeds) {
+    if (drawSize < 2 || drawSize > MAX_DRAW_SIZE || Integer.bitCount(drawSize) != 1) {
+      throw new IllegalArgumentException("DrawSize " + drawSize + " not supported");
     }
-
-    ObjectMapper mapper       = new ObjectMapper();
-    JsonNode     rootNode     = mapper.readTree(inputStream);
-    JsonNode     drawSizeNode = rootNode.get(String.valueOf(drawSize));
-
-    if (drawSizeNode == null) {
-      throw new IllegalArgumentException("DrawSize " + drawSize + " not supported in seed_positions.json");
-    }
-
-    int      nbSeedsToUse = calculateNbSeedsToUse(nbSeeds, drawSize);
-    JsonNode nbSeedsNode  = drawSizeNode.get(String.valueOf(nbSeedsToUse));
-
-    if (nbSeedsNode == null) {
+    int nbSeedsToUse = calculateNbSeedsToUse(nbSeeds, drawSize);
+    if (nbSeedsToUse > drawSize) {
       throw new IllegalArgumentException("NbSeeds " + nbSeedsToUse + " not supported for drawSize " + drawSize);
     }
 
-    return nbSeedsNode;
+    List<Integer> positions = new ArrayList<>(nbSeedsToUse);
+    if (nbSeedsToUse == drawSize) {
+      // Every slot is a seed slot: each seed keeps its own slot
+      for (int slot = 0; slot < drawSize; slot++) {
+        positions.add(slot);
+      }
+    } else {
+      int[] slots = SEED_SLOTS[Integer.numberOfTrailingZeros(drawSize)];
+      for (int i = 0; i < nbSeedsToUse; i++) {
+        positions.add(slots[i]);
+      }
+      // TS1 and TS2 are fixed, the seeds of each following group are drawn among the group's slots
+      for (int groupStart = 2; groupStart < nbSeedsToUse; groupStart <<= 1) {
+        Collections.shuffle(positions.subList(groupStart, Math.min(groupStart << 1, nbSeedsToUse)));
+      }
+    }
+    return positions.subList(0, Math.min(nbSeeds, positions.size()));
   }
 
   private static int calculateNbSeedsToUse(int nbSeeds, int drawSize) {
@@ -175,57 +168,36 @@ public class SeedPlacementUtil {
     return Math.min(nbSeedsToUse, drawSize);
   }
 
-  private static List<String> getSortedFieldNames(JsonNode nbSeedsNode) {
-    Iterator<String> fieldNames   = nbSeedsNode.fieldNames();
-    List<String>     sortedFields = new ArrayList<>();
-    fieldNames.forEachRemaining(sortedFields::add);
-    sortedFields.sort(SeedPlacementUtil::compareSeedGroupKeys);
-    return sortedFields;
-  }
-
-  private static int compareSeedGroupKeys(String a, String b) {
-    if (a.equals("TS1")) {
-      return -1;
-    }
-    if (b.equals("TS1")) {
-      return 1;
-    }
-    if (a.equals("TS2")) {
-      return -1;
-    }
-    if (b.equals("TS2")) {
-      return 1;
-    }
-    return a.compareTo(b);
-  }
-
-  private static List<Integer> processAllSeedGroups(JsonNode nbSeedsNode, List<String> sortedFields) {
-    List<Integer> positions = new ArrayList<>();
-    for (String groupKey : sortedFields) {
-      List<Integer> groupPositions = extractGroupPositions(nbSeedsNode.get(groupKey));
-      addGroupPositionsToList(positions, groupPositions, groupKey);
+  private static int[][] buildSeedSlotsTable() {
+    int[][] table = new int[Integer.numberOfTrailingZeros(MAX_DRAW_SIZE) + 1][];
+    for (int drawSize = 2; drawSize <= MAX_DRAW_SIZE; drawSize <<= 1) {
+      table[Integer.numberOfTrailingZeros(drawSize)] = computeSeedSlots(drawSize);
     }
-    return positions;
+    return table;
   }
 
-  private static List<Integer> extractGroupPositions(JsonNode positionsArray) {
-    List<Integer> groupPositions = new ArrayList<>();
-    for (JsonNode posNode : positionsArray) {
-      groupPositions.add(posNode.asInt());
-    }
-    return groupPositions;
-  }
-
-  private static void addGroupPositionsToList(List<Integer> positions, List<Integer> groupPositions, String groupKey) {
-    if ("TS1".equals(groupKey) || "TS2".equals(groupKey)) {
-      positions.addAll(groupPositions);
-    } else {
-      Collections.shuffle(groupPositions);
-      positions.addAll(groupPositions);
+  /**
+   * Standard seeding order of a draw, for up to half of its slots: TS1 on the first slot, TS2 on the last, then each group TS(2^k+1)..TS(2^(k+1)) on
+   * both sides of the boundaries between the odd and even blocks of size {@code drawSize / 2^k}, so that two seeds of a group cannot meet before the
+   * round of 2^(k+1). For a 32 draw: 0, 31 | 15, 16 | 7, 8, 23, 24 | 3, 4, 11, 12, 19, 20, 27, 28.
+   */
+  static int[] computeSeedSlots(int drawSize) {
+    int[] slots = new int[drawSize / 2];
+    slots[0] = 0;
+    if (slots.length > 1) {
+      slots[1] = drawSize - 1;
+    }
+    int next = 2;
+    for (int k = 1; (1 << (k + 1)) <= slots.length; k++) {
+      int block = drawSize >> k;
+      for (int j = 1; j < (1 << k); j += 2) {
+        slots[next++] = j * block - 1;
+        slots[next++] = j * block;
+      }
     }
+    return slots;
   }
 
-
   /**
    * Places seeded teams in pools for group phase tournaments. Distributes seeds evenly across pools using round-robin distribution.
    *
@@ -15,7 +15,7 @@ public class TournamentStageUtil {
 
   /**
    * Determines if a round is an initial round where players first enter the tournament. Initial rounds are: - Q1 (first qualification round) - GROUPS
-   * (group phase) - First main draw round (R64, R32, R16, etc. depending on tournament structure)
+   * (group phase) - First main draw round (R256, R128, R64, etc. depending on tournament structure)
    */
   public static boolean isInitialRound(Stage stage) {
     return stage == Stage.Q1 ||
@@ -28,12 +28,7 @@ public class TournamentStageUtil {
    * the first one in a specific tournament.
    */
   public static boolean isFirstMainDrawStage(Stage stage) {
-    return stage == Stage.R64 ||
-           stage == Stage.R32 ||
-           stage == Stage.R16 ||
-           stage == Stage.QUARTERS ||
-           stage == Stage.SEMIS ||
-           stage == Stage.FINAL;
+    return stage != null && stage.getNbTeams() > 0;
   }
 
   /**
@@ -46,9 +41,7 @@ public class TournamentStageUtil {
     }
 
     // Check stages in order from largest to smallest
-    Stage[] mainDrawStages = {Stage.R64, Stage.R32, Stage.R16, Stage.QUARTERS, Stage.SEMIS, Stage.FINAL};
-
-    for (Stage stage : mainDrawStages) {
+    for (Stage stage : Stage.mainDrawStages()) {
       boolean stageExists = rounds.stream()
                                   .anyMatch(round -> round.getStage() == stage);
       if (stageExists) {
@@ -36,4 +36,33 @@ public class KnockoutPropagationStrategy implements PropagationStrategy {
     }
     return false;
   }
+
+  /**
+   * Path-only variant of {@link #placeWinner}: writes the winner of game {@code currentGameIndex} into its single slot of the next round, assuming
+   * every other slot is already up to date. Unlike a full pass, the slot is left untouched when it already holds that winner, which tells the caller
+   * that nothing further down the bracket can change.
+   *
+   * @param nextGames the list of games in the next round
+   * @param currentGameIndex the index of the current game
+   * @param winner the winner to propagate (null clears the slot)
+   * @return true if the slot occupant changed
+   */
+  public boolean placeWinnerOnPath(List<Game> nextGames, int currentGameIndex, PlayerPair winner) {
+    int idx = currentGameIndex / 2;
+    if (idx >= nextGames.size()) {
+      return false;
+    }
+    Game       ng      = nextGames.get(idx);
+    boolean    sideA   = currentGameIndex % 2 == 0;
+    PlayerPair current = sideA ? ng.getTeamA() : ng.getTeamB();
+    if (SlotChanges.isSameOccupant(current, winner)) {
+      return false;
+    }
+    if (sideA) {
+      ng.setTeamA(winner);
+    } else {
+      ng.setTeamB(winner);
+    }
+    return true;
+  }
 }
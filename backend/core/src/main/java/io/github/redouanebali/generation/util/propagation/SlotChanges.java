@@ -0,0 +1,73 @@
+package io.github.redouanebali.generation.util.propagation;
+
+import io.github.redouanebali.model.Game;
+import io.github.redouanebali.model.PlayerPair;
+import io.github.redouanebali.model.Round;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Teams of every game of a range of rounds, captured before a propagation pass to tell afterwards which games it actually changed. A full pass clears
+ * and refills slots, so comparing occupants is the only way to know which ones ended up different.
+ */
+public final class SlotChanges {
+
+  private final List<Game>       games  = new ArrayList<>();
+  private final List<PlayerPair> teamsA = new ArrayList<>();
+  private final List<PlayerPair> teamsB = new ArrayList<>();
+
+  private SlotChanges() {
+  }
+
+  /**
+   * Captures the teams of the games of the rounds from {@code fromIndex} to the last one.
+   *
+   * @param rounds the rounds of the tournament
+   * @param fromIndex index of the first round to capture
+   * @return the captured slots
+   */
+  public static SlotChanges capture(List<Round> rounds, int fromIndex) {
+    SlotChanges slots = new SlotChanges();
+    for (int i = Math.max(0, fromIndex); i < rounds.size(); i++) {
+      List<Game> roundGames = rounds.get(i).getGames();
+      if (roundGames == null) {
+        continue;
+      }
+      for (Game game : roundGames) {
+        slots.games.add(game);
+        slots.teamsA.add(game.getTeamA());
+        slots.teamsB.add(game.getTeamB());
+      }
+    }
+    return slots;
+  }
+
+  /**
+   * Returns the captured games whose team A or team B is no longer the same occupant, in round order. A BYE replaced by another BYE is the same
+   * occupant.
+   *
+   * @return the changed games
+   */
+  public List<Game> changedGames() {
+    List<Game> changed = new ArrayList<>();
+    for (int i = 0; i < games.size(); i++) {
+      Game game = games.get(i);
+      if (!isSameOccupant(teamsA.get(i), game.getTeamA()) || !isSameOccupant(teamsB.get(i), game.getTeamB())) {
+        changed.add(game);
+      }
+    }
+    return changed;
+  }
+
+  static boolean isSameOccupant(PlayerPair before, PlayerPair after) {
+    if (before == after) {
+      return true;
+    }
+    if (before == null || after == null) {
+      return false;
+    }
+    // A full pass writes a fresh BYE over the previous one
+    return Objects.equals(before, after) || (before.isBye() && after.isBye());
+  }
+}
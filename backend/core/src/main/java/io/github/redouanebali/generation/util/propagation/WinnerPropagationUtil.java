@@ -5,6 +5,7 @@ import io.github.redouanebali.model.PairType;
 import io.github.redouanebali.model.PlayerPair;
 import io.github.redouanebali.model.Round;
 import io.github.redouanebali.model.Tournament;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -40,23 +41,52 @@ public class WinnerPropagationUtil {
   }
 
   /**
-   * Optimized propagation: only propagate from the round containing the given game onwards. Finds the round index of the game, then propagates from
-   * that round to the end.
+   * Optimized propagation after a single game changed. Along knockout rounds only the slot chain fed by that game is followed (game i, then i/2, i/4
+   * ...), stopping as soon as a slot already holds the right team; the first boundary that is not a plain knockout (qualifiers, main draw entry) is
+   * handled by a full pass from there to the end. Gives the same result as {@link #propagateWinners(Tournament)} as long as the bracket was
+   * consistent before the change.
+   *
+   * @return the games of the following rounds whose teams changed, in round order
    */
-  public void propagateWinnersFromGame(Tournament tournament, Game game) {
+  public List<Game> propagateWinnersFromGame(Tournament tournament, Game game) {
     if (tournament == null || game == null || tournament.getRounds() == null || tournament.getRounds().size() < 2) {
-      return;
+      return List.of();
     }
 
-    qualifierStrategy.resetCache();
-
     final List<Round> rounds     = tournament.getRounds();
-    int               startIndex = findRoundIndexContainingGame(rounds, game);
-    if (startIndex == -1) {
-      return; // Game not found, nothing to propagate
+    int               roundIndex = findRoundIndexContainingGame(rounds, game);
+    if (roundIndex == -1) {
+      return List.of(); // Game not found, nothing to propagate
+    }
+    int        gameIndex = indexOfGame(rounds.get(roundIndex).getGames(), game);
+    List<Game> changed   = new ArrayList<>();
+
+    for (; roundIndex < rounds.size() - 1; roundIndex++) {
+      Round currentRound = rounds.get(roundIndex);
+      Round nextRound    = rounds.get(roundIndex + 1);
+      if (!canPropagateRounds(currentRound, nextRound)) {
+        return changed;
+      }
+      List<Game> curGames  = currentRound.getGames();
+      List<Game> nextGames = nextRound.getGames();
+      if (determinePropagationStrategy(curGames.size(), nextGames.size()) != knockoutStrategy) {
+        SlotChanges slots = SlotChanges.capture(rounds, roundIndex + 1);
+        propagateFromRoundOnwards(rounds, roundIndex);
+        changed.addAll(slots.changedGames());
+        return changed;
+      }
+      PlayerPair winner = determineWinner(curGames.get(gameIndex));
+      if (!knockoutStrategy.placeWinnerOnPath(nextGames, gameIndex, winner)) {
+        return changed; // Slot unchanged: nothing further down the bracket can change
+      }
+      gameIndex /= 2;
+      changed.add(nextGames.get(gameIndex));
     }
+    return changed;
+  }
 
-    // Propagate from the found round onwards
+  private void propagateFromRoundOnwards(List<Round> rounds, int startIndex) {
+    qualifierStrategy.resetCache();
     for (int i = startIndex; i < rounds.size() - 1; i++) {
       propagateFromRoundToNext(rounds.get(i), rounds.get(i + 1));
     }
@@ -68,7 +98,17 @@ public class WinnerPropagationUtil {
   private int findRoundIndexContainingGame(List<Round> rounds, Game game) {
     for (int i = 0; i < rounds.size(); i++) {
       Round round = rounds.get(i);
-      if (round.getGames() != null && round.getGames().contains(game)) {
+      if (round.getGames() != null && indexOfGame(round.getGames(), game) != -1) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  // Identity lookup: Game does not override equals, and this avoids any entity equality semantics
+  private int indexOfGame(List<Game> games, Game game) {
+    for (int i = 0; i < games.size(); i++) {
+      if (games.get(i) == game) {
         return i;
       }
     }
@@ -15,6 +15,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalTime;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -51,6 +52,12 @@ public class Game {
   @Enumerated(EnumType.STRING)
   private TeamSide winnerSide;
 
+  // Derived from the teams and the score by refreshStatus(), stored so that it is read without recounting the sets
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @Column(name = "finished", nullable = false)
+  private boolean finished;
+
   @DateTimeFormat(pattern = "HH:mm")
   @JsonFormat(pattern = "HH:mm")
   private LocalTime scheduledTime;
@@ -71,7 +78,45 @@ public class Game {
     this.format = format;
   }
 
+  /**
+   * Tells whether the game is over (bye, forfeit, or enough sets won), as of the last {@link #refreshStatus()}. Setting the score or a team refreshes
+   * it; a score changed in place must be followed by a refresh.
+   *
+   * @return true if the game is over
+   */
   public boolean isFinished() {
+    return finished;
+  }
+
+  /**
+   * Recomputes the finished status and the winner side from the teams and the score.
+   */
+  public void refreshStatus() {
+    finished = computeFinished();
+    if (finished) {
+      PlayerPair winner = resolveWinner();
+      winnerSide = winner == null ? null : winner.equals(teamA) ? TeamSide.TEAM_A : TeamSide.TEAM_B;
+    } else {
+      winnerSide = null;
+    }
+  }
+
+  public void setTeamA(PlayerPair teamA) {
+    this.teamA = teamA;
+    refreshStatus();
+  }
+
+  public void setTeamB(PlayerPair teamB) {
+    this.teamB = teamB;
+    refreshStatus();
+  }
+
+  public void setFormat(MatchFormat format) {
+    this.format = format;
+    refreshStatus();
+  }
+
+  private boolean computeFinished() {
     if (isByeFinished()) {
       return true;
     }
@@ -80,7 +125,8 @@ public class Game {
       return true;
     }
 
-    if (!hasValidScore()) {
+    // Without a format, e.g. while the game is being built, only a bye or a forfeit ends it
+    if (!hasValidScore() || format == null) {
       return false;
     }
     int[] setsWon   = calculateSetsWon();
@@ -197,7 +243,17 @@ public class Game {
     return (teamScore - opponentScore) >= 2;
   }
 
+  /**
+   * @return the winning team, as of the last {@link #refreshStatus()}; null while the game is not over
+   */
   public PlayerPair getWinner() {
+    if (winnerSide == null) {
+      return null;
+    }
+    return winnerSide == TeamSide.TEAM_A ? teamA : teamB;
+  }
+
+  private PlayerPair resolveWinner() {
     PlayerPair byeWinner = resolveByeWinner();
     if (byeWinner != null) {
       return byeWinner;
@@ -208,10 +264,6 @@ public class Game {
       return resolveForfeitWinner();
     }
 
-    if (!isFinished()) {
-      return null;
-    }
-
     return determineWinnerByScore();
   }
 
@@ -258,16 +310,7 @@ public class Game {
 
   public void setScore(Score score) {
     this.score = score;
-    if (this.isFinished()) {
-      PlayerPair winner = getWinner();
-      if (winner == null) {
-        this.winnerSide = null;
-      } else {
-        this.winnerSide = winner.equals(teamA) ? TeamSide.TEAM_A : TeamSide.TEAM_B;
-      }
-    } else {
-      this.winnerSide = null;
-    }
+    refreshStatus();
   }
 
   /**
@@ -0,0 +1,157 @@
+package io.github.redouanebali.model;
+
+/**
+ * Game-point state machine of a standard game as a lookup table: (point of team A, point of team B, team winning the point, advantage rule) gives the
+ * next points, or the game won. The table is generated once, when the class is loaded, from {@link #shouldWinGame} and {@link #nextGamePoint}, the
+ * branching form of the rules; scoring then takes a single array read instead of running them on every point.
+ * <p>
+ * Tie-breaks are not covered: their points are plain counters, scored by the caller.
+ */
+public final class GamePointTransitions {
+
+  private static final GamePoint[] GAME_POINTS = GamePoint.values();
+  private static final int         POINTS      = GAME_POINTS.length;
+  private static final int         ZERO        = GamePoint.ZERO.ordinal();
+  // Layout of a transition: ordinal of the next point of A on 3 bits, then of B on 3 bits, then whether the game is won
+  private static final int         B_SHIFT     = 3;
+  private static final int         GAME_WON    = 1 << 6;
+  private static final byte[]      TABLE       = new byte[POINTS * POINTS * 4];
+
+  static {
+    for (int a = 0; a < POINTS; a++) {
+      for (int b = 0; b < POINTS; b++) {
+        for (int input = 0; input < 4; input++) {
+          boolean teamA     = (input & 1) == 0;
+          boolean advantage = (input & 2) != 0;
+          TABLE[index(a, b, teamA, advantage)] = (byte) generate(a, b, teamA, advantage);
+        }
+      }
+    }
+  }
+
+  private GamePointTransitions() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Looks up the outcome of a point in a standard game.
+   *
+   * @param pointA the current point of team A, null standing for ZERO
+   * @param pointB the current point of team B, null standing for ZERO
+   * @param side the team winning the point
+   * @param advantage whether the match is played with advantages
+   * @return the transition, read with {@link #isGameWon(int)}, {@link #pointA(int)} and {@link #pointB(int)}
+   */
+  public static int transition(GamePoint pointA, GamePoint pointB, TeamSide side, boolean advantage) {
+    return transition(pointA == null ? ZERO : pointA.ordinal(), pointB == null ? ZERO : pointB.ordinal(), side == TeamSide.TEAM_A, advantage);
+  }
+
+  /**
+   * Same as {@link #transition(GamePoint, GamePoint, TeamSide, boolean)} on the ordinals of the points.
+   */
+  public static int transition(int ordinalA, int ordinalB, boolean teamA, boolean advantage) {
+    return TABLE[index(ordinalA, ordinalB, teamA, advantage)];
+  }
+
+  /**
+   * @return true if the point won the game: the points of both teams are then back to ZERO
+   */
+  public static boolean isGameWon(int transition) {
+    return (transition & GAME_WON) != 0;
+  }
+
+  public static GamePoint pointA(int transition) {
+    return GAME_POINTS[ordinalA(transition)];
+  }
+
+  public static GamePoint pointB(int transition) {
+    return GAME_POINTS[ordinalB(transition)];
+  }
+
+  public static int ordinalA(int transition) {
+    return transition & 0x7;
+  }
+
+  public static int ordinalB(int transition) {
+    return (transition >>> B_SHIFT) & 0x7;
+  }
+
+  private static int index(int a, int b, boolean teamA, boolean advantage) {
+    return ((a * POINTS + b) << 2) | (teamA ? 0 : 1) | (advantage ? 2 : 0);
+  }
+
+  /**
+   * Whether a point wins the game for the team scoring it.
+   *
+   * @param current the point of the team winning the point
+   * @param opponent the point of the other team
+   * @param withAdvantage whether the match is played with advantages
+   * @return true if the point wins the game
+   */
+  public static boolean shouldWinGame(GamePoint current, GamePoint opponent, boolean withAdvantage) {
+    if (current == null) {
+      current = GamePoint.ZERO;
+    }
+    if (opponent == null) {
+      opponent = GamePoint.ZERO;
+    }
+    if (withAdvantage) {
+      if (current == GamePoint.AVANTAGE) {
+        return true;
+      }
+      return current == GamePoint.QUARANTE && opponent != GamePoint.QUARANTE && opponent != GamePoint.AVANTAGE;
+    } else {
+      return current == GamePoint.QUARANTE;
+    }
+  }
+
+  /**
+   * Next point of a team winning a point that does not win the game, unless it takes the advantage away from the other team: both are then back to
+   * QUARANTE.
+   *
+   * @param current the point of the team winning the point
+   * @param opponent the point of the other team
+   * @param withAdvantage whether the match is played with advantages
+   * @return the next point of the team
+   */
+  public static GamePoint nextGamePoint(GamePoint current, GamePoint opponent, boolean withAdvantage) {
+    if (current == null) {
+      return GamePoint.QUINZE;
+    }
+    if (opponent == null) {
+      opponent = GamePoint.ZERO;
+    }
+    if (withAdvantage) {
+      return switch (current) {
+        case ZERO -> GamePoint.QUINZE;
+        case QUINZE -> GamePoint.TRENTE;
+        case TRENTE -> GamePoint.QUARANTE;
+        case QUARANTE -> (opponent == GamePoint.QUARANTE) ? GamePoint.AVANTAGE : GamePoint.QUARANTE;
+        case AVANTAGE -> GamePoint.AVANTAGE;
+      };
+    } else {
+      return switch (current) {
+        case ZERO -> GamePoint.QUINZE;
+        case QUINZE -> GamePoint.TRENTE;
+        case TRENTE -> GamePoint.QUARANTE;
+        default -> GamePoint.QUARANTE;
+      };
+    }
+  }
+
+  // Only run to fill the table
+  private static int generate(int a, int b, boolean teamA, boolean advantage) {
+    GamePoint mine     = GAME_POINTS[teamA ? a : b];
+    GamePoint opponent = GAME_POINTS[teamA ? b : a];
+    if (shouldWinGame(mine, opponent, advantage)) {
+      return GAME_WON | ZERO | ZERO << B_SHIFT;
+    }
+    if (advantage && opponent == GamePoint.AVANTAGE) {
+      // Back to deuce
+      opponent = GamePoint.QUARANTE;
+    } else {
+      mine = nextGamePoint(mine, opponent, advantage);
+    }
+    return teamA ? mine.ordinal() | opponent.ordinal() << B_SHIFT : opponent.ordinal() | mine.ordinal() << B_SHIFT;
+  }
+}
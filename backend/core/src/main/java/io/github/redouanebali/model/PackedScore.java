@@ -0,0 +1,154 @@
+package io.github.redouanebali.model;
+
+import java.util.List;
+
+/**
+ * Packs the live state of a {@link Score} (sets, tie-breaks, game points, forfeit; not its history) into two {@code long}s, so that scores can be
+ * kept in primitive arrays and restored without allocating.
+ * <p>
+ * Layout: each set takes 20 bits (games of each team on 4 bits, tie-break points of each team on 6 bits), the first three sets in the low word and
+ * the next two in the high word, followed by the number of sets, the game points, the tie-break points and the forfeit. A score with more than five
+ * sets, more than 15 games in a set or more than 62 tie-break points cannot be packed.
+ */
+public final class PackedScore {
+
+  public static final int MAX_SETS = 5;
+
+  // Layout, shared with PackedScoreEngine
+  static final int  SET_BITS        = 20;
+  static final int  SETS_PER_WORD   = 3;
+  static final int  MAX_GAMES       = 15;
+  static final int  MAX_TIE_BREAK   = 62;
+  // Tie-break points of 63 stand for null
+  static final long NO_TIE_BREAK    = 63;
+  static final int  SET_COUNT_SHIFT = 40;
+  static final int  POINT_A_SHIFT   = 43;
+  static final int  POINT_B_SHIFT   = 46;
+  static final int  TIE_BREAK_SHIFT = 49;
+  static final int  FORFEIT_SHIFT   = 61;
+
+  private static final GamePoint[] GAME_POINTS = GamePoint.values();
+  private static final TeamSide[]  TEAM_SIDES  = TeamSide.values();
+
+  private PackedScore() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Tells whether a score can be packed.
+   *
+   * @param score the score
+   * @return false if a value of the score is out of the packed ranges
+   */
+  public static boolean isPackable(Score score) {
+    List<SetScore> sets = score.getSets();
+    if (sets.size() > MAX_SETS || !fitsTieBreak(score.getTieBreakPointA()) || !fitsTieBreak(score.getTieBreakPointB())) {
+      return false;
+    }
+    for (SetScore set : sets) {
+      if (!fitsGames(set.getTeamAScore()) || !fitsGames(set.getTeamBScore())
+          || !fitsTieBreak(set.getTieBreakTeamA()) || !fitsTieBreak(set.getTieBreakTeamB())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Packs the low word of a score: its first three sets.
+   *
+   * @param score a score accepted by {@link #isPackable(Score)}
+   * @return the low word
+   */
+  public static long low(Score score) {
+    return packSets(score.getSets(), 0);
+  }
+
+  /**
+   * Packs the high word of a score: its last two sets, and everything but the sets.
+   *
+   * @param score a score accepted by {@link #isPackable(Score)}
+   * @return the high word
+   */
+  public static long high(Score score) {
+    long high = packSets(score.getSets(), SETS_PER_WORD);
+    high |= (long) score.getSets().size() << SET_COUNT_SHIFT;
+    high |= (long) ordinal(score.getCurrentGamePointA()) << POINT_A_SHIFT;
+    high |= (long) ordinal(score.getCurrentGamePointB()) << POINT_B_SHIFT;
+    high |= tieBreak(score.getTieBreakPointA()) << TIE_BREAK_SHIFT;
+    high |= tieBreak(score.getTieBreakPointB()) << (TIE_BREAK_SHIFT + 6);
+    high |= (score.isForfeit() ? 1L : 0L) << FORFEIT_SHIFT;
+    high |= (long) ordinal(score.getForfeitedBy()) << (FORFEIT_SHIFT + 1);
+    return high;
+  }
+
+  /**
+   * Overwrites the live state of a score with a packed one. The sets of the score are updated in place; its history is left untouched.
+   *
+   * @param high the high word
+   * @param low the low word
+   * @param target the score to overwrite
+   */
+  public static void unpack(long high, long low, Score target) {
+    List<SetScore> sets     = target.getSets();
+    int            setCount = (int) (high >>> SET_COUNT_SHIFT) & 0x7;
+    while (sets.size() > setCount) {
+      sets.removeLast();
+    }
+    for (int i = 0; i < setCount; i++) {
+      long     packed = i < SETS_PER_WORD ? low >>> (i * SET_BITS) : high >>> ((i - SETS_PER_WORD) * SET_BITS);
+      SetScore set    = i < sets.size() ? sets.get(i) : null;
+      if (set == null) {
+        set = new SetScore();
+        sets.add(set);
+      }
+      set.setTeamAScore((int) packed & 0xF);
+      set.setTeamBScore((int) (packed >>> 4) & 0xF);
+      set.setTieBreakTeamA(tieBreak(packed >>> 8));
+      set.setTieBreakTeamB(tieBreak(packed >>> 14));
+    }
+    int pointA = (int) (high >>> POINT_A_SHIFT) & 0x7;
+    int pointB = (int) (high >>> POINT_B_SHIFT) & 0x7;
+    int side   = (int) (high >>> (FORFEIT_SHIFT + 1)) & 0x3;
+    target.setCurrentGamePointA(pointA == 0 ? null : GAME_POINTS[pointA - 1]);
+    target.setCurrentGamePointB(pointB == 0 ? null : GAME_POINTS[pointB - 1]);
+    target.setTieBreakPointA(tieBreak(high >>> TIE_BREAK_SHIFT));
+    target.setTieBreakPointB(tieBreak(high >>> (TIE_BREAK_SHIFT + 6)));
+    target.setForfeit(((high >>> FORFEIT_SHIFT) & 1) == 1);
+    target.setForfeitedBy(side == 0 ? null : TEAM_SIDES[side - 1]);
+  }
+
+  private static long packSets(List<SetScore> sets, int from) {
+    long packed = 0;
+    for (int i = from; i < Math.min(sets.size(), from + SETS_PER_WORD); i++) {
+      SetScore set = sets.get(i);
+      long packedSet = set.getTeamAScore()
+                       | (long) set.getTeamBScore() << 4
+                       | tieBreak(set.getTieBreakTeamA()) << 8
+                       | tieBreak(set.getTieBreakTeamB()) << 14;
+      packed |= packedSet << ((i - from) * SET_BITS);
+    }
+    return packed;
+  }
+
+  private static boolean fitsGames(Integer games) {
+    return games != null && games >= 0 && games <= MAX_GAMES;
+  }
+
+  private static boolean fitsTieBreak(Integer points) {
+    return points == null || (points >= 0 && points <= MAX_TIE_BREAK);
+  }
+
+  private static long tieBreak(Integer points) {
+    return points == null ? NO_TIE_BREAK : points;
+  }
+
+  private static Integer tieBreak(long packed) {
+    long points = packed & NO_TIE_BREAK;
+    return points == NO_TIE_BREAK ? null : (int) points;
+  }
+
+  private static int ordinal(Enum<?> constant) {
+    return constant == null ? 0 : constant.ordinal() + 1;
+  }
+}
@@ -0,0 +1,302 @@
+package io.github.redouanebali.model;
+
+import static io.github.redouanebali.model.PackedScore.FORFEIT_SHIFT;
+import static io.github.redouanebali.model.PackedScore.MAX_GAMES;
+import static io.github.redouanebali.model.PackedScore.MAX_SETS;
+import static io.github.redouanebali.model.PackedScore.MAX_TIE_BREAK;
+import static io.github.redouanebali.model.PackedScore.NO_TIE_BREAK;
+import static io.github.redouanebali.model.PackedScore.POINT_A_SHIFT;
+import static io.github.redouanebali.model.PackedScore.POINT_B_SHIFT;
+import static io.github.redouanebali.model.PackedScore.SETS_PER_WORD;
+import static io.github.redouanebali.model.PackedScore.SET_BITS;
+import static io.github.redouanebali.model.PackedScore.SET_COUNT_SHIFT;
+import static io.github.redouanebali.model.PackedScore.TIE_BREAK_SHIFT;
+
+/**
+ * Point-by-point scoring of one match on its {@link PackedScore} words, with the same rules as the {@code GamePointManager} but without touching
+ * entities, boxing or allocating: a score is loaded once, takes any number of points, and is written back to a {@link Score} only when it must be read
+ * (persistence, DTOs).
+ * <p>
+ * Formats of more than {@link PackedScore#MAX_SETS} sets, and scores out of the packed ranges, are not supported: {@link #load(Score)} and
+ * {@link #point(TeamSide)} then return false and the caller scores the {@link Score} itself.
+ * <p>
+ * Not thread-safe: one instance per match being scored.
+ */
+public final class PackedScoreEngine {
+
+  private static final int NULL_TIE_BREAK = (int) NO_TIE_BREAK;
+  // Game points are packed as their ordinal + 1, 0 standing for null
+  private static final int ZERO           = GamePoint.ZERO.ordinal() + 1;
+
+  private final boolean hasFormat;
+  private final boolean superTieBreakInFinalSet;
+  private final boolean advantage;
+  private final int     setsToWin;
+  private final int     tieBreakAt;
+  // Decoded state, only meaningful during a transition
+  private final int[]   gamesA   = new int[MAX_SETS];
+  private final int[]   gamesB   = new int[MAX_SETS];
+  private final int[]   setTieA  = new int[MAX_SETS];
+  private final int[]   setTieB  = new int[MAX_SETS];
+  private       int     setCount;
+  private       int     pointA;
+  private       int     pointB;
+  private       int     tieA;
+  private       int     tieB;
+  private       boolean overflow;
+  // Packed state
+  private       long    high;
+  private       long    low;
+  private       boolean loaded;
+
+  /**
+   * @param format the format of the match, or null for the defaults of the {@code GamePointManager} (two sets, no tie-break, no advantage)
+   */
+  public PackedScoreEngine(MatchFormat format) {
+    this.hasFormat               = format != null;
+    this.superTieBreakInFinalSet = hasFormat && format.isSuperTieBreakInFinalSet();
+    this.advantage               = hasFormat && format.isAdvantage();
+    this.setsToWin               = hasFormat && format.getNumberOfSetsToWin() > 0 ? format.getNumberOfSetsToWin() : 2;
+    this.tieBreakAt              = hasFormat && format.getTieBreakAt() > 0 ? format.getTieBreakAt() : 6;
+  }
+
+  /**
+   * Loads the state of a score.
+   *
+   * @param score the score
+   * @return false if the score or the format cannot be packed: the engine is then unloaded
+   */
+  public boolean load(Score score) {
+    loaded = setsToWin * 2 - 1 <= MAX_SETS && score != null && PackedScore.isPackable(score);
+    if (loaded) {
+      high = PackedScore.high(score);
+      low  = PackedScore.low(score);
+    }
+    return loaded;
+  }
+
+  /**
+   * Writes the current state to a score, updating its sets in place; its history is left untouched.
+   *
+   * @param target the score to overwrite
+   * @throws IllegalStateException if no score is loaded
+   */
+  public void store(Score target) {
+    requireLoaded();
+    PackedScore.unpack(high, low, target);
+  }
+
+  public boolean isLoaded() {
+    return loaded;
+  }
+
+  /**
+   * @return the high word of the current state, see {@link PackedScore#high(Score)}
+   */
+  public long high() {
+    requireLoaded();
+    return high;
+  }
+
+  /**
+   * @return the low word of the current state, see {@link PackedScore#low(Score)}
+   */
+  public long low() {
+    requireLoaded();
+    return low;
+  }
+
+  /**
+   * Adds a point, as {@code GamePointManager.applyGamePoint} does.
+   *
+   * @param side the team winning the point
+   * @return false if the new state would be out of the packed ranges: the state is then left unchanged
+   * @throws IllegalStateException if no score is loaded
+   */
+  public boolean point(TeamSide side) {
+    requireLoaded();
+    decode();
+    overflow = false;
+    boolean teamA = side == TeamSide.TEAM_A;
+    if (pointA == 0) {
+      pointA = ZERO;
+    }
+    if (pointB == 0) {
+      pointB = ZERO;
+    }
+    if (setCount == 0) {
+      addSet();
+    } else if (isSetFinished(setCount - 1)) {
+      addSetIfMatchOpen();
+    }
+    int     active        = activeSet();
+    boolean superTieBreak = superTieBreakInFinalSet && setCount == setsToWin * 2 - 1;
+    boolean tieBreak      = !superTieBreak && hasFormat
+                            && (gamesA[active] == tieBreakAt && gamesB[active] == tieBreakAt || tieA != NULL_TIE_BREAK || tieB != NULL_TIE_BREAK);
+    if (superTieBreak || tieBreak) {
+      tieBreakPoint(active, teamA, superTieBreak);
+    } else {
+      if (isSetFinished(active)) {
+        addSetIfMatchOpen();
+        active = activeSet();
+      }
+      standardPoint(active, teamA);
+    }
+    if (overflow || gamesA[active] > MAX_GAMES || gamesB[active] > MAX_GAMES) {
+      return false;
+    }
+    encode();
+    return true;
+  }
+
+  private void tieBreakPoint(int set, boolean teamA, boolean superTieBreak) {
+    int a = tieA == NULL_TIE_BREAK ? 0 : tieA;
+    int b = tieB == NULL_TIE_BREAK ? 0 : tieB;
+    if (teamA) {
+      a++;
+    } else {
+      b++;
+    }
+    if (a > MAX_TIE_BREAK || b > MAX_TIE_BREAK) {
+      overflow = true;
+      return;
+    }
+    tieA         = a;
+    tieB         = b;
+    setTieA[set] = a;
+    setTieB[set] = b;
+    int winPoints = superTieBreak ? 10 : 7;
+    if ((a >= winPoints || b >= winPoints) && Math.abs(a - b) >= 2) {
+      if (superTieBreak) {
+        gamesA[set] = a > b ? 1 : 0;
+        gamesB[set] = a > b ? 0 : 1;
+      } else if (a > b) {
+        gamesA[set]++;
+      } else {
+        gamesB[set]++;
+      }
+      addSetIfMatchOpen();
+      tieA = NULL_TIE_BREAK;
+      tieB = NULL_TIE_BREAK;
+    }
+  }
+
+  private void standardPoint(int set, boolean teamA) {
+    int transition = GamePointTransitions.transition(pointA - 1, pointB - 1, teamA, advantage);
+    if (GamePointTransitions.isGameWon(transition)) {
+      if (teamA) {
+        gamesA[set]++;
+      } else {
+        gamesB[set]++;
+      }
+      pointA = ZERO;
+      pointB = ZERO;
+      if (isSetFinished(set)) {
+        addSetIfMatchOpen();
+      }
+    } else {
+      pointA = GamePointTransitions.ordinalA(transition) + 1;
+      pointB = GamePointTransitions.ordinalB(transition) + 1;
+    }
+  }
+
+  private int activeSet() {
+    for (int i = 0; i < setCount; i++) {
+      if (!isSetFinished(i)) {
+        return i;
+      }
+    }
+    return setCount - 1;
+  }
+
+  private boolean isSetFinished(int set) {
+    int a = gamesA[set];
+    int b = gamesB[set];
+    if (superTieBreakInFinalSet && (a == 1 && b == 0 || a == 0 && b == 1) && set == setsToWin * 2 - 2) {
+      return true;
+    }
+    return isSetWin(a, b) || isSetWin(b, a);
+  }
+
+  private static boolean isSetWin(int winner, int loser) {
+    return winner == 6 && winner - loser >= 2 || winner == 7;
+  }
+
+  private void addSetIfMatchOpen() {
+    int wonA = 0;
+    int wonB = 0;
+    for (int i = 0; i < setCount; i++) {
+      if (isSetFinished(i)) {
+        if (isTeamASetWinner(i)) {
+          wonA++;
+        } else {
+          wonB++;
+        }
+      }
+    }
+    if (wonA < setsToWin && wonB < setsToWin && isSetFinished(setCount - 1)) {
+      addSet();
+    }
+  }
+
+  private boolean isTeamASetWinner(int set) {
+    if (setTieA[set] != NULL_TIE_BREAK || setTieB[set] != NULL_TIE_BREAK) {
+      return (setTieA[set] == NULL_TIE_BREAK ? 0 : setTieA[set]) > (setTieB[set] == NULL_TIE_BREAK ? 0 : setTieB[set]);
+    }
+    return gamesA[set] > gamesB[set];
+  }
+
+  private void addSet() {
+    if (setCount == MAX_SETS) {
+      overflow = true;
+      return;
+    }
+    gamesA[setCount]  = 0;
+    gamesB[setCount]  = 0;
+    setTieA[setCount] = NULL_TIE_BREAK;
+    setTieB[setCount] = NULL_TIE_BREAK;
+    setCount++;
+  }
+
+  private void decode() {
+    setCount = (int) (high >>> SET_COUNT_SHIFT) & 0x7;
+    for (int i = 0; i < setCount; i++) {
+      long packed = i < SETS_PER_WORD ? low >>> (i * SET_BITS) : high >>> ((i - SETS_PER_WORD) * SET_BITS);
+      gamesA[i]  = (int) packed & 0xF;
+      gamesB[i]  = (int) (packed >>> 4) & 0xF;
+      setTieA[i] = (int) (packed >>> 8) & NULL_TIE_BREAK;
+      setTieB[i] = (int) (packed >>> 14) & NULL_TIE_BREAK;
+    }
+    pointA = (int) (high >>> POINT_A_SHIFT) & 0x7;
+    pointB = (int) (high >>> POINT_B_SHIFT) & 0x7;
+    tieA   = (int) (high >>> TIE_BREAK_SHIFT) & NULL_TIE_BREAK;
+    tieB   = (int) (high >>> (TIE_BREAK_SHIFT + 6)) & NULL_TIE_BREAK;
+  }
+
+  private void encode() {
+    long newLow  = 0;
+    // The forfeit is not scored, only carried over
+    long newHigh = high & (-1L << FORFEIT_SHIFT);
+    for (int i = 0; i < setCount; i++) {
+      long packed = gamesA[i] | (long) gamesB[i] << 4 | (long) setTieA[i] << 8 | (long) setTieB[i] << 14;
+      if (i < SETS_PER_WORD) {
+        newLow |= packed << (i * SET_BITS);
+      } else {
+        newHigh |= packed << ((i - SETS_PER_WORD) * SET_BITS);
+      }
+    }
+    newHigh |= (long) setCount << SET_COUNT_SHIFT;
+    newHigh |= (long) pointA << POINT_A_SHIFT;
+    newHigh |= (long) pointB << POINT_B_SHIFT;
+    newHigh |= (long) tieA << TIE_BREAK_SHIFT;
+    newHigh |= (long) tieB << (TIE_BREAK_SHIFT + 6);
+    high = newHigh;
+    low  = newLow;
+  }
+
+  private void requireLoaded() {
+    if (!loaded) {
+      throw new IllegalStateException("No score loaded");
+    }
+  }
+}
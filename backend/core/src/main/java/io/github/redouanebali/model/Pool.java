@@ -8,9 +8,8 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -50,65 +49,106 @@ public class Pool {
                      .toList();
   }
 
-  public List<PoolRankingDetails> computeRanking(List<Game> allGamesOfRound) {
-    class SetStats {
-
-      int points    = 0;
-      int gamesWon  = 0;
-      int gamesLost = 0;
+  /**
+   * Keeps the ranking of a group game's pool current after the game changed. Games created by the draw are linked to their pool and only update
+   * their two teams; a game created before games were linked is linked on its first change, and its pool ranking recomputed from the whole round once.
+   *
+   * @param tournament the tournament of the game
+   * @param game the game, with its new score
+   * @param previousResult the result the game had before the change, from {@link PoolGameResult#of(Game)}
+   * @return true if a pool ranking changed, false if it did not or if the game is not a group game
+   */
+  public static boolean updateGroupRanking(Tournament tournament, Game game, PoolGameResult previousResult) {
+    if (game.getPool() != null) {
+      return game.getPool().updateRanking(game, previousResult);
     }
-
-    Map<PlayerPair, SetStats> statsMap = new HashMap<>();
-
-    for (PlayerPair pair : this.pairs) {
-      statsMap.put(pair, new SetStats());
+    if (game.getTeamA() == null || game.getTeamB() == null) {
+      return false;
     }
+    for (Round round : tournament.getRounds()) {
+      if (round.getStage() != Stage.GROUPS) {
+        continue;
+      }
+      for (Pool pool : round.getPools()) {
+        if (pool.getPairs().contains(game.getTeamA()) && pool.getPairs().contains(game.getTeamB())) {
+          game.setPool(pool);
+          pool.computeRanking(round.getGames());
+          return true;
+        }
+      }
+    }
+    return false;
+  }
 
+  /**
+   * Recomputes the whole ranking from the games of the group round. Only the finished games between two teams of this pool count.
+   *
+   * @param allGamesOfRound the games of the round, all pools mixed
+   * @return the ranking details, best first
+   */
+  public List<PoolRankingDetails> computeRanking(List<Game> allGamesOfRound) {
+    for (PlayerPair pair : pairs) {
+      PoolRankingDetails details = detailsOf(pair);
+      details.setPoints(0);
+      details.setSetAverage(0);
+    }
     for (Game game : allGamesOfRound) {
-      PlayerPair teamA = game.getTeamA();
-      PlayerPair teamB = game.getTeamB();
+      if (pairs.contains(game.getTeamA()) && pairs.contains(game.getTeamB())) {
+        apply(game, PoolGameResult.of(game), 1);
+      }
+    }
+    sortRanking();
+    return poolRanking.getDetails();
+  }
 
-      if (this.pairs.contains(teamA) && this.pairs.contains(teamB) && game.isFinished()) {
-        TeamSide winner = game.getWinnerSide();
-        if (winner == TeamSide.TEAM_A) {
-          statsMap.get(teamA).points += 1;
-        } else if (winner == TeamSide.TEAM_B) {
-          statsMap.get(teamB).points += 1;
-        }
+  /**
+   * Updates the ranking after a game of this pool changed: the result it had is taken off its two teams, its current result is added, and the pool is
+   * re-sorted. Costs O(pool size), whatever the number of games already played.
+   *
+   * @param game the game, with its new score
+   * @param previousResult the result the game had before the change, from {@link PoolGameResult#of(Game)}
+   * @return true if the ranking changed
+   */
+  public boolean updateRanking(Game game, PoolGameResult previousResult) {
+    PoolGameResult currentResult = PoolGameResult.of(game);
+    if (currentResult.equals(previousResult)) {
+      return false;
+    }
+    apply(game, previousResult, -1);
+    apply(game, currentResult, 1);
+    sortRanking();
+    return true;
+  }
 
-        int numSets = game.getScore().getSets().size();
-        for (int i = 0; i < numSets; i++) {
-          int teamAScore = game.getScore().getSets().get(i).getTeamAScore();
-          int teamBScore = game.getScore().getSets().get(i).getTeamBScore();
+  private void apply(Game game, PoolGameResult result, int sign) {
+    if (result == PoolGameResult.NONE) {
+      return;
+    }
+    PoolRankingDetails detailsA = detailsOf(game.getTeamA());
+    PoolRankingDetails detailsB = detailsOf(game.getTeamB());
+    detailsA.setPoints(detailsA.getPoints() + sign * result.pointsA());
+    detailsA.setSetAverage(detailsA.getSetAverage() + sign * result.gamesDiffA());
+    detailsB.setPoints(detailsB.getPoints() + sign * result.pointsB());
+    detailsB.setSetAverage(detailsB.getSetAverage() - sign * result.gamesDiffA());
+  }
 
-          statsMap.get(teamA).gamesWon += teamAScore;
-          statsMap.get(teamA).gamesLost += teamBScore;
-          statsMap.get(teamB).gamesWon += teamBScore;
-          statsMap.get(teamB).gamesLost += teamAScore;
-        }
+  // Linear lookup: a pool holds a handful of pairs, and PlayerPair cannot be hashed efficiently (constant hashCode)
+  private PoolRankingDetails detailsOf(PlayerPair pair) {
+    for (PoolRankingDetails details : poolRanking.getDetails()) {
+      if (pair.equals(details.getPlayerPair())) {
+        return details;
       }
     }
+    PoolRankingDetails details = new PoolRankingDetails(pair, 0, 0);
+    poolRanking.addDetails(details);
+    return details;
+  }
 
-    List<PoolRankingDetails> result = statsMap.entrySet().stream()
-                                              .sorted((e1, e2) -> {
-                                                int cmp = Integer.compare(e2.getValue().points, e1.getValue().points);
-                                                if (cmp != 0) {
-                                                  return cmp;
-                                                }
-                                                int diff1 = e1.getValue().gamesWon - e1.getValue().gamesLost;
-                                                int diff2 = e2.getValue().gamesWon - e2.getValue().gamesLost;
-                                                return Integer.compare(diff2, diff1);
-                                              })
-                                              .map(entry -> new PoolRankingDetails(
-                                                  entry.getKey(),
-                                                  entry.getValue().points,
-                                                  entry.getValue().gamesWon - entry.getValue().gamesLost
-                                              ))
-                                              .toList();
-    PoolRanking ranking = new PoolRanking();
-    ranking.setDetails(result);
-    this.setPoolRanking(ranking);
-    return result;
+  // Points first, then games difference; ties keep the order of the pairs in the pool
+  private void sortRanking() {
+    poolRanking.getDetails().sort(Comparator.comparingInt(PoolRankingDetails::getPoints).reversed()
+                                            .thenComparing(Comparator.comparingInt(PoolRankingDetails::getSetAverage).reversed())
+                                            .thenComparingInt(details -> pairs.indexOf(details.getPlayerPair())));
   }
 
   public void addPair(PlayerPair pair) {
@@ -0,0 +1,49 @@
+package io.github.redouanebali.model;
+
+/**
+ * What a group game brings to the ranking of its pool: one point to the winner, and the games won by each team over all sets. An unfinished game
+ * brings nothing.
+ *
+ * @param pointsA points of team A (1 for a win)
+ * @param pointsB points of team B (1 for a win)
+ * @param gamesA games won by team A
+ * @param gamesB games won by team B
+ */
+public record PoolGameResult(int pointsA, int pointsB, int gamesA, int gamesB) {
+
+  public static final PoolGameResult NONE = new PoolGameResult(0, 0, 0, 0);
+
+  /**
+   * Reads the current result of a game.
+   *
+   * @param game the game
+   * @return its result, or {@link #NONE} while it is not finished
+   */
+  public static PoolGameResult of(Game game) {
+    if (game == null || !game.isFinished() || game.getScore() == null) {
+      return NONE;
+    }
+    TeamSide winner = game.getWinnerSide();
+    int      gamesA = 0;
+    int      gamesB = 0;
+    for (SetScore set : game.getScore().getSets()) {
+      gamesA += set.getTeamAScore();
+      gamesB += set.getTeamBScore();
+    }
+    return new PoolGameResult(winner == TeamSide.TEAM_A ? 1 : 0, winner == TeamSide.TEAM_B ? 1 : 0, gamesA, gamesB);
+  }
+
+  /**
+   * Side of the winner, null while the game is not finished (or has no winner).
+   */
+  public TeamSide winnerSide() {
+    return pointsA > 0 ? TeamSide.TEAM_A : pointsB > 0 ? TeamSide.TEAM_B : null;
+  }
+
+  /**
+   * Games difference of team A; team B's is its opposite.
+   */
+  public int gamesDiffA() {
+    return gamesA - gamesB;
+  }
+}
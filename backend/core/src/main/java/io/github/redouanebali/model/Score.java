@@ -9,12 +9,14 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -32,6 +34,10 @@ public class Score {
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
+  // Bumped on every write, so that a live game flushed from a copy loaded before another write is detected
+  @Version
+  private Long version;
+
   @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
   @JoinColumn(name = "score_id")
   @OrderColumn(name = "order_index") // persists list order
@@ -59,9 +65,17 @@ public class Score {
   @Column(name = "tie_break_point_b")
   private Integer tieBreakPointB;
 
-  @ManyToOne(cascade = CascadeType.ALL)
-  @JoinColumn(name = "previous_score_id")
-  private Score previousScore;
+  // Number of events in the append-only log of the points, edits and undos: the sequence number of the next one
+  @Column(name = "event_count", nullable = false)
+  private int eventCount;
+
+  // Sequence number of the latest point or edit not cancelled by a later undo, -1 if none: the event the next undo restores
+  @Column(name = "undo_target", nullable = false)
+  private int undoTarget = -1;
+
+  // Events logged since the score was loaded, oldest first: they are inserted on their own, the log itself is never loaded
+  @Transient
+  private List<ScoreEvent> newEvents = new ArrayList<>();
 
   public static Score fromString(String scoreStr) {
     Score score = new Score();
@@ -115,20 +129,69 @@ public class Score {
     return partialScore;
   }
 
+  /**
+   * Logs a manual edit of the score, to be called before changing it.
+   */
   public void saveToHistory() {
-    Score prev = this.deepCopy();
-    prev.setPreviousScore(this.getPreviousScore()); // chaînage via setter
-    this.setPreviousScore(prev);
+    log(ScoreEvent.Kind.EDIT, null, encodeState());
+  }
+
+  /**
+   * Logs a point won by a team, to be called before applying it.
+   *
+   * @param side the team winning the point
+   */
+  public void saveToHistory(TeamSide side) {
+    log(ScoreEvent.Kind.POINT, side, encodeState());
+  }
+
+  /**
+   * Logs a point whose state before was captured elsewhere, the point being already applied.
+   *
+   * @param side the team that won the point
+   * @param scoreBefore the state of the score before the point, as written by {@link #encodeState()}
+   */
+  public void logPoint(TeamSide side, String scoreBefore) {
+    log(ScoreEvent.Kind.POINT, side, scoreBefore);
+  }
+
+  /**
+   * Logs an undo already applied to the state of the score.
+   *
+   * @param scoreBefore the state of the score before the undo, as written by {@link #encodeState()}
+   * @param undoTargetAfter the undo target before the undone event was logged, see {@link ScoreEvent#getUndoTargetBefore()}
+   */
+  public void logUndo(String scoreBefore, int undoTargetAfter) {
+    newEvents.add(new ScoreEvent(eventCount++, ScoreEvent.Kind.UNDO, null, scoreBefore, undoTarget));
+    undoTarget = undoTargetAfter;
+  }
+
+  private void log(ScoreEvent.Kind kind, TeamSide side, String scoreBefore) {
+    newEvents.add(new ScoreEvent(eventCount, kind, side, scoreBefore, undoTarget));
+    undoTarget = eventCount++;
   }
 
   public boolean canUndo() {
-    return previousScore != null;
+    return undoTarget >= 0;
+  }
+
+  /**
+   * Hands over the events logged since the score was loaded, for them to be saved.
+   *
+   * @return the new events, oldest first
+   */
+  public List<ScoreEvent> takeNewEvents() {
+    List<ScoreEvent> events = newEvents;
+    newEvents = new ArrayList<>();
+    return events;
   }
 
   public Score deepCopy() {
     Score copy = new Score();
     copy.copyFrom(this);
-    copy.previousScore = this.previousScore;
+    copy.eventCount = this.eventCount;
+    copy.undoTarget = this.undoTarget;
+    copy.newEvents  = new ArrayList<>(this.newEvents);
     return copy;
   }
 
@@ -152,11 +215,115 @@ public class Score {
     this.tieBreakPointB    = source.getTieBreakPointB();
   }
 
+  /**
+   * Restores the score from before the last point or edit not undone yet, when it was logged since the score was loaded. The undo is itself logged,
+   * so the history stays append-only.
+   *
+   * @throws IllegalStateException if the event to restore is already saved, see {@link #undo(IntFunction)}
+   */
   public void undo() {
-    if (canUndo()) {
-      this.copyFrom(getPreviousScore());
-      this.setPreviousScore(getPreviousScore() != null ? getPreviousScore().getPreviousScore() : null);
+    undo(seq -> {
+      throw new IllegalStateException("Event " + seq + " of score " + id + " is saved, it must be read to be undone");
+    });
+  }
+
+  /**
+   * Restores the score from before the last point or edit not undone yet. The undo is itself logged, so the history stays append-only.
+   *
+   * @param savedEvents reads a saved event of this score by sequence number, for an event logged before the score was loaded
+   */
+  public void undo(IntFunction<ScoreEvent> savedEvents) {
+    if (undoTarget < 0) {
+      return;
+    }
+    int        firstNew = eventCount - newEvents.size();
+    ScoreEvent target   = undoTarget >= firstNew ? newEvents.get(undoTarget - firstNew) : savedEvents.apply(undoTarget);
+    logUndo(encodeState(), target.getUndoTargetBefore());
+    restoreState(target.getScoreBefore());
+  }
+
+  /**
+   * Replays the history of a score whose events were all logged since it was loaded.
+   *
+   * @return the state of the score before each logged event, oldest first, then the current state; without history
+   * @throws IllegalStateException if some events are already saved
+   */
+  public List<Score> replayHistory() {
+    if (newEvents.size() != eventCount) {
+      throw new IllegalStateException("Score " + id + " has saved events, its history must be read to be replayed");
     }
+    List<Score> states = new ArrayList<>(newEvents.size() + 1);
+    for (ScoreEvent event : newEvents) {
+      Score state = new Score();
+      state.restoreState(event.getScoreBefore());
+      states.add(state);
+    }
+    Score current = new Score();
+    current.copyFrom(this);
+    states.add(current);
+    return states;
+  }
+
+  /**
+   * Compact text form of the live state of the score, without its history, e.g. {@code 6-4 6-6:3-2|ZERO,ZERO|3,2|0,}: the sets with their
+   * tie-break points, then the game points, the tie-break points and the forfeit.
+   */
+  public String encodeState() {
+    StringBuilder state = new StringBuilder();
+    for (SetScore set : sets) {
+      if (!state.isEmpty()) {
+        state.append(' ');
+      }
+      state.append(text(set.getTeamAScore())).append('-').append(text(set.getTeamBScore()));
+      if (set.getTieBreakTeamA() != null || set.getTieBreakTeamB() != null) {
+        state.append(':').append(text(set.getTieBreakTeamA())).append('-').append(text(set.getTieBreakTeamB()));
+      }
+    }
+    return state.append('|').append(text(currentGamePointA)).append(',').append(text(currentGamePointB))
+                .append('|').append(text(tieBreakPointA)).append(',').append(text(tieBreakPointB))
+                .append('|').append(forfeit ? '1' : '0').append(',').append(text(forfeitedBy))
+                .toString();
+  }
+
+  /**
+   * Overwrites the live state of the score with one written by {@link #encodeState()}; the history is left untouched.
+   *
+   * @param state the encoded state
+   */
+  public void restoreState(String state) {
+    String[] parts = state.split("\\|", -1);
+    if (parts.length != 4) {
+      throw new IllegalArgumentException("Invalid score state: " + state);
+    }
+    sets.clear();
+    if (!parts[0].isEmpty()) {
+      for (String set : parts[0].split(" ")) {
+        String[] games     = set.split(":", -1);
+        String[] setScore  = games[0].split("-", -1);
+        String[] tieBreaks = games.length > 1 ? games[1].split("-", -1) : new String[]{"", ""};
+        sets.add(new SetScore(integer(setScore[0]), integer(setScore[1]), integer(tieBreaks[0]), integer(tieBreaks[1])));
+      }
+    }
+    String[] gamePoints = parts[1].split(",", -1);
+    String[] tieBreaks  = parts[2].split(",", -1);
+    String[] forfeits   = parts[3].split(",", -1);
+    currentGamePointA = gamePoints[0].isEmpty() ? null : GamePoint.valueOf(gamePoints[0]);
+    currentGamePointB = gamePoints[1].isEmpty() ? null : GamePoint.valueOf(gamePoints[1]);
+    tieBreakPointA    = integer(tieBreaks[0]);
+    tieBreakPointB    = integer(tieBreaks[1]);
+    forfeit           = "1".equals(forfeits[0]);
+    forfeitedBy       = forfeits[1].isEmpty() ? null : TeamSide.valueOf(forfeits[1]);
+  }
+
+  private static String text(Object value) {
+    if (value == null) {
+      return "";
+    }
+    return value instanceof Enum<?> constant ? constant.name() : value.toString();
+  }
+
+  private static Integer integer(String text) {
+    return text.isEmpty() ? null : Integer.valueOf(text);
   }
 
   /**
@@ -0,0 +1,99 @@
+package io.github.redouanebali.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entry of the append-only event log of a {@link Score}: a point, a manual edit or an undo, along with the compact state of the score before it. The
+ * state after an event is the state before the next one, or the current score for the last event, so the log replays the whole match.
+ * <p>
+ * Events are rows of their own, inserted one by one and read by key: the score only keeps their count and the sequence number of the event its next
+ * undo restores, so that neither logging nor undoing reads the log.
+ */
+@Entity
+@Table(name = "score_event")
+@IdClass(ScoreEvent.Key.class)
+@Getter
+@NoArgsConstructor
+public class ScoreEvent {
+
+  // Set when the event is saved, the score may not have an ID when the event is logged
+  @Id
+  @Setter
+  @Column(name = "score_id", nullable = false)
+  private Long scoreId;
+
+  // Position in the log, from 0
+  @Id
+  @Column(name = "seq", nullable = false)
+  private int seq;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "kind", nullable = false)
+  private Kind kind;
+
+  // Team that won the point, null for the other kinds
+  @Enumerated(EnumType.STRING)
+  @Column(name = "side")
+  private TeamSide side;
+
+  // State of the score before the event, as written by Score.encodeState()
+  @Column(name = "score_before", nullable = false)
+  private String scoreBefore;
+
+  // Undo target of the score before the event, -1 if none: the target again once this point or edit is undone
+  @Column(name = "undo_target_before", nullable = false)
+  private int undoTargetBefore;
+
+  public ScoreEvent(int seq, Kind kind, TeamSide side, String scoreBefore, int undoTargetBefore) {
+    this.seq              = seq;
+    this.kind             = kind;
+    this.side             = side;
+    this.scoreBefore      = scoreBefore;
+    this.undoTargetBefore = undoTargetBefore;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ScoreEvent that = (ScoreEvent) o;
+    return seq == that.seq && kind == that.kind && side == that.side && Objects.equals(scoreBefore, that.scoreBefore);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(seq, kind, side, scoreBefore);
+  }
+
+  public enum Kind {
+    POINT, EDIT, UNDO
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  public static class Key implements Serializable {
+
+    private Long scoreId;
+    private int  seq;
+  }
+}
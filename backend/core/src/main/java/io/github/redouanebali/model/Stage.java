@@ -1,5 +1,6 @@
 package io.github.redouanebali.model;
 
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -11,12 +12,24 @@ public enum Stage {
   Q1("Qualifications 1", 0, true, 1),
   Q2("Qualifications 2", 0, true, 2),
   Q3("Qualifications 3", 0, true, 3),
-  R64("Round of 64", 64, false, 4),
-  R32("Round of 32", 32, false, 5),
-  R16("Round of 16", 16, false, 6),
-  QUARTERS("Quarter-finals", 8, false, 7),
-  SEMIS("Semi-finals", 4, false, 8),
-  FINAL("Final", 2, false, 9);
+  Q4("Qualifications 4", 0, true, 4),
+  Q5("Qualifications 5", 0, true, 5),
+  R256("Round of 256", 256, false, 6),
+  R128("Round of 128", 128, false, 7),
+  R64("Round of 64", 64, false, 8),
+  R32("Round of 32", 32, false, 9),
+  R16("Round of 16", 16, false, 10),
+  QUARTERS("Quarter-finals", 8, false, 11),
+  SEMIS("Semi-finals", 4, false, 12),
+  FINAL("Final", 2, false, 13);
+
+  /**
+   * Number of qualification rounds supported (Q1..Q5), enough to bring a 256-pair pre-qualifying draw down to 8 qualifiers.
+   */
+  public static final int MAX_QUALIF_ROUNDS = 5;
+
+  // Main draw stages from the largest to the smallest
+  private static final Stage[] MAIN_DRAW_STAGES = {R256, R128, R64, R32, R16, QUARTERS, SEMIS, FINAL};
 
   private final String  label;
   private final int     nbTeams;
@@ -24,34 +37,43 @@ public enum Stage {
   private final int     order;
 
   /**
-   * Map a 1-based qualification index to the corresponding qualification stage. Supported values: 1 -> Q1, 2 -> Q2, 3 -> Q3.
+   * Map a 1-based qualification index to the corresponding qualification stage. Supported values: 1 -> Q1 up to 5 -> Q5.
    *
    * @param index 1-based qualification round index
    * @return the corresponding qualification Stage
-   * @throws IllegalArgumentException if the index is not in [1..3]
+   * @throws IllegalArgumentException if the index is not in [1..5]
    */
   public static Stage fromQualifIndex(int index) {
     return switch (index) {
       case 1 -> Q1;
       case 2 -> Q2;
       case 3 -> Q3;
-      default -> throw new IllegalArgumentException("App supports up to Q3 as per specs: index=" + index);
+      case 4 -> Q4;
+      case 5 -> Q5;
+      default -> throw new IllegalArgumentException("App supports up to Q" + MAX_QUALIF_ROUNDS + ": index=" + index);
     };
   }
 
+  /**
+   * Main draw stages, from the largest (R256) to the FINAL.
+   */
+  public static List<Stage> mainDrawStages() {
+    return List.of(MAIN_DRAW_STAGES);
+  }
+
   /**
    * Returns the main draw stage corresponding to the number of teams, or the stage just above if the number doesn't exactly match a boundary.
-   * Qualification stages (Q1..Q3) and GROUPS are not handled here.
+   * Qualification stages (Q1..Q5) and GROUPS are not handled here.
    *
    * @param teams number of teams
    * @return the corresponding stage or the stage just above
    * @throws IllegalArgumentException if no stage is found
    */
   public static Stage fromNbTeams(int teams) {
-    // Traverse stages from largest to smallest
-    for (Stage stage : new Stage[]{FINAL, SEMIS, QUARTERS, R16, R32, R64}) {
-      if (teams <= stage.nbTeams && stage.nbTeams > 0) {
-        return stage;
+    // Traverse stages from smallest to largest
+    for (int i = MAIN_DRAW_STAGES.length - 1; i >= 0; i--) {
+      if (teams <= MAIN_DRAW_STAGES[i].nbTeams) {
+        return MAIN_DRAW_STAGES[i];
       }
     }
     throw new IllegalArgumentException("Unsupported number of teams for main draw: " + teams);
@@ -60,7 +82,7 @@ public enum Stage {
   /**
    * Indicates if this stage corresponds to the first round of the tournament's main draw.
    *
-   * @param mainDrawSize the size of the main draw (e.g. 32, 64)
+   * @param mainDrawSize the size of the main draw (e.g. 32, 64, 256)
    * @return true if this stage is the first round of the main draw
    */
   public boolean isMainDraw(int mainDrawSize) {
@@ -1,6 +1,7 @@
 package io.github.redouanebali.model;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.github.redouanebali.model.format.TournamentConfig;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.CollectionTable;
@@ -19,14 +20,18 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderColumn;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -100,6 +105,18 @@ public class Tournament {
   @Column(name = "config")
   @org.hibernate.annotations.JdbcTypeCode(org.hibernate.type.SqlTypes.JSON)
   private TournamentConfig config;
+  // gameId -> position in rounds, built on first lookup; never persisted, lives as long as this loaded instance
+  @Transient
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private Map<Long, GameSlot> gameIndex;
+  // Shape of the rounds when the index was built, see gameIndexStamp()
+  @Transient
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private long                gameIndexStamp;
 
   @PreUpdate
   public void onUpdate() {
@@ -114,6 +131,77 @@ public class Tournament {
                .orElseThrow(() -> new IllegalStateException("No round found for " + stage));
   }
 
+  /**
+   * Finds a game of this tournament by id without scanning every round. The index is built once per loaded instance and rebuilt when it no longer
+   * matches the rounds (e.g. after a draw regeneration replaced the games); a miss on rounds of the same shape, such as an id of another tournament,
+   * is answered without rebuilding it.
+   *
+   * @param gameId the game ID
+   * @return the game, or empty if no game of this tournament has this id
+   */
+  public Optional<Game> findGameById(Long gameId) {
+    if (gameId == null) {
+      return Optional.empty();
+    }
+    if (gameIndex == null) {
+      rebuildGameIndex();
+    }
+    GameSlot slot = gameIndex.get(gameId);
+    Game     game = resolve(slot, gameId);
+    // A slot pointing elsewhere is stale for sure, a missing one only if the rounds changed since the index was built
+    if (game == null && (slot != null || gameIndexStamp != gameIndexStamp())) {
+      rebuildGameIndex();
+      game = resolve(gameIndex.get(gameId), gameId);
+    }
+    return Optional.ofNullable(game);
+  }
+
+  private void rebuildGameIndex() {
+    gameIndex      = buildGameIndex();
+    gameIndexStamp = gameIndexStamp();
+  }
+
+  // Cheap to compute, O(rounds): changes when a round is added, removed or replaced, or when its games are added, removed or replaced as a whole
+  private long gameIndexStamp() {
+    long stamp = rounds.size();
+    for (Round round : rounds) {
+      List<Game> games = round.getGames();
+      stamp = 31 * stamp + System.identityHashCode(round);
+      stamp = 31 * stamp + games.size();
+      if (!games.isEmpty()) {
+        stamp = 31 * stamp + Objects.hashCode(games.getFirst().getId());
+        stamp = 31 * stamp + Objects.hashCode(games.getLast().getId());
+      }
+    }
+    return stamp;
+  }
+
+  private Map<Long, GameSlot> buildGameIndex() {
+    Map<Long, GameSlot> index = new HashMap<>();
+    for (int r = 0; r < rounds.size(); r++) {
+      List<Game> games = rounds.get(r).getGames();
+      for (int g = 0; g < games.size(); g++) {
+        Long id = games.get(g).getId();
+        if (id != null) {
+          index.putIfAbsent(id, new GameSlot(r, g));
+        }
+      }
+    }
+    return index;
+  }
+
+  private Game resolve(GameSlot slot, Long gameId) {
+    if (slot == null || slot.roundIndex() >= rounds.size()) {
+      return null;
+    }
+    List<Game> games = rounds.get(slot.roundIndex()).getGames();
+    if (slot.gameIndex() >= games.size()) {
+      return null;
+    }
+    Game game = games.get(slot.gameIndex());
+    return gameId.equals(game.getId()) ? game : null;
+  }
+
   /**
    * Convenience: return the editor ids set (never null)
    */
@@ -137,4 +225,8 @@ public class Tournament {
     return getEditorIds().contains(userId);
   }
 
+  private record GameSlot(int roundIndex, int gameIndex) {
+
+  }
+
 }
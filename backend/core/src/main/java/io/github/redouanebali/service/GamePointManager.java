@@ -2,6 +2,7 @@ package io.github.redouanebali.service;
 
 import io.github.redouanebali.model.Game;
 import io.github.redouanebali.model.GamePoint;
+import io.github.redouanebali.model.GamePointTransitions;
 import io.github.redouanebali.model.MatchFormat;
 import io.github.redouanebali.model.Score;
 import io.github.redouanebali.model.SetScore;
@@ -16,16 +17,34 @@ public class GamePointManager {
 
   public void incrementGamePoint(Game game, TeamSide teamSide) {
     Score score = initializeScore(game);
-    score.saveToHistory();
-
+    score.saveToHistory(teamSide);
+    applyGamePoint(game, teamSide);
+  }
+
+  /**
+   * Adds a point without logging it in the score history, for callers that keep their own undo state. The state to save before the point is the one
+   * returned by {@link #initializeScore(Game)}.
+   *
+   * @param game the game
+   * @param teamSide the team winning the point
+   */
+  public void applyGamePoint(Game game, TeamSide teamSide) {
+    Score score = initializeScore(game);
     ensureActiveSetExists(game, score);
     SetScore activeSet = getActiveSet(game, score);
 
     GamePlayMode mode = determineGamePlayMode(game, score, activeSet);
     handleGamePointBasedOnMode(game, score, activeSet, teamSide, mode);
+    game.refreshStatus();
   }
 
-  private Score initializeScore(Game game) {
+  /**
+   * Returns the score of a game ready to be played: created if missing, with game points at zero if unset.
+   *
+   * @param game the game
+   * @return the score of the game
+   */
+  public Score initializeScore(Game game) {
     Score score = game.getScore();
     if (score == null) {
       score = new Score();
@@ -186,13 +205,12 @@ public class GamePointManager {
   }
 
   private void handleStandardGame(Game game, Score score, SetScore set, TeamSide teamSide, boolean withAdvantage) {
-    GamePoint currentA = getCurrentGamePointA(score);
-    GamePoint currentB = getCurrentGamePointB(score);
-
-    if (teamSide == TeamSide.TEAM_A) {
-      handlePointForTeam(game, score, set, currentA, currentB, TeamSide.TEAM_A, withAdvantage);
+    int transition = GamePointTransitions.transition(score.getCurrentGamePointA(), score.getCurrentGamePointB(), teamSide, withAdvantage);
+    if (GamePointTransitions.isGameWon(transition)) {
+      winStandardGame(game, score, set, teamSide);
     } else {
-      handlePointForTeam(game, score, set, currentB, currentA, TeamSide.TEAM_B, withAdvantage);
+      score.setCurrentGamePointA(GamePointTransitions.pointA(transition));
+      score.setCurrentGamePointB(GamePointTransitions.pointB(transition));
     }
   }
 
@@ -209,14 +227,6 @@ public class GamePointManager {
     }
   }
 
-  private void incrementMyGamePoint(Score score, TeamSide myTeam, GamePoint nextPoint) {
-    if (myTeam == TeamSide.TEAM_A) {
-      score.setCurrentGamePointA(nextPoint);
-    } else {
-      score.setCurrentGamePointB(nextPoint);
-    }
-  }
-
   private boolean isSetFinished(Game game, SetScore set) {
     if (game.getFormat() != null && game.getFormat().isSuperTieBreakInFinalSet() &&
         ((set.getTeamAScore() == 1 && set.getTeamBScore() == 0) || (set.getTeamAScore() == 0 && set.getTeamBScore() == 1)) &&
@@ -269,6 +279,7 @@ public class GamePointManager {
     Score score = game.getScore();
     if (score != null) {
       score.undo();
+      game.refreshStatus();
     }
   }
 
@@ -277,82 +288,6 @@ public class GamePointManager {
     score.setCurrentGamePointB(GamePoint.ZERO);
   }
 
-  public GamePoint nextGamePoint(GamePoint current, GamePoint opponent, boolean withAdvantage) {
-    if (current == null) {
-      return GamePoint.QUINZE;
-    }
-    if (opponent == null) {
-      opponent = GamePoint.ZERO;
-    }
-    if (withAdvantage) {
-      return switch (current) {
-        case ZERO -> GamePoint.QUINZE;
-        case QUINZE -> GamePoint.TRENTE;
-        case TRENTE -> GamePoint.QUARANTE;
-        case QUARANTE -> (opponent == GamePoint.QUARANTE) ? GamePoint.AVANTAGE : GamePoint.QUARANTE;
-        case AVANTAGE -> GamePoint.AVANTAGE;
-      };
-    } else {
-      return switch (current) {
-        case ZERO -> GamePoint.QUINZE;
-        case QUINZE -> GamePoint.TRENTE;
-        case TRENTE -> GamePoint.QUARANTE;
-        default -> GamePoint.QUARANTE;
-      };
-    }
-  }
-
-  public boolean shouldWinGame(GamePoint current, GamePoint opponent, boolean withAdvantage) {
-    if (current == null) {
-      current = GamePoint.ZERO;
-    }
-    if (opponent == null) {
-      opponent = GamePoint.ZERO;
-    }
-    if (withAdvantage) {
-      if (current == GamePoint.AVANTAGE) {
-        return true;
-      }
-      return current == GamePoint.QUARANTE && opponent != GamePoint.QUARANTE && opponent != GamePoint.AVANTAGE;
-    } else {
-      return current == GamePoint.QUARANTE;
-    }
-  }
-
-  private GamePoint getCurrentGamePointA(Score score) {
-    return score.getCurrentGamePointA() == null ? GamePoint.ZERO : score.getCurrentGamePointA();
-  }
-
-  private GamePoint getCurrentGamePointB(Score score) {
-    return score.getCurrentGamePointB() == null ? GamePoint.ZERO : score.getCurrentGamePointB();
-  }
-
-  private void handlePointForTeam(Game game,
-                                  Score score,
-                                  SetScore set,
-                                  GamePoint myCurrent,
-                                  GamePoint opponentCurrent,
-                                  TeamSide myTeam,
-                                  boolean withAdvantage) {
-    if (shouldWinGame(myCurrent, opponentCurrent, withAdvantage)) {
-      winStandardGame(game, score, set, myTeam);
-    } else {
-      if (withAdvantage && opponentCurrent == GamePoint.AVANTAGE) {
-        resetOpponentAdvantage(score, myTeam);
-      } else {
-        incrementMyGamePoint(score, myTeam, nextGamePoint(myCurrent, opponentCurrent, withAdvantage));
-      }
-    }
-  }
-
-  private void resetOpponentAdvantage(Score score, TeamSide myTeam) {
-    if (myTeam == TeamSide.TEAM_A) {
-      score.setCurrentGamePointB(GamePoint.QUARANTE);
-    } else {
-      score.setCurrentGamePointA(GamePoint.QUARANTE);
-    }
-  }
-
   private record GamePlayMode(boolean isSuperTieBreak, boolean isTieBreak, boolean withAdvantage) {
 
   }
@@ -40,6 +40,11 @@ class KnockoutPhaseTests {
       "48, 32, 8, 32, QUALIFS, Q1;Q2, 16;8",
       // 5. Qualification 32->8 feeding main draw 64
       "52, 32, 8, 64, QUALIFS, Q1;Q2, 16;8",
+      // 6. Direct main draws of 128 and 256
+      "128, 0, 0, 128, MAIN_DRAW, R128;R64;R32;R16;QUARTERS;SEMIS;FINAL, 64;32;16;8;4;2;1",
+      "256, 0, 0, 256, MAIN_DRAW, R256;R128;R64;R32;R16;QUARTERS;SEMIS;FINAL, 128;64;32;16;8;4;2;1",
+      // 7. Qualification 256->8 feeding main draw 32
+      "280, 256, 8, 32, QUALIFS, Q1;Q2;Q3;Q4;Q5, 128;64;32;16;8",
   })
   void testInitializeTournament(int nbPairs,
                                 int preQualDrawSize,
@@ -540,6 +545,52 @@ class KnockoutPhaseTests {
   }
 
 
+  @Test
+  void testKnockout_200Teams_64Seeds_256Draw_propagatesToFinal() {
+    // Given: A 256-slot knockout with 200 teams, hence 56 BYEs, and 64 seeds
+    Tournament tournament = TestFixturesCore.makeTournament(0, 0, 256, 64, 0, DrawMode.MANUAL);
+    List<PlayerPair> teams = TestFixturesCore.createPlayerPairs(200);
+    TournamentBuilder.initializeEmptyRounds(tournament);
+
+    KnockoutPhase mainDrawPhase = new KnockoutPhase(256, 64, PhaseType.MAIN_DRAW);
+    Round         firstRound    = tournament.getRounds().getFirst();
+    assertEquals(Stage.R256, firstRound.getStage(), "First round should be R256");
+    assertEquals(128, firstRound.getGames().size(), "R256 should have 128 games");
+
+    // When: Draw the first round, then let team A win every game that has two real teams, round after round
+    mainDrawPhase.placeSeedTeams(firstRound, teams);
+    mainDrawPhase.placeByeTeams(firstRound, 200);
+    mainDrawPhase.placeRemainingTeamsRandomly(firstRound,
+                                              teams.stream()
+                                                   .filter(p -> firstRound.getGames().stream()
+                                                                          .noneMatch(g -> g.getTeamA() == p || g.getTeamB() == p))
+                                                   .toList());
+    TournamentBuilder.propagateWinners(tournament);
+    for (Round round : tournament.getRounds()) {
+      for (Game game : round.getGames()) {
+        if (game.getTeamA() != null && game.getTeamB() != null && !game.getTeamA().isBye() && !game.getTeamB().isBye()) {
+          setGameWinner(game, game.getTeamA());
+        }
+      }
+      TournamentBuilder.propagateWinners(tournament);
+    }
+
+    // Then: Every BYE faces a seed, seeds 1-32 all get one (the other 24 go to seeds of the 33-64 group), and the top seed wins the final
+    List<PlayerPair> seedsPlayingByes = firstRound.getGames().stream()
+                                                  .filter(g -> g.getTeamA().isBye() || g.getTeamB().isBye())
+                                                  .map(g -> g.getTeamA().isBye() ? g.getTeamB() : g.getTeamA())
+                                                  .toList();
+    assertEquals(56, seedsPlayingByes.size(), "Should have 56 BYEs for 200 teams in a 256-slot draw");
+    assertTrue(seedsPlayingByes.stream().allMatch(p -> p.getSeed() >= 1 && p.getSeed() <= 64), "Every BYE should face a seed");
+    assertEquals(32, seedsPlayingByes.stream().filter(p -> p.getSeed() <= 32).count(), "Seeds 1-32 should all play against a BYE");
+
+    Game finalGame = tournament.getRoundByStage(Stage.FINAL).getGames().getFirst();
+    assertNotNull(finalGame.getTeamA(), "Final should be reached from R256");
+    assertNotNull(finalGame.getTeamB(), "Final should be reached from R256");
+    assertEquals(1, finalGame.getWinner().getSeed(), "Seed 1 should win the final");
+  }
+
+
   /**
    * CRITICAL TEST: Verify that qualifiers are correctly propagated with their numbers (Q1, Q2, etc.) This test reproduces the production bug where: -
    * First qualifier replaces Q1 correctly - But other qualifiers get erased or duplicated
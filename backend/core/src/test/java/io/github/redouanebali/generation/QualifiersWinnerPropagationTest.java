@@ -347,8 +347,8 @@ class QualifiersWinnerPropagationTest {
     modifiedGame.setScore(TestFixturesCore.createScoreWithWinner(modifiedGame, teams.get(1))); // Team 2 wins now
     assertEquals(teams.get(1), modifiedGame.getWinner(), "Modified game winner should be Team 2");
 
-    // Use optimized propagation from this specific game
-    TournamentBuilder.propagateWinnersFromGame(tournament, modifiedGame);
+    // Use optimized propagation from this specific game: only SF Match 1 changes (the final has no semi-final winner yet)
+    assertEquals(List.of(sfGames.get(0)), TournamentBuilder.propagateWinnersFromGame(tournament, modifiedGame));
 
     // Verify SF Match 1 is updated (Team 2 replaces Team 1)
     assertEquals(teams.get(1), sfGames.get(0).getTeamA(), "SF Match 1 TeamA should now be Team 2 (updated)");
@@ -363,11 +363,47 @@ class QualifiersWinnerPropagationTest {
     assertFalse(modifiedGame.isFinished(), "Modified game should not be finished");
 
     // Propagate again
-    TournamentBuilder.propagateWinnersFromGame(tournament, modifiedGame);
+    assertEquals(List.of(sfGames.get(0)), TournamentBuilder.propagateWinnersFromGame(tournament, modifiedGame));
 
     // Verify Team 2 is removed from SF
     assertNull(sfGames.get(0).getTeamA(), "SF Match 1 TeamA should be null (winner removed)");
     assertEquals(teams.get(2), sfGames.get(0).getTeamB(), "SF Match 1 TeamB should still be Team 3");
+
+    // Nothing left to change
+    assertTrue(TournamentBuilder.propagateWinnersFromGame(tournament, modifiedGame).isEmpty(), "A second pass should change no game");
+  }
+
+  /**
+   * A qualification game feeds the main draw through the qualifier strategy (full pass from its round): the reported changes are the main draw games
+   * whose teams actually differ afterwards, not every slot the pass rewrote.
+   */
+  @Test
+  void testPropagateWinnersFromGame_acrossQualifierBoundary_reportsOnlyChangedGames() {
+    Tournament tournament = TestFixturesCore.makeTournament(4, 2, 8, 6, 0, DrawMode.MANUAL);
+    List<PlayerPair> teams = TestFixturesCore.createPlayerPairs(10);
+    TournamentBuilder.initializeEmptyRounds(tournament);
+    List<Game> q1Games   = tournament.getRoundByStage(Stage.Q1).getGames();
+    List<Game> mainGames = tournament.getRoundByStage(Stage.QUARTERS).getGames();
+    q1Games.get(0).setTeamA(teams.get(0));
+    q1Games.get(0).setTeamB(teams.get(1));
+    q1Games.get(1).setTeamA(teams.get(2));
+    q1Games.get(1).setTeamB(teams.get(3));
+    mainGames.get(0).setTeamA(teams.get(4));
+    mainGames.get(0).setTeamB(PlayerPair.qualifier(1));
+    mainGames.get(1).setTeamA(teams.get(5));
+    mainGames.get(1).setTeamB(PlayerPair.qualifier(2));
+    mainGames.get(2).setTeamA(teams.get(6));
+    mainGames.get(2).setTeamB(teams.get(7));
+    mainGames.get(3).setTeamA(teams.get(8));
+    mainGames.get(3).setTeamB(teams.get(9));
+    q1Games.get(1).setScore(TestFixturesCore.createScoreWithWinner(q1Games.get(1), teams.get(2)));
+    TournamentBuilder.propagateWinners(tournament);
+
+    Game q1Match1 = q1Games.get(0);
+    q1Match1.setScore(TestFixturesCore.createScoreWithWinner(q1Match1, teams.get(0)));
+    assertEquals(List.of(mainGames.get(0)), TournamentBuilder.propagateWinnersFromGame(tournament, q1Match1));
+    assertEquals(teams.get(0), mainGames.get(0).getTeamB());
+    assertEquals(teams.get(2), mainGames.get(1).getTeamB());
   }
 
   /**
@@ -123,32 +123,9 @@ class TournamentBuilderCsvTest {
   @ParameterizedTest(name = "Full tournament CSV flow: {0}")
   @MethodSource("tournamentsFromCsv")
   void testBuildAndPropagate_FullTournament_FromCsv(Long tournamentId, List<String[]> rows) {
-    // Build tournament config from the first row (first 6 CSV inputs)
-    String[] first           = rows.getFirst();
-    int      preQualDrawSize = intValue(first, "preQualDrawSize");
-    int      nbQualifiers    = intValue(first, "nbQualifiers");
-    int      mainDrawSize    = intValue(first, "mainDrawSize");
-    int      nbSeedsMain     = intValue(first, "nbSeeds");
-    int      nbPlayerPairs   = intValue(first, "nbPlayerPairs");
-
-    Tournament tournament = new Tournament();
-    tournament.setId(tournamentId);
-    TournamentFormat format;
-    if (nbQualifiers > 0 && preQualDrawSize > 0) {
-      format = TournamentFormat.QUALIF_KO;
-    } else {
-      format = TournamentFormat.KNOCKOUT;
-    }
-    TournamentConfig cfg = TournamentConfig.builder()
-                                           .preQualDrawSize(preQualDrawSize)
-                                           .nbQualifiers(nbQualifiers)
-                                           .mainDrawSize(mainDrawSize)
-                                           .nbSeeds(nbSeedsMain)
-                                           .nbSeedsQualify(0)
-                                           .drawMode(DrawMode.MANUAL)
-                                           .format(format)
-                                           .build();
-    tournament.setConfig(cfg);
+    String[]   first         = rows.getFirst();
+    int        nbPlayerPairs = intValue(first, "nbPlayerPairs");
+    Tournament tournament    = newTournament(tournamentId, first);
 
     // Use public API: create empty tournament structure by providing empty player list
     TournamentBuilder.initializeEmptyRounds(tournament);
@@ -243,6 +220,101 @@ class TournamentBuilderCsvTest {
     }
   }
 
+  // Build tournament config from the first row (first 6 CSV inputs)
+  private static Tournament newTournament(Long tournamentId, String[] first) {
+    int      preQualDrawSize = intValue(first, "preQualDrawSize");
+    int      nbQualifiers    = intValue(first, "nbQualifiers");
+    int      mainDrawSize    = intValue(first, "mainDrawSize");
+    int      nbSeedsMain     = intValue(first, "nbSeeds");
+
+    Tournament tournament = new Tournament();
+    tournament.setId(tournamentId);
+    TournamentFormat format;
+    if (nbQualifiers > 0 && preQualDrawSize > 0) {
+      format = TournamentFormat.QUALIF_KO;
+    } else {
+      format = TournamentFormat.KNOCKOUT;
+    }
+    TournamentConfig cfg = TournamentConfig.builder()
+                                           .preQualDrawSize(preQualDrawSize)
+                                           .nbQualifiers(nbQualifiers)
+                                           .mainDrawSize(mainDrawSize)
+                                           .nbSeeds(nbSeedsMain)
+                                           .nbSeedsQualify(0)
+                                           .drawMode(DrawMode.MANUAL)
+                                           .format(format)
+                                           .build();
+    tournament.setConfig(cfg);
+    return tournament;
+  }
+
+  /**
+   * Path-only propagation must leave the bracket exactly as a full pass would: every scored game is propagated on its own, then a full pass on top
+   * must not change anything. A finished game is finally flipped to the other team to cover the case where occupants are replaced down the bracket.
+   */
+  @ParameterizedTest(name = "Path propagation matches full propagation: {0}")
+  @MethodSource("tournamentsFromCsv")
+  void testPropagateWinnersFromGame_MatchesFullPropagation_FromCsv(Long tournamentId, List<String[]> rows) {
+    Tournament tournament = newTournament(tournamentId, rows.getFirst());
+    TournamentBuilder.initializeEmptyRounds(tournament);
+    for (Round round : tournament.getRounds()) {
+      if (round.getStage() == Stage.Q1) {
+        initializeQ1Round(tournamentId, round);
+      }
+    }
+    tournament.getRounds().stream()
+              .filter(r -> !r.getStage().isQualification())
+              .findFirst()
+              .ifPresent(r -> initializeFirstMainDrawWithoutQualifiers(tournamentId, r));
+    TournamentBuilder.propagateWinners(tournament);
+
+    Game firstScored = null;
+    for (String[] row : rows) {
+      Stage stage = Stage.valueOf(stringValue(row, "Round").toUpperCase());
+      Round round = tournament.getRounds().stream().filter(r -> r.getStage() == stage).findFirst().orElseThrow();
+      for (Game game : scoreExistingMatches(round, intValue(row, "Matches"))) {
+        TournamentBuilder.propagateWinnersFromGame(tournament, game);
+        firstScored = firstScored != null ? firstScored : game;
+      }
+      assertSameAsFullPropagation(tournament, "after " + stage + " of tournament " + tournamentId);
+    }
+
+    if (firstScored != null) {
+      firstScored.setScore(TestFixturesCore.createScoreWithWinner(firstScored, firstScored.getTeamB()));
+      TournamentBuilder.propagateWinnersFromGame(tournament, firstScored);
+      assertSameAsFullPropagation(tournament, "after flipping a winner of tournament " + tournamentId);
+    }
+  }
+
+  private void assertSameAsFullPropagation(Tournament tournament, String context) {
+    List<String> afterPath = bracketSignature(tournament);
+    TournamentBuilder.propagateWinners(tournament);
+    assertEquals(bracketSignature(tournament), afterPath, "Path propagation diverged from full propagation " + context);
+  }
+
+  private List<String> bracketSignature(Tournament tournament) {
+    List<String> signature = new ArrayList<>();
+    for (Round round : tournament.getRounds()) {
+      for (Game game : round.getGames()) {
+        signature.add(round.getStage() + ":" + slotSignature(game.getTeamA()) + " vs " + slotSignature(game.getTeamB()));
+      }
+    }
+    return signature;
+  }
+
+  private String slotSignature(PlayerPair pair) {
+    if (pair == null) {
+      return "-";
+    }
+    if (pair.isBye()) {
+      return "BYE";
+    }
+    if (pair.getType() == PairType.QUALIFIER) {
+      return "Q" + pair.getQualifierIndex();
+    }
+    return pair.getPlayer1().getName() + "/" + pair.getPlayer2().getName() + "#seed=" + pair.getSeed();
+  }
+
   // New implementation: initializeQ1Round loads games from teams_t1.json for the given tournamentId
   private void initializeQ1Round(Long tournamentId, Round currentRound) {
     String resource = "";
@@ -299,8 +371,9 @@ class TournamentBuilderCsvTest {
     }
   }
 
-  private void scoreExistingMatches(Round currentRound, int expectedNbGames) {
-    int toScore = expectedNbGames;
+  private List<Game> scoreExistingMatches(Round currentRound, int expectedNbGames) {
+    List<Game> scored  = new ArrayList<>();
+    int        toScore = expectedNbGames;
     for (Game g : currentRound.getGames()) {
       if (toScore == 0) {
         break;
@@ -310,9 +383,11 @@ class TournamentBuilderCsvTest {
           g.getScore() == null) {
         g.setFormat(TestFixturesCore.createSimpleFormat(1));
         g.setScore(TestFixturesCore.createScoreWithWinner(g, g.getTeamA()));
+        scored.add(g);
         toScore--;
       }
     }
+    return scored;
   }
 
   private void validatePropagation(Round round, String[] row) {
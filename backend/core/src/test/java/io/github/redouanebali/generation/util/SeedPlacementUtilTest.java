@@ -12,6 +12,7 @@ import io.github.redouanebali.model.Pool;
 import io.github.redouanebali.model.Round;
 import io.github.redouanebali.util.TestFixturesCore;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
@@ -171,6 +172,57 @@ class SeedPlacementUtilTest {
     assertEquals(0, seedPositions.size(), "Expected no seed positions when nbSeeds=0");
   }
 
+  @ParameterizedTest(name = "standard seed order for drawSize={0}")
+  @CsvSource({
+      // drawSize, seed slots in standard order (TS1, TS2, TS3-4, TS5-8, ...), as in the former seed_positions.json
+      "2, 0",
+      "4, 0;3",
+      "8, 0;7;3;4",
+      "16, 0;15;7;8;3;4;11;12",
+      "32, 0;31;15;16;7;8;23;24;3;4;11;12;19;20;27;28",
+      "64, 0;63;31;32;15;16;47;48;7;8;23;24;39;40;55;56;3;4;11;12;19;20;27;28;35;36;43;44;51;52;59;60"
+  })
+  void testComputeSeedSlots_MatchesStandardOrder(int drawSize, String expectedSlotsStr) {
+    List<Integer> expected = Stream.of(expectedSlotsStr.split(";")).map(String::trim).map(Integer::parseInt).toList();
+
+    int[] slots = SeedPlacementUtil.computeSeedSlots(drawSize);
+
+    assertEquals(expected, Arrays.stream(slots).boxed().toList());
+  }
+
+  @Test
+  void testComputeSeedSlots_LargeDrawKeepsGroupsApart() {
+    int[] slots = SeedPlacementUtil.computeSeedSlots(128);
+
+    assertEquals(List.of(0, 127, 63, 64, 31, 32, 95, 96), Arrays.stream(slots).limit(8).boxed().toList());
+    assertEquals(64, new HashSet<>(Arrays.stream(slots).boxed().toList()).size(), "Seed slots should be unique");
+  }
+
+  // The groups follow their numeric order: TS3-4 before TS17-32, which the seed_positions.json keys sorted as strings had the other way round
+  @Test
+  void testGetSeedsPositions_64DrawWith32SeedsPlacesEachGroupOnItsSlots() {
+    List<Integer> positions = SeedPlacementUtil.getSeedsPositions(64, 32);
+
+    assertEquals(32, positions.size());
+    assertEquals(List.of(0), positions.subList(0, 1), "TS1");
+    assertEquals(List.of(63), positions.subList(1, 2), "TS2");
+    assertEquals(Set.of(31, 32), new HashSet<>(positions.subList(2, 4)), "TS3-4");
+    assertEquals(Set.of(15, 16, 47, 48), new HashSet<>(positions.subList(4, 8)), "TS5-8");
+    assertEquals(Set.of(7, 8, 23, 24, 39, 40, 55, 56), new HashSet<>(positions.subList(8, 16)), "TS9-16");
+    assertEquals(Set.of(3, 4, 11, 12, 19, 20, 27, 28, 35, 36, 43, 44, 51, 52, 59, 60), new HashSet<>(positions.subList(16, 32)), "TS17-32");
+  }
+
+  @Test
+  void testGetSeedsPositions_AllSlotsSeededKeepsOrder() {
+    assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7), SeedPlacementUtil.getSeedsPositions(8, 8));
+  }
+
+  @Test
+  void testGetSeedsPositions_ThrowsForUnsupportedDraw() {
+    assertThrows(IllegalArgumentException.class, () -> SeedPlacementUtil.getSeedsPositions(12, 4));
+    assertThrows(IllegalArgumentException.class, () -> SeedPlacementUtil.getSeedsPositions(8, 16));
+  }
+
   @ParameterizedTest(name = "placeSeedTeams mapping for drawSize={0}, nbSeeds={1}")
   @CsvSource({
       "64, 16",
@@ -0,0 +1,68 @@
+package io.github.redouanebali.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class GamePointTransitionsTest {
+
+  // The table is generated from the branching rules: this checks how it is packed and indexed
+  @Test
+  void table_matchesTheBranchingRulesForEveryState() {
+    for (GamePoint pointA : GamePoint.values()) {
+      for (GamePoint pointB : GamePoint.values()) {
+        for (TeamSide side : TeamSide.values()) {
+          for (boolean advantage : new boolean[]{false, true}) {
+            String    state    = pointA + "-" + pointB + " " + side + (advantage ? " ad" : " no-ad");
+            GamePoint mine     = side == TeamSide.TEAM_A ? pointA : pointB;
+            GamePoint opponent = side == TeamSide.TEAM_A ? pointB : pointA;
+            int       next     = GamePointTransitions.transition(pointA, pointB, side, advantage);
+
+            assertEquals(GamePointTransitions.shouldWinGame(mine, opponent, advantage), GamePointTransitions.isGameWon(next), state);
+            if (!GamePointTransitions.isGameWon(next)) {
+              GamePoint expectedMine     = advantage && opponent == GamePoint.AVANTAGE ? mine : GamePointTransitions.nextGamePoint(mine, opponent, advantage);
+              GamePoint expectedOpponent = advantage && opponent == GamePoint.AVANTAGE ? GamePoint.QUARANTE : opponent;
+              assertEquals(expectedMine, side == TeamSide.TEAM_A ? GamePointTransitions.pointA(next) : GamePointTransitions.pointB(next), state);
+              assertEquals(expectedOpponent, side == TeamSide.TEAM_A ? GamePointTransitions.pointB(next) : GamePointTransitions.pointA(next), state);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "ZERO, ZERO, TEAM_A, false, QUINZE, ZERO",
+      "TRENTE, QUARANTE, TEAM_A, true, QUARANTE, QUARANTE",
+      "QUARANTE, QUARANTE, TEAM_B, true, QUARANTE, AVANTAGE",
+      "AVANTAGE, QUARANTE, TEAM_B, true, QUARANTE, QUARANTE",
+      ", , TEAM_B, true, ZERO, QUINZE"
+  })
+  void transition_givesTheNextPoints(GamePoint pointA, GamePoint pointB, TeamSide side, boolean advantage, GamePoint nextA, GamePoint nextB) {
+    int next = GamePointTransitions.transition(pointA, pointB, side, advantage);
+
+    assertFalse(GamePointTransitions.isGameWon(next));
+    assertEquals(nextA, GamePointTransitions.pointA(next));
+    assertEquals(nextB, GamePointTransitions.pointB(next));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "QUARANTE, QUARANTE, TEAM_A, false",
+      "QUARANTE, TRENTE, TEAM_A, true",
+      "AVANTAGE, QUARANTE, TEAM_A, true",
+      "ZERO, QUARANTE, TEAM_B, false"
+  })
+  void transition_winsTheGame(GamePoint pointA, GamePoint pointB, TeamSide side, boolean advantage) {
+    int next = GamePointTransitions.transition(pointA, pointB, side, advantage);
+
+    assertTrue(GamePointTransitions.isGameWon(next));
+    assertEquals(GamePoint.ZERO, GamePointTransitions.pointA(next));
+    assertEquals(GamePoint.ZERO, GamePointTransitions.pointB(next));
+  }
+}
@@ -337,6 +337,42 @@ class GameTest {
     return score;
   }
 
+  // ============= STORED STATUS TESTS =============
+
+  @Test
+  void testStatus_isStoredUntilRefreshed() {
+    MatchFormat format = new MatchFormat(null, 1, 6, false, false);
+    PlayerPair  teamA  = new PlayerPair("Alice", "Bob", 1);
+    PlayerPair  teamB  = new PlayerPair("Charlie", "Dave", 2);
+    Game        game   = new Game(format);
+    game.setTeamA(teamA);
+    game.setTeamB(teamB);
+    game.setScore(Score.fromString("5-4"));
+
+    // A score changed in place is only seen after a refresh
+    game.getScore().getSets().getFirst().setTeamAScore(6);
+    assertFalse(game.isFinished());
+    assertNull(game.getWinner());
+
+    game.refreshStatus();
+    assertTrue(game.isFinished());
+    assertEquals(teamA, game.getWinner());
+    assertEquals(TeamSide.TEAM_A, game.getWinnerSide());
+  }
+
+  @Test
+  void testStatus_isRefreshedWhenATeamChanges() {
+    Game       game  = new Game(new MatchFormat());
+    PlayerPair teamA = new PlayerPair("Alice", "Bob", 1);
+    game.setTeamA(teamA);
+    assertFalse(game.isFinished());
+
+    game.setTeamB(PlayerPair.bye());
+    assertTrue(game.isFinished());
+    assertEquals(teamA, game.getWinner());
+    assertEquals(TeamSide.TEAM_A, game.getWinnerSide());
+  }
+
   // ============= FORFEIT TESTS =============
 
   @Test
@@ -471,6 +507,28 @@ class GameTest {
     assertEquals(TeamSide.TEAM_A, game.getWinnerSide());
   }
 
+  @Test
+  void testWithoutFormat_onlyAByeOrAForfeitEndsTheGame() {
+    PlayerPair teamA = new PlayerPair("Alice", "Bob", 1);
+    PlayerPair teamB = new PlayerPair("Charlie", "Dave", 2);
+
+    Game againstBye = new Game();
+    againstBye.setTeamA(teamA);
+    againstBye.setTeamB(PlayerPair.bye());
+    assertTrue(againstBye.isFinished(), "Game with BYE should be finished without a format");
+    assertEquals(TeamSide.TEAM_A, againstBye.getWinnerSide());
+
+    Game game = new Game();
+    game.setTeamA(teamA);
+    game.setTeamB(teamB);
+    game.setScore(Score.fromString("6-0 6-0"));
+    assertFalse(game.isFinished(), "Sets cannot be counted without a format");
+    game.getScore().markAsForfeit(TeamSide.TEAM_B);
+    game.refreshStatus();
+    assertTrue(game.isFinished(), "Forfeit should end the game without a format");
+    assertEquals(TeamSide.TEAM_A, game.getWinnerSide());
+  }
+
   @Test
   void testBye_overridesForfeitLogic() {
     MatchFormat standardFormat = new MatchFormat(null, 2, 6, false, true);
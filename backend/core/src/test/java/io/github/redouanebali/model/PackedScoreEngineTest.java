@@ -0,0 +1,110 @@
+package io.github.redouanebali.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.redouanebali.service.GamePointManager;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvFileSource;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class PackedScoreEngineTest {
+
+  private final GamePointManager gamePointManager = new GamePointManager();
+
+  @ParameterizedTest(name = "{16}")
+  @CsvFileSource(resources = "/game_point_transitions.csv", numLinesToSkip = 1)
+  void point_matchesTheGamePointManagerOnTheTransitionsCsv(String currentA,
+                                                           String currentB,
+                                                           TeamSide teamSide,
+                                                           boolean withAdvantage,
+                                                           boolean withTieBreak,
+                                                           boolean withSuperTieBreak,
+                                                           int startGamesA,
+                                                           int startGamesB,
+                                                           Integer startTieBreakA,
+                                                           Integer startTieBreakB) {
+    MatchFormat format = new MatchFormat();
+    format.setAdvantage(withAdvantage);
+    Score score = new Score();
+    score.getSets().add(new SetScore(startGamesA, startGamesB));
+    score.setCurrentGamePointA(currentA == null ? null : GamePoint.valueOf(currentA));
+    score.setCurrentGamePointB(currentB == null ? null : GamePoint.valueOf(currentB));
+    score.setTieBreakPointA(startTieBreakA);
+    score.setTieBreakPointB(startTieBreakB);
+
+    assertEquals(managerPoint(format, score, teamSide), enginePoint(format, score, teamSide));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "1, false, false, 1",
+      "2, true, false, 2",
+      "2, false, true, 3",
+      "2, true, true, 4",
+      "3, false, true, 5",
+      "3, true, false, 6"
+  })
+  void wholeMatches_matchTheGamePointManagerPointByPoint(int setsToWin, boolean superTieBreak, boolean advantage, long seed) {
+    MatchFormat format = new MatchFormat();
+    format.setNumberOfSetsToWin(setsToWin);
+    format.setSuperTieBreakInFinalSet(superTieBreak);
+    format.setAdvantage(advantage);
+    Game game = new Game(format);
+    game.setScore(new Score());
+    PackedScoreEngine engine = new PackedScoreEngine(format);
+    assertTrue(engine.load(game.getScore()));
+
+    // Even odds make long deuces, tie-breaks and deciding sets likely
+    Random random = new Random(seed);
+    for (int i = 0; !game.isFinished(); i++) {
+      TeamSide side = random.nextBoolean() ? TeamSide.TEAM_A : TeamSide.TEAM_B;
+      gamePointManager.applyGamePoint(game, side);
+      assertTrue(engine.point(side));
+
+      Score packed = new Score();
+      engine.store(packed);
+      assertEquals(game.getScore().encodeState(), packed.encodeState(), "point " + i);
+    }
+  }
+
+  @Test
+  void point_outOfThePackedRangesLeavesTheStateUnchanged() {
+    Score score = new Score();
+    score.restoreState("6-6:62-61|ZERO,ZERO|62,61|0,");
+    PackedScoreEngine engine = new PackedScoreEngine(new MatchFormat());
+    assertTrue(engine.load(score));
+
+    assertFalse(engine.point(TeamSide.TEAM_A));
+    Score stored = new Score();
+    engine.store(stored);
+    assertEquals(score.encodeState(), stored.encodeState());
+  }
+
+  @Test
+  void load_rejectsFormatsWithMoreSetsThanPacked() {
+    MatchFormat format = new MatchFormat();
+    format.setNumberOfSetsToWin(4);
+
+    assertFalse(new PackedScoreEngine(format).load(new Score()));
+  }
+
+  private String managerPoint(MatchFormat format, Score start, TeamSide side) {
+    Game game = new Game(format);
+    game.setScore(start.deepCopy());
+    gamePointManager.applyGamePoint(game, side);
+    return game.getScore().encodeState();
+  }
+
+  private String enginePoint(MatchFormat format, Score start, TeamSide side) {
+    PackedScoreEngine engine = new PackedScoreEngine(format);
+    assertTrue(engine.load(start));
+    assertTrue(engine.point(side));
+    Score score = new Score();
+    engine.store(score);
+    return score.encodeState();
+  }
+}
@@ -0,0 +1,64 @@
+package io.github.redouanebali.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class PackedScoreTest {
+
+  @ParameterizedTest
+  @CsvSource(delimiter = ';', value = {
+      "|,|,|0,",
+      "0-0|ZERO,ZERO|,|0,",
+      "6-4 3-2|QUARANTE,AVANTAGE|,|0,",
+      "6-4 6-6:5-3|ZERO,ZERO|5,3|0,",
+      "7-6:7-5 4-6 1-0:10-8|,|,|0,",
+      "7-6:20-18 6-7:0-7 6-4 5-7 15-13:62-60|TRENTE,|62,0|0,",
+      "6-4 2-1|TRENTE,QUINZE|,|1,TEAM_B",
+      "6-4 0-0:3-|,AVANTAGE|3,|1,"
+  })
+  void packedScore_restoresTheSameState(String state) {
+    Score score = new Score();
+    score.restoreState(state);
+    assertTrue(PackedScore.isPackable(score));
+
+    Score restored = Score.fromString("1-1 2-2 3-3 4-4 5-5");
+    PackedScore.unpack(PackedScore.high(score), PackedScore.low(score), restored);
+
+    assertEquals(state, restored.encodeState());
+  }
+
+  @ParameterizedTest
+  @CsvSource(delimiter = ';', value = {
+      "6-4 6-4 6-4 6-4 6-4 6-4|,|,|0,",
+      "16-14|,|,|0,",
+      "7-6:63-61|,|,|0,",
+      "6-6|,|63,61|0,"
+  })
+  void scoreOutOfThePackedRanges_isNotPackable(String state) {
+    Score score = new Score();
+    score.restoreState(state);
+
+    assertFalse(PackedScore.isPackable(score));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "6-4 3-2, 6-4 3-2 0-0",
+      "6-4 3-2 1-0, 6-4 3-2"
+  })
+  void unpack_updatesTheSetsInPlace(String packed, String target) {
+    Score    source = Score.fromString(packed);
+    Score    score  = Score.fromString(target);
+    SetScore first  = score.getSets().getFirst();
+
+    PackedScore.unpack(PackedScore.high(source), PackedScore.low(source), score);
+
+    assertSame(first, score.getSets().getFirst());
+    assertEquals(source, score);
+  }
+}
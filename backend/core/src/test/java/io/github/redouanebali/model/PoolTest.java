@@ -1,6 +1,8 @@
 package io.github.redouanebali.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.github.redouanebali.util.TestFixturesCore;
 import java.util.ArrayList;
@@ -81,4 +83,68 @@ class PoolTest {
     assertEquals(1, poolRankings.size());
     assertEquals(defaultPairs.size(), poolRankings.getFirst().getDetails().size());
   }
+
+  @ParameterizedTest
+  @CsvSource({
+      "'6-0,6-0', '6-0,6-0', '6-3,6-3', '3-6,3-6'",
+      "'6-2,6-2', '0-0', '6-4,6-1', '2-6,2-6'",
+      "'7-5,7-6', '6-0,6-0', '4-6,5-7', '6-4,6-4'",
+      "'6-1,6-1', '2-6,2-6', '6-3,6-3', '0-0'"
+  })
+  void testUpdateRanking_matchesFullComputation(String score1, String score2, String score3, String correctedScore1) {
+    Pool       pool  = new Pool("A", defaultPairs);
+    List<Game> games = new ArrayList<>();
+    games.add(buildGame("0-0", defaultPairs.getFirst(), defaultPairs.get(1)));
+    games.add(buildGame("0-0", defaultPairs.get(1), defaultPairs.get(2)));
+    games.add(buildGame("0-0", defaultPairs.getFirst(), defaultPairs.get(2)));
+
+    // Games finish one after the other, then the first result is corrected
+    String[] scores = {score1, score2, score3};
+    for (int i = 0; i < scores.length; i++) {
+      updateScore(pool, games.get(i), scores[i]);
+      assertSameRanking(games, pool);
+    }
+    updateScore(pool, games.getFirst(), correctedScore1);
+    assertSameRanking(games, pool);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "'6-0,6-0', true",
+      "'5-0', false"
+  })
+  void testUpdateGroupRanking_linksUnlinkedGameAndRecomputesItsPool(String score, boolean finished) {
+    Pool  pool  = new Pool("A", defaultPairs);
+    Round round = new Round(Stage.GROUPS);
+    round.addPool(pool);
+    Game played = buildGame("6-3,6-3", defaultPairs.get(1), defaultPairs.get(2));
+    Game game   = buildGame("0-0", defaultPairs.getFirst(), defaultPairs.get(2));
+    round.addGame(played);
+    round.addGame(game);
+    Tournament tournament = new Tournament();
+    tournament.getRounds().clear();
+    tournament.getRounds().add(round);
+
+    PoolGameResult previous = PoolGameResult.of(game);
+    game.setScore(Score.fromString(score));
+
+    assertTrue(Pool.updateGroupRanking(tournament, game, previous));
+    assertSame(pool, game.getPool());
+    // A:B beats E:F with a better games difference than C:D; until then C:D, the only winner, leads
+    PlayerPair expectedFirst = finished ? defaultPairs.getFirst() : defaultPairs.get(1);
+    assertEquals(expectedFirst, pool.getPoolRanking().getDetails().getFirst().getPlayerPair());
+  }
+
+  private void updateScore(Pool pool, Game game, String score) {
+    PoolGameResult previous = PoolGameResult.of(game);
+    game.setScore(Score.fromString(score));
+    pool.updateRanking(game, previous);
+  }
+
+  private void assertSameRanking(List<Game> games, Pool pool) {
+    List<String> incremental = pool.getPoolRanking().getDetails().stream().map(PoolRankingDetails::toString).toList();
+    Pool         recomputed  = new Pool("A", defaultPairs);
+    List<String> full        = recomputed.computeRanking(games).stream().map(PoolRankingDetails::toString).toList();
+    assertEquals(full, incremental);
+  }
 }
@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.HashMap;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -26,6 +28,24 @@ class ScoreTest {
     assertEquals(4, score.getSets().getFirst().getTeamBScore());
   }
 
+  @ParameterizedTest
+  @CsvSource(delimiter = ';', value = {
+      "|,|,|0,",
+      "6-4 3-2|QUARANTE,AVANTAGE|,|0,",
+      "6-4 6-6:5-3|ZERO,ZERO|5,3|0,",
+      "7-6:7-5 4-6 1-0:10-8|,|,|0,",
+      "6-4 2-1|TRENTE,QUINZE|,|1,TEAM_B"
+  })
+  void testEncodedStateRestoresTheSameScore(String state) {
+    Score score = new Score();
+    score.restoreState(state);
+
+    assertEquals(state, score.encodeState());
+    Score restored = new Score();
+    restored.restoreState(score.encodeState());
+    assertEquals(score, restored);
+  }
+
   @Test
   void testCompleteScoreRecording() {
     Score score = new Score();
@@ -384,6 +404,35 @@ class ScoreTest {
     }
   }
 
+  @Test
+  void undo_readsTheSavedEventsPastTheOnesLoggedSinceLoading() {
+    Score score = new Score();
+    score.addSetScore(0, 0);
+    score.saveToHistory(TeamSide.TEAM_A);
+    score.addSetScore(1, 0);
+    score.saveToHistory(TeamSide.TEAM_B);
+    score.addSetScore(1, 1);
+    score.undo();
+    String afterFirst = score.encodeState();
+    score.saveToHistory(TeamSide.TEAM_B);
+    score.addSetScore(2, 1);
+    // Saved: only the length of the history and the undo target stay with the score
+    Map<Integer, ScoreEvent> saved = new HashMap<>();
+    score.takeNewEvents().forEach(event -> saved.put(event.getSeq(), event));
+    Score loaded = score.deepCopy();
+    assertEquals(4, loaded.getEventCount());
+    assertEquals(3, loaded.getUndoTarget());
+
+    assertThrows(IllegalStateException.class, loaded::undo);
+    loaded.undo(saved::get);
+    assertEquals(afterFirst, loaded.encodeState());
+    // The point undone before saving stays undone: the next undo restores the blank score
+    loaded.undo(saved::get);
+    assertEquals(1, loaded.getSets().size());
+    assertFalse(loaded.canUndo());
+    assertEquals(6, loaded.getEventCount());
+  }
+
   private GamePoint parseGamePoint(String s) {
     if (s == null || s.equals("null") || s.equals("0")) {
       return null;
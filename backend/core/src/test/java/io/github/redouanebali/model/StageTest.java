@@ -19,7 +19,11 @@ class StageTest {
       "17, R32",
       "32, R32",
       "33, R64",
-      "64, R64"
+      "64, R64",
+      "65, R128",
+      "128, R128",
+      "129, R256",
+      "256, R256"
   })
   void testFromNbTeams(int teamCount, Stage expectedStage) {
     assertEquals(expectedStage, Stage.fromNbTeams(teamCount));
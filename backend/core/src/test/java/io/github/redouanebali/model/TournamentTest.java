@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -173,4 +174,52 @@ class TournamentTest {
     assertTrue(tournament.isEditableBy("owner123"));
     assertFalse(tournament.isEditableBy("other"));
   }
+
+  @Test
+  void findGameById_shouldFindGamesAcrossRounds() {
+    Tournament tournament = new Tournament();
+    Round      semis      = new Round(Stage.SEMIS);
+    Round      finale     = new Round(Stage.FINAL);
+    semis.addGames(List.of(gameWithId(1L), gameWithId(2L)));
+    finale.addGames(List.of(gameWithId(3L)));
+    tournament.getRounds().addAll(List.of(semis, finale));
+
+    assertEquals(2L, tournament.findGameById(2L).orElseThrow().getId());
+    assertEquals(3L, tournament.findGameById(3L).orElseThrow().getId());
+    assertTrue(tournament.findGameById(4L).isEmpty());
+    assertTrue(tournament.findGameById(null).isEmpty());
+  }
+
+  @Test
+  void findGameById_shouldSeeGamesReplacedAfterFirstLookup() {
+    Tournament tournament = new Tournament();
+    Round      round      = new Round(Stage.FINAL);
+    round.addGames(List.of(gameWithId(1L)));
+    tournament.getRounds().add(round);
+    assertTrue(tournament.findGameById(1L).isPresent());
+
+    round.replaceGames(List.of(gameWithId(5L)));
+
+    assertTrue(tournament.findGameById(1L).isEmpty());
+    assertEquals(5L, tournament.findGameById(5L).orElseThrow().getId());
+  }
+
+  @Test
+  void findGameById_shouldSeeGamesAddedAfterAMiss() {
+    Tournament tournament = new Tournament();
+    Round      round      = new Round(Stage.FINAL);
+    round.addGames(List.of(gameWithId(1L)));
+    tournament.getRounds().add(round);
+    assertTrue(tournament.findGameById(2L).isEmpty());
+
+    round.addGame(gameWithId(2L));
+
+    assertEquals(2L, tournament.findGameById(2L).orElseThrow().getId());
+  }
+
+  private Game gameWithId(Long id) {
+    Game game = new Game(new MatchFormat());
+    game.setId(id);
+    return game;
+  }
 }
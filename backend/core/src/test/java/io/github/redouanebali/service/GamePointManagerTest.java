@@ -1,13 +1,16 @@
 package io.github.redouanebali.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import io.github.redouanebali.model.Game;
 import io.github.redouanebali.model.GamePoint;
 import io.github.redouanebali.model.MatchFormat;
 import io.github.redouanebali.model.Score;
+import io.github.redouanebali.model.ScoreEvent;
 import io.github.redouanebali.model.SetScore;
 import io.github.redouanebali.model.TeamSide;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -220,9 +223,19 @@ public class GamePointManagerTest {
     Game        game   = new Game();
     MatchFormat format = new MatchFormat();
     game.setFormat(format);
+    // Log the point from the expected state, then move to the current one, to simulate real undo
     Score    score = new Score();
     SetScore set   = new SetScore(0, 0);
     score.getSets().add(set);
+    if (isTieBreak) {
+      score.setTieBreakPointA(expectedA == null || expectedA.equals("null") ? null : Integer.parseInt(expectedA));
+      score.setTieBreakPointB(expectedB == null || expectedB.equals("null") ? null : Integer.parseInt(expectedB));
+    } else {
+      score.setCurrentGamePointA(expectedA == null || expectedA.equals("null") ? null : GamePoint.valueOf(expectedA));
+      score.setCurrentGamePointB(expectedB == null || expectedB.equals("null") ? null : GamePoint.valueOf(expectedB));
+    }
+    Score previous = score.deepCopy();
+    score.saveToHistory(TeamSide.valueOf(side));
     if (isTieBreak) {
       Integer tbA = (currentA == null || currentA.isEmpty()) ? 3 : Integer.parseInt(currentA);
       Integer tbB = (currentB == null || currentB.isEmpty()) ? 2 : Integer.parseInt(currentB);
@@ -234,18 +247,6 @@ public class GamePointManagerTest {
     }
     game.setScore(score);
 
-    // Inject previous score with expectedA/expectedB to simulate real undo
-    Score previous = new Score();
-    previous.getSets().add(new SetScore(0, 0));
-    if (isTieBreak) {
-      previous.setTieBreakPointA(expectedA == null || expectedA.equals("null") ? null : Integer.parseInt(expectedA));
-      previous.setTieBreakPointB(expectedB == null || expectedB.equals("null") ? null : Integer.parseInt(expectedB));
-    } else {
-      previous.setCurrentGamePointA(expectedA == null || expectedA.equals("null") ? null : GamePoint.valueOf(expectedA));
-      previous.setCurrentGamePointB(expectedB == null || expectedB.equals("null") ? null : GamePoint.valueOf(expectedB));
-    }
-    score.setPreviousScore(previous);
-
     GamePointManager manager = new GamePointManager();
     manager.undoGamePoint(game);
 
@@ -280,17 +281,15 @@ public class GamePointManagerTest {
     manager.incrementGamePoint(game, TeamSide.TEAM_B);
     Score afterThird = game.getScore().deepCopy();
 
-    // On vérifie que previousScore n'est pas null après chaque update
+    // Each point is logged with its side, and the log replays every state
     assertEquals(afterThird, game.getScore());
-    assertEquals(afterSecond, game.getScore().getPreviousScore());
-    assertEquals(afterFirst, game.getScore().getPreviousScore().getPreviousScore());
-    // The very first previousScore is not null, but its content is a 'blank' score (0-0) with ZERO game points
-    // So test for a blank score instead of null
+    assertEquals(List.of(TeamSide.TEAM_A, TeamSide.TEAM_A, TeamSide.TEAM_B), game.getScore().getNewEvents().stream().map(ScoreEvent::getSide).toList());
+    // The state before the first point is a 'blank' score (0-0) with ZERO game points
     Score blank = new Score();
     blank.getSets().add(new SetScore(0, 0));
     blank.setCurrentGamePointA(GamePoint.ZERO);
     blank.setCurrentGamePointB(GamePoint.ZERO);
-    assertEquals(blank, game.getScore().getPreviousScore().getPreviousScore().getPreviousScore());
+    assertEquals(List.of(blank, afterFirst, afterSecond, afterThird), game.getScore().replayHistory());
 
     // Undo 1 fois
     game.getScore().undo();
@@ -298,6 +297,14 @@ public class GamePointManagerTest {
     // Undo 2 fois
     game.getScore().undo();
     assertEquals(afterFirst, game.getScore());
+    // Undos are logged too, a new point is undone before the points already undone
+    manager.incrementGamePoint(game, TeamSide.TEAM_B);
+    game.getScore().undo();
+    assertEquals(afterFirst, game.getScore());
+    game.getScore().undo();
+    assertEquals(blank, game.getScore());
+    assertFalse(game.getScore().canUndo());
+    assertEquals(8, game.getScore().getEventCount());
   }
 
   @Test
@@ -56,7 +56,7 @@ export default function KnockoutConfigSection({
           className="w-full px-3 py-2 border border-input rounded-md bg-background text-foreground focus:outline-none focus:ring-2 focus:ring-ring focus:border-transparent transition-colors h-10 disabled:opacity-50 disabled:cursor-not-allowed"
           title={isTournamentStarted ? "Impossible de modifier la taille une fois le tournoi lancé" : ""}
         >
-          {[2,4, 8, 16, 32, 64, 128].map((val) => (
+          {[2, 4, 8, 16, 32, 64, 128, 256].map((val) => (
             <option key={val} value={val}>{val}</option>
           ))}
         </select>
@@ -45,6 +45,9 @@ export default function QualifKnockoutConfigSection({
           <option value={8}>8</option>
           <option value={16}>16</option>
           <option value={32}>32</option>
+          <option value={64}>64</option>
+          <option value={128}>128</option>
+          <option value={256}>256</option>
         </select>
       </div>
       <div className="space-y-2">
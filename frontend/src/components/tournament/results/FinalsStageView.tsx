@@ -4,6 +4,7 @@ import { calculateMatchPositions } from '@/src/utils/bracket';
 import type { Tournament } from '@/src/types/tournament';
 import HideByeSwitch from '@/src/components/ui/HideByeSwitch';
 import { useBracketZoom } from '@/src/hooks/useBracketZoom';
+import { isQualifStage } from '@/src/types/stage';
 
 export default function FinalsStageView({
   tournament,
@@ -22,7 +23,7 @@ export default function FinalsStageView({
   const finalsRounds = (() => {
     const r = tournament.rounds ?? [];
     if (isGroupStageFormat) return r.filter((round) => round.stage !== 'GROUPS');
-    if (isQualifStageFormat) return r.filter((round) => round.stage !== 'Q1' && round.stage !== 'Q2' && round.stage !== 'Q3');
+    if (isQualifStageFormat) return r.filter((round) => !isQualifStage(round.stage));
     return r;
   })();
 
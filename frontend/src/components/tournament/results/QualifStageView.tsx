@@ -4,6 +4,7 @@ import { calculateMatchPositions } from '@/src/utils/bracket';
 import type { Tournament } from '@/src/types/tournament';
 import HideByeSwitch from '@/src/components/ui/HideByeSwitch';
 import { useBracketZoom } from '@/src/hooks/useBracketZoom';
+import { isQualifStage } from '@/src/types/stage';
 
 export default function QualifStageView({
   tournament,
@@ -15,9 +16,7 @@ export default function QualifStageView({
   const [hideBye, setHideBye] = useState(false);
   const containerRef = useRef<HTMLDivElement>(null);
 
-  const qualifRounds = (tournament.rounds ?? []).filter(
-    (round) => ['Q1', 'Q2', 'Q3'].includes(round.stage)
-  );
+  const qualifRounds = (tournament.rounds ?? []).filter((round) => isQualifStage(round.stage));
   const hasQualifs = qualifRounds.length > 0;
   const hasBye = qualifRounds.some((round) => round.games.some((game) => game.teamA?.type === 'BYE' || game.teamB?.type === 'BYE'));
 
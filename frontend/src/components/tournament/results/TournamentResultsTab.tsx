@@ -1,5 +1,5 @@
 "use client";
-import { useEffect, useState, useMemo } from 'react';
+import { useCallback, useEffect, useRef, useState, useMemo } from 'react';
 import { fetchTournament } from '@/src/api/tournamentApi';
 import type { Tournament } from '@/src/types/tournament';
 import { Stage } from '@/src/types/stage';
@@ -11,6 +11,8 @@ import QualifStageView from './QualifStageView';
 import FinalsStageView from './FinalsStageView';
 import { useExport } from '@/src/contexts/ExportContext';
 import { exportBracketAsImage } from '@/src/utils/imageExport';
+import { useRealtimeTournament } from '@/src/hooks/useRealtimeTournament';
+import { applyGameChange, GameChange } from '@/src/lib/realtime/tournamentStream';
 
 const VIEW_QUALIF = 'qualif';
 
@@ -55,12 +57,33 @@ export default function TournamentResultsTab({ tournamentId }: TournamentResults
     load();
   }, [tournamentId]);
 
+  // Live updates: apply each game change in place, reload when it cannot be applied locally (pool rankings)
+  const tournamentRef = useRef<Tournament | null>(null);
+  tournamentRef.current = tournament;
+  const reloadTournament = useCallback(() => {
+    fetchTournament(tournamentId)
+      .then(setTournament)
+      .catch((err) => console.error("Erreur lors du rechargement du tournoi : " + err));
+  }, [tournamentId]);
+  const handleGameChange = useCallback((change: GameChange) => {
+    const current = tournamentRef.current;
+    if (!current) return;
+    const updated = applyGameChange(current, change);
+    if (updated) {
+      setTournament(updated);
+      return;
+    }
+    reloadTournament();
+  }, [reloadTournament]);
+
+  useRealtimeTournament({ tournamentId, onGameChange: handleGameChange, onReconnect: reloadTournament, enabled: !!tournament });
+
   const isGroupStageFormat = tournament?.config?.format === 'GROUPS_KO';
   const isQualifStageFormat = tournament?.config?.format === 'QUALIF_KO';
 
   const hasMatchesInFinalPhase = useMemo(() => {
     if (!tournament?.rounds) return false;
-    const finalPhaseStages = [Stage.R64, Stage.R32, Stage.R16, Stage.QUARTERS, Stage.SEMIS, Stage.FINAL, Stage.WINNER];
+    const finalPhaseStages = [Stage.R256, Stage.R128, Stage.R64, Stage.R32, Stage.R16, Stage.QUARTERS, Stage.SEMIS, Stage.FINAL, Stage.WINNER];
     return tournament.rounds.some(round =>
       finalPhaseStages.includes(round.stage) &&
       round.games?.some(game => game.score !== null)
@@ -1,15 +1,9 @@
 import { useEffect, useRef } from 'react';
 import { useSession } from 'next-auth/react';
 import { StompClientManager } from '@/src/lib/realtime/StompClientManager';
-import { Score } from '@/src/types/score';
+import { subscribeGameScore } from '@/src/lib/realtime/gameScoreStream';
 import { TeamSide } from '@/src/types/teamSide';
 
-interface UpdateScoreDTO {
-  tournamentUpdated: boolean;
-  winner: TeamSide | null;
-  score: Score;
-}
-
 interface UseRealtimeGameOptions {
   gameId: string;
   onScoreUpdate: (dto: { score: any; winner: TeamSide | null }) => void;
@@ -33,7 +27,8 @@ export function getStompManager(session: any): StompClientManager {
 
 /**
  * Hook to subscribe to real-time game updates via STOMP.
- * Replaces periodic polling with WebSocket push notifications.
+ * Replaces periodic polling with WebSocket push notifications: the current score is received on subscribe, then only what
+ * changes (see gameScoreStream).
  */
 export function useRealtimeGame({ gameId, onScoreUpdate, enabled = true }: UseRealtimeGameOptions) {
   const { data: session } = useSession();
@@ -49,20 +44,17 @@ export function useRealtimeGame({ gameId, onScoreUpdate, enabled = true }: UseRe
     if (!enabled || !gameId) return;
 
     const manager = getStompManager(session);
-    const destination = `/topic/game/${gameId}`;
+    let cancelled = false;
 
     // Subscribe with stable callback that uses the ref
     const subscribeAsync = async () => {
       try {
-        const unsubscribe = await manager.subscribe(destination, (message) => {
-          try {
-            const dto = JSON.parse(message.body) as UpdateScoreDTO;
-            callbackRef.current(dto);
-          } catch (e) {
-            console.error('[useRealtimeGame] Failed to parse message:', e);
-          }
-        });
-        unsubscribeRef.current = unsubscribe;
+        const unsubscribe = await subscribeGameScore(manager, gameId, (dto) => callbackRef.current(dto));
+        if (cancelled) {
+          unsubscribe();
+        } else {
+          unsubscribeRef.current = unsubscribe;
+        }
       } catch (e) {
         console.error('[useRealtimeGame] Subscription error:', e);
       }
@@ -72,6 +64,7 @@ export function useRealtimeGame({ gameId, onScoreUpdate, enabled = true }: UseRe
 
     // Cleanup on unmount or gameId change
     return () => {
+      cancelled = true;
       if (unsubscribeRef.current) {
         unsubscribeRef.current();
         unsubscribeRef.current = null;
@@ -1,15 +1,9 @@
 import { useEffect, useRef } from 'react';
 import { useSession } from 'next-auth/react';
-import { Score } from '@/src/types/score';
 import { TeamSide } from '@/src/types/teamSide';
+import { subscribeGameScore } from '@/src/lib/realtime/gameScoreStream';
 import { getStompManager } from './useRealtimeGame';
 
-interface UpdateScoreDTO {
-  tournamentUpdated: boolean;
-  winner: TeamSide | null;
-  score: Score;
-}
-
 interface UseRealtimeGamesOptions {
   gameIds: string[];
   onScoreUpdate: (gameId: string, dto: { score: any; winner: TeamSide | null }) => void;
@@ -64,17 +58,8 @@ export function useRealtimeGames({ gameIds, onScoreUpdate, enabled = true }: Use
     toSubscribe.forEach(async (gameId) => {
       if (!gameId || unsubscribersRef.current.has(gameId)) return;
 
-      const destination = `/topic/game/${gameId}`;
       try {
-        const unsubscribe = await manager.subscribe(destination, (message) => {
-          try {
-            const dto = JSON.parse(message.body) as UpdateScoreDTO;
-            callbackRef.current(gameId, dto);
-          } catch (e) {
-            // Only log parsing errors
-            console.error(`[useRealtimeGames] Failed to parse message for game ${gameId}:`, e);
-          }
-        });
+        const unsubscribe = await subscribeGameScore(manager, gameId, (dto) => callbackRef.current(gameId, dto));
         unsubscribersRef.current.set(gameId, unsubscribe);
       } catch (e) {
         console.error(`[useRealtimeGames] Subscription error for game ${gameId}:`, e);
@@ -0,0 +1,60 @@
+import { useEffect, useRef } from 'react';
+import { useSession } from 'next-auth/react';
+import { GameChange } from '@/src/lib/realtime/tournamentStream';
+import { getStompManager } from './useRealtimeGame';
+
+interface UseRealtimeTournamentOptions {
+  tournamentId: string;
+  onGameChange: (change: GameChange) => void;
+  // Called after a reconnection: changes published while the connection was down are not replayed
+  onReconnect?: () => void;
+  enabled?: boolean;
+}
+
+/**
+ * Hook to follow every game of a tournament with a single STOMP subscription: each score change arrives with the
+ * next-round slots it filled, so bracket views need no polling.
+ * Shares the same STOMP connection as useRealtimeGame.
+ */
+export function useRealtimeTournament({ tournamentId, onGameChange, onReconnect, enabled = true }: UseRealtimeTournamentOptions) {
+  const { data: session } = useSession();
+  const callbackRef = useRef(onGameChange);
+  const reconnectRef = useRef(onReconnect);
+
+  // Keep callback refs up to date without triggering re-subscription
+  useEffect(() => {
+    callbackRef.current = onGameChange;
+    reconnectRef.current = onReconnect;
+  }, [onGameChange, onReconnect]);
+
+  useEffect(() => {
+    if (!enabled || !tournamentId) return;
+
+    const manager = getStompManager(session);
+    let unsubscribe: (() => void) | null = null;
+    let cancelled = false;
+    const stopReconnect = manager.onReconnect(() => reconnectRef.current?.());
+
+    manager.subscribe(`/topic/tournament/${tournamentId}`, (message) => {
+      try {
+        callbackRef.current(JSON.parse(message.body) as GameChange);
+      } catch (e) {
+        console.error('[useRealtimeTournament] Failed to parse message:', e);
+      }
+    }).then((unsub) => {
+      if (cancelled) {
+        unsub();
+      } else {
+        unsubscribe = unsub;
+      }
+    }).catch((e) => console.error('[useRealtimeTournament] Subscription error:', e));
+
+    return () => {
+      cancelled = true;
+      stopReconnect();
+      unsubscribe?.();
+    };
+  }, [tournamentId, enabled, session]);
+
+  return { connected: true };
+}
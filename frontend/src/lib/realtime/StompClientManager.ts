@@ -27,6 +27,9 @@ export class StompClientManager {
   private readonly listeners = new Map<string, SubscriptionEntry>();
   private readonly config: Required<Omit<StompManagerConfig, 'authTokenProvider'>> & Pick<StompManagerConfig, 'authTokenProvider'>;
   private connecting = false;
+  private connectedOnce = false;
+  private nextKey = 0;
+  private readonly reconnectListeners = new Set<() => void>();
 
   constructor(config: StompManagerConfig = {}) {
     const baseUrl = config.baseUrl ?? (process.env.NEXT_PUBLIC_API_BASE_URL ?? 'http://localhost:8080');
@@ -42,14 +45,51 @@ export class StompClientManager {
   }
 
   async subscribe(destination: string, listener: Listener) {
-    this.listeners.set(destination + listener.toString(), { destination, listener });
+    // One key per call: listeners of the same destination often share the same source text
+    const key = `${destination}#${++this.nextKey}`;
+    this.listeners.set(key, { destination, listener });
     await this.ensureConnected();
-    this.installSubscription(destination, listener);
-    return () => this.unsubscribe(destination, listener);
+    this.installSubscription(key);
+    return () => this.unsubscribe(key);
+  }
+
+  /**
+   * Registers a callback run after every reconnection, once the subscriptions are reinstalled: messages sent while the
+   * connection was down are lost, so streams use it to catch up.
+   */
+  onReconnect(callback: () => void) {
+    this.reconnectListeners.add(callback);
+    return () => {
+      this.reconnectListeners.delete(callback);
+    };
+  }
+
+  /**
+   * Subscribes to a destination for its first message only, such as a snapshot answered by a server-side @SubscribeMapping.
+   * Resolves with null if nothing arrives within the timeout.
+   */
+  request(destination: string, timeoutMs = 5000): Promise<IMessage | null> {
+    return new Promise((resolve) => {
+      let unsubscribe: (() => void) | null = null;
+      let done = false;
+      const finish = (message: IMessage | null) => {
+        if (done) return;
+        done = true;
+        clearTimeout(timer);
+        unsubscribe?.();
+        resolve(message);
+      };
+      const timer = setTimeout(() => finish(null), timeoutMs);
+      this.subscribe(destination, finish).then((unsub) => {
+        unsubscribe = unsub;
+        if (done) unsub();
+      }, () => finish(null));
+    });
   }
 
   private async ensureConnected() {
-    if (this.client?.connected || this.connecting) return;
+    // An active client reconnects by itself: creating another one would duplicate every subscription
+    if (this.client?.active || this.connecting) return;
     this.connecting = true;
 
     const client = new Client({
@@ -62,13 +102,21 @@ export class StompClientManager {
       onConnect: () => {
         this.connecting = false;
         // Reinstall all subscriptions (important for reconnections)
-        this.listeners.forEach(({ destination, listener }) => this.installSubscription(destination, listener));
+        this.listeners.forEach((_, key) => this.installSubscription(key));
+        if (this.connectedOnce) {
+          this.reconnectListeners.forEach((callback) => callback());
+        }
+        this.connectedOnce = true;
       },
       onDisconnect: () => {
         this.connecting = false;
+        if (this.client === client) this.forgetSubscriptions();
       },
       onWebSocketClose: () => {
         this.connecting = false;
+        // The server drops the subscriptions of a closed session: they must be installed again on the next connection.
+        // A client deactivated after its last listener left may close after its replacement connected: it must not touch it.
+        if (this.client === client) this.forgetSubscriptions();
       },
       onStompError: (frame: any) => {
         console.error('[STOMP] Error', frame.headers['message'], frame.body);
@@ -80,13 +128,18 @@ export class StompClientManager {
     this.client = client;
   }
 
-  private installSubscription(destination: string, listener: Listener) {
+  private installSubscription(key: string) {
     if (!this.client?.connected) return;
-    const key = destination + listener.toString();
     const existing = this.listeners.get(key);
-    if (existing?.id) return; // Already subscribed
-    const sub = this.client.subscribe(destination, listener);
-    this.listeners.set(key, { destination, listener, id: sub.id });
+    if (!existing || existing.id) return; // Gone or already subscribed
+    const sub = this.client.subscribe(existing.destination, existing.listener);
+    this.listeners.set(key, { ...existing, id: sub.id });
+  }
+
+  private forgetSubscriptions() {
+    this.listeners.forEach((entry, key) => {
+      if (entry.id) this.listeners.set(key, { ...entry, id: undefined });
+    });
   }
 
   private async buildAuthHeaders(): Promise<StompHeaders> {
@@ -95,8 +148,7 @@ export class StompClientManager {
     return { Authorization: `Bearer ${token}` };
   }
 
-  private unsubscribe(destination: string, listener: Listener) {
-    const key = destination + listener.toString();
+  private unsubscribe(key: string) {
     const entry = this.listeners.get(key);
     if (!entry) return;
 
@@ -114,6 +166,7 @@ export class StompClientManager {
           this.client.deactivate();
           this.client = null;
           this.connecting = false;
+          this.connectedOnce = false;
         }
       }, 1000);
     }
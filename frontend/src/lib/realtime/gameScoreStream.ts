@@ -0,0 +1,129 @@
+import { IMessage } from '@stomp/stompjs';
+import { StompClientManager } from '@/src/lib/realtime/StompClientManager';
+import { Score } from '@/src/types/score';
+import { TeamSide } from '@/src/types/teamSide';
+
+export interface GameScoreUpdate {
+  score: Score | null;
+  winner: TeamSide | null;
+  finished: boolean;
+}
+
+interface GameScoreState {
+  finished?: boolean;
+  winner?: TeamSide;
+  score?: Score;
+}
+
+/**
+ * Message of /topic/game/{id}: a snapshot of the whole state, or a JSON merge patch (RFC 7396) of what changed since the
+ * previous message of the same epoch. Sequence numbers grow by one per message within an epoch.
+ */
+interface ScoreStreamMessage {
+  gameId: number;
+  epoch?: string;
+  seq?: number;
+  snapshot?: boolean;
+  data: any;
+}
+
+/**
+ * Applies a JSON merge patch: objects are merged recursively, null removes a field, anything else replaces it.
+ */
+export function applyMergePatch(target: any, patch: any): any {
+  if (patch === null || typeof patch !== 'object' || Array.isArray(patch)) {
+    return patch;
+  }
+  const result: any = target !== null && typeof target === 'object' && !Array.isArray(target) ? { ...target } : {};
+  Object.entries(patch).forEach(([key, value]) => {
+    if (value === null) {
+      delete result[key];
+    } else {
+      result[key] = applyMergePatch(result[key], value);
+    }
+  });
+  return result;
+}
+
+/**
+ * Follows the score of a game: fetches its snapshot, then applies the patches of /topic/game/{id} in sequence. A patch that
+ * does not follow the last applied message (missed message, other epoch), or a reconnection, triggers a catch-up: the server
+ * replays the messages following the last applied one, or sends a snapshot when it no longer has them all.
+ *
+ * @returns a function that stops following the game
+ */
+export async function subscribeGameScore(manager: StompClientManager,
+                                         gameId: string,
+                                         onUpdate: (update: GameScoreUpdate) => void): Promise<() => void> {
+  let state: GameScoreState | null = null;
+  let epoch: string | undefined;
+  let seq = 0;
+  let resyncing = false;
+  let closed = false;
+
+  const emit = () => {
+    if (!closed && state) {
+      onUpdate({ score: state.score ?? null, winner: state.winner ?? null, finished: state.finished ?? false });
+    }
+  };
+
+  const applySnapshot = (message: ScoreStreamMessage) => {
+    // A snapshot older than what was already applied from the same epoch is stale
+    if (state && message.epoch === epoch && (message.seq ?? 0) <= seq) return;
+    state = message.data;
+    epoch = message.epoch;
+    seq = message.seq ?? 0;
+    emit();
+  };
+
+  const resync = async () => {
+    if (resyncing || closed) return;
+    resyncing = true;
+    try {
+      if (state && epoch) {
+        const reply = await manager.request(`/app/game/${gameId}/since/${encodeURIComponent(epoch)}/${seq}`);
+        if (reply) (JSON.parse(reply.body) as ScoreStreamMessage[]).forEach(handle);
+      } else {
+        const reply = await manager.request(`/app/game/${gameId}`);
+        if (reply) applySnapshot(parse(reply));
+      }
+    } catch (e) {
+      console.error(`[gameScoreStream] Catch-up failed for game ${gameId}:`, e);
+    } finally {
+      resyncing = false;
+    }
+  };
+
+  const handle = (message: ScoreStreamMessage) => {
+    if (message.snapshot) {
+      applySnapshot(message);
+    } else if (state && message.epoch === epoch && message.seq === seq + 1) {
+      state = applyMergePatch(state, message.data);
+      seq = message.seq;
+      emit();
+    } else if (!(state && message.epoch === epoch && (message.seq ?? 0) <= seq)) {
+      resync();
+    }
+  };
+
+  const onMessage = (raw: IMessage) => {
+    try {
+      handle(parse(raw));
+    } catch (e) {
+      console.error(`[gameScoreStream] Failed to parse message for game ${gameId}:`, e);
+    }
+  };
+
+  const unsubscribe = await manager.subscribe(`/topic/game/${gameId}`, onMessage);
+  const stopCatchingUp = manager.onReconnect(resync);
+  resync();
+  return () => {
+    closed = true;
+    stopCatchingUp();
+    unsubscribe();
+  };
+}
+
+function parse(message: IMessage): ScoreStreamMessage {
+  return JSON.parse(message.body) as ScoreStreamMessage;
+}
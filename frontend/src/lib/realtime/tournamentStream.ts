@@ -0,0 +1,49 @@
+import { Score } from '@/src/types/score';
+import { TeamSide } from '@/src/types/teamSide';
+import { PlayerPair } from '@/src/types/playerPair';
+import { Tournament } from '@/src/types/tournament';
+
+/**
+ * Message of /topic/tournament/{id}: the new score and result of one game, and the teams of the following games that its
+ * winner's propagation changed.
+ */
+export interface GameChange {
+  gameId: number;
+  finished: boolean;
+  winnerSide: TeamSide | null;
+  score: Score | null;
+  nextGames?: { gameId: number; teamA: PlayerPair | null; teamB: PlayerPair | null }[];
+  poolRankingChanged?: boolean;
+}
+
+/**
+ * Applies a game change to a loaded tournament. Returns null when the change cannot be applied locally (unknown game, or a
+ * pool ranking to recompute): the caller should reload the tournament.
+ */
+export function applyGameChange(tournament: Tournament, change: GameChange): Tournament | null {
+  if (change.poolRankingChanged) return null;
+  const next = new Map((change.nextGames ?? []).map((slots) => [String(slots.gameId), slots]));
+  let found = false;
+  const rounds = tournament.rounds.map((round) => {
+    if (!round.games?.some((game) => String(game.id) === String(change.gameId) || next.has(String(game.id)))) {
+      return round;
+    }
+    return {
+      ...round,
+      games: round.games.map((game) => {
+        if (String(game.id) === String(change.gameId)) {
+          found = true;
+          return {
+            ...game,
+            score: change.score ?? undefined,
+            finished: change.finished,
+            winnerSide: change.winnerSide ?? undefined,
+          };
+        }
+        const slots = next.get(String(game.id));
+        return slots ? { ...game, teamA: slots.teamA, teamB: slots.teamB } : game;
+      }),
+    };
+  });
+  return found ? { ...tournament, rounds } : null;
+}
@@ -3,6 +3,10 @@ export enum Stage {
   Q1 = 'Q1',
   Q2 = 'Q2',
   Q3 = 'Q3',
+  Q4 = 'Q4',
+  Q5 = 'Q5',
+  R256 = 'R256',
+  R128 = 'R128',
   R64 = 'R64',
   R32 = 'R32',
   R16 = 'R16',
@@ -17,6 +21,10 @@ export const stageLabels: Record<Stage, string> = {
   Q1: 'Qualifications 1',
   Q2: 'Qualifications 2',
   Q3: 'Qualifications 3',
+  Q4: 'Qualifications 4',
+  Q5: 'Qualifications 5',
+  R256: '1/128 de finale',
+  R128: '1/64 de finale',
   R64: '1/32 de finale',
   R32: '1/16 de finale',
   R16: '1/8 de finale',
@@ -26,7 +34,20 @@ export const stageLabels: Record<Stage, string> = {
   WINNER: 'Vainqueur',
 };
 
+/** Stages des tours de qualification, dans l'ordre */
+export const qualifStages: readonly Stage[] = [Stage.Q1, Stage.Q2, Stage.Q3, Stage.Q4, Stage.Q5];
+
+/**
+ * Indique si un stage est un tour de qualification
+ * @param stage - Le stage à tester
+ * @returns true pour Q1 à Q5
+ */
+export const isQualifStage = (stage: string | Stage | undefined): boolean =>
+  !!stage && qualifStages.includes(String(stage).toUpperCase() as Stage);
+
 export const getStageFromSize = (size: number): Stage => {
+  if (size === 256) return Stage.R256;
+  if (size === 128) return Stage.R128;
   if (size === 64) return Stage.R64;
   if (size === 32) return Stage.R32;
   if (size === 16) return Stage.R16;
@@ -34,6 +55,8 @@ export const getStageFromSize = (size: number): Stage => {
   if (size === 4) return Stage.SEMIS;
   if (size === 2) return Stage.FINAL;
   // Pour d'autres tailles, approximation à la valeur la plus proche
+  if (size > 128) return Stage.R256;
+  if (size > 64) return Stage.R128;
   if (size > 32) return Stage.R64;
   if (size > 16) return Stage.R32;
   if (size > 8) return Stage.R16;